@@ -88,6 +88,13 @@ public final class Command extends NamedHandleObjectWithState implements Compara
 
 	boolean shouldFireEvents = true;
 
+	/**
+	 * The execution statistics of the command manager owning this command.
+	 * This value is <code>null</code> if the command does not belong to a
+	 * command manager.
+	 */
+	CommandExecutionStatistics executionStatistics;
+
 	/**
 	 * The handler currently associated with this command. This value may be
 	 * <code>null</code> if there is no handler currently.
@@ -460,6 +467,9 @@ public final class Command extends NamedHandleObjectWithState implements Compara
 		if (shouldFireEvents) {
 			firePreExecute(event);
 		}
+		final CommandExecutionStatistics statistics = executionStatistics;
+		final boolean timed = statistics != null && statistics.isEnabled();
+		final long lookupStart = timed ? System.nanoTime() : 0L;
 		final IHandler handler = this.handler;
 
 		if (!isDefined()) {
@@ -474,8 +484,13 @@ public final class Command extends NamedHandleObjectWithState implements Compara
 
 		// Perform the execution, if there is a handler.
 		if ((handler != null) && (handler.isHandled())) {
+			final long enablementStart = timed ? System.nanoTime() : 0L;
 			setEnabled(event.getApplicationContext());
 			if (!isEnabled()) {
+				if (timed) {
+					statistics.record(getId(), enablementStart - lookupStart, System.nanoTime() - enablementStart, -1,
+							false);
+				}
 				final NotEnabledException exception = new NotEnabledException(
 						"Trying to execute the disabled command " + getId()); //$NON-NLS-1$
 				if (shouldFireEvents) {
@@ -484,8 +499,20 @@ public final class Command extends NamedHandleObjectWithState implements Compara
 				throw exception;
 			}
 
+			final long executionStart = timed ? System.nanoTime() : 0L;
 			try {
-				final Object returnValue = handler.execute(event);
+				final Object returnValue;
+				boolean failed = true;
+				try {
+					returnValue = handler.execute(event);
+					failed = false;
+				} finally {
+					// also count handlers failing with a runtime exception
+					if (timed) {
+						statistics.record(getId(), enablementStart - lookupStart, executionStart - enablementStart,
+								System.nanoTime() - executionStart, failed);
+					}
+				}
 				if (shouldFireEvents) {
 					firePostExecuteSuccess(returnValue);
 				}
@@ -498,6 +525,9 @@ public final class Command extends NamedHandleObjectWithState implements Compara
 			}
 		}
 
+		if (timed) {
+			statistics.record(getId(), System.nanoTime() - lookupStart, -1, -1, false);
+		}
 		final NotHandledException e = new NotHandledException("There is no handler to execute for command " + getId()); //$NON-NLS-1$
 		if (shouldFireEvents) {
 			fireNotHandled(e);
@@ -0,0 +1,489 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.commands;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Collects execution counts and latency histograms for the commands of a
+ * {@link CommandManager}. The time spent in
+ * {@link Command#executeWithChecks(ExecutionEvent)} is split into three phases:
+ * looking up the handler (including <code>IHandler.isHandled()</code>),
+ * checking whether the command is enabled and executing the handler.
+ * </p>
+ * <p>
+ * Collection is disabled by default. While disabled, commands only pay for a
+ * single field read per execution. The statistics can be queried per command,
+ * or exported with {@link #toCSV()} and {@link #toJSON()}.
+ * </p>
+ * <p>
+ * This class is thread-safe. It is not intended to be extended or instantiated
+ * by clients.
+ * </p>
+ *
+ * @see CommandManager#getExecutionStatistics()
+ * @since 3.11
+ */
+public final class CommandExecutionStatistics {
+
+	/**
+	 * The number of buckets in each histogram. Bucket <code>0</code> counts
+	 * durations below one microsecond, bucket <code>i</code> counts durations
+	 * in <code>[2^(i-1), 2^i)</code> microseconds and the last bucket counts
+	 * everything above.
+	 */
+	public static final int BUCKET_COUNT = 24;
+
+	/**
+	 * An immutable latency histogram with exponentially growing buckets.
+	 */
+	public static final class Histogram {
+
+		private final long[] buckets;
+
+		private final long totalNanos;
+
+		private final long maxNanos;
+
+		private final long count;
+
+		private Histogram(long[] buckets, long totalNanos, long maxNanos, long count) {
+			this.buckets = buckets;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.count = count;
+		}
+
+		/**
+		 * Returns the upper bound of the given bucket.
+		 *
+		 * @param bucket
+		 *            the bucket index, between <code>0</code> and
+		 *            <code>BUCKET_COUNT - 1</code>
+		 * @return the exclusive upper bound of the bucket in microseconds, or
+		 *         <code>Long.MAX_VALUE</code> for the last bucket
+		 */
+		public static long getBucketUpperBoundMicros(int bucket) {
+			if (bucket >= BUCKET_COUNT - 1) {
+				return Long.MAX_VALUE;
+			}
+			return 1L << bucket;
+		}
+
+		/**
+		 * @return a copy of the number of samples in each bucket
+		 */
+		public long[] getBucketCounts() {
+			return buckets.clone();
+		}
+
+		/**
+		 * @return the number of samples
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return the sum of all samples in nanoseconds
+		 */
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		/**
+		 * @return the largest sample in nanoseconds
+		 */
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		/**
+		 * @return the average sample in nanoseconds, or <code>0</code> if there
+		 *         are no samples
+		 */
+		public long getMeanNanos() {
+			return count == 0 ? 0 : totalNanos / count;
+		}
+
+		/**
+		 * Estimates a percentile from the histogram buckets.
+		 *
+		 * @param percentile
+		 *            the percentile, between <code>0</code> and
+		 *            <code>100</code>
+		 * @return the upper bound in microseconds of the bucket containing the
+		 *         percentile, capped by the largest sample; <code>0</code> if
+		 *         there are no samples
+		 */
+		public long getPercentileMicros(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+			long maxMicros = maxNanos / 1000;
+			long threshold = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100);
+			long seen = 0;
+			for (int i = 0; i < buckets.length; i++) {
+				seen += buckets[i];
+				if (seen >= threshold && seen > 0) {
+					return Math.min(getBucketUpperBoundMicros(i), maxMicros);
+				}
+			}
+			return maxMicros;
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the statistics of a single command.
+	 */
+	public static final class Entry {
+
+		private final String commandId;
+
+		private final long executionCount;
+
+		private final long failureCount;
+
+		private final long notEnabledCount;
+
+		private final Histogram handlerLookup;
+
+		private final Histogram enablementCheck;
+
+		private final Histogram execution;
+
+		private Entry(String commandId, long executionCount, long failureCount, long notEnabledCount,
+				Histogram handlerLookup, Histogram enablementCheck, Histogram execution) {
+			this.commandId = commandId;
+			this.executionCount = executionCount;
+			this.failureCount = failureCount;
+			this.notEnabledCount = notEnabledCount;
+			this.handlerLookup = handlerLookup;
+			this.enablementCheck = enablementCheck;
+			this.execution = execution;
+		}
+
+		/**
+		 * @return the identifier of the command; never <code>null</code>
+		 */
+		public String getCommandId() {
+			return commandId;
+		}
+
+		/**
+		 * @return the number of times the handler was executed, including
+		 *         failed executions
+		 */
+		public long getExecutionCount() {
+			return executionCount;
+		}
+
+		/**
+		 * @return the number of executions which failed with an
+		 *         {@link ExecutionException} or a runtime exception
+		 */
+		public long getFailureCount() {
+			return failureCount;
+		}
+
+		/**
+		 * @return the number of executions rejected because the command was
+		 *         not enabled
+		 */
+		public long getNotEnabledCount() {
+			return notEnabledCount;
+		}
+
+		/**
+		 * @return the time spent looking up the handler; never
+		 *         <code>null</code>
+		 */
+		public Histogram getHandlerLookup() {
+			return handlerLookup;
+		}
+
+		/**
+		 * @return the time spent checking the enablement of the command; never
+		 *         <code>null</code>
+		 */
+		public Histogram getEnablementCheck() {
+			return enablementCheck;
+		}
+
+		/**
+		 * @return the time spent executing the handler; never
+		 *         <code>null</code>
+		 */
+		public Histogram getExecution() {
+			return execution;
+		}
+
+		/**
+		 * @return the sum of all phases in nanoseconds
+		 */
+		public long getTotalNanos() {
+			return handlerLookup.getTotalNanos() + enablementCheck.getTotalNanos() + execution.getTotalNanos();
+		}
+	}
+
+	/**
+	 * The mutable counterpart of {@link Histogram}. Guarded by the lock of the
+	 * owning statistics.
+	 */
+	private static final class Recorder {
+		final long[] buckets = new long[BUCKET_COUNT];
+		long totalNanos;
+		long maxNanos;
+		long count;
+
+		void record(long nanos) {
+			if (nanos < 0) {
+				return;
+			}
+			long micros = nanos / 1000;
+			int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+			buckets[bucket]++;
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+			count++;
+		}
+
+		Histogram snapshot() {
+			return new Histogram(buckets.clone(), totalNanos, maxNanos, count);
+		}
+	}
+
+	private static final class CommandRecord {
+		long executionCount;
+		long failureCount;
+		long notEnabledCount;
+		final Recorder handlerLookup = new Recorder();
+		final Recorder enablementCheck = new Recorder();
+		final Recorder execution = new Recorder();
+	}
+
+	private volatile boolean enabled;
+
+	private final Map<String, CommandRecord> recordsById = new HashMap<>();
+
+	/**
+	 * Constructs a new, disabled instance. Only the {@link CommandManager}
+	 * should create statistics.
+	 */
+	CommandExecutionStatistics() {
+	}
+
+	/**
+	 * Returns whether execution statistics are currently being collected.
+	 *
+	 * @return <code>true</code> if statistics are collected
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Turns the collection of execution statistics on or off. Statistics
+	 * collected so far are kept when collection is turned off.
+	 *
+	 * @param enabled
+	 *            <code>true</code> to collect statistics
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Discards all statistics collected so far.
+	 */
+	public synchronized void reset() {
+		recordsById.clear();
+	}
+
+	/**
+	 * Returns the statistics for a single command.
+	 *
+	 * @param commandId
+	 *            the identifier of the command; must not be <code>null</code>
+	 * @return a snapshot of the statistics, or <code>null</code> if no
+	 *         execution of the command has been recorded
+	 */
+	public synchronized Entry getEntry(String commandId) {
+		CommandRecord commandRecord = recordsById.get(commandId);
+		return commandRecord == null ? null : snapshot(commandId, commandRecord);
+	}
+
+	/**
+	 * Returns the statistics of all commands for which an execution has been
+	 * recorded, the most expensive command first.
+	 *
+	 * @return a snapshot of the statistics; never <code>null</code>
+	 */
+	public synchronized List<Entry> getEntries() {
+		List<Entry> entries = new ArrayList<>(recordsById.size());
+		for (Map.Entry<String, CommandRecord> mapEntry : recordsById.entrySet()) {
+			entries.add(snapshot(mapEntry.getKey(), mapEntry.getValue()));
+		}
+		Collections.sort(entries, (e1, e2) -> Long.compare(e2.getTotalNanos(), e1.getTotalNanos()));
+		return entries;
+	}
+
+	/**
+	 * Exports the statistics as comma separated values, one line per command
+	 * preceded by a header line. Times are given in microseconds.
+	 *
+	 * @return the statistics in CSV format; never <code>null</code>
+	 */
+	public String toCSV() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("commandId,executions,failures,notEnabled"); //$NON-NLS-1$
+		for (String phase : new String[] { "lookup", "enablement", "execute" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			buffer.append(',').append(phase).append("Total"); //$NON-NLS-1$
+			buffer.append(',').append(phase).append("Mean"); //$NON-NLS-1$
+			buffer.append(',').append(phase).append("P90"); //$NON-NLS-1$
+			buffer.append(',').append(phase).append("Max"); //$NON-NLS-1$
+		}
+		buffer.append('\n');
+		for (Entry entry : getEntries()) {
+			buffer.append('"').append(entry.getCommandId().replace("\"", "\"\"")).append('"'); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append(',').append(entry.getExecutionCount());
+			buffer.append(',').append(entry.getFailureCount());
+			buffer.append(',').append(entry.getNotEnabledCount());
+			for (Histogram histogram : new Histogram[] { entry.getHandlerLookup(), entry.getEnablementCheck(),
+					entry.getExecution() }) {
+				buffer.append(',').append(histogram.getTotalNanos() / 1000);
+				buffer.append(',').append(histogram.getMeanNanos() / 1000);
+				buffer.append(',').append(histogram.getPercentileMicros(90));
+				buffer.append(',').append(histogram.getMaxNanos() / 1000);
+			}
+			buffer.append('\n');
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Exports the statistics as a JSON array with one object per command,
+	 * including the full histogram buckets. Times are given in microseconds.
+	 *
+	 * @return the statistics in JSON format; never <code>null</code>
+	 */
+	public String toJSON() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append('[');
+		boolean first = true;
+		for (Entry entry : getEntries()) {
+			if (!first) {
+				buffer.append(',');
+			}
+			first = false;
+			buffer.append("\n  {\"commandId\":"); //$NON-NLS-1$
+			appendJSONString(buffer, entry.getCommandId());
+			buffer.append(",\"executions\":").append(entry.getExecutionCount()); //$NON-NLS-1$
+			buffer.append(",\"failures\":").append(entry.getFailureCount()); //$NON-NLS-1$
+			buffer.append(",\"notEnabled\":").append(entry.getNotEnabledCount()); //$NON-NLS-1$
+			appendJSONHistogram(buffer, "lookup", entry.getHandlerLookup()); //$NON-NLS-1$
+			appendJSONHistogram(buffer, "enablement", entry.getEnablementCheck()); //$NON-NLS-1$
+			appendJSONHistogram(buffer, "execute", entry.getExecution()); //$NON-NLS-1$
+			buffer.append('}');
+		}
+		buffer.append("\n]\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	/**
+	 * Records an execution attempt of a command. Negative durations mark
+	 * phases which have not been reached.
+	 *
+	 * @param commandId
+	 *            the identifier of the command; must not be <code>null</code>
+	 * @param lookupNanos
+	 *            the time spent looking up the handler
+	 * @param enablementNanos
+	 *            the time spent checking enablement, or <code>-1</code>
+	 * @param executionNanos
+	 *            the time spent executing, or <code>-1</code> if the handler
+	 *            was not executed
+	 * @param failed
+	 *            whether the execution failed
+	 */
+	synchronized void record(String commandId, long lookupNanos, long enablementNanos, long executionNanos,
+			boolean failed) {
+		CommandRecord commandRecord = recordsById.computeIfAbsent(commandId, id -> new CommandRecord());
+		commandRecord.handlerLookup.record(lookupNanos);
+		commandRecord.enablementCheck.record(enablementNanos);
+		if (executionNanos >= 0) {
+			commandRecord.execution.record(executionNanos);
+			commandRecord.executionCount++;
+			if (failed) {
+				commandRecord.failureCount++;
+			}
+		} else if (enablementNanos >= 0) {
+			commandRecord.notEnabledCount++;
+		}
+	}
+
+	private static Entry snapshot(String commandId, CommandRecord commandRecord) {
+		return new Entry(commandId, commandRecord.executionCount, commandRecord.failureCount,
+				commandRecord.notEnabledCount, commandRecord.handlerLookup.snapshot(),
+				commandRecord.enablementCheck.snapshot(), commandRecord.execution.snapshot());
+	}
+
+	private static void appendJSONHistogram(StringBuilder buffer, String name, Histogram histogram) {
+		buffer.append(",\"").append(name).append("\":{"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("\"count\":").append(histogram.getCount()); //$NON-NLS-1$
+		buffer.append(",\"total\":").append(histogram.getTotalNanos() / 1000); //$NON-NLS-1$
+		buffer.append(",\"mean\":").append(histogram.getMeanNanos() / 1000); //$NON-NLS-1$
+		buffer.append(",\"p50\":").append(histogram.getPercentileMicros(50)); //$NON-NLS-1$
+		buffer.append(",\"p90\":").append(histogram.getPercentileMicros(90)); //$NON-NLS-1$
+		buffer.append(",\"p99\":").append(histogram.getPercentileMicros(99)); //$NON-NLS-1$
+		buffer.append(",\"max\":").append(histogram.getMaxNanos() / 1000); //$NON-NLS-1$
+		buffer.append(",\"buckets\":["); //$NON-NLS-1$
+		long[] buckets = histogram.getBucketCounts();
+		for (int i = 0; i < buckets.length; i++) {
+			if (i > 0) {
+				buffer.append(',');
+			}
+			buffer.append(buckets[i]);
+		}
+		buffer.append("]}"); //$NON-NLS-1$
+	}
+
+	private static void appendJSONString(StringBuilder buffer, String value) {
+		buffer.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				buffer.append("\\\""); //$NON-NLS-1$
+				break;
+			case '\\':
+				buffer.append("\\\\"); //$NON-NLS-1$
+				break;
+			default:
+				if (c < 0x20) {
+					buffer.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+				} else {
+					buffer.append(c);
+				}
+			}
+		}
+		buffer.append('"');
+	}
+}
@@ -249,6 +249,14 @@ public final class CommandManager extends HandleObjectManager implements
 
 	private boolean shouldCommandFireEvents = true;
 
+	/**
+	 * The execution statistics shared by all commands of this manager. This
+	 * value is never <code>null</code>.
+	 *
+	 * @since 3.11
+	 */
+	private final CommandExecutionStatistics executionStatistics = new CommandExecutionStatistics();
+
 	/**
 	 * The collection of execution listeners. This collection is
 	 * <code>null</code> if there are no listeners.
@@ -525,6 +533,7 @@ public final class CommandManager extends HandleObjectManager implements
 		if (command == null) {
 			command = new Command(commandId);
 			command.shouldFireEvents = shouldCommandFireEvents;
+			command.executionStatistics = executionStatistics;
 			handleObjectsById.put(commandId, command);
 			command.addCommandListener(this);
 
@@ -536,6 +545,18 @@ public final class CommandManager extends HandleObjectManager implements
 		return command;
 	}
 
+	/**
+	 * Returns the execution statistics of the commands in this manager. The
+	 * statistics are only collected after they have been enabled with
+	 * {@link CommandExecutionStatistics#setEnabled(boolean)}.
+	 *
+	 * @return the execution statistics; never <code>null</code>
+	 * @since 3.11
+	 */
+	public CommandExecutionStatistics getExecutionStatistics() {
+		return executionStatistics;
+	}
+
 	/**
 	 * Returns the categories that are defined.
 	 *
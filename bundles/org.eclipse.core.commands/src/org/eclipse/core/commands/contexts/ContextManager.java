@@ -14,6 +14,7 @@
 
 package org.eclipse.core.commands.contexts;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -62,6 +63,13 @@ public final class ContextManager extends HandleObjectManager implements IContex
 	/**
 	 * Informs the manager that a batch operation has started.
 	 * <p>
+	 * While updates are deferred, changes to the set of active contexts are
+	 * applied immediately but no events are sent. When the outermost batch
+	 * operation ends, a single event describing the whole change is sent, and
+	 * only if the set of active contexts actually differs from the one at the
+	 * start of the batch.
+	 * </p>
+	 * <p>
 	 * <b>Note:</b> You must insure that if you call
 	 * <code>deferUpdates(true)</code> that nothing in your batched operation
 	 * will prevent the matching call to <code>deferUpdates(false)</code>.
@@ -88,6 +96,38 @@ public final class ContextManager extends HandleObjectManager implements IContex
 	}
 
 
+	/**
+	 * Activates and deactivates several contexts as one change. Listeners are
+	 * notified at most once, after all of the changes have been applied.
+	 *
+	 * @param contextIdsToActivate
+	 *            The identifiers of the contexts to activate; may be
+	 *            <code>null</code>.
+	 * @param contextIdsToDeactivate
+	 *            The identifiers of the contexts to deactivate; may be
+	 *            <code>null</code>. Deactivations are applied before
+	 *            activations.
+	 * @since 3.11
+	 */
+	public final void updateActiveContexts(final Collection<String> contextIdsToActivate,
+			final Collection<String> contextIdsToDeactivate) {
+		deferUpdates(true);
+		try {
+			if (contextIdsToDeactivate != null) {
+				for (String contextId : contextIdsToDeactivate) {
+					removeActiveContext(contextId);
+				}
+			}
+			if (contextIdsToActivate != null) {
+				for (String contextId : contextIdsToActivate) {
+					addActiveContext(contextId);
+				}
+			}
+		} finally {
+			deferUpdates(false);
+		}
+	}
+
 	/**
 	 * Activates a context in this context manager.
 	 *
@@ -309,8 +349,9 @@ public final class ContextManager extends HandleObjectManager implements IContex
 			return;
 		}
 		caching = cache;
-		boolean fireChange = activeContextsChange;
-		Set<String> holdOldIds = (oldIds == null ? Collections.EMPTY_SET : oldIds);
+		Set<String> holdOldIds = (oldIds == null ? Collections.emptySet() : oldIds);
+		// changes made during the batch may have cancelled each other out
+		boolean fireChange = activeContextsChange && !Objects.equals(holdOldIds, activeContextIds);
 
 		if (caching) {
 			oldIds = new HashSet<>(activeContextIds);
@@ -15,13 +15,26 @@
  *******************************************************************************/
 package org.eclipse.core.commands.operations;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.commands.internal.util.Tracing;
@@ -68,6 +81,15 @@ import org.eclipse.core.runtime.Status;
  * </p>
  *
  * <p>
+ * Besides the count limit per undo context, the memory retained by the undo
+ * and redo history may be bounded with {@link #setMemoryLimit(long, boolean)}.
+ * The memory budget applies to operations implementing
+ * {@link IMemoryAwareOperation}. When the budget is exceeded, the payloads of
+ * the oldest operations are stored compressed in temporary files, or the
+ * oldest operations are removed from the history.
+ * </p>
+ *
+ * <p>
  * This implementation is not intended to be subclassed.
  * </p>
  *
@@ -150,6 +172,36 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	 */
 	final Object undoRedoHistoryLock = new Object();
 
+	/**
+	 * the number of bytes the operations in the undo and redo history may
+	 * retain, or <code>0</code> if the memory is not bounded
+	 */
+	private long memoryLimit;
+
+	/**
+	 * whether payloads are spilled to disk before operations are removed to
+	 * meet the memory limit
+	 */
+	private boolean spillPayloads;
+
+	/**
+	 * the temporary files holding the payloads released by operations in the
+	 * history, guarded by undoRedoHistoryLock
+	 */
+	private final Map<IUndoableOperation, File> spilledPayloads = new HashMap<>();
+
+	/**
+	 * the operations whose payloads are currently being written to temporary
+	 * files, guarded by undoRedoHistoryLock
+	 */
+	private final Set<IUndoableOperation> spillingPayloads = new HashSet<>();
+
+	/**
+	 * the directory holding the spilled payloads of all histories, created on
+	 * first use and removed when the VM exits
+	 */
+	private static File spillDirectory;
+
 	/**
 	 * An operation that is "absorbing" all other operations while it is open.
 	 * When this is not null, other operations added or executed are added to
@@ -200,6 +252,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 			for (IUndoContext context : contexts) {
 				flushRedo(context);
 			}
+			enforceMemoryLimit();
 		} else {
 			// Dispose the operation since we will not have a reference to it.
 			operation.dispose();
@@ -385,6 +438,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 
 			// notify listeners must happen after history is updated
 			notifyRedone(operation);
+			enforceMemoryLimit();
 		} else {
 			notifyNotOK(operation, status);
 		}
@@ -444,6 +498,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 			// notification occurs after the undo and redo histories are
 			// adjusted
 			notifyUndone(operation);
+			enforceMemoryLimit();
 		} else {
 			notifyNotOK(operation, status);
 		}
@@ -716,6 +771,253 @@ public final class DefaultOperationHistory implements IOperationHistory {
 		}
 	}
 
+	/*
+	 * Bring the memory retained by the history within the memory limit by
+	 * spilling payloads or removing operations, oldest undo operations first,
+	 * then the redo operations that are furthest away. The most recent undo
+	 * and the next redo operation are always kept. Payloads are written
+	 * without holding the lock on the history.
+	 */
+	private void enforceMemoryLimit() {
+		List<IUndoableOperation> removed = new ArrayList<>();
+		List<IUndoableOperation> candidates = new ArrayList<>();
+		long retained;
+		long limit;
+		boolean spill;
+		synchronized (undoRedoHistoryLock) {
+			limit = memoryLimit;
+			if (limit <= 0) {
+				return;
+			}
+			retained = getRetainedSize();
+			if (retained <= limit) {
+				return;
+			}
+			spill = spillPayloads;
+			candidates.addAll(undoList.subList(0, Math.max(0, undoList.size() - 1)));
+			candidates.addAll(redoList.subList(0, Math.max(0, redoList.size() - 1)));
+		}
+		for (IUndoableOperation operation : candidates) {
+			if (retained <= limit) {
+				break;
+			}
+			if (!(operation instanceof IMemoryAwareOperation)) {
+				continue;
+			}
+			IMemoryAwareOperation memoryAware = (IMemoryAwareOperation) operation;
+			long size = memoryAware.getRetainedSize();
+			if (size <= 0) {
+				continue;
+			}
+			synchronized (undoRedoHistoryLock) {
+				// already spilled operations only retain what they could not
+				// release, removing them would discard the spilled payload
+				if (spilledPayloads.containsKey(operation) || spillingPayloads.contains(operation)
+						|| !(undoList.contains(operation) || redoList.contains(operation))) {
+					continue;
+				}
+				if (spill) {
+					spillingPayloads.add(operation);
+				}
+			}
+			if (spill && spillPayload(operation)) {
+				retained -= size - memoryAware.getRetainedSize();
+				continue;
+			}
+			synchronized (undoRedoHistoryLock) {
+				if (DEBUG_OPERATION_HISTORY_DISPOSE) {
+					Tracing.printTrace(OPERATIONHISTORY, "Memory limit reached, removing " + operation); //$NON-NLS-1$
+				}
+				boolean inUndo = undoList.remove(operation);
+				boolean inRedo = redoList.remove(operation);
+				if (inUndo || inRedo) {
+					removed.add(operation);
+					retained -= size;
+				}
+			}
+		}
+		// notify listeners after the lock on the history is released
+		for (IUndoableOperation operation : removed) {
+			internalRemove(operation);
+		}
+	}
+
+	/*
+	 * Store the payload of the operation compressed in a temporary file. The
+	 * operation must have been added to spillingPayloads; it is removed again
+	 * once the file is complete. Return whether the operation released its
+	 * payload.
+	 */
+	private boolean spillPayload(IUndoableOperation operation) {
+		File file = null;
+		boolean released = false;
+		try {
+			file = File.createTempFile("undo", ".payload", getSpillDirectory()); //$NON-NLS-1$ //$NON-NLS-2$
+			boolean payloadReleased;
+			try (OutputStream out = new DeflaterOutputStream(
+					new BufferedOutputStream(new FileOutputStream(file)))) {
+				payloadReleased = ((IMemoryAwareOperation) operation).releasePayload(out);
+			}
+			// only a completely written file can be restored
+			released = payloadReleased;
+		} catch (IOException e) {
+			if (DEBUG_OPERATION_HISTORY_UNEXPECTED) {
+				Tracing.printTrace(OPERATIONHISTORY, "Could not spill the payload of " + operation //$NON-NLS-1$
+						+ ": " + e); //$NON-NLS-1$
+			}
+		} finally {
+			synchronized (undoRedoHistoryLock) {
+				spillingPayloads.remove(operation);
+				if (released && (undoList.contains(operation) || redoList.contains(operation))) {
+					if (DEBUG_OPERATION_HISTORY_DISPOSE) {
+						Tracing.printTrace(OPERATIONHISTORY, "Memory limit reached, spilled payload of " //$NON-NLS-1$
+								+ operation);
+					}
+					spilledPayloads.put(operation, file);
+				} else if (file != null) {
+					// failed, or the operation left the history meanwhile
+					file.delete();
+				}
+				undoRedoHistoryLock.notifyAll();
+			}
+		}
+		return released;
+	}
+
+	/*
+	 * Return the directory for spilled payloads. Files are deleted as soon as
+	 * their operation is restored or removed; a single shutdown hook deletes
+	 * whatever is left when the VM exits.
+	 */
+	private static synchronized File getSpillDirectory() throws IOException {
+		if (spillDirectory == null) {
+			File directory = Files.createTempDirectory("undo").toFile(); //$NON-NLS-1$
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				File[] files = directory.listFiles();
+				if (files != null) {
+					for (File file : files) {
+						file.delete();
+					}
+				}
+				directory.delete();
+			}, "Undo Payload Cleanup")); //$NON-NLS-1$
+			spillDirectory = directory;
+		}
+		return spillDirectory;
+	}
+
+	/*
+	 * Hand a spilled payload back to its operation before it is consulted
+	 * about undo or redo.
+	 */
+	private void restorePayload(IUndoableOperation operation) throws ExecutionException {
+		File file;
+		synchronized (undoRedoHistoryLock) {
+			while (spillingPayloads.contains(operation)) {
+				try {
+					undoRedoHistoryLock.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new ExecutionException("While restoring the operation, the thread was interrupted", e); //$NON-NLS-1$
+				}
+			}
+			file = spilledPayloads.remove(operation);
+		}
+		if (file == null) {
+			return;
+		}
+		try (InputStream in = new InflaterInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			((IMemoryAwareOperation) operation).restorePayload(in);
+		} catch (IOException e) {
+			throw new ExecutionException("While restoring the operation, an exception occurred", e); //$NON-NLS-1$
+		} finally {
+			file.delete();
+		}
+	}
+
+	/*
+	 * Delete the spilled payload of an operation that is removed from the
+	 * history.
+	 */
+	private void discardPayload(IUndoableOperation operation) {
+		File file;
+		synchronized (undoRedoHistoryLock) {
+			file = spilledPayloads.remove(operation);
+		}
+		if (file != null) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Return the memory limit of the undo and redo history.
+	 *
+	 * @return the number of bytes the operations in the history may retain, or
+	 *         <code>0</code> if the memory retained by the history is not
+	 *         bounded.
+	 * @see #setMemoryLimit(long, boolean)
+	 * @since 3.11
+	 */
+	public long getMemoryLimit() {
+		return memoryLimit;
+	}
+
+	/**
+	 * Return an estimate of the memory currently retained by the operations
+	 * in the undo and redo history. Only operations implementing
+	 * {@link IMemoryAwareOperation} are taken into account.
+	 *
+	 * @return the estimated number of bytes retained by the history
+	 * @since 3.11
+	 */
+	public long getRetainedSize() {
+		long retained = 0;
+		synchronized (undoRedoHistoryLock) {
+			for (IUndoableOperation operation : undoList) {
+				if (operation instanceof IMemoryAwareOperation) {
+					retained += ((IMemoryAwareOperation) operation).getRetainedSize();
+				}
+			}
+			for (IUndoableOperation operation : redoList) {
+				if (operation instanceof IMemoryAwareOperation) {
+					retained += ((IMemoryAwareOperation) operation).getRetainedSize();
+				}
+			}
+		}
+		return retained;
+	}
+
+	/**
+	 * <p>
+	 * Set the number of bytes that the operations in the undo and redo history
+	 * may retain in total, as estimated by
+	 * {@link IMemoryAwareOperation#getRetainedSize()}. The limit is checked
+	 * whenever an operation is added, undone or redone. While it is exceeded,
+	 * the oldest operations are handled first: if spilling is requested, their
+	 * payloads are written compressed to temporary files and restored when
+	 * the operation is undone or redone again; otherwise, or if an operation
+	 * cannot release its payload, the operation is removed from the history
+	 * and disposed. The most recent undo and the next redo operation are never
+	 * removed.
+	 * </p>
+	 *
+	 * @param limit
+	 *            the number of bytes, or <code>0</code> to not bound the
+	 *            memory retained by the history.
+	 * @param spillToDisk
+	 *            <code>true</code> if payloads should be stored in temporary
+	 *            files before operations are removed from the history.
+	 * @since 3.11
+	 */
+	public void setMemoryLimit(long limit, boolean spillToDisk) {
+		Assert.isTrue(limit >= 0);
+		synchronized (undoRedoHistoryLock) {
+			memoryLimit = limit;
+			spillPayloads = spillToDisk;
+		}
+		enforceMemoryLimit();
+	}
+
 	@Override
 	public int getLimit(IUndoContext context) {
 		if (!limits.containsKey(context)) {
@@ -836,6 +1138,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	 * Remove the operation by disposing it and notifying listeners.
 	 */
 	private void internalRemove(IUndoableOperation operation) {
+		discardPayload(operation);
 		operation.dispose();
 		notifyRemoved(operation);
 	}
@@ -1007,6 +1310,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 		if (operation == null) {
 			return IOperationHistory.NOTHING_TO_REDO_STATUS;
 		}
+		restorePayload(operation);
 
 		// error if operation is invalid
 		if (!operation.canRedo()) {
@@ -1024,6 +1328,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	public IStatus redoOperation(IUndoableOperation operation, IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
 		Assert.isNotNull(operation);
+		restorePayload(operation);
 		IStatus status;
 		if (operation.canRedo()) {
 			status = doRedo(monitor, info, operation);
@@ -1137,6 +1442,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 		if (operation == null) {
 			return IOperationHistory.NOTHING_TO_UNDO_STATUS;
 		}
+		restorePayload(operation);
 
 		// error if operation is invalid
 		if (!operation.canUndo()) {
@@ -1153,6 +1459,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	public IStatus undoOperation(IUndoableOperation operation, IProgressMonitor monitor, IAdaptable info)
 			throws ExecutionException {
 		Assert.isNotNull(operation);
+		restorePayload(operation);
 		IStatus status;
 		if (operation.canUndo()) {
 			status = doUndo(monitor, info, operation);
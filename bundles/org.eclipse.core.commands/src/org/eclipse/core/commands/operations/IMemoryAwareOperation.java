@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.commands.operations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * <p>
+ * IMemoryAwareOperation defines methods that allow an operation history to
+ * keep the memory retained by its undo and redo histories within a budget. An
+ * operation reports an estimate of the memory it keeps for undo or redo, and
+ * may optionally hand the bulk of that state (its payload) to the history so
+ * that it can be stored outside of the heap until the operation is undone or
+ * redone again.
+ * </p>
+ * <p>
+ * Operations that do not implement this interface are assumed to retain a
+ * negligible amount of memory and are never evicted because of the memory
+ * budget.
+ * </p>
+ *
+ * @see DefaultOperationHistory#setMemoryLimit(long, boolean)
+ * @since 3.11
+ */
+public interface IMemoryAwareOperation {
+
+	/**
+	 * Return an estimate of the number of bytes retained by the receiver in
+	 * order to undo or redo it. The estimate should not include state that has
+	 * been released with {@link #releasePayload(OutputStream)}.
+	 *
+	 * @return the estimated retained size in bytes, never negative.
+	 */
+	long getRetainedSize();
+
+	/**
+	 * Write the payload of the receiver to the given stream and release the
+	 * in-memory copy of it. The payload will be handed back with
+	 * {@link #restorePayload(InputStream)} before the operation history
+	 * consults the receiver about undoing or redoing it.
+	 *
+	 * @param out
+	 *            the stream to write the payload to. The stream is owned by
+	 *            the caller and must not be closed.
+	 * @return <code>true</code> if the payload was written and released,
+	 *         <code>false</code> if the receiver cannot release its payload.
+	 *         In the latter case the receiver must not have changed its state.
+	 * @throws IOException
+	 *             if the payload could not be written. The receiver must keep
+	 *             its in-memory state in this case.
+	 */
+	boolean releasePayload(OutputStream out) throws IOException;
+
+	/**
+	 * Restore the payload previously written by
+	 * {@link #releasePayload(OutputStream)}.
+	 *
+	 * @param in
+	 *            the stream to read the payload from. The stream is owned by
+	 *            the caller and must not be closed.
+	 * @throws IOException
+	 *             if the payload could not be read.
+	 */
+	void restorePayload(InputStream in) throws IOException;
+}
@@ -17,6 +17,7 @@ package org.eclipse.e4.ui.progress.internal;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -48,6 +49,9 @@ public class JobInfo extends JobTreeElement {
 	// Default to no progress
 	private int ticks = -1;
 
+	// Whether progress was reported since the listeners were last notified
+	private final AtomicBoolean progressChanged = new AtomicBoolean();
+
 	/**
 	 * Creates a top level JobInfo.
 	 *
@@ -415,6 +419,24 @@ public class JobInfo extends JobTreeElement {
 		taskInfo.setTaskName(name);
 	}
 
+	/**
+	 * Marks the progress of the receiver as changed.
+	 *
+	 * @return <code>true</code> if it was not marked already since the last call
+	 *         to {@link #clearProgressChanged()}
+	 */
+	boolean markProgressChanged() {
+		// read first, so that reporting progress does not contend on the flag
+		return !progressChanged.get() && progressChanged.compareAndSet(false, true);
+	}
+
+	/**
+	 * Clears the mark set by {@link #markProgressChanged()}.
+	 */
+	void clearProgressChanged() {
+		progressChanged.set(false);
+	}
+
 	/**
 	 * Sets the number of ticks this job represents. Default is indeterminate (-1).
 	 *
@@ -21,6 +21,7 @@ package org.eclipse.e4.ui.progress.internal;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,6 +30,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -51,6 +54,7 @@ import org.eclipse.e4.ui.progress.internal.legacy.EventLoopProgressMonitor;
 import org.eclipse.e4.ui.progress.internal.legacy.PlatformUI;
 import org.eclipse.e4.ui.progress.internal.legacy.Policy;
 import org.eclipse.jface.dialogs.Dialog;
+import org.eclipse.jface.util.Throttler;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageLoader;
@@ -115,6 +119,16 @@ public class ProgressManager extends ProgressProvider {
 	public static final String BLOCKED_JOB_KEY = "LOCKED_JOB"; //$NON-NLS-1$
 
 
+	/**
+	 * Jobs whose progress changed since the listeners were last notified. Work and
+	 * sub tasks reported to a {@link JobMonitor} are only recorded in its
+	 * {@link JobInfo}, which is queued here once per notification and sampled by
+	 * the {@link #progressThrottler}.
+	 */
+	private final Queue<JobInfo> pendingProgressUpdates = new ConcurrentLinkedQueue<>();
+
+	private volatile Throttler progressThrottler;
+
 	@Inject
 	@Optional
 	IProgressService progressService;
@@ -294,7 +308,7 @@ public class ProgressManager extends ProgressProvider {
 			JobInfo info = getJobInfo(job);
 			if (info.hasTaskInfo()) {
 				info.addWork(work);
-				refreshJobInfo(info);
+				progressChanged(info);
 			}
 			if (listener != null) {
 				listener.internalWorked(work);
@@ -349,7 +363,7 @@ public class ProgressManager extends ProgressProvider {
 			JobInfo info = getJobInfo(job);
 			info.clearChildren();
 			info.addSubTask(name);
-			refreshJobInfo(info);
+			progressChanged(info);
 			if (listener != null) {
 				listener.subTask(name);
 			}
@@ -576,6 +590,49 @@ public class ProgressManager extends ProgressProvider {
 		}
 	}
 
+	/**
+	 * Records that the progress of the job changed. Unlike
+	 * {@link #refreshJobInfo(JobInfo)} this neither locks nor allocates if the
+	 * change is already recorded, as it is called for every tick of work. The
+	 * listeners are notified when the progress is next sampled in the UI thread.
+	 *
+	 * @param info the job info whose progress changed
+	 */
+	void progressChanged(JobInfo info) {
+		if (info.markProgressChanged()) {
+			pendingProgressUpdates.add(info);
+			getProgressThrottler().throttledExec();
+		}
+	}
+
+	private Throttler getProgressThrottler() {
+		Throttler throttler = progressThrottler;
+		if (throttler == null) {
+			synchronized (pendingProgressUpdates) {
+				throttler = progressThrottler;
+				if (throttler == null) {
+					throttler = new Throttler(getDisplay(), Duration.ofMillis(100), this::refreshProgress);
+					progressThrottler = throttler;
+				}
+			}
+		}
+		return throttler;
+	}
+
+	/**
+	 * Notify the listeners of the jobs whose progress changed.
+	 */
+	void refreshProgress() {
+		JobInfo info;
+		while ((info = pendingProgressUpdates.poll()) != null) {
+			info.clearProgressChanged();
+			// finished jobs are removed by the job change listener
+			if (info.getJob().getState() != Job.NONE) {
+				refreshJobInfo(info);
+			}
+		}
+	}
+
 	/**
 	 * Refresh the IJobProgressManagerListeners as a result of a change in info.
 	 *
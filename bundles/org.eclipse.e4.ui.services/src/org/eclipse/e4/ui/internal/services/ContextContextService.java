@@ -15,6 +15,7 @@
 package org.eclipse.e4.ui.internal.services;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Set;
 import org.eclipse.core.commands.contexts.Context;
@@ -106,23 +107,34 @@ public class ContextContextService implements EContextService {
 		}
 
 		deferUpdates = false;
+		@SuppressWarnings("unchecked")
+		LinkedList<String> updates = (LinkedList<String>) eclipseContext.getLocal(DEFERRED_UPDATES);
+		if (updates == null) {
+			// nothing was changed during the batch, avoid recomputing the
+			// active contexts
+			return;
+		}
+		eclipseContext.remove(DEFERRED_UPDATES);
+
 		@SuppressWarnings("unchecked")
 		LinkedList<String> locals = (LinkedList<String>) eclipseContext.getLocal(LOCAL_CONTEXTS);
 		if (locals == null) {
 			locals = new LinkedList<>();
 		}
-		@SuppressWarnings("unchecked")
-		LinkedList<String> updates = (LinkedList<String>) eclipseContext.getLocal(DEFERRED_UPDATES);
-		if (updates != null) {
-			for (String update : updates) {
-				if (update.startsWith("+")) {
-					locals.add(update.substring(1));
-				} else if (update.startsWith("-")) {
-					locals.remove(update.substring(1));
-				}
+		Set<String> before = new HashSet<>(locals);
+		for (String update : updates) {
+			if (update.startsWith("+")) {
+				locals.add(update.substring(1));
+			} else if (update.startsWith("-")) {
+				locals.remove(update.substring(1));
 			}
-			eclipseContext.remove(DEFERRED_UPDATES);
 		}
+		if (before.equals(new HashSet<>(locals))) {
+			// the activations and deactivations cancelled each other out, the
+			// active contexts are unchanged
+			return;
+		}
+		// copy the list so a single change is propagated for the whole batch
 		eclipseContext.set(LOCAL_CONTEXTS, locals.clone());
 	}
 
@@ -15,15 +15,24 @@
 package org.eclipse.jface.fieldassist;
 
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.jface.dialogs.PopupDialog;
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.events.FocusAdapter;
 import org.eclipse.swt.events.FocusEvent;
 import org.eclipse.swt.events.SelectionEvent;
@@ -36,6 +45,7 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.ScrollBar;
@@ -55,6 +65,14 @@ import org.eclipse.swt.widgets.Text;
  * is activated, and whether any filtering should be done on the proposals as
  * the user types characters.
  * <p>
+ * Proposals of an {@link IAsyncContentProposalProvider} are computed outside
+ * of the UI thread, one request at a time, and are streamed into the popup as
+ * they are produced. Requests made obsolete by further typing are cancelled,
+ * or skipped if they have not started yet, and requests made while the popup is
+ * open are delayed by the auto-activation delay so that fast typing does not
+ * start a computation for every keystroke. Other providers are asked in the UI
+ * thread.
+ * <p>
  * This class provides some overridable methods to allow clients to manually
  * control the popup. However, most of the implementation remains private.
  *
@@ -304,7 +322,7 @@ public class ContentProposalAdapter {
 							// not affect the filter text on ARROW_LEFT as
 							// we would with BS.
 							if (contents.length() > 0) {
-								asyncRecomputeProposals(filterText);
+								asyncRecomputeProposals();
 							}
 						}
 						break;
@@ -366,7 +384,7 @@ public class ContentProposalAdapter {
 						// There is filter to back out of
 						filterText = filterText.substring(0, filterText
 								.length() - 1);
-						asyncRecomputeProposals(filterText);
+						asyncRecomputeProposals();
 						return;
 					}
 					// There is no filtering provided by us, but some
@@ -380,7 +398,7 @@ public class ContentProposalAdapter {
 					// already empty, then BS should not cause
 					// a recompute.
 					if (pos > 0) {
-						asyncRecomputeProposals(filterText);
+						asyncRecomputeProposals();
 					}
 					break;
 
@@ -395,7 +413,7 @@ public class ContentProposalAdapter {
 							filterText = String.valueOf(key);
 						}
 						// Recompute proposals after processing this event.
-						asyncRecomputeProposals(filterText);
+						asyncRecomputeProposals();
 					}
 					break;
 				}
@@ -743,6 +761,31 @@ public class ContentProposalAdapter {
 			}
 		}
 
+		/*
+		 * Appends the specified proposals to the cache and grows the table
+		 * without clearing the items that are already shown, so that the
+		 * current selection is kept.
+		 */
+		private void appendProposals(IContentProposal[] newProposals) {
+			if (newProposals.length == 0) {
+				return;
+			}
+			int oldSize = proposals == null ? 0 : proposals.length;
+			IContentProposal[] all = new IContentProposal[oldSize + newProposals.length];
+			if (oldSize > 0) {
+				System.arraycopy(proposals, 0, all, 0, oldSize);
+			}
+			System.arraycopy(newProposals, 0, all, oldSize, newProposals.length);
+			this.proposals = all;
+
+			if (isValid()) {
+				proposalTable.setItemCount(all.length);
+				if (oldSize == 0) {
+					selectProposal(0);
+				}
+			}
+		}
+
 		/*
 		 * Get the string for the specified proposal. Always return a String of
 		 * some kind.
@@ -865,6 +908,7 @@ public class ContentProposalAdapter {
 		@Override
 		public boolean close() {
 			popupCloser.removeListeners();
+			cancelProposalComputation();
 			if (infoPopup != null) {
 				infoPopup.close();
 			}
@@ -877,7 +921,7 @@ public class ContentProposalAdapter {
 		 * Asynchronously recompute proposals.
 		 */
 		private void refresh() {
-			asyncRecomputeProposals(filterText);
+			asyncRecomputeProposals();
 		}
 
 		/*
@@ -945,20 +989,13 @@ public class ContentProposalAdapter {
 		 * Request the proposals from the proposal provider, and recompute any
 		 * caches. Repopulate the popup if it is open.
 		 */
-		private void recomputeProposals(String filterText) {
-			IContentProposal[] allProposals = getProposals();
-			if (allProposals == null)
-				 allProposals = getEmptyProposalArray();
-			// If the non-filtered proposal list is empty, we should
-			// close the popup.
+		private void recomputeProposals() {
+			// Debounce requests to asynchronous providers, their results are
+			// streamed in later. The popup is closed if there are no proposals,
+			// otherwise they are filtered by the filter text.
 			// See https://bugs.eclipse.org/bugs/show_bug.cgi?id=147377
-			if (allProposals.length == 0) {
-				proposals = allProposals;
-				close();
-			} else {
-				// Keep the popup open, but filter by any provided filter text
-				setProposals(filterProposals(allProposals, filterText));
-			}
+			computeProposals(proposalProvider instanceof IAsyncContentProposalProvider ? autoActivationDelay : 0,
+					false);
 		}
 
 		/*
@@ -967,14 +1004,14 @@ public class ContentProposalAdapter {
 		 * content. By using an async, we ensure that the widget content is up
 		 * to date with the event.
 		 */
-		private void asyncRecomputeProposals(final String filterText) {
+		private void asyncRecomputeProposals() {
 			if (isValid()) {
 				control.getDisplay().asyncExec(() -> {
 					recordCursorPosition();
-					recomputeProposals(filterText);
+					recomputeProposals();
 				});
 			} else {
-				recomputeProposals(filterText);
+				recomputeProposals();
 			}
 		}
 
@@ -1012,6 +1049,217 @@ public class ContentProposalAdapter {
 		}
 	}
 
+	/*
+	 * Adapts a plain content proposal provider, which hands all its proposals
+	 * to the collector in a single batch.
+	 */
+	private static final class ProviderAdapter implements IAsyncContentProposalProvider {
+
+		private final IContentProposalProvider provider;
+
+		ProviderAdapter(IContentProposalProvider provider) {
+			this.provider = provider;
+		}
+
+		@Override
+		public void computeProposals(String contents, int position, Consumer<IContentProposal[]> collector,
+				IProgressMonitor monitor) {
+			IContentProposal[] proposals = provider.getProposals(contents, position);
+			if (proposals != null) {
+				collector.accept(proposals);
+			}
+		}
+
+		@Override
+		public IContentProposal[] getProposals(String contents, int position) {
+			return provider.getProposals(contents, position);
+		}
+	}
+
+	/*
+	 * A request for proposals. The proposals of an asynchronous provider are
+	 * computed by the proposal worker, and every batch is handed to the popup in
+	 * the UI thread as soon as it is available. Plain providers are asked in
+	 * the UI thread. A computation becomes stale, and is cancelled, as
+	 * soon as another one is started or the popup is closed. Stale computations
+	 * that have not started yet are skipped by the worker.
+	 */
+	private final class ProposalComputation implements Runnable, Consumer<IContentProposal[]> {
+
+		private final IAsyncContentProposalProvider provider;
+
+		private final String contents;
+
+		private final int position;
+
+		private final boolean autoActivated;
+
+		private final Display display;
+
+		private final IProgressMonitor monitor = new NullProgressMonitor();
+
+		/*
+		 * The batches that have not been handed to the popup yet.
+		 */
+		private final ConcurrentLinkedQueue<IContentProposal[]> batches = new ConcurrentLinkedQueue<>();
+
+		private final CountDownLatch finished = new CountDownLatch(1);
+
+		private volatile RuntimeException failure;
+
+		/*
+		 * Whether no batch has been delivered yet, and the number of proposals
+		 * delivered so far. Only accessed in the UI thread.
+		 */
+		private boolean first = true;
+
+		private int count;
+
+		ProposalComputation(IAsyncContentProposalProvider provider, String contents, int position,
+				boolean autoActivated) {
+			this.provider = provider;
+			this.contents = contents;
+			this.position = position;
+			this.autoActivated = autoActivated;
+			this.display = getControl().getDisplay();
+		}
+
+		/*
+		 * Start the computation after the given delay. Computations that are
+		 * superseded while waiting are never started.
+		 */
+		void start(int delay) {
+			if (delay > 0) {
+				display.timerExec(delay, this::fork);
+			} else {
+				fork();
+			}
+		}
+
+		private void fork() {
+			if (!isCurrent()) {
+				return;
+			}
+			if (provider instanceof ProviderAdapter) {
+				// Plain providers expect to be asked in the UI thread
+				run();
+				drain();
+			} else {
+				// We do not use Jobs since this code must be able to run
+				// independently of the Eclipse runtime.
+				PROPOSAL_WORKER.execute(this);
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				if (!monitor.isCanceled()) {
+					provider.computeProposals(contents, position, this, monitor);
+				}
+			} catch (RuntimeException e) {
+				failure = e;
+			} finally {
+				finished.countDown();
+				asyncDrain();
+			}
+		}
+
+		@Override
+		public void accept(IContentProposal[] batch) {
+			if (batch != null && batch.length > 0) {
+				batches.add(batch);
+				asyncDrain();
+			}
+		}
+
+		/*
+		 * Hand the available batches to the popup in the UI thread.
+		 */
+		private void asyncDrain() {
+			if (monitor.isCanceled() || display.isDisposed() || display.getThread() == Thread.currentThread()) {
+				return;
+			}
+			try {
+				display.asyncExec(this::drain);
+			} catch (SWTException e) {
+				// The display has been disposed
+			}
+		}
+
+		/*
+		 * Deliver the available batches, and finish the computation once all
+		 * batches have been delivered.
+		 */
+		private void drain() {
+			boolean complete = finished.getCount() == 0;
+			IContentProposal[] batch;
+			while (isCurrent() && (batch = batches.poll()) != null) {
+				deliver(batch);
+			}
+			if (complete && isCurrent()) {
+				done();
+			}
+		}
+
+		private boolean isCurrent() {
+			return computation == this && !monitor.isCanceled() && isValid();
+		}
+
+		void cancel() {
+			monitor.setCanceled(true);
+		}
+
+		private void deliver(IContentProposal[] batch) {
+			count += batch.length;
+			if (popup == null) {
+				// The first proposals open the popup.
+				first = false;
+				openProposalPopup(batch);
+				return;
+			}
+			IContentProposal[] filtered = popup.filterProposals(batch, popup.filterText);
+			if (first) {
+				// Replace the proposals of the previous request.
+				first = false;
+				popup.setProposals(filtered);
+			} else {
+				popup.appendProposals(filtered);
+			}
+		}
+
+		private void done() {
+			computation = null;
+			if (failure != null) {
+				throw failure;
+			}
+			if (count > 0) {
+				return;
+			}
+			// See https://bugs.eclipse.org/bugs/show_bug.cgi?id=147377
+			if (popup != null) {
+				popup.close();
+			} else if (!autoActivated) {
+				getControl().getDisplay().beep();
+			}
+		}
+	}
+
+	/*
+	 * The single thread computing proposals for all adapters, one request at a
+	 * time.
+	 */
+	private static final ThreadPoolExecutor PROPOSAL_WORKER = new ThreadPoolExecutor(1, 1, 5, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), r -> {
+				Thread thread = new Thread(r, "Content proposal computation"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	static {
+		PROPOSAL_WORKER.allowCoreThreadTimeOut(true);
+	}
+
 	/**
 	 * Flag that controls the printing of debug info.
 	 */
@@ -1207,6 +1455,17 @@ public class ContentProposalAdapter {
 	 */
 	private boolean autoActivateOnAllModifications = false;
 
+	/*
+	 * The pending computation of proposals, or <code>null</code> if there is
+	 * none.
+	 */
+	private ProposalComputation computation;
+
+	/*
+	 * The adapter of a plain proposal provider, created on demand.
+	 */
+	private ProviderAdapter providerAdapter;
+
 	/**
 	 * Construct a content proposal adapter that can assist the user with
 	 * choosing content for the field.
@@ -1350,6 +1609,7 @@ public class ContentProposalAdapter {
 	 */
 	public void setContentProposalProvider(
 			IContentProposalProvider proposalProvider) {
+		cancelProposalComputation();
 		this.proposalProvider = proposalProvider;
 	}
 
@@ -1877,26 +2137,27 @@ public class ContentProposalAdapter {
 			if (popup == null) {
 				// Check whether there are any proposals to be shown.
 				recordCursorPosition(); // must be done before getting proposals
-				IContentProposal[] proposals = getProposals();
-				if (proposals == null)
-					return;
-				if (proposals.length > 0) {
-					if (DEBUG) {
-						System.out.println("POPUP OPENED BY PRECEDING EVENT"); //$NON-NLS-1$
-					}
-					recordCursorPosition();
-					popup = new ContentProposalPopup(null, proposals);
-					popup.open();
-					popup.getShell().addDisposeListener(event -> popup = null);
-					internalPopupOpened();
-					notifyPopupOpened();
-				} else if (!autoActivated) {
-					getControl().getDisplay().beep();
-				}
+				// The popup is opened once the first proposals arrive.
+				computeProposals(0, autoActivated);
 			}
 		}
 	}
 
+	/*
+	 * Open the proposal popup on the given proposals.
+	 */
+	private void openProposalPopup(IContentProposal[] proposals) {
+		if (DEBUG) {
+			System.out.println("POPUP OPENED BY PRECEDING EVENT"); //$NON-NLS-1$
+		}
+		recordCursorPosition();
+		popup = new ContentProposalPopup(null, proposals);
+		popup.open();
+		popup.getShell().addDisposeListener(event -> popup = null);
+		internalPopupOpened();
+		notifyPopupOpened();
+	}
+
 	/**
 	 * Open the proposal popup and display the proposals provided by the proposal
 	 * provider. This method returns immediately. That is, it does not wait for a
@@ -2013,25 +2274,48 @@ public class ContentProposalAdapter {
 	}
 
 	/*
-	 * Get the proposals from the proposal provider. Gets all of the proposals
-	 * without doing any filtering.
+	 * Start computing the proposals after the given delay, cancelling any
+	 * computation that is still pending.
 	 */
-	private IContentProposal[] getProposals() {
+	private void computeProposals(int delay, boolean autoActivated) {
+		cancelProposalComputation();
 		if (proposalProvider == null || !isValid()) {
-			return null;
+			return;
 		}
 		if (DEBUG) {
 			System.out.println(">>> obtaining proposals from provider"); //$NON-NLS-1$
 		}
 		int position = insertionPos;
 		if (position == -1) {
-			position = getControlContentAdapter().getCursorPosition(
-					getControl());
+			position = getControlContentAdapter().getCursorPosition(getControl());
+		}
+		String contents = getControlContentAdapter().getControlContents(getControl());
+		computation = new ProposalComputation(getAsyncProposalProvider(), contents, position, autoActivated);
+		computation.start(delay);
+	}
+
+	/*
+	 * Return the proposal provider as an asynchronous provider, adapting a
+	 * plain one.
+	 */
+	private IAsyncContentProposalProvider getAsyncProposalProvider() {
+		if (proposalProvider instanceof IAsyncContentProposalProvider asyncProvider) {
+			return asyncProvider;
+		}
+		if (providerAdapter == null || providerAdapter.provider != proposalProvider) {
+			providerAdapter = new ProviderAdapter(proposalProvider);
+		}
+		return providerAdapter;
+	}
+
+	/*
+	 * Cancel the pending computation of proposals, if any.
+	 */
+	private void cancelProposalComputation() {
+		if (computation != null) {
+			computation.cancel();
+			computation = null;
 		}
-		String contents = getControlContentAdapter().getControlContents(
-				getControl());
-		return proposalProvider.getProposals(contents,
-				position);
 	}
 
 	/**
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.fieldassist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+/**
+ * IAsyncContentProposalProvider is an {@link IContentProposalProvider} that
+ * can compute its proposals outside of the UI thread. When installed on a
+ * {@link ContentProposalAdapter}, proposals are computed in a background
+ * thread and streamed into the proposal popup as they are produced. Requests
+ * that become stale because the user kept typing are cancelled through the
+ * progress monitor.
+ * <p>
+ * Implementors must not access any widgets while computing proposals.
+ * </p>
+ *
+ * @since 3.30
+ */
+public interface IAsyncContentProposalProvider extends IContentProposalProvider {
+
+	/**
+	 * Compute the proposals for a field and hand them to the given collector.
+	 * This method is called outside of the UI thread. Proposals may be handed
+	 * to the collector in any number of batches; they are shown in the order
+	 * in which they are collected. Implementors should check the monitor
+	 * regularly and return as soon as it is cancelled.
+	 *
+	 * @param contents
+	 *            the contents of the text field at the time of the request
+	 * @param position
+	 *            the position of the cursor in the contents
+	 * @param collector
+	 *            the collector to hand batches of proposals to. Never
+	 *            <code>null</code>.
+	 * @param monitor
+	 *            the monitor used to cancel the request. Never
+	 *            <code>null</code>.
+	 */
+	void computeProposals(String contents, int position, Consumer<IContentProposal[]> collector,
+			IProgressMonitor monitor);
+
+	/**
+	 * Return the proposals for a field by collecting all batches computed by
+	 * {@link #computeProposals(String, int, Consumer, IProgressMonitor)} in the
+	 * calling thread.
+	 */
+	@Override
+	default IContentProposal[] getProposals(String contents, int position) {
+		List<IContentProposal> result = new ArrayList<>();
+		computeProposals(contents, position, batch -> Collections.addAll(result, batch), new NullProgressMonitor());
+		return result.toArray(new IContentProposal[result.size()]);
+	}
+}
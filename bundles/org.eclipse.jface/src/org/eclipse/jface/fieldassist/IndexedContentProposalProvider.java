@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.fieldassist;
+
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * IndexedContentProposalProvider maps a static list of Strings to content
+ * proposals, like {@link SimpleContentProposalProvider}, but is meant for large
+ * lists such as lists of identifiers. The proposals are always filtered by the
+ * current content of the field. A proposal matches if it contains the content,
+ * ignoring case, or if the content is a camel case pattern for it, such as
+ * <code>NPE</code> or <code>NuPoEx</code> for
+ * <code>NullPointerException</code>. Proposals that start with the content are
+ * returned first.
+ * <p>
+ * The proposals are indexed the first time they are requested, so that the
+ * time needed to compute proposals afterwards depends on the number of matches
+ * rather than on the number of proposals. Since the provider is an
+ * {@link IAsyncContentProposalProvider}, the index is built and the matches are
+ * computed outside of the UI thread when used with a
+ * {@link ContentProposalAdapter}.
+ * </p>
+ *
+ * @see SimpleContentProposalProvider
+ * @since 3.30
+ */
+public class IndexedContentProposalProvider implements IAsyncContentProposalProvider {
+
+	/*
+	 * The number of proposals handed to the collector at once.
+	 */
+	private static final int BATCH_SIZE = 256;
+
+	/*
+	 * The proposals provided.
+	 */
+	private String[] proposals;
+
+	/*
+	 * The index over the proposals, created on demand.
+	 */
+	private ProposalIndex index;
+
+	/**
+	 * Construct an IndexedContentProposalProvider whose content proposals are
+	 * taken from the specified array of Strings.
+	 *
+	 * @param proposals
+	 *            the Strings to choose the proposals from.
+	 */
+	public IndexedContentProposalProvider(String... proposals) {
+		this.proposals = proposals;
+	}
+
+	/**
+	 * Return the proposals matching the current contents of a field.
+	 *
+	 * @param contents
+	 *            the current contents of the field
+	 * @param position
+	 *            the current cursor position within the field (ignored)
+	 * @return the array of proposals that match the contents of the field.
+	 */
+	@Override
+	public IContentProposal[] getProposals(String contents, int position) {
+		ProposalIndex proposalIndex = getIndex();
+		if (contents.isEmpty()) {
+			IContentProposal[] result = new IContentProposal[proposalIndex.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = new ContentProposal(proposalIndex.get(i));
+			}
+			return result;
+		}
+		int[] matches = proposalIndex.find(contents);
+		IContentProposal[] result = new IContentProposal[matches.length];
+		for (int i = 0; i < matches.length; i++) {
+			result[i] = new ContentProposal(proposalIndex.get(matches[i]));
+		}
+		return result;
+	}
+
+	/**
+	 * Compute the proposals matching the contents of a field and hand them to
+	 * the collector in batches.
+	 *
+	 * @param contents
+	 *            the current contents of the field
+	 * @param position
+	 *            the current cursor position within the field (ignored)
+	 * @param collector
+	 *            the collector to hand the proposals to
+	 * @param monitor
+	 *            the monitor used to cancel the computation
+	 */
+	@Override
+	public void computeProposals(String contents, int position, Consumer<IContentProposal[]> collector,
+			IProgressMonitor monitor) {
+		ProposalIndex proposalIndex = getIndex();
+		if (monitor.isCanceled()) {
+			return;
+		}
+		int[] matches = contents.isEmpty() ? null : proposalIndex.find(contents);
+		int count = matches == null ? proposalIndex.size() : matches.length;
+		for (int start = 0; start < count && !monitor.isCanceled(); start += BATCH_SIZE) {
+			IContentProposal[] batch = new IContentProposal[Math.min(BATCH_SIZE, count - start)];
+			for (int i = 0; i < batch.length; i++) {
+				int match = matches == null ? start + i : matches[start + i];
+				batch[i] = new ContentProposal(proposalIndex.get(match));
+			}
+			collector.accept(batch);
+		}
+	}
+
+	/**
+	 * Set the Strings to be used as content proposals. The new proposals are
+	 * indexed the next time proposals are requested.
+	 *
+	 * @param items
+	 *            the Strings to be used as proposals.
+	 */
+	public synchronized void setProposals(String... items) {
+		this.proposals = items;
+		index = null;
+	}
+
+	/*
+	 * Return the index over the current proposals, creating it if needed.
+	 */
+	private synchronized ProposalIndex getIndex() {
+		if (index == null) {
+			index = new ProposalIndex(proposals.clone());
+		}
+		return index;
+	}
+}
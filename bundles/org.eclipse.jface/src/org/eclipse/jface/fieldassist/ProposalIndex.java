@@ -0,0 +1,532 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.fieldassist;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable index over a list of strings that finds the strings containing
+ * a given text, ignoring case, and the strings matching a given camel case
+ * pattern such as <code>NPE</code> or <code>NuPoEx</code> for
+ * <code>NullPointerException</code>.
+ * <p>
+ * Substring matches are found with a suffix array over the lower case strings,
+ * camel case matches with a sorted array of the initials of the camel case
+ * segments of each string. The cost of a lookup is therefore proportional to
+ * the length of the pattern times the logarithm of the size of the index, plus
+ * the number of matches, rather than to the number of strings.
+ * </p>
+ */
+final class ProposalIndex {
+
+	/*
+	 * Terminates every string in the index texts. Sorts before any other
+	 * character so that shorter strings sort first.
+	 */
+	private static final char SEPARATOR = 0;
+
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	/*
+	 * The maximum number of distinct characters for which the suffixes are
+	 * distributed into buckets by their first two characters.
+	 */
+	private static final int MAX_BUCKET_ALPHABET = 256;
+
+	private static final int[] NO_MATCHES = new int[0];
+
+	private final String[] strings;
+
+	/*
+	 * The lower case strings, each one followed by a separator, and the offset
+	 * of each string in it.
+	 */
+	private final char[] text;
+
+	private final int[] starts;
+
+	/*
+	 * The offsets of all suffixes of the text that do not start with a
+	 * separator, in lexicographic order.
+	 */
+	private final int[] suffixes;
+
+	/*
+	 * The lower case initials of the camel case segments of each string, each
+	 * one followed by a separator, and the offset of the initials of each
+	 * string in it.
+	 */
+	private final char[] initials;
+
+	private final int[] initialStarts;
+
+	/*
+	 * The offsets of the initials of all strings, in lexicographic order of the
+	 * initials.
+	 */
+	private final int[] sortedInitials;
+
+	/*
+	 * The offsets of the camel case segments of all strings. The segments of
+	 * string i are at segments[initialStarts[i] - i] up to
+	 * segments[initialStarts[i + 1] - i - 1].
+	 */
+	private final int[] segments;
+
+	/**
+	 * Create an index over the given strings.
+	 *
+	 * @param strings
+	 *            the strings to index. The array is not copied and must not be
+	 *            modified afterwards.
+	 */
+	ProposalIndex(String[] strings) {
+		this.strings = strings;
+		int length = 0;
+		int segmentCount = 0;
+		for (String string : strings) {
+			length += string.length() + 1;
+			segmentCount += countSegments(string, false);
+		}
+		text = new char[length];
+		starts = new int[strings.length + 1];
+		suffixes = new int[length - strings.length];
+		initials = new char[segmentCount + strings.length];
+		initialStarts = new int[strings.length + 1];
+		sortedInitials = new int[strings.length];
+		segments = new int[segmentCount];
+
+		int offset = 0;
+		int suffix = 0;
+		int initial = 0;
+		for (int i = 0; i < strings.length; i++) {
+			String string = strings[i];
+			starts[i] = offset;
+			initialStarts[i] = initial;
+			sortedInitials[i] = initial;
+			for (int j = 0; j < string.length(); j++) {
+				char c = string.charAt(j);
+				if (isSegmentStart(string, j, false)) {
+					segments[initial - i] = j;
+					initials[initial++] = Character.toLowerCase(c);
+				}
+				suffixes[suffix++] = offset;
+				text[offset++] = Character.toLowerCase(c);
+			}
+			text[offset++] = SEPARATOR;
+			initials[initial++] = SEPARATOR;
+		}
+		starts[strings.length] = offset;
+		initialStarts[strings.length] = initial;
+
+		bucketSort(text, suffixes);
+		sort(initials, sortedInitials, 0, sortedInitials.length, 0);
+	}
+
+	/**
+	 * Return the number of indexed strings.
+	 *
+	 * @return the number of strings
+	 */
+	int size() {
+		return strings.length;
+	}
+
+	/**
+	 * Return the indexed string at the given index.
+	 *
+	 * @param index
+	 *            the index of the string
+	 * @return the string
+	 */
+	String get(int index) {
+		return strings[index];
+	}
+
+	/**
+	 * Return the indices of the strings matching the given pattern. Strings
+	 * that start with the pattern come first, followed by the strings that
+	 * contain it elsewhere and finally by the strings that only match it as a
+	 * camel case pattern. The strings of each group are in index order.
+	 *
+	 * @param pattern
+	 *            the pattern to match, not empty
+	 * @return the indices of the matching strings
+	 */
+	int[] find(String pattern) {
+		char[] lower = toLowerCase(pattern);
+		IntList prefixMatches = new IntList();
+		IntList matches = new IntList();
+		int from = lowerBound(text, suffixes, lower);
+		int to = upperBound(text, suffixes, lower, from);
+		for (int i = from; i < to; i++) {
+			int position = suffixes[i];
+			int owner = ownerOf(starts, position);
+			if (position == starts[owner]) {
+				prefixMatches.add(owner);
+			} else {
+				matches.add(owner);
+			}
+		}
+		prefixMatches.sort();
+		matches.sortDistinct();
+
+		IntList camelCaseMatches = new IntList();
+		int[][] patternSegments = camelCaseSegments(pattern);
+		if (patternSegments != null) {
+			char[] patternInitials = new char[patternSegments.length];
+			for (int i = 0; i < patternSegments.length; i++) {
+				patternInitials[i] = lower[patternSegments[i][0]];
+			}
+			from = lowerBound(initials, sortedInitials, patternInitials);
+			to = upperBound(initials, sortedInitials, patternInitials, from);
+			for (int i = from; i < to; i++) {
+				int owner = ownerOf(initialStarts, sortedInitials[i]);
+				if (matchesCamelCase(owner, pattern, patternSegments)) {
+					camelCaseMatches.add(owner);
+				}
+			}
+			camelCaseMatches.sort();
+		}
+
+		matches.removeAll(prefixMatches);
+		camelCaseMatches.removeAll(prefixMatches);
+		camelCaseMatches.removeAll(matches);
+
+		int count = prefixMatches.size + matches.size + camelCaseMatches.size;
+		if (count == 0) {
+			return NO_MATCHES;
+		}
+		int[] result = new int[count];
+		System.arraycopy(prefixMatches.values, 0, result, 0, prefixMatches.size);
+		System.arraycopy(matches.values, 0, result, prefixMatches.size, matches.size);
+		System.arraycopy(camelCaseMatches.values, 0, result, prefixMatches.size + matches.size,
+				camelCaseMatches.size);
+		return result;
+	}
+
+	/*
+	 * Answer whether each segment of the pattern is a prefix of the
+	 * corresponding segment of the given string, ignoring case.
+	 */
+	private boolean matchesCamelCase(int index, String pattern, int[][] patternSegments) {
+		String string = strings[index];
+		int first = initialStarts[index] - index;
+		int last = initialStarts[index + 1] - index - 1;
+		if (last - first < patternSegments.length) {
+			return false;
+		}
+		for (int i = 0; i < patternSegments.length; i++) {
+			int start = segments[first + i];
+			int end = first + i + 1 < last ? segments[first + i + 1] : string.length();
+			int length = patternSegments[i][1] - patternSegments[i][0];
+			if (length > end - start
+					|| !string.regionMatches(true, start, pattern, patternSegments[i][0], length)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Return the start and end of each segment of the pattern if it is a camel
+	 * case pattern, that is if it consists of more than one segment, or null
+	 * otherwise.
+	 */
+	private static int[][] camelCaseSegments(String pattern) {
+		int count = countSegments(pattern, true);
+		if (count < 2) {
+			return null;
+		}
+		int[][] result = new int[count][];
+		int segment = -1;
+		for (int i = 0; i < pattern.length(); i++) {
+			if (isSegmentStart(pattern, i, true)) {
+				result[++segment] = new int[] { i, i + 1 };
+			} else if (segment >= 0 && Character.isLetterOrDigit(pattern.charAt(i))) {
+				result[segment][1] = i + 1;
+			}
+		}
+		return result;
+	}
+
+	private static int countSegments(String string, boolean pattern) {
+		int count = 0;
+		for (int i = 0; i < string.length(); i++) {
+			if (isSegmentStart(string, i, pattern)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/*
+	 * A camel case segment starts with the first letter or digit of a string
+	 * and with a letter or digit that follows a separator such as an
+	 * underscore. In a pattern, every upper case letter starts a segment. In an
+	 * indexed string, an upper case letter starts a segment unless it is
+	 * preceded by an upper case letter and not followed by a lower case one,
+	 * so that <code>URLImage</code> consists of <code>URL</code> and
+	 * <code>Image</code>.
+	 */
+	private static boolean isSegmentStart(String string, int index, boolean pattern) {
+		char c = string.charAt(index);
+		if (!Character.isLetterOrDigit(c)) {
+			return false;
+		}
+		if (index == 0) {
+			return true;
+		}
+		char previous = string.charAt(index - 1);
+		if (!Character.isLetterOrDigit(previous)) {
+			return true;
+		}
+		if (!Character.isUpperCase(c)) {
+			return false;
+		}
+		if (pattern || !Character.isUpperCase(previous)) {
+			return true;
+		}
+		return index + 1 < string.length() && Character.isLowerCase(string.charAt(index + 1));
+	}
+
+	private static char[] toLowerCase(String string) {
+		char[] result = new char[string.length()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = Character.toLowerCase(string.charAt(i));
+		}
+		return result;
+	}
+
+	/*
+	 * Return the index of the string that contains the given offset of a text.
+	 */
+	private static int ownerOf(int[] starts, int offset) {
+		int index = Arrays.binarySearch(starts, offset);
+		return index >= 0 ? index : -index - 2;
+	}
+
+	/*
+	 * Compare the text at the given offset with the pattern, considering only
+	 * the length of the pattern.
+	 */
+	private static int comparePrefix(char[] text, int offset, char[] pattern) {
+		for (int i = 0; i < pattern.length; i++) {
+			char c = text[offset + i];
+			if (c != pattern[i]) {
+				return c - pattern[i];
+			}
+			if (c == SEPARATOR) {
+				return 0;
+			}
+		}
+		return 0;
+	}
+
+	private static int lowerBound(char[] text, int[] sorted, char[] pattern) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (comparePrefix(text, sorted[middle], pattern) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static int upperBound(char[] text, int[] sorted, char[] pattern, int from) {
+		int low = from;
+		int high = sorted.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (comparePrefix(text, sorted[middle], pattern) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/*
+	 * Sort the given offsets of the text by the separator terminated strings
+	 * starting at them, using a multikey quicksort. All strings are known to
+	 * be equal up to the given depth.
+	 */
+	private static void sort(char[] text, int[] offsets, int from, int to, int depth) {
+		while (to - from > INSERTION_SORT_THRESHOLD) {
+			char pivot = medianOfThree(text[offsets[from] + depth],
+					text[offsets[(from + to) >>> 1] + depth], text[offsets[to - 1] + depth]);
+			int less = from;
+			int greater = to - 1;
+			int i = from;
+			while (i <= greater) {
+				char c = text[offsets[i] + depth];
+				if (c < pivot) {
+					swap(offsets, less++, i++);
+				} else if (c > pivot) {
+					swap(offsets, i, greater--);
+				} else {
+					i++;
+				}
+			}
+			sort(text, offsets, from, less, depth);
+			sort(text, offsets, greater + 1, to, depth);
+			if (pivot == SEPARATOR) {
+				return;
+			}
+			from = less;
+			to = greater + 1;
+			depth++;
+		}
+		insertionSort(text, offsets, from, to, depth);
+	}
+
+	/*
+	 * Sort the given offsets of the text like sort(), but distribute them into
+	 * buckets by their first two characters first. The buckets are sorted in
+	 * parallel since the index is usually created outside of the UI thread.
+	 */
+	private static void bucketSort(char[] text, int[] offsets) {
+		// Number the characters that occur in the text, the separator first
+		int[] rank = new int[Character.MAX_VALUE + 1];
+		for (char c : text) {
+			rank[c] = 1;
+		}
+		int alphabet = 0;
+		for (int c = 0; c < rank.length; c++) {
+			if (rank[c] != 0) {
+				rank[c] = alphabet++;
+			}
+		}
+		if (alphabet > MAX_BUCKET_ALPHABET) {
+			sort(text, offsets, 0, offsets.length, 0);
+			return;
+		}
+		int size = alphabet;
+		int[] counts = new int[size * size + 1];
+		for (int offset : offsets) {
+			counts[rank[text[offset]] * size + rank[text[offset + 1]] + 1]++;
+		}
+		for (int i = 1; i < counts.length; i++) {
+			counts[i] += counts[i - 1];
+		}
+		int[] sorted = new int[offsets.length];
+		for (int offset : offsets) {
+			sorted[counts[rank[text[offset]] * size + rank[text[offset + 1]]]++] = offset;
+		}
+		System.arraycopy(sorted, 0, offsets, 0, offsets.length);
+		// A bucket of suffixes that end after one character needs no sorting
+		IntStream.range(0, counts.length - 1).parallel().forEach(bucket -> {
+			int from = bucket == 0 ? 0 : counts[bucket - 1];
+			int to = counts[bucket];
+			if (to - from > 1 && bucket % size != 0) {
+				sort(text, offsets, from, to, 2);
+			}
+		});
+	}
+
+	private static void insertionSort(char[] text, int[] offsets, int from, int to, int depth) {
+		for (int i = from + 1; i < to; i++) {
+			int offset = offsets[i];
+			int j = i;
+			while (j > from && compare(text, offsets[j - 1], offset, depth) > 0) {
+				offsets[j] = offsets[j - 1];
+				j--;
+			}
+			offsets[j] = offset;
+		}
+	}
+
+	private static int compare(char[] text, int first, int second, int depth) {
+		for (int i = depth;; i++) {
+			char c1 = text[first + i];
+			char c2 = text[second + i];
+			if (c1 != c2) {
+				return c1 - c2;
+			}
+			if (c1 == SEPARATOR) {
+				return 0;
+			}
+		}
+	}
+
+	private static char medianOfThree(char a, char b, char c) {
+		if (a < b) {
+			return b < c ? b : (a < c ? c : a);
+		}
+		return a < c ? a : (b < c ? c : b);
+	}
+
+	private static void swap(int[] values, int i, int j) {
+		int value = values[i];
+		values[i] = values[j];
+		values[j] = value;
+	}
+
+	/*
+	 * A growable list of ints.
+	 */
+	private static final class IntList {
+
+		int[] values = new int[16];
+
+		int size;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		void sort() {
+			Arrays.sort(values, 0, size);
+		}
+
+		/*
+		 * Remove the values of the given list from the receiver. Both lists
+		 * must be sorted.
+		 */
+		void removeAll(IntList other) {
+			int count = 0;
+			int j = 0;
+			for (int i = 0; i < size; i++) {
+				int value = values[i];
+				while (j < other.size && other.values[j] < value) {
+					j++;
+				}
+				if (j == other.size || other.values[j] != value) {
+					values[count++] = value;
+				}
+			}
+			size = count;
+		}
+
+		void sortDistinct() {
+			sort();
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (count == 0 || values[count - 1] != values[i]) {
+					values[count++] = values[i];
+				}
+			}
+			size = count;
+		}
+	}
+}
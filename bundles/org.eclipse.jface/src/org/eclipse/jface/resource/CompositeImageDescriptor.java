@@ -355,8 +355,16 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 		return getImageData(100);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The composition is serialized, since it is drawn into the state of the
+	 * receiver. This allows the image data to be computed outside of the UI
+	 * thread by subclasses that only compose thread-safe images.
+	 * </p>
+	 */
 	@Override
-	public ImageData getImageData(int zoom) {
+	public synchronized ImageData getImageData(int zoom) {
 		if (!supportsZoomLevel(zoom)) {
 			return null;
 		}
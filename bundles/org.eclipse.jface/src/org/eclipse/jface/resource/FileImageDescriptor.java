@@ -219,6 +219,11 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable {
 		return null;
 	}
 
+	@Override
+	public boolean isImageDataThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public int hashCode() {
 		int code = name.hashCode();
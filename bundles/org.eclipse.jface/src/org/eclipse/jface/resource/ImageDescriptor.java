@@ -16,6 +16,7 @@ package org.eclipse.jface.resource;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.eclipse.swt.SWTException;
@@ -225,9 +226,44 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor {
 		}
 	}
 
+	/**
+	 * Image data that has been decoded in advance by
+	 * {@link ResourceManager#createImageAsync(ImageDescriptor)}. It is set on
+	 * the UI thread while the resource manager creates the image, so that
+	 * {@link #createResource(Device)} only has to create the native image.
+	 */
+	static final class PreparedImageData {
+
+		static final ThreadLocal<PreparedImageData> CURRENT = new ThreadLocal<>();
+
+		final ImageDescriptor descriptor;
+
+		/**
+		 * The decoded image data by zoom level. A zoom level that is present with a
+		 * <code>null</code> value is not provided by the descriptor.
+		 */
+		final Map<Integer, ImageData> data;
+
+		PreparedImageData(ImageDescriptor descriptor, Map<Integer, ImageData> data) {
+			this.descriptor = descriptor;
+			this.data = data;
+		}
+	}
+
 	@Override
 	public Object createResource(Device device) throws DeviceResourceException {
-		Image result = createImage(false, device);
+		Image result;
+		PreparedImageData prepared = PreparedImageData.CURRENT.get();
+		if (prepared != null && prepared.descriptor == this && prepared.data != null
+				&& prepared.data.get(Integer.valueOf(100)) != null) {
+			// Zoom levels that have not been prepared are still computed on demand.
+			Map<Integer, ImageData> data = prepared.data;
+			result = new Image(device, (ImageDataProvider) zoom -> data.containsKey(Integer.valueOf(zoom))
+					? data.get(Integer.valueOf(zoom))
+					: getImageData(zoom));
+		} else {
+			result = createImage(false, device);
+		}
 		if (result == null) {
 			throw new DeviceResourceException(this);
 		}
@@ -239,6 +275,24 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor {
 		((Image)previouslyCreatedObject).dispose();
 	}
 
+	/**
+	 * Returns whether {@link #getImageData(int)} may be called outside of the UI
+	 * thread, concurrently with other calls. Descriptors that answer
+	 * <code>true</code> are decoded on a worker thread by
+	 * {@link ResourceManager#createImageAsync(ImageDescriptor)}.
+	 * <p>
+	 * The default implementation returns <code>false</code>. Subclasses that
+	 * neither access SWT resources nor unsynchronized state to compute their
+	 * image data should override this method.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the image data can be computed in any thread
+	 * @since 3.30
+	 */
+	public boolean isImageDataThreadSafe() {
+		return false;
+	}
+
 	/**
 	 * Creates and returns a new SWT image for this image descriptor. Note that
 	 * each call returns a new SWT image object. The returned image must be
@@ -201,6 +201,20 @@ public class JFaceResources {
 	 */
 	private static final int cacheSize = Integer.getInteger("org.eclipse.jface.resource.cacheSize", 300).intValue(); //$NON-NLS-1$
 
+	/**
+	 * The estimated native memory the cached images may use, 32 MB by default.
+	 */
+	private static final long cacheBytes = Long.getLong("org.eclipse.jface.resource.cacheBytes", 32L << 20) //$NON-NLS-1$
+			.longValue();
+
+	/**
+	 * Either "lru" (the default) or "lfu".
+	 */
+	private static final LazyResourceManager.EvictionPolicy cachePolicy = "lfu" //$NON-NLS-1$
+			.equalsIgnoreCase(System.getProperty("org.eclipse.jface.resource.cachePolicy")) //$NON-NLS-1$
+					? LazyResourceManager.EvictionPolicy.LFU
+					: LazyResourceManager.EvictionPolicy.LRU;
+
 	/**
 	 * Returns the global resource manager for the given display
 	 *
@@ -218,7 +232,7 @@ public class JFaceResources {
 			if (cacheSize == 0) {
 				mgr = new DeviceResourceManager(toQuery);
 			} else {
-				mgr = new LazyResourceManager(cacheSize, new DeviceResourceManager(toQuery));
+				mgr = new LazyResourceManager(cacheSize, cacheBytes, cachePolicy, new DeviceResourceManager(toQuery));
 			}
 			reg = mgr;
 			registries.put(toQuery, mgr);
@@ -231,6 +245,24 @@ public class JFaceResources {
 		return reg;
 	}
 
+	/**
+	 * Returns the statistics of the global resource manager for the given
+	 * display, which is also used by the {@link ImageRegistry image registries}
+	 * of the display. May only be called from the UI thread of the display.
+	 *
+	 * @param toQuery display to query
+	 * @return the statistics of the global resource manager, or
+	 *         <code>null</code> if caching has been disabled with the
+	 *         <code>org.eclipse.jface.resource.cacheSize</code> system property
+	 * @since 3.30
+	 */
+	public static ResourceStatistics getResourceStatistics(Display toQuery) {
+		if (getResources(toQuery) instanceof LazyResourceManager manager) {
+			return manager.getStatistics();
+		}
+		return null;
+	}
+
 	/**
 	 * Returns the ResourceManager for the current display. May only be called
 	 * from a UI thread.
@@ -14,55 +14,110 @@
 package org.eclipse.jface.resource;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.pde.api.tools.annotations.NoReference;
+import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * A LRU based ResourceManager Wrapper. Not to be used by clients.
+ * <p>
+ * Resources which are not referenced anymore are kept by the parent as long as
+ * they fit into the budget of the cache, given as a number of resources and as
+ * an estimated number of bytes of native memory. The manager also accounts for
+ * the handles and memory of all resources it has allocated, see
+ * {@link #getStatistics()}.
+ * </p>
  */
 @NoReference
 public class LazyResourceManager extends ResourceManager {
+
 	/**
-	 * This LRU Map only holds the DeviceResourceDescriptors which are not
-	 * referenced otherwise anymore. The Resources itself are only cached by the
-	 * parent ResourceManager.
+	 * The policy used to choose which unreferenced resource to destroy when the
+	 * cache exceeds its budget.
+	 *
+	 * @since 3.30
 	 */
-	private static class LruMap extends LinkedHashMap<DeviceResourceDescriptor, ResourceManager> {
-		private static final long serialVersionUID = 1L;
-		int cacheSize;
+	public enum EvictionPolicy {
+		/** Destroy the resource that was not used for the longest time. */
+		LRU,
+		/** Destroy the resource that was used the least number of times. */
+		LFU
+	}
 
-		LruMap(int cacheSize) {
-			super(cacheSize, 0.75f, true); // last access-order
-			this.cacheSize = cacheSize;
-		}
+	/**
+	 * Estimated native memory of a font, which is not known to SWT.
+	 */
+	private static final int FONT_BYTES = 1024;
 
-		@Override
-		protected boolean removeEldestEntry(java.util.Map.Entry<DeviceResourceDescriptor, ResourceManager> eldest) {
-			boolean remove = size() > cacheSize;
-			if (remove) {
-				// destroy resource which was not used recently:
-				eldest.getValue().destroy(eldest.getKey());
-			}
-			return remove;
+	/**
+	 * Bookkeeping for a resource allocated through this manager.
+	 */
+	private static final class Entry {
+		int refs;
+		long uses;
+		final int handles;
+		final long bytes;
+
+		Entry(Object resource) {
+			handles = estimateHandles(resource);
+			bytes = estimateBytes(resource);
 		}
 	}
 
 	private final ResourceManager parent;
-	private final LruMap unreferenced;
-	private final Map<DeviceResourceDescriptor, Integer> refCount;
+	private final int cacheSize;
+	private final long cacheBytes;
+	private final EvictionPolicy policy;
+
+	/**
+	 * All referenced resources.
+	 */
+	private final Map<DeviceResourceDescriptor, Entry> referenced;
+
+	/**
+	 * This LRU Map only holds the DeviceResourceDescriptors which are not
+	 * referenced otherwise anymore. The Resources itself are only cached by the
+	 * parent ResourceManager.
+	 */
+	private final LinkedHashMap<DeviceResourceDescriptor, Entry> unreferenced;
+
+	private long hits;
+	private long misses;
+	private long evictions;
+	private int handles;
+	private long bytes;
+	private long unreferencedBytes;
 
 	/**
 	 * @param cacheSize the lru cache size
 	 * @param parent    ResourceManager
 	 */
 	public LazyResourceManager(int cacheSize, ResourceManager parent) {
+		this(cacheSize, Long.MAX_VALUE, EvictionPolicy.LRU, parent);
+	}
+
+	/**
+	 * @param cacheSize  the maximum number of unreferenced resources to keep
+	 * @param cacheBytes the maximum estimated native memory of the unreferenced
+	 *                   resources to keep
+	 * @param policy     the policy choosing the resources to destroy
+	 * @param parent     ResourceManager
+	 * @since 3.30
+	 */
+	public LazyResourceManager(int cacheSize, long cacheBytes, EvictionPolicy policy, ResourceManager parent) {
 		this.parent = parent;
-		this.unreferenced = new LruMap(cacheSize);
-		this.refCount = new HashMap<>();
+		this.cacheSize = cacheSize;
+		this.cacheBytes = cacheBytes;
+		this.policy = policy;
+		this.referenced = new HashMap<>();
+		this.unreferenced = new LinkedHashMap<>(16, 0.75f, true); // last access-order
 	}
 
 	@Override
@@ -83,43 +138,93 @@ public class LazyResourceManager extends ResourceManager {
 		return parent.getDefaultImage();
 	}
 
-	private static Integer createOrIncrease(@SuppressWarnings("unused") DeviceResourceDescriptor key, Integer refs) {
-		return Integer.valueOf(refs == null ? 1 : refs.intValue() + 1);
-	}
-
-	private static Integer decreaseOrRemove(@SuppressWarnings("unused") DeviceResourceDescriptor key, Integer refs) {
-		return refs.intValue() == 1 ? null : Integer.valueOf(refs.intValue() - 1);
-
-	}
 	@Override
 	public Object create(DeviceResourceDescriptor descriptor) {
-		if (!shouldBeCached(descriptor)) {
+		if (descriptor == null) {
 			return parent.create(descriptor);
 		}
-		int updatedRefs = refCount.compute(descriptor, LazyResourceManager::createOrIncrease).intValue();
-		if (updatedRefs == 1) {
-			ResourceManager cached = unreferenced.remove(descriptor);
-			if (cached == null) {
-				return parent.create(descriptor);
+		Entry entry = referenced.get(descriptor);
+		if (entry == null && shouldBeCached(descriptor)) {
+			entry = unreferenced.remove(descriptor);
+			if (entry != null) {
+				// referenced again
+				unreferencedBytes -= entry.bytes;
+				referenced.put(descriptor, entry);
 			}
-			// referenced again
 		} else {
 			assert !unreferenced.containsKey(descriptor);
 		}
+		if (entry == null) {
+			misses++;
+			Object resource = parent.create(descriptor);
+			entry = new Entry(resource);
+			handles += entry.handles;
+			bytes += entry.bytes;
+			referenced.put(descriptor, entry);
+			entry.refs = 1;
+			entry.uses = 1;
+			return resource;
+		}
+		hits++;
+		entry.uses++;
+		if (entry.refs++ > 0 && !shouldBeCached(descriptor)) {
+			// the parent counts the references of uncached resources
+			return parent.create(descriptor);
+		}
 		return parent.find(descriptor);
 	}
 
 	@Override
 	public void destroy(DeviceResourceDescriptor descriptor) {
+		Entry entry = descriptor == null ? null : referenced.get(descriptor);
+		if (entry == null) {
+			parent.destroy(descriptor);
+			return;
+		}
 		if (!shouldBeCached(descriptor)) {
 			parent.destroy(descriptor);
+			if (--entry.refs == 0) {
+				referenced.remove(descriptor);
+				handles -= entry.handles;
+				bytes -= entry.bytes;
+			}
 			return;
 		}
-		Integer refsLeft = refCount.computeIfPresent(descriptor, LazyResourceManager::decreaseOrRemove);
-		if (refsLeft == null) {
-			// defer destroy:
-			ResourceManager old = unreferenced.put(descriptor, parent);
-			assert old == null;
+		if (--entry.refs > 0) {
+			return;
+		}
+		// defer destroy:
+		referenced.remove(descriptor);
+		unreferenced.put(descriptor, entry);
+		unreferencedBytes += entry.bytes;
+		evict();
+	}
+
+	/**
+	 * Destroys unreferenced resources until the cache fits into its budget.
+	 */
+	private void evict() {
+		while (!unreferenced.isEmpty() && (unreferenced.size() > cacheSize || unreferencedBytes > cacheBytes)) {
+			Iterator<Map.Entry<DeviceResourceDescriptor, Entry>> iterator = unreferenced.entrySet().iterator();
+			Map.Entry<DeviceResourceDescriptor, Entry> victim = iterator.next();
+			if (policy == EvictionPolicy.LFU) {
+				// ties are resolved by recency
+				while (iterator.hasNext()) {
+					Map.Entry<DeviceResourceDescriptor, Entry> next = iterator.next();
+					if (next.getValue().uses < victim.getValue().uses) {
+						victim = next;
+					}
+				}
+			}
+			DeviceResourceDescriptor descriptor = victim.getKey();
+			Entry entry = victim.getValue();
+			unreferenced.remove(descriptor);
+			unreferencedBytes -= entry.bytes;
+			handles -= entry.handles;
+			bytes -= entry.bytes;
+			evictions++;
+			// destroy resource which was not used recently:
+			parent.destroy(descriptor);
 		}
 	}
 
@@ -128,10 +233,36 @@ public class LazyResourceManager extends ResourceManager {
 		if (!shouldBeCached(descriptor)) {
 			return parent.find(descriptor);
 		}
-		if (refCount.containsKey(descriptor)) {
+		if (referenced.containsKey(descriptor)) {
 			return parent.find(descriptor);
 		}
 		return null;
 	}
 
+	/**
+	 * Returns a snapshot of the statistics of this manager.
+	 *
+	 * @return the statistics
+	 * @since 3.30
+	 */
+	public ResourceStatistics getStatistics() {
+		return new ResourceStatistics(hits, misses, evictions, referenced.size() + unreferenced.size(), handles,
+				bytes, unreferenced.size(), unreferencedBytes);
+	}
+
+	private static int estimateHandles(Object resource) {
+		return resource instanceof Color ? 0 : 1;
+	}
+
+	private static long estimateBytes(Object resource) {
+		if (resource instanceof Image image && !image.isDisposed()) {
+			Rectangle bounds = image.getBounds();
+			return 4L * bounds.width * bounds.height;
+		}
+		if (resource instanceof Font) {
+			return FONT_BYTES;
+		}
+		return 0;
+	}
+
 }
@@ -49,4 +49,9 @@ class MissingImageDescriptor extends ImageDescriptor {
 		}
 		return instance;
 	}
+
+	@Override
+	public boolean isImageDataThreadSafe() {
+		return true;
+	}
 }
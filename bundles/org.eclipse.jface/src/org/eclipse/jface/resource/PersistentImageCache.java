@@ -0,0 +1,676 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.InternalPolicy;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * A cache of decoded image data that persists between sessions. Once a cache
+ * has been installed with {@link #setDefault(PersistentImageCache)}, image
+ * descriptors created with {@link ImageDescriptor#createFromURL(URL)} take
+ * their image data for each zoom level from the cache instead of locating,
+ * reading and decoding the image files. This applies to all images created
+ * through an {@link ImageRegistry} or a {@link ResourceManager} as well.
+ * <p>
+ * The cache is stored in a single pack file that is kept open while the cache
+ * is in use. Images of bundles are keyed by the symbolic name, version and
+ * modification stamp of the bundle, the path of the image in the bundle and
+ * the zoom level, so that entries of updated bundles are never used and the
+ * keys do not depend on the bundle ids of a particular launch. Images of files are keyed by their URL and
+ * modification stamp. Images that cannot be attributed to a version, such as
+ * images in arbitrary jar files, are not cached. When the cache is saved, the
+ * pack file is rewritten with the entries that have been used in the current
+ * session, in the order in which they were first used, so that the icons
+ * needed during startup can be read in bulk with {@link #preload()}.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.30
+ */
+public final class PersistentImageCache {
+
+	private static final int MAGIC = 0x4A464943; // "JFIC"
+
+	private static final int FORMAT_VERSION = 2;
+
+	/*
+	 * The pack file is not allowed to grow beyond this size.
+	 */
+	private static final int MAX_PACK_SIZE = 64 * 1024 * 1024;
+
+	/*
+	 * New entries are kept in memory until the cache is saved, up to this size.
+	 * Entries beyond it are not cached in this session.
+	 */
+	private static final int MAX_ADDED_SIZE = 8 * 1024 * 1024;
+
+	/*
+	 * The version of URLs that cannot be attributed to a bundle.
+	 */
+	private static final String NO_VERSION = ""; //$NON-NLS-1$
+
+	private static volatile PersistentImageCache defaultCache;
+
+	private final Path file;
+
+	/*
+	 * The open pack file, or an empty pack if there was no valid pack file.
+	 */
+	private volatile Pack pack;
+
+	/*
+	 * Entries that are not in the pack file, encoded, and their total size.
+	 */
+	private final Map<String, byte[]> addedEntries = new ConcurrentHashMap<>();
+
+	private final AtomicLong addedSize = new AtomicLong();
+
+	/*
+	 * The keys of the entries used in this session, in the order of first use.
+	 */
+	private final Set<String> usedKeys = Collections.synchronizedSet(new LinkedHashSet<>());
+
+	/*
+	 * The symbolic name, version and modification stamp of the bundles, by URL
+	 * authority, or NO_VERSION if the URL does not refer to a bundle.
+	 */
+	private final Map<String, String> versions = new ConcurrentHashMap<>();
+
+	/*
+	 * An open pack file and the offset and length of each of its entries.
+	 */
+	private static final class Pack {
+
+		static final Pack EMPTY = new Pack(null, null, Collections.emptyMap());
+
+		private final Path file;
+
+		/*
+		 * The channel to read from. A reader that is interrupted closes it for
+		 * all readers, so it is opened again unless the pack has been closed.
+		 */
+		private volatile FileChannel channel;
+
+		private boolean closed;
+
+		final Map<String, int[]> entries;
+
+		Pack(Path file, FileChannel channel, Map<String, int[]> entries) {
+			this.file = file;
+			this.channel = channel;
+			this.entries = entries;
+		}
+
+		/*
+		 * Return the entry with the given key, or null if there is none.
+		 */
+		byte[] read(String key) throws IOException {
+			int[] location = entries.get(key);
+			if (location == null) {
+				return null;
+			}
+			ByteBuffer entry = ByteBuffer.allocate(location[1]);
+			FileChannel from = channel;
+			while (entry.hasRemaining()) {
+				try {
+					if (from.read(entry, location[0] + entry.position()) < 0) {
+						throw new EOFException();
+					}
+				} catch (ClosedChannelException e) {
+					if (Thread.currentThread().isInterrupted()) {
+						throw e;
+					}
+					from = reopen(from, e);
+				}
+			}
+			return entry.array();
+		}
+
+		/*
+		 * Return the channel to read from, which is read by position only.
+		 */
+		FileChannel getChannel() throws IOException {
+			FileChannel current = channel;
+			if (current != null && !current.isOpen()) {
+				current = reopen(current, new ClosedChannelException());
+			}
+			return current;
+		}
+
+		private synchronized FileChannel reopen(FileChannel failed, ClosedChannelException e) throws IOException {
+			if (closed) {
+				throw e;
+			}
+			if (channel == failed) {
+				channel = FileChannel.open(file, StandardOpenOption.READ);
+			}
+			return channel;
+		}
+
+		synchronized void close() throws IOException {
+			closed = true;
+			if (channel != null) {
+				channel.close();
+			}
+		}
+	}
+
+	private PersistentImageCache(Path file, Pack pack) {
+		this.file = file;
+		this.pack = pack;
+	}
+
+	/**
+	 * Open the cache stored in the given file. If the file does not exist or
+	 * cannot be read, an empty cache is returned that is stored in the file when
+	 * it is saved.
+	 *
+	 * @param file
+	 *            the pack file of the cache
+	 * @return the cache
+	 */
+	public static PersistentImageCache open(Path file) {
+		return new PersistentImageCache(file, openPack(file));
+	}
+
+	/*
+	 * Open the given pack file and read its index, or return the empty pack if
+	 * the file does not exist or cannot be read.
+	 */
+	private static Pack openPack(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return Pack.EMPTY;
+		}
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(file, StandardOpenOption.READ);
+			long size = channel.size();
+			if (size <= MAX_PACK_SIZE) {
+				// The stream must not close the channel, which is read by position
+				DataInputStream in = new DataInputStream(
+						new BufferedInputStream(Channels.newInputStream(channel.position(0))));
+				Map<String, int[]> entries = readIndex(in, size);
+				if (entries != null) {
+					return new Pack(file, channel, entries);
+				}
+			}
+			channel.close();
+		} catch (IOException | RuntimeException e) {
+			Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE,
+					"Unable to read image cache " + file, e)); //$NON-NLS-1$
+			if (channel != null) {
+				try {
+					channel.close();
+				} catch (IOException ex) {
+					// nothing to do
+				}
+			}
+		}
+		return Pack.EMPTY;
+	}
+
+	/**
+	 * Install the given cache as the cache used by image descriptors created
+	 * from URLs.
+	 *
+	 * @param cache
+	 *            the cache to use, or <code>null</code> to load all images from
+	 *            their URLs again
+	 */
+	public static void setDefault(PersistentImageCache cache) {
+		defaultCache = cache;
+	}
+
+	/**
+	 * Return the cache used by image descriptors created from URLs.
+	 *
+	 * @return the cache, or <code>null</code> if there is none
+	 */
+	public static PersistentImageCache getDefault() {
+		return defaultCache;
+	}
+
+	/**
+	 * Read the whole pack file at once, so that it is held in memory by the
+	 * operating system before its entries are needed. The pack file
+	 * contains the images used in the previous session in the order in which
+	 * they were first used, so this is typically called early during startup
+	 * outside of the UI thread.
+	 */
+	public void preload() {
+		ByteBuffer buffer = ByteBuffer.allocate(1024 * 1024);
+		try {
+			FileChannel channel = pack.getChannel();
+			if (channel == null) {
+				return;
+			}
+			long position = 0;
+			int read;
+			while ((read = channel.read(buffer, position)) > 0) {
+				position += read;
+				buffer.clear();
+			}
+		} catch (IOException e) {
+			// The pack file has been closed, or is read on demand
+		}
+	}
+
+	/**
+	 * Return the number of entries available in the cache.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		Map<String, int[]> packEntries = pack.entries;
+		int size = packEntries.size();
+		for (String key : addedEntries.keySet()) {
+			if (!packEntries.containsKey(key)) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Write the entries used in this session to the pack file, replacing its
+	 * previous content. Entries that have not been used in this session are
+	 * dropped. The cache remains usable and reads from the new pack file.
+	 *
+	 * @throws IOException
+	 *             if the pack file could not be written
+	 */
+	public synchronized void save() throws IOException {
+		List<String> keys = new ArrayList<>();
+		List<byte[]> data = new ArrayList<>();
+		int indexSize = 12;
+		int dataSize = 0;
+		Pack oldPack = pack;
+		synchronized (usedKeys) {
+			for (String key : usedKeys) {
+				byte[] entry = getEntry(oldPack, key);
+				if (entry == null) {
+					continue;
+				}
+				int keySize = key.getBytes(StandardCharsets.UTF_8).length;
+				if (indexSize + dataSize + 12 + keySize + entry.length > MAX_PACK_SIZE) {
+					break;
+				}
+				keys.add(key);
+				data.add(entry);
+				indexSize += 12 + keySize;
+				dataSize += entry.length;
+			}
+		}
+
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(keys.size());
+			int offset = indexSize;
+			for (int i = 0; i < keys.size(); i++) {
+				byte[] key = keys.get(i).getBytes(StandardCharsets.UTF_8);
+				out.writeInt(key.length);
+				out.write(key);
+				out.writeInt(offset);
+				out.writeInt(data.get(i).length);
+				offset += data.get(i).length;
+			}
+			for (byte[] entry : data) {
+				out.write(entry);
+			}
+		}
+		// The old pack file must be closed before it can be replaced on all
+		// platforms
+		pack = Pack.EMPTY;
+		try {
+			oldPack.close();
+		} finally {
+			try {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Pack newPack = openPack(file);
+				for (String key : newPack.entries.keySet()) {
+					byte[] removed = addedEntries.remove(key);
+					if (removed != null) {
+						addedSize.addAndGet(-removed.length);
+					}
+				}
+				pack = newPack;
+			}
+		}
+	}
+
+	/**
+	 * Return the image data for the given URL and zoom level, loading it with
+	 * the given loader and adding it to the cache if it is not cached yet.
+	 */
+	ImageData getImageData(String url, int zoom, BiFunction<String, Integer, ImageData> loader) {
+		String key = getKey(url, zoom);
+		if (key == null) {
+			return loader.apply(url, Integer.valueOf(zoom));
+		}
+		byte[] entry = getEntry(pack, key);
+		if (entry != null) {
+			try {
+				ImageData data = decode(ByteBuffer.wrap(entry));
+				usedKeys.add(key);
+				return data;
+			} catch (RuntimeException e) {
+				// A damaged entry, load the image again
+			}
+		}
+		ImageData data = loader.apply(url, Integer.valueOf(zoom));
+		byte[] encoded = encode(data);
+		if (addedSize.addAndGet(encoded.length) <= MAX_ADDED_SIZE) {
+			byte[] replaced = addedEntries.put(key, encoded);
+			if (replaced != null) {
+				addedSize.addAndGet(-replaced.length);
+			}
+			usedKeys.add(key);
+		} else {
+			addedSize.addAndGet(-encoded.length);
+		}
+		return data;
+	}
+
+	/*
+	 * Return the encoded entry with the given key, or null if it is not cached
+	 * or cannot be read.
+	 */
+	private byte[] getEntry(Pack from, String key) {
+		byte[] added = addedEntries.get(key);
+		if (added != null) {
+			return added;
+		}
+		try {
+			return from.read(key);
+		} catch (IOException e) {
+			// The pack file has been closed or damaged
+			return null;
+		}
+	}
+
+	/*
+	 * Return the key of the given URL and zoom level, or null if the image
+	 * cannot be cached because the version of its URL is unknown.
+	 */
+	private String getKey(String url, int zoom) {
+		String origin = getOrigin(url);
+		if (origin == null) {
+			return null;
+		}
+		return zoom + ":" + origin; //$NON-NLS-1$
+	}
+
+	/*
+	 * Return the symbolic name, version and modification stamp of the bundle
+	 * and the path of the entry that the URL refers to, or the modification
+	 * stamp and the URL of a file. The host of bundle URLs is not part of the origin, as it depends on
+	 * the bundle id and the framework instance.
+	 */
+	private String getOrigin(String url) {
+		URL parsed;
+		try {
+			parsed = new URL(url);
+		} catch (MalformedURLException e) {
+			return null;
+		}
+		String protocol = parsed.getProtocol();
+		if ("file".equalsIgnoreCase(protocol)) { //$NON-NLS-1$
+			try {
+				Path path = Path.of(parsed.toURI());
+				return Files.getLastModifiedTime(path).toMillis() + "/" + Files.size(path) + ':' + url; //$NON-NLS-1$
+			} catch (Exception e) {
+				return null;
+			}
+		}
+		if (!InternalPolicy.OSGI_AVAILABLE) {
+			return null;
+		}
+		if ("bundleentry".equals(protocol) || "bundleresource".equals(protocol)) { //$NON-NLS-1$ //$NON-NLS-2$
+			String host = parsed.getHost();
+			String version = versions.computeIfAbsent(protocol + ':' + host, k -> {
+				int dot = host.indexOf('.');
+				try {
+					long id = Long.parseLong(dot == -1 ? host : host.substring(0, dot));
+					return getBundleVersion(id, null);
+				} catch (NumberFormatException e) {
+					return NO_VERSION;
+				}
+			});
+			if (version.isEmpty()) {
+				return null;
+			}
+			// The port of bundle resources is the index of the class path entry
+			return protocol + ':' + version + ':' + parsed.getPort() + parsed.getPath();
+		}
+		if ("platform".equals(protocol) && parsed.getPath().startsWith("/plugin/")) { //$NON-NLS-1$ //$NON-NLS-2$
+			String path = parsed.getPath();
+			int end = path.indexOf('/', 8);
+			if (end != -1) {
+				String symbolicName = path.substring(8, end);
+				String version = versions.computeIfAbsent(protocol + ':' + symbolicName,
+						k -> getBundleVersion(-1, symbolicName));
+				if (version.isEmpty()) {
+					return null;
+				}
+				return protocol + ':' + version + ':' + path.substring(end);
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * Return the symbolic name, version and modification stamp of the bundle
+	 * with the given id or symbolic name, or NO_VERSION if there is no such
+	 * bundle.
+	 */
+	private static String getBundleVersion(long id, String symbolicName) {
+		Bundle jface = FrameworkUtil.getBundle(PersistentImageCache.class);
+		BundleContext context = jface == null ? null : jface.getBundleContext();
+		if (context == null) {
+			return NO_VERSION;
+		}
+		Bundle bundle = null;
+		if (symbolicName == null) {
+			bundle = context.getBundle(id);
+		} else {
+			for (Bundle candidate : context.getBundles()) {
+				if (symbolicName.equals(candidate.getSymbolicName())
+						&& (bundle == null || candidate.getVersion().compareTo(bundle.getVersion()) > 0)) {
+					bundle = candidate;
+				}
+			}
+		}
+		if (bundle == null || bundle.getSymbolicName() == null) {
+			return NO_VERSION;
+		}
+		// Bundles that are changed without a new version, such as bundles of
+		// the workspace or rebuilt with the same qualifier, have a new
+		// modification stamp
+		return bundle.getSymbolicName() + '_' + bundle.getVersion() + '_' + bundle.getLastModified();
+	}
+
+	private static Map<String, int[]> readIndex(DataInputStream in, long size) throws IOException {
+		try {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				return null;
+			}
+			int count = in.readInt();
+			if (count < 0 || count > size / 12) {
+				return null;
+			}
+			Map<String, int[]> entries = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				int keyLength = in.readInt();
+				if (keyLength < 0 || keyLength > size) {
+					return null;
+				}
+				byte[] key = new byte[keyLength];
+				in.readFully(key);
+				int offset = in.readInt();
+				int length = in.readInt();
+				if (offset < 0 || length < 0 || (long) offset + length > size) {
+					return null;
+				}
+				entries.put(new String(key, StandardCharsets.UTF_8), new int[] { offset, length });
+			}
+			return entries;
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Encode the given image data, which may be null if there is no image.
+	 */
+	private static byte[] encode(ImageData data) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+				data == null ? 4 : data.data.length + (data.alphaData == null ? 0 : data.alphaData.length) + 64);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			if (data == null) {
+				out.writeInt(0);
+				return bytes.toByteArray();
+			}
+			out.writeInt(1);
+			out.writeInt(data.width);
+			out.writeInt(data.height);
+			out.writeInt(data.depth);
+			out.writeInt(data.scanlinePad);
+			out.writeInt(data.type);
+			out.writeInt(data.transparentPixel);
+			out.writeInt(data.alpha);
+			PaletteData palette = data.palette;
+			out.writeBoolean(palette.isDirect);
+			if (palette.isDirect) {
+				out.writeInt(palette.redMask);
+				out.writeInt(palette.greenMask);
+				out.writeInt(palette.blueMask);
+			} else {
+				out.writeInt(palette.colors.length);
+				for (RGB color : palette.colors) {
+					out.writeByte(color.red);
+					out.writeByte(color.green);
+					out.writeByte(color.blue);
+				}
+			}
+			out.writeInt(data.maskPad);
+			writeBytes(out, data.maskData);
+			writeBytes(out, data.alphaData);
+			writeBytes(out, data.data);
+		} catch (IOException e) {
+			// Cannot happen when writing to memory
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static ImageData decode(ByteBuffer in) {
+		if (in.getInt() == 0) {
+			return null;
+		}
+		int width = in.getInt();
+		int height = in.getInt();
+		int depth = in.getInt();
+		int scanlinePad = in.getInt();
+		int type = in.getInt();
+		int transparentPixel = in.getInt();
+		int alpha = in.getInt();
+		PaletteData palette;
+		if (in.get() != 0) {
+			palette = new PaletteData(in.getInt(), in.getInt(), in.getInt());
+		} else {
+			RGB[] colors = new RGB[in.getInt()];
+			for (int i = 0; i < colors.length; i++) {
+				colors[i] = new RGB(in.get() & 0xFF, in.get() & 0xFF, in.get() & 0xFF);
+			}
+			palette = new PaletteData(colors);
+		}
+		int maskPad = in.getInt();
+		byte[] maskData = readBytes(in);
+		byte[] alphaData = readBytes(in);
+		ImageData data = new ImageData(width, height, depth, palette, scanlinePad, readBytes(in));
+		data.type = type;
+		data.transparentPixel = transparentPixel;
+		data.alpha = alpha;
+		data.maskPad = maskPad;
+		data.maskData = maskData;
+		data.alphaData = alphaData;
+		return data;
+	}
+
+	private static byte[] readBytes(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return bytes;
+	}
+}
@@ -14,7 +14,14 @@
 package org.eclipse.jface.resource;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
@@ -25,7 +32,9 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * This class manages SWT resources. It manages reference-counted instances of resources
@@ -50,6 +59,29 @@ public abstract class ResourceManager {
 	 */
 	private List<Runnable> disposeExecs = null;
 
+	/**
+	 * Image data being decoded for {@link #createImageAsync(ImageDescriptor)},
+	 * shared by concurrent requests for the same descriptor. Only accessed in the
+	 * UI thread. null if empty.
+	 */
+	private Map<ImageDescriptor, CompletableFuture<Map<Integer, ImageData>>> pendingImageData = null;
+
+	/**
+	 * The threads that decode image data for
+	 * {@link #createImageAsync(ImageDescriptor)}. Shared by all managers.
+	 */
+	private static final ThreadPoolExecutor DECODE_EXECUTOR;
+
+	static {
+		AtomicInteger count = new AtomicInteger();
+		DECODE_EXECUTOR = new ThreadPoolExecutor(2, 2, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread = new Thread(r, "Image Decoder-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		DECODE_EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
 	/**
 	 * Returns the Device for which this ResourceManager will create resources
 	 *
@@ -202,6 +234,92 @@ public abstract class ResourceManager {
 		}
 	}
 
+	/**
+	 * Creates an image, given an image descriptor, without decoding the image in
+	 * the UI thread. If the descriptor supports it (see
+	 * {@link ImageDescriptor#isImageDataThreadSafe()}), its image data is
+	 * computed by one of a few shared decoder threads, and only the native
+	 * image is created in the UI thread once the data is available. Otherwise,
+	 * or if the image has already been allocated by this manager, the image is
+	 * created immediately.
+	 * <p>
+	 * This method must be called in the UI thread, and the returned future is
+	 * completed in the UI thread. Once the future completes, the image has been
+	 * allocated as if by {@link #createImage(ImageDescriptor)} and must be
+	 * disposed by {@link #destroyImage(ImageDescriptor)}. The future is
+	 * completed exceptionally if the image could not be allocated, and is
+	 * cancelled if the manager is disposed first. Callers that are no longer
+	 * interested in the image may cancel the future before it completes.
+	 * </p>
+	 *
+	 * @param descriptor descriptor for the image to create
+	 * @return a future providing the Image described by this descriptor
+	 * @since 3.30
+	 */
+	public CompletableFuture<Image> createImageAsync(ImageDescriptor descriptor) {
+		Assert.isNotNull(descriptor);
+
+		if (!(getDevice() instanceof Display display) || !descriptor.isImageDataThreadSafe()
+				|| find(descriptor) != null) {
+			try {
+				return CompletableFuture.completedFuture(createImage(descriptor));
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		if (pendingImageData == null) {
+			pendingImageData = new HashMap<>();
+		}
+		// Decode the zoom levels the image will be drawn at, so that the native image
+		// does not have to ask the descriptor for its data in the UI thread
+		int deviceZoom = display.getPrimaryMonitor().getZoom();
+		CompletableFuture<Map<Integer, ImageData>> decoding = pendingImageData.computeIfAbsent(descriptor,
+				d -> CompletableFuture.supplyAsync(() -> {
+					Map<Integer, ImageData> data = new HashMap<>(4);
+					data.put(Integer.valueOf(100), d.getImageData(100));
+					if (deviceZoom != 100) {
+						data.put(Integer.valueOf(deviceZoom), d.getImageData(deviceZoom));
+					}
+					return data;
+				}, DECODE_EXECUTOR));
+		CompletableFuture<Image> result = new CompletableFuture<>();
+		Runnable cancel = () -> result.cancel(false);
+		disposeExec(cancel);
+		decoding.whenComplete((data, error) -> {
+			try {
+				display.asyncExec(() -> {
+					if (pendingImageData != null && pendingImageData.get(descriptor) == decoding) {
+						pendingImageData.remove(descriptor);
+					}
+					cancelDisposeExec(cancel);
+					if (result.isDone()) {
+						// Cancelled by the caller or by disposing the manager
+						return;
+					}
+					// If decoding failed, the descriptor gets another chance to create the image
+					ImageDescriptor.PreparedImageData.CURRENT.set(new ImageDescriptor.PreparedImageData(descriptor, data));
+					try {
+						Image image = createImage(descriptor);
+						// The caller may cancel from another thread at any time. Only the
+						// thread that completes the future hands the reference over.
+						if (!result.complete(image)) {
+							destroyImage(descriptor);
+						}
+					} catch (RuntimeException e) {
+						result.completeExceptionally(e);
+					} finally {
+						ImageDescriptor.PreparedImageData.CURRENT.remove();
+					}
+				});
+			} catch (SWTException e) {
+				// The display has been disposed
+				result.cancel(false);
+			}
+		});
+		return result;
+	}
+
 	/**
 	 * Returns the default image that will be returned in the event that the intended
 	 * image is missing.
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+/**
+ * A snapshot of the statistics of the resources allocated through the global
+ * resource manager of a display, which is shared by {@link JFaceResources} and
+ * the {@link ImageRegistry image registries}. Native handles and memory are
+ * estimates: an image is assumed to use four bytes per pixel, and colors are
+ * assumed to use no native resources.
+ *
+ * @see JFaceResources#getResourceStatistics(org.eclipse.swt.widgets.Display)
+ * @since 3.30
+ */
+public final class ResourceStatistics {
+
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+	private final int resources;
+	private final int handles;
+	private final long bytes;
+	private final int cachedResources;
+	private final long cachedBytes;
+
+	ResourceStatistics(long hits, long misses, long evictions, int resources, int handles, long bytes,
+			int cachedResources, long cachedBytes) {
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.resources = resources;
+		this.handles = handles;
+		this.bytes = bytes;
+		this.cachedResources = cachedResources;
+		this.cachedBytes = cachedBytes;
+	}
+
+	/**
+	 * Returns the number of requests that were answered with a resource that
+	 * was already allocated, either because it was still referenced or because
+	 * it was cached.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of requests that allocated a new resource.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of unreferenced resources that were destroyed because
+	 * the cache exceeded its budget.
+	 *
+	 * @return the number of evictions
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the number of allocated resources, including cached ones.
+	 *
+	 * @return the number of resources
+	 */
+	public int getResourceCount() {
+		return resources;
+	}
+
+	/**
+	 * Returns the estimated number of native handles used by all allocated
+	 * resources, including cached ones.
+	 *
+	 * @return the number of handles
+	 */
+	public int getHandleCount() {
+		return handles;
+	}
+
+	/**
+	 * Returns the estimated native memory used by all allocated resources,
+	 * including cached ones.
+	 *
+	 * @return the number of bytes
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the number of resources which are not referenced anymore but are
+	 * kept by the cache.
+	 *
+	 * @return the number of cached resources
+	 */
+	public int getCachedResourceCount() {
+		return cachedResources;
+	}
+
+	/**
+	 * Returns the estimated native memory used by the cached resources.
+	 *
+	 * @return the number of bytes
+	 */
+	public long getCachedBytes() {
+		return cachedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return "ResourceStatistics [hits=" + hits + ", misses=" + misses + ", evictions=" + evictions //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", resources=" + resources + ", handles=" + handles + ", bytes=" + bytes //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", cachedResources=" + cachedResources + ", cachedBytes=" + cachedBytes + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
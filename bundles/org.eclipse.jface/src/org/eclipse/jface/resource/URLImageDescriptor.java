@@ -135,6 +135,14 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 	}
 
 	private static ImageData getImageData(String url, int zoom) {
+		PersistentImageCache cache = PersistentImageCache.getDefault();
+		if (cache != null) {
+			return cache.getImageData(url, zoom, URLImageDescriptor::loadImageData);
+		}
+		return loadImageData(url, zoom);
+	}
+
+	private static ImageData loadImageData(String url, int zoom) {
 		URL tempURL = getURL(url);
 		if (tempURL != null) {
 			if (zoom == 100) {
@@ -210,6 +218,11 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 		}
 	}
 
+	@Override
+	public boolean isImageDataThreadSafe() {
+		return true;
+	}
+
 	@Override
 	public int hashCode() {
 		return url.hashCode();
@@ -291,8 +304,11 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 			start = System.nanoTime();
 		}
 		try {
+			// The persistent image cache only provides image data, so SWT must
+			// not load the image files by itself if there is one.
+			boolean cached = PersistentImageCache.getDefault() != null;
 			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
-				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
+				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY && !cached) {
 					try {
 						// We really want a fresh ImageFileNameProvider instance to make
 						// sure the code that uses created images can use equals(),
@@ -325,7 +341,7 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 				}
 				return image;
 			}
-			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
+			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY || cached) {
 				return super.createImage(returnMissingImageOnError, device);
 			}
 
@@ -19,6 +19,7 @@ package org.eclipse.jface.viewers;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -43,6 +44,12 @@ import org.eclipse.swt.widgets.Widget;
  */
 public abstract class AbstractTableViewer extends ColumnViewer {
 
+	/**
+	 * Number of elements whose labels are prepared at once when a virtual
+	 * table requests the data of an item, roughly a screenful of rows.
+	 */
+	private static final int PREPARED_LABELS_WINDOW = 64;
+
 	private class VirtualManager {
 
 		/**
@@ -53,6 +60,12 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		 */
 		private Object[] cachedElements = new Object[0];
 
+		/**
+		 * The range of cached elements whose labels have been prepared,
+		 * see {@link #prepareLabels(int)}.
+		 */
+		private int preparedStart, preparedEnd;
+
 		/**
 		 * Create a new instance of the receiver.
 		 *
@@ -100,11 +113,40 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 					}
 				}
 
+				prepareLabels(index);
 				associate(element, item);
 				updateItem(item, element);
 			});
 		}
 
+		/**
+		 * Prepares the labels of the cached elements that are likely to be
+		 * requested next, starting at the given index, unless this has already
+		 * been done.
+		 *
+		 * @param index
+		 *            the index of the element about to be labelled
+		 */
+		private void prepareLabels(int index) {
+			if (index >= preparedStart && index < preparedEnd) {
+				return;
+			}
+			int end = Math.min(index + PREPARED_LABELS_WINDOW, cachedElements.length);
+			if (index >= end) {
+				return;
+			}
+			preparedStart = index;
+			preparedEnd = end;
+			AbstractTableViewer.this.prepareLabels(Arrays.copyOfRange(cachedElements, index, end));
+		}
+
+		/**
+		 * Forgets the range of prepared labels.
+		 */
+		private void resetPreparedLabels() {
+			preparedStart = preparedEnd = 0;
+		}
+
 		/**
 		 * Get the element at index.Resolve it lazily if this is available.
 		 *
@@ -267,6 +309,7 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		assertElementsNotNull(elements);
 		if (checkBusy())
 			return;
+		finishPopulation();
 		Object[] filtered = filter(elements);
 
 		for (Object element : filtered) {
@@ -352,6 +395,7 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	protected void doUpdateItem(Widget widget, Object element, boolean fullMap) {
 		boolean oldBusy = isBusy();
 		setBusy(true);
+		scheduleVisibleElementsUpdate();
 		try {
 			if (widget instanceof Item) {
 				final Item item = (Item) widget;
@@ -441,6 +485,9 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	 *         index is out of range
 	 */
 	public Object getElementAt(int index) {
+		if (index >= doGetItemCount()) {
+			finishPopulation();
+		}
 		if (index >= 0 && index < doGetItemCount()) {
 			Item i = doGetItem(index);
 			if (i != null) {
@@ -597,11 +644,12 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 			add(element);
 			return;
 		}
+		if (checkBusy())
+			return;
+		finishPopulation();
 		if (position == -1) {
 			position = doGetItemCount();
 		}
-		if (checkBusy())
-			return;
 		createItem(element, position);
 	}
 
@@ -643,12 +691,36 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 			// Don't cache if the root is null but cache if it is not lazy.
 			if (root != null) {
 				virtualManager.cachedElements = getSortedChildren(root);
+				virtualManager.resetPreparedLabels();
 				doSetItemCount(virtualManager.cachedElements.length);
 			}
 		}
 		doClearAll();
 	}
 
+	/**
+	 * Returns the elements that get new labels when the given items are
+	 * updated to show the given elements, without updating the labels of
+	 * unchanged elements. Elements beyond the existing items are not
+	 * included.
+	 *
+	 * @param children
+	 *            the new elements
+	 * @param items
+	 *            the current items
+	 * @return the elements whose items change
+	 */
+	private Object[] getElementsToLabel(Object[] children, Item[] items) {
+		List<Object> result = new ArrayList<>();
+		int min = Math.min(children.length, items.length);
+		for (int i = 0; i < min; i++) {
+			if (!equals(children[i], items[i].getData())) {
+				result.add(children[i]);
+			}
+		}
+		return result.toArray();
+	}
+
 	/**
 	 * Refresh all of the elements of the table. update the labels if
 	 * updatLabels is true;
@@ -667,9 +739,11 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		// item 1 could undo
 		// the associate of b to item 0.
 
+		cancelPopulation();
 		Object[] children = getSortedChildren(getRoot());
 		Item[] items = doGetItems();
 		int min = Math.min(children.length, items.length);
+		prepareLabels(updateLabels ? Arrays.copyOf(children, min) : getElementsToLabel(children, items));
 		for (int i = 0; i < min; ++i) {
 
 			Item item = items[i];
@@ -722,9 +796,12 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 			}
 		}
 		// add any remaining elements
-		for (int i = min; i < children.length; ++i) {
-			createItem(children[i], i);
-		}
+		populate(getControl(), children, min);
+	}
+
+	@Override
+	void createPopulationItem(Widget parent, Object element, int index) {
+		createItem(element, index);
 	}
 
 	/**
@@ -798,6 +875,7 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		if (elements.length == 0) {
 			return;
 		}
+		finishPopulation();
 		preservingSelection(() -> internalRemove(elements));
 	}
 
@@ -824,6 +902,7 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	@Override
 	public void reveal(Object element) {
 		Assert.isNotNull(element);
+		populateElements(Collections.singletonList(element));
 		Widget w = findItem(element);
 		if (w instanceof Item) {
 			doShowItem((Item) w);
@@ -837,6 +916,8 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 			return;
 		}
 
+		populateElements(list);
+
 		if (virtualManager != null) {
 			virtualSetSelectionToWidget(list, reveal);
 			return;
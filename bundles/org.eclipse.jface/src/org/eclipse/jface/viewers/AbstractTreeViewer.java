@@ -24,6 +24,7 @@ package org.eclipse.jface.viewers;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -82,6 +83,13 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	public static final int ALL_LEVELS = -1;
 
+	/**
+	 * Minimum number of existing child items for which
+	 * {@link #updateChildren(Widget, Object, Object[], boolean)} tries to match
+	 * items by element instead of by position.
+	 */
+	private static final int KEYED_UPDATE_THRESHOLD = 32;
+
 	/**
 	 * List of registered tree listeners (element type:
 	 * <code>TreeListener</code>).
@@ -108,6 +116,21 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	private boolean isTreePathContentProvider = false;
 
+	/**
+	 * The part of the state passed to
+	 * {@link #setExpansionState(TreeExpansionState)} that has not been applied
+	 * yet because it is below a collapsed item, or <code>null</code>.
+	 */
+	private TreeExpansionState pendingExpansion;
+
+	/**
+	 * Whether {@link #createChildren(Widget, boolean)} may create the children
+	 * with an incremental population. Only set while the children are created
+	 * for a user expansion or a new input, where no caller relies on the
+	 * child items afterwards.
+	 */
+	private boolean incrementalChildren;
+
 	/**
 	 * Safe runnable used to update an item.
 	 */
@@ -157,6 +180,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		assertElementsNotNull(childElements);
 		if (checkBusy())
 			return;
+		finishPopulation();
 		Widget[] widgets = internalFindItems(parentElementOrTreePath);
 		// If parent hasn't been realized yet, just ignore the add.
 		if (widgets.length == 0) {
@@ -635,6 +659,10 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 
 	@Override
 	protected Object[] getSortedChildren(Object parentElementOrTreePath) {
+		Object[] precomputed = getBackgroundSortedChildren(parentElementOrTreePath);
+		if (precomputed != null) {
+			return precomputed;
+		}
 		Object[] result = getFilteredChildren(parentElementOrTreePath);
 		ViewerComparator comparator = getComparator();
 		if (parentElementOrTreePath != null
@@ -838,8 +866,13 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				} else {
 					children = getSortedChildren(parentElement);
 				}
-				for (Object element : children) {
-					createTreeItem(widget, element, -1);
+				if (incrementalChildren) {
+					populate(widget, children, 0);
+				} else {
+					prepareLabels(children);
+					for (Object element : children) {
+						createTreeItem(widget, element, -1);
+					}
 				}
 			}
 		} finally {
@@ -847,6 +880,44 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Creates the children for the given widget like
+	 * {@link #createChildren(Widget)}, but lets an incremental population
+	 * create most of them later.
+	 *
+	 * @param widget
+	 *            the widget
+	 * @see #setIncrementalPopulation(int)
+	 */
+	private void createChildrenIncrementally(Widget widget) {
+		incrementalChildren = true;
+		try {
+			createChildren(widget);
+		} finally {
+			incrementalChildren = false;
+		}
+	}
+
+	@Override
+	void createPopulationItem(Widget parent, Object element, int index) {
+		createTreeItem(parent, element, -1);
+	}
+
+	@Override
+	boolean isPopulationWithin(Widget parent, Widget widget) {
+		if (widget == getControl()) {
+			return true;
+		}
+		Widget current = parent;
+		while (current instanceof Item) {
+			if (current == widget) {
+				return true;
+			}
+			current = getParentItem((Item) current);
+		}
+		return current == widget;
+	}
+
 	/**
 	 * Creates a single item for the given parent and synchronizes it with the
 	 * given element.
@@ -1028,6 +1099,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	protected void doUpdateItem(Widget widget, Object element, boolean fullMap) {
 		boolean oldBusy = isBusy();
 		setBusy(true);
+		scheduleVisibleElementsUpdate();
 		try {
 			if (widget instanceof Item) {
 				Item item = (Item) widget;
@@ -1134,6 +1206,8 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	public void expandToLevel(Object elementOrTreePath, int level, boolean disableRedraw) {
 		if (checkBusy())
 			return;
+		// the items to expand may not have been created yet
+		finishPopulation();
 		Control control = getControl();
 		try {
 			if (disableRedraw) {
@@ -1403,6 +1477,13 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		return null;
 	}
 
+	@Override
+	boolean canRefreshInBackground() {
+		// tree path content providers and sorters depend on the items
+		return super.canRefreshInBackground() && !(getContentProvider() instanceof ITreePathContentProvider)
+				&& !(getComparator() instanceof TreePathViewerSorter);
+	}
+
 	@Override
 	protected Object[] getRawChildren(Object parentElementOrTreePath) {
 		boolean oldBusy = isBusy();
@@ -1562,7 +1643,8 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 *            the SWT tree event
 	 */
 	protected void handleTreeExpand(TreeEvent event) {
-		createChildren(event.item);
+		createChildrenIncrementally(event.item);
+		applyPendingExpansion(event.item);
 		if (event.item.getData() != null) {
 			fireTreeExpanded(new TreeExpansionEvent(this, event.item.getData()));
 		}
@@ -1586,6 +1668,8 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 
 	@Override
 	protected void inputChanged(Object input, Object oldInput) {
+		pendingExpansion = null;
+		cancelPopulation();
 		preservingSelection(() -> {
 			Control tree = getControl();
 			tree.setRedraw(false);
@@ -1607,7 +1691,11 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 * @since 3.3
 	 */
 	protected void internalInitializeTree(Control tree) {
-		createChildren(tree);
+		if (expandToLevel == 0) {
+			createChildrenIncrementally(tree);
+		} else {
+			createChildren(tree);
+		}
 		internalExpandToLevel(tree, expandToLevel);
 	}
 
@@ -1686,6 +1774,8 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		if (elementOrPath == null) {
 			return null;
 		}
+		// create the item if it is still to be created by a population
+		populateElements(Collections.singletonList(internalToElement(elementOrPath)));
 
 		Widget w = internalGetWidgetToSelect(elementOrPath);
 		if (w == null) {
@@ -1823,6 +1913,8 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				setExpanded((Item) widget, true);
 			}
 			if (level == ALL_LEVELS || level > 1) {
+				// expand all children, not only the ones created so far
+				finishPopulation(widget);
 				Item[] children = getChildren(widget);
 				if (children != null) {
 					int newLevel = (level == ALL_LEVELS ? ALL_LEVELS
@@ -1894,12 +1986,15 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	protected void internalRefresh(Object element, boolean updateLabels) {
 		// If element is null, do a full refresh.
 		if (element == null) {
+			finishPopulation();
 			internalRefresh(getControl(), getRoot(), true, updateLabels);
 			return;
 		}
 		Widget[] items = findItems(element);
 		if (items.length != 0) {
 			for (Widget item : items) {
+				// only populations below the refreshed items must be complete
+				finishPopulation(item);
 				// pick up structure changes too
 				internalRefresh(item, element, true, updateLabels);
 			}
@@ -1994,6 +2089,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 * @since 3.1
 	 */
 	protected void internalRemove(Object[] elementsOrPaths) {
+		finishPopulation();
 		Object input = getInput();
 		for (Object element : elementsOrPaths) {
 			if (equals(element, input)) {
@@ -2036,6 +2132,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 * @since 3.1
 	 */
 	protected void internalRemove(Object parent, Object[] elements) {
+		finishPopulation();
 
 		CustomHashtable toRemove = new CustomHashtable(getComparer());
 		for (Object element : elements) {
@@ -2102,35 +2199,116 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	}
 
 	/**
-	 * Sets the expanded state of all items to correspond to the given set of
-	 * expanded tree paths.
+	 * Sets the expanded state of the children of the given widget to
+	 * correspond to the given node of an expansion state. Nodes that have been
+	 * applied are removed from the state.
 	 *
-	 * @param expandedTreePaths
-	 *            the set (element type: <code>TreePath</code>) of elements
-	 *            which are expanded
+	 * @param state
+	 *            the expansion state the node belongs to
+	 * @param node
+	 *            the node corresponding to the widget, or <code>null</code>
+	 *            if no item below the widget should be expanded
+	 * @param widget
+	 *            the widget
+	 * @param expand
+	 *            <code>true</code> if the children of the widget may be
+	 *            expanded
+	 * @param collapse
+	 *            <code>true</code> if expanded items that are not in the state
+	 *            should be collapsed
+	 * @param defer
+	 *            <code>true</code> if items below a collapsed item should be
+	 *            left alone until their parent is expanded
+	 * @return <code>true</code> if the whole node has been applied
+	 */
+	private boolean internalSetExpansionState(TreeExpansionState state, TreeExpansionState.Node node,
+			Widget widget, boolean expand, boolean collapse, boolean defer) {
+		IElementComparer comparer = getComparer();
+		Item[] items = getChildren(widget);
+		for (Item item : items) {
+			Object data = item.getData();
+			// Disregard dummy nodes (see bug 287765)
+			if (data == null) {
+				continue;
+			}
+			TreeExpansionState.Node child = node == null ? null : node.getChild(data, comparer);
+			if (expand && child != null && child.expanded) {
+				if (!getExpanded(item)) {
+					createChildren(item);
+					setExpanded(item, true);
+				}
+				// mark the node as applied, so that another item for an equal
+				// element is not expanded as well
+				state.clearExpanded(child);
+				if (internalSetExpansionState(state, child, item, true, collapse, defer)) {
+					node.removeChild(child);
+				}
+			} else {
+				if (collapse && getExpanded(item) && (child == null || !child.expanded)) {
+					setExpanded(item, false);
+				}
+				if (collapse || child != null) {
+					internalSetExpansionState(state, child, item, !defer, collapse, defer);
+				}
+			}
+		}
+		return node == null || !node.hasChildren();
+	}
+
+	/**
+	 * Applies the pending part of the last expansion state to the children
+	 * of the given item, which has just been expanded.
+	 *
+	 * @param item
+	 *            the item
+	 */
+	private void applyPendingExpansion(Item item) {
+		if (pendingExpansion == null || item.getData() == null) {
+			return;
+		}
+		TreeExpansionState.Node node = pendingExpansion.find(getTreePathFromItem(item));
+		if (node != null) {
+			finishPopulation();
+			pendingExpansion.clearExpanded(node);
+			internalSetExpansionState(pendingExpansion, node, item, true, false, true);
+			pendingExpansion.prune(node);
+			if (!pendingExpansion.getRoot().hasChildren()) {
+				pendingExpansion = null;
+			}
+		}
+	}
+
+	/**
+	 * Collects the expansion state of the children of the given widget into
+	 * the given node.
+	 *
+	 * @param state
+	 *            the state to add to
+	 * @param node
+	 *            the node corresponding to the widget
 	 * @param widget
 	 *            the widget
 	 */
-	private void internalSetExpandedTreePaths(
-			CustomHashtable expandedTreePaths, Widget widget,
-			TreePath currentPath) {
+	private void internalCollectExpansionState(TreeExpansionState state,
+			TreeExpansionState.Node node, Widget widget) {
 		Item[] items = getChildren(widget);
 		for (Item item : items) {
 			Object data = item.getData();
-			TreePath childPath = data == null ? null : currentPath
-					.createChildPath(data);
-			if (data != null && childPath != null) {
-				// remove the element to avoid an infinite loop
-				// if the same element appears on a child item
-				boolean expanded = expandedTreePaths.remove(childPath) != null;
-				if (expanded != getExpanded(item)) {
-					if (expanded) {
-						createChildren(item);
-					}
-					setExpanded(item, expanded);
+			// Disregard dummy nodes (see bug 287765)
+			if (data != null) {
+				boolean expanded = getExpanded(item);
+				if (!expanded && getChildren(item).length == 0) {
+					continue;
+				}
+				TreeExpansionState.Node child = node.getOrCreateChild(data, state.getComparer());
+				if (expanded) {
+					state.setExpanded(child);
+				}
+				internalCollectExpansionState(state, child, item);
+				if (!child.expanded && !child.hasChildren()) {
+					node.removeChild(child);
 				}
 			}
-			internalSetExpandedTreePaths(expandedTreePaths, item, childPath);
 		}
 	}
 
@@ -2450,6 +2628,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		if (checkBusy()) {
 			return;
 		}
+		pendingExpansion = null;
 		CustomHashtable expandedElements = newHashtable(elements.length * 2 + 1);
 		for (Object element : elements) {
 			// Ensure item exists for element. This will materialize items for
@@ -2485,36 +2664,61 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		assertElementsNotNull((Object[]) treePaths);
 		if (checkBusy())
 			return;
-		final IElementComparer comparer = getComparer();
-		IElementComparer treePathComparer = new IElementComparer() {
-
-			@Override
-			public boolean equals(Object a, Object b) {
-				return ((TreePath) a).equals(((TreePath) b), comparer);
-			}
-
-
-			@Override
-			public int hashCode(Object element) {
-				return ((TreePath) element).hashCode(comparer);
-			}
-		};
-		CustomHashtable expandedTreePaths = new CustomHashtable(
-				treePaths.length * 2 + 1, treePathComparer);
+		pendingExpansion = null;
+		TreeExpansionState expandedTreePaths = new TreeExpansionState(getComparer());
 		for (TreePath treePath : treePaths) {
 			// Ensure item exists for element. This will materialize items for
 			// each element and their parents, if possible. This is important
 			// to support expanding of inner tree nodes without necessarily
 			// expanding their parents.
 			internalExpand(treePath, false);
-			expandedTreePaths.put(treePath, treePath);
+			if (treePath.getSegmentCount() > 0) {
+				expandedTreePaths.add(treePath);
+			}
 		}
 		// this will traverse all existing items, and create children for
 		// elements that need to be expanded. If the tree contains multiple
 		// equal elements, and those are in the set of elements to be expanded,
 		// only the first item found for each element will be expanded.
-		internalSetExpandedTreePaths(expandedTreePaths, getControl(),
-				new TreePath(new Object[0]));
+		internalSetExpansionState(expandedTreePaths, expandedTreePaths.getRoot(), getControl(),
+				true, true, false);
+	}
+
+	/**
+	 * Sets which nodes are expanded in this viewer's tree to the given state;
+	 * all other nodes are collapsed. Only items whose expanded state differs
+	 * from the given state are changed.
+	 * <p>
+	 * Unlike {@link #setExpandedTreePaths(TreePath...)}, this method does not
+	 * create items to reach nodes that are marked as expanded below a
+	 * collapsed node. These nodes are expanded once their parent is expanded
+	 * by the user or with {@link #setExpandedState(Object, boolean)}. Expanded
+	 * paths whose items do not exist yet are applied when their parent is
+	 * expanded as well. The pending state is discarded when the
+	 * input changes or the expansion state is set again.
+	 * </p>
+	 * <p>
+	 * This method is typically used when restoring the interesting state of a
+	 * viewer captured by an earlier call to {@link #getExpansionState()}.
+	 * </p>
+	 *
+	 * @param state
+	 *            the expansion state, which is not modified
+	 * @see #getExpansionState()
+	 *
+	 * @since 3.30
+	 */
+	public void setExpansionState(TreeExpansionState state) {
+		Assert.isNotNull(state);
+		if (checkBusy())
+			return;
+		finishPopulation();
+		TreeExpansionState pending = state.copy(getComparer());
+		pendingExpansion = null;
+		internalSetExpansionState(pending, pending.getRoot(), getControl(), true, true, true);
+		if (pending.getRoot().hasChildren()) {
+			pendingExpansion = pending;
+		}
 	}
 
 	/**
@@ -2537,6 +2741,9 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				createChildren(item);
 			}
 			setExpanded((Item) item, expanded);
+			if (expanded) {
+				applyPendingExpansion((Item) item);
+			}
 		}
 	}
 
@@ -2710,6 +2917,14 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			}
 		}
 
+		prepareLabels(updateLabels ? elementChildren : getElementsToLabel(elementChildren, items));
+
+		// for long lists, match items by element rather than by position if
+		// that touches fewer items
+		if (updateChildrenByKey(widget, items, elementChildren, expanded, updateLabels)) {
+			return;
+		}
+
 		int min = Math.min(elementChildren.length, items.length);
 
 		// dispose of surplus items, optimizing for the case where elements have
@@ -2841,6 +3056,197 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Returns the elements that get new labels when the given items are
+	 * updated to show the given elements, without updating the labels of
+	 * unchanged elements.
+	 *
+	 * @param elementChildren
+	 *            the new child elements
+	 * @param items
+	 *            the current child items
+	 * @return the elements whose items change
+	 */
+	private Object[] getElementsToLabel(Object[] elementChildren, Item[] items) {
+		List<Object> result = new ArrayList<>();
+		for (int i = 0; i < elementChildren.length; i++) {
+			if (i >= items.length || !equals(items[i].getData(), elementChildren[i])) {
+				result.add(elementChildren[i]);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Updates the child items of the given widget by matching them to the new
+	 * child elements by element rather than by position. Items whose elements
+	 * are still present in the same relative order (the longest increasing
+	 * subsequence of their old positions) are kept as they are, including
+	 * their subtrees. Items of removed or moved elements are disposed, and
+	 * items are created for new or moved elements. When a child is inserted or
+	 * removed near the top of a long list, this touches a handful of items
+	 * instead of relabeling all following ones.
+	 *
+	 * @param widget
+	 *            the parent widget
+	 * @param items
+	 *            the current child items of the widget
+	 * @param elementChildren
+	 *            the new sorted and filtered child elements
+	 * @param expanded
+	 *            the elements that were expanded before the update
+	 * @param updateLabels
+	 *            <code>true</code> to update labels for existing elements
+	 * @return <code>true</code> if the children have been updated,
+	 *         <code>false</code> if the positional update is cheaper or the
+	 *         items cannot be matched by element
+	 */
+	private boolean updateChildrenByKey(Widget widget, Item[] items, Object[] elementChildren,
+			CustomHashtable expanded, boolean updateLabels) {
+		if (items.length < KEYED_UPDATE_THRESHOLD || elementChildren.length == 0) {
+			return false;
+		}
+		CustomHashtable oldIndices = newHashtable(items.length * 2);
+		for (int i = 0; i < items.length; i++) {
+			Object data = items[i].getData();
+			if (data == null || oldIndices.containsKey(data)) {
+				// dummy items and duplicate elements cannot be matched
+				return false;
+			}
+			oldIndices.put(data, Integer.valueOf(i));
+		}
+
+		boolean[] matched = new boolean[items.length];
+		int[] oldIndexOf = new int[elementChildren.length];
+		int positionalChanges = Math.abs(items.length - elementChildren.length);
+		for (int i = 0; i < elementChildren.length; i++) {
+			Integer oldIndex = (Integer) oldIndices.get(elementChildren[i]);
+			if (oldIndex == null) {
+				oldIndexOf[i] = -1;
+			} else {
+				if (matched[oldIndex.intValue()]) {
+					// duplicate elements cannot be matched
+					return false;
+				}
+				matched[oldIndex.intValue()] = true;
+				oldIndexOf[i] = oldIndex.intValue();
+			}
+			if (i < items.length && oldIndexOf[i] != i) {
+				positionalChanges++;
+			}
+		}
+
+		boolean[] kept = longestIncreasingSubsequence(oldIndexOf);
+		int keptCount = 0;
+		for (boolean k : kept) {
+			if (k) {
+				keptCount++;
+			}
+		}
+		int keyedChanges = items.length - keptCount + elementChildren.length - keptCount;
+		if (keyedChanges >= positionalChanges) {
+			return false;
+		}
+
+		// dispose the items of removed and moved elements
+		boolean[] keepItem = new boolean[items.length];
+		for (int i = 0; i < elementChildren.length; i++) {
+			if (kept[i]) {
+				keepItem[oldIndexOf[i]] = true;
+			}
+		}
+		for (int i = 0; i < items.length; i++) {
+			if (!keepItem[i]) {
+				disassociate(items[i]);
+				items[i].dispose();
+			}
+		}
+
+		// create the items of new and moved elements in ascending order, so
+		// the insertion index is valid, and update the kept items
+		boolean needsExpand = false;
+		for (int i = 0; i < elementChildren.length; i++) {
+			Object newElement = elementChildren[i];
+			if (kept[i]) {
+				Item item = items[oldIndexOf[i]];
+				Object oldElement = item.getData();
+				if (oldElement != newElement) {
+					// equal but not identical, take over the new element
+					unmapElement(oldElement, item);
+					item.setData(newElement);
+					mapElement(newElement, item);
+				}
+				updatePlus(item, newElement);
+				if (updateLabels) {
+					updateItem(item, newElement);
+				} else {
+					associate(newElement, item);
+				}
+			} else {
+				createTreeItem(widget, newElement, i);
+				needsExpand |= expanded.containsKey(newElement);
+			}
+		}
+
+		// restore the expanded state, see the positional update
+		for (int i = 0; i < elementChildren.length; i++) {
+			if (kept[i]) {
+				setExpanded(items[oldIndexOf[i]], expanded.containsKey(elementChildren[i]));
+			}
+		}
+		if (needsExpand) {
+			Item[] newItems = getChildren(widget);
+			for (int i = 0; i < elementChildren.length; i++) {
+				if (!kept[i] && expanded.containsKey(elementChildren[i])) {
+					setExpanded(newItems[i], true);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Computes a longest strictly increasing subsequence of the given indices,
+	 * ignoring negative entries.
+	 *
+	 * @param indices
+	 *            the indices
+	 * @return for each position, whether it is part of the subsequence
+	 */
+	private static boolean[] longestIncreasingSubsequence(int[] indices) {
+		// tails[k] is the position of the smallest tail of all increasing
+		// subsequences of length k + 1
+		int[] tails = new int[indices.length];
+		int[] predecessors = new int[indices.length];
+		int length = 0;
+		for (int i = 0; i < indices.length; i++) {
+			int value = indices[i];
+			if (value < 0) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (indices[tails[mid]] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		boolean[] result = new boolean[indices.length];
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+			result[i] = true;
+		}
+		return result;
+	}
+
 	/** Returns true if children were pruned */
 	/*package*/ boolean optionallyPruneChildren(Item item, Object element) {
 		// need a dummy node if element is expandable;
@@ -3066,6 +3472,28 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		return result.toArray(new TreePath[items.size()]);
 	}
 
+	/**
+	 * Returns the expansion state of this viewer's tree, including nodes that
+	 * are marked as expanded but are under a collapsed ancestor. This is the
+	 * same information as returned by {@link #getExpandedTreePaths()}, but
+	 * the tree paths are not created.
+	 * <p>
+	 * This method is typically used when preserving the interesting state of a
+	 * viewer; {@link #setExpansionState(TreeExpansionState)} is used during
+	 * the restore.
+	 * </p>
+	 *
+	 * @return the expansion state
+	 * @see #setExpansionState(TreeExpansionState)
+	 *
+	 * @since 3.30
+	 */
+	public TreeExpansionState getExpansionState() {
+		TreeExpansionState state = new TreeExpansionState(getComparer());
+		internalCollectExpansionState(state, state.getRoot(), getControl());
+		return state;
+	}
+
 	/**
 	 * Inserts the given element as a new child element of the given parent
 	 * element at the given position. If this viewer has a sorter, the position
@@ -3093,6 +3521,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		Assert.isNotNull(element);
 		if (checkBusy())
 			return;
+		finishPopulation();
 		if (getComparator() != null || hasFilters()) {
 			add(parentElementOrTreePath, new Object[] { element });
 			return;
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Resource;
+
+/**
+ * A least recently used cache of the cell labels computed by the label
+ * providers of a {@link ColumnViewer}. For each element it keeps a snapshot of
+ * the text, image, style ranges, colors and font of every column, so that an
+ * item can be labelled again without asking the label provider, for example
+ * when the element moves to another item or a virtual item is cleared.
+ */
+final class CellLabelCache {
+
+	/**
+	 * The label of one cell as left by the label provider.
+	 */
+	private static final class Snapshot {
+		final String text;
+
+		final Image image;
+
+		final StyleRange[] styleRanges;
+
+		final Color foreground;
+
+		final Color background;
+
+		final Font font;
+
+		Snapshot(ViewerCell cell) {
+			text = cell.getText();
+			image = cell.getImage();
+			styleRanges = cell.getStyleRanges();
+			foreground = cell.getForeground();
+			background = cell.getBackground();
+			font = cell.getFont();
+		}
+
+		boolean isValid() {
+			return !isDisposed(image) && !isDisposed(foreground) && !isDisposed(background) && !isDisposed(font);
+		}
+
+		void apply(ViewerCell cell) {
+			cell.setText(text);
+			cell.setImage(image);
+			cell.setStyleRanges(styleRanges);
+			cell.setForeground(foreground);
+			cell.setBackground(background);
+			cell.setFont(font);
+		}
+
+		private static boolean isDisposed(Resource resource) {
+			return resource != null && resource.isDisposed();
+		}
+	}
+
+	/**
+	 * Wraps an element so that it is hashed and compared with the viewer's
+	 * comparer.
+	 */
+	private static final class ComparerKey {
+		final Object element;
+
+		final IElementComparer comparer;
+
+		ComparerKey(Object element, IElementComparer comparer) {
+			this.element = element;
+			this.comparer = comparer;
+		}
+
+		@Override
+		public int hashCode() {
+			return comparer.hashCode(element);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof ComparerKey && comparer.equals(element, ((ComparerKey) obj).element);
+		}
+	}
+
+	private final ColumnViewer viewer;
+
+	private final Map<Object, Snapshot[]> snapshots;
+
+	/**
+	 * Creates a cache for the given viewer.
+	 *
+	 * @param viewer
+	 *            the viewer
+	 * @param maxSize
+	 *            the maximum number of elements to keep labels for
+	 */
+	CellLabelCache(ColumnViewer viewer, final int maxSize) {
+		this.viewer = viewer;
+		this.snapshots = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Snapshot[]> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	private Object getKey(Object element) {
+		IElementComparer comparer = viewer.getComparer();
+		return comparer == null ? element : new ComparerKey(element, comparer);
+	}
+
+	/**
+	 * Labels the given cell from the cache.
+	 *
+	 * @param cell
+	 *            the cell to label
+	 * @return <code>true</code> if the cell has been labelled,
+	 *         <code>false</code> if the label is not cached
+	 */
+	boolean restore(ViewerCell cell) {
+		Snapshot[] columns = snapshots.get(getKey(cell.getElement()));
+		int column = cell.getColumnIndex();
+		if (columns == null || column >= columns.length || columns[column] == null) {
+			return false;
+		}
+		if (!columns[column].isValid()) {
+			columns[column] = null;
+			return false;
+		}
+		columns[column].apply(cell);
+		return true;
+	}
+
+	/**
+	 * Remembers the label of the given cell, which has just been computed by
+	 * the label provider.
+	 *
+	 * @param cell
+	 *            the labelled cell
+	 * @param columnCount
+	 *            the number of columns of the viewer
+	 */
+	void store(ViewerCell cell, int columnCount) {
+		Object key = getKey(cell.getElement());
+		int column = cell.getColumnIndex();
+		Snapshot[] columns = snapshots.get(key);
+		if (columns == null || columns.length <= column) {
+			Snapshot[] newColumns = new Snapshot[Math.max(columnCount, column + 1)];
+			if (columns != null) {
+				System.arraycopy(columns, 0, newColumns, 0, columns.length);
+			}
+			columns = newColumns;
+			snapshots.put(key, columns);
+		}
+		columns[column] = new Snapshot(cell);
+	}
+
+	/**
+	 * Returns whether the labels of all columns of the given element are
+	 * cached.
+	 *
+	 * @param element
+	 *            the element
+	 * @param columnCount
+	 *            the number of columns of the viewer
+	 * @return <code>true</code> if all labels are cached
+	 */
+	boolean isCached(Object element, int columnCount) {
+		Snapshot[] columns = snapshots.get(getKey(element));
+		if (columns == null || columns.length < columnCount) {
+			return false;
+		}
+		for (int i = 0; i < columnCount; i++) {
+			if (columns[i] == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Forgets the labels of the given element.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	void invalidate(Object element) {
+		snapshots.remove(getKey(element));
+	}
+
+	/**
+	 * Forgets all labels.
+	 */
+	void clear() {
+		snapshots.clear();
+	}
+}
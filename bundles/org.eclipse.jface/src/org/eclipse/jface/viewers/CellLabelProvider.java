@@ -254,4 +254,16 @@ public abstract class CellLabelProvider extends BaseLabelProvider implements ITo
 		dispose();
 	}
 
+	/**
+	 * Returns whether the cell label set by the last call to
+	 * {@link #update(ViewerCell)} is final and may be cached by the viewer.
+	 * Label providers that leave a cell unchanged while waiting for a
+	 * background computation return <code>false</code>.
+	 *
+	 * @return <code>true</code> if the last label may be cached
+	 */
+	/* package */boolean isLabelComplete() {
+		return true;
+	}
+
 }
@@ -17,18 +17,28 @@
 
 package org.eclipse.jface.viewers;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
+import org.eclipse.jface.util.SafeRunnable;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseListener;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Scrollable;
 import org.eclipse.swt.widgets.Widget;
 
 /**
@@ -66,6 +76,136 @@ public abstract class ColumnViewer extends StructuredViewer {
 	// after logging for the first
 	// time
 
+	/**
+	 * The cache of computed cell labels, or <code>null</code> if labels are
+	 * not cached.
+	 *
+	 * @see #setLabelCacheSize(int)
+	 */
+	private CellLabelCache labelCache;
+
+	private int labelCacheSize;
+
+	/**
+	 * The time in milliseconds spent creating items in one turn of the event
+	 * loop, or 0 if items are created at once.
+	 *
+	 * @see #setIncrementalPopulation(int)
+	 */
+	private int populationTime;
+
+	/**
+	 * The monitor set with {@link #setPopulationMonitor(IProgressMonitor)},
+	 * whose task has been begun, or <code>null</code>.
+	 */
+	private IProgressMonitor populationMonitor;
+
+	/**
+	 * The progress of all populations, which each run of populations takes a
+	 * share of.
+	 */
+	private SubMonitor populationProgress = SubMonitor.convert(null);
+
+	/**
+	 * The progress of the running populations, or <code>null</code> if no
+	 * population is running.
+	 */
+	private SubMonitor runProgress;
+
+	/**
+	 * The number of items still to be created by the running populations.
+	 */
+	private int populationWork;
+
+	/**
+	 * The item populations that are still running.
+	 */
+	private List<ItemPopulation> populations = new ArrayList<>(1);
+
+	/**
+	 * Creates the items for a list of elements under one parent widget in
+	 * chunks across turns of the event loop.
+	 */
+	private final class ItemPopulation implements Runnable {
+		final Widget parent;
+
+		final Object[] elements;
+
+		int next;
+
+		ItemPopulation(Widget parent, Object[] elements, int start) {
+			this.parent = parent;
+			this.elements = elements;
+			this.next = start;
+		}
+
+		@Override
+		public void run() {
+			if (!populations.contains(this)) {
+				return; // finished or cancelled in the meantime
+			}
+			if (parent.isDisposed()) {
+				endPopulation(this);
+				return;
+			}
+			if (isBusy()) {
+				parent.getDisplay().asyncExec(this);
+				return;
+			}
+			long deadline = System.nanoTime() + populationTime * 1000000L;
+			int start = next;
+			do {
+				populateTo(Math.min(next + POPULATION_SLICE, elements.length));
+			} while (next < elements.length && System.nanoTime() < deadline);
+			populationWorked(next - start);
+			if (next < elements.length) {
+				parent.getDisplay().asyncExec(this);
+			} else {
+				endPopulation(this);
+			}
+		}
+
+		/**
+		 * Creates the items up to, but not including, the given index.
+		 */
+		void populateTo(int end) {
+			while (next < end) {
+				int sliceEnd = Math.min(end, next + POPULATION_SLICE);
+				Object[] slice = new Object[sliceEnd - next];
+				System.arraycopy(elements, next, slice, 0, slice.length);
+				prepareLabels(slice);
+				for (; next < sliceEnd; next++) {
+					createPopulationItem(parent, elements[next], next);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The number of items created between two checks of the time budget of an
+	 * incremental population, which is also the number of elements passed to
+	 * {@link IBatchLabelProvider#prepareLabels(Object[])} at once.
+	 */
+	private static final int POPULATION_SLICE = 32;
+
+	/**
+	 * The minimum number of items created before an incremental population
+	 * returns, which also applies while the control has not been laid out and
+	 * its visible area is still empty.
+	 */
+	private static final int MINIMUM_FIRST_BATCH = 64;
+
+	/**
+	 * The delay in milliseconds after which a change of the visible elements is
+	 * reported to the label providers, so that scrolling reports only once.
+	 */
+	private static final int VISIBLE_ELEMENTS_DELAY = 50;
+
+	/**
+	 * Whether a report of the visible elements is scheduled.
+	 */
+	private boolean visibleElementsUpdatePending;
+
 	/**
 	 * Create a new instance of the receiver.
 	 */
@@ -78,6 +218,26 @@ public abstract class ColumnViewer extends StructuredViewer {
 		super.hookControl(control);
 		viewerEditor = createViewerEditor();
 		hookEditingSupport(control);
+		hookVisibleElementsListener(control);
+	}
+
+	/**
+	 * Hook up the listeners that report the visible elements to the label
+	 * providers implementing {@link IVisibleElementsLabelProvider}.
+	 *
+	 * @param control
+	 *            the control you want to hook on
+	 */
+	private void hookVisibleElementsListener(Control control) {
+		Listener listener = event -> scheduleVisibleElementsUpdate();
+		control.addListener(SWT.Resize, listener);
+		control.addListener(SWT.Expand, listener);
+		control.addListener(SWT.Collapse, listener);
+		control.addListener(SWT.MouseWheel, listener);
+		control.addListener(SWT.KeyUp, listener);
+		if (control instanceof Scrollable scrollable && scrollable.getVerticalBar() != null) {
+			scrollable.getVerticalBar().addListener(SWT.Selection, listener);
+		}
 	}
 
 	/**
@@ -352,6 +512,7 @@ public abstract class ColumnViewer extends StructuredViewer {
 		if (labelProvider instanceof CellLabelProvider) {
 			((CellLabelProvider) labelProvider).initialize(this, null);
 		}
+		clearLabelCache();
 		super.setLabelProvider(labelProvider);
 	}
 
@@ -523,6 +684,7 @@ public abstract class ColumnViewer extends StructuredViewer {
 			cancelEditing();
 		}
 
+		invalidateLabel(element);
 		super.refresh(element);
 	}
 
@@ -535,6 +697,9 @@ public abstract class ColumnViewer extends StructuredViewer {
 			cancelEditing();
 		}
 
+		if (updateLabels) {
+			invalidateLabel(element);
+		}
 		super.refresh(element, updateLabels);
 	}
 
@@ -542,9 +707,546 @@ public abstract class ColumnViewer extends StructuredViewer {
 	public void update(Object element, String[] properties) {
 		if (checkBusy())
 			return;
+		invalidateLabel(element);
 		super.update(element, properties);
 	}
 
+	@Override
+	protected void handleLabelProviderChanged(LabelProviderChangedEvent event) {
+		if (labelCache != null) {
+			Object[] elements = event.getElements();
+			if (elements == null) {
+				labelCache.clear();
+			} else {
+				for (Object element : elements) {
+					labelCache.invalidate(element);
+				}
+			}
+		}
+		super.handleLabelProviderChanged(event);
+	}
+
+	@Override
+	protected void unmapAllElements() {
+		super.unmapAllElements();
+		clearLabelCache();
+	}
+
+	/**
+	 * Sets the number of elements whose cell labels are cached by this viewer.
+	 * The default is 0, which disables the cache.
+	 * <p>
+	 * When the cache is enabled, the viewer remembers the text, image, style
+	 * ranges, colors and font that the label providers set on the cells of the
+	 * most recently labelled elements. An item that shows one of these elements
+	 * again, for example because the element moved within its parent or a
+	 * virtual item was cleared and repopulated, is labelled from the cache
+	 * without asking the label providers.
+	 * </p>
+	 * <p>
+	 * A cached label is discarded when the label provider fires a
+	 * {@link LabelProviderChangedEvent} for its element, when the element is
+	 * passed to <code>update</code>, or when the element itself is refreshed
+	 * with updated labels. All cached labels are discarded when a label
+	 * provider is replaced, when the label provider fires an event for all
+	 * elements, when a new input is set, and when the root is refreshed with
+	 * updated labels, as by {@link #refresh()}.
+	 * </p>
+	 *
+	 * @param size
+	 *            the maximum number of elements to cache labels for, or 0 to
+	 *            disable the cache
+	 * @see IBatchLabelProvider
+	 * @since 3.30
+	 */
+	public void setLabelCacheSize(int size) {
+		Assert.isTrue(size >= 0);
+		labelCacheSize = size;
+		labelCache = size > 0 ? new CellLabelCache(this, size) : null;
+	}
+
+	/**
+	 * Returns the number of elements whose cell labels are cached by this
+	 * viewer.
+	 *
+	 * @return the maximum number of elements to cache labels for, or 0 if the
+	 *         cache is disabled
+	 * @see #setLabelCacheSize(int)
+	 * @since 3.30
+	 */
+	public int getLabelCacheSize() {
+		return labelCacheSize;
+	}
+
+	/**
+	 * Returns the cache of computed cell labels.
+	 *
+	 * @return the cache or <code>null</code> if labels are not cached
+	 */
+	/* package */CellLabelCache getLabelCache() {
+		return labelCache;
+	}
+
+	/**
+	 * Discards the cached cell labels of the given element, or all cached cell
+	 * labels if it is the root or <code>null</code>, which both stand for the
+	 * whole viewer.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	/* package */void invalidateLabel(Object element) {
+		if (labelCache == null) {
+			return;
+		}
+		if (element == null || equals(element, getRoot())) {
+			labelCache.clear();
+		} else {
+			labelCache.invalidate(element);
+		}
+	}
+
+	/**
+	 * Discards all cached cell labels.
+	 */
+	/* package */void clearLabelCache() {
+		if (labelCache != null) {
+			labelCache.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of columns that are labelled for every element, which
+	 * is at least 1 even if the control has no columns.
+	 *
+	 * @return the number of labelled columns
+	 */
+	/* package */int getLabelledColumnCount() {
+		return Math.max(doGetColumnCount(), 1);
+	}
+
+	/**
+	 * Notifies the label providers implementing {@link IBatchLabelProvider}
+	 * that the labels of the given elements are about to be computed. Elements
+	 * whose labels are all cached are left out.
+	 *
+	 * @param elements
+	 *            the elements about to be labelled
+	 */
+	/* package */void prepareLabels(Object[] elements) {
+		if (elements.length == 0) {
+			return;
+		}
+		List<IBatchLabelProvider> providers = new ArrayList<>(1);
+		if (getLabelProvider() instanceof IBatchLabelProvider) {
+			providers.add((IBatchLabelProvider) getLabelProvider());
+		}
+		int columnCount = getLabelledColumnCount();
+		for (int i = 0; i < columnCount; i++) {
+			ViewerColumn column = getViewerColumn(i);
+			if (column != null && column.getLabelProvider() instanceof IBatchLabelProvider
+					&& !providers.contains(column.getLabelProvider())) {
+				providers.add((IBatchLabelProvider) column.getLabelProvider());
+			}
+		}
+		if (providers.isEmpty()) {
+			return;
+		}
+		Object[] uncached = elements;
+		if (labelCache != null) {
+			List<Object> toPrepare = new ArrayList<>(elements.length);
+			for (Object element : elements) {
+				if (!labelCache.isCached(element, columnCount)) {
+					toPrepare.add(element);
+				}
+			}
+			if (toPrepare.isEmpty()) {
+				return;
+			}
+			uncached = toPrepare.toArray();
+		}
+		final Object[] toPrepare = uncached;
+		for (final IBatchLabelProvider provider : providers) {
+			SafeRunnable.run(new SafeRunnable() {
+				@Override
+				public void run() {
+					provider.prepareLabels(toPrepare);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Returns the label providers of this viewer and of its columns which
+	 * implement {@link IVisibleElementsLabelProvider}.
+	 */
+	private List<IVisibleElementsLabelProvider> getVisibleElementsLabelProviders() {
+		List<IVisibleElementsLabelProvider> providers = new ArrayList<>(1);
+		if (getLabelProvider() instanceof IVisibleElementsLabelProvider provider) {
+			providers.add(provider);
+		}
+		int columnCount = getLabelledColumnCount();
+		for (int i = 0; i < columnCount; i++) {
+			ViewerColumn column = getViewerColumn(i);
+			if (column != null && column.getLabelProvider() instanceof IVisibleElementsLabelProvider provider
+					&& !providers.contains(provider)) {
+				providers.add(provider);
+			}
+		}
+		return providers;
+	}
+
+	private boolean hasVisibleElementsLabelProvider() {
+		if (getLabelProvider() instanceof IVisibleElementsLabelProvider) {
+			return true;
+		}
+		int columnCount = getLabelledColumnCount();
+		for (int i = 0; i < columnCount; i++) {
+			ViewerColumn column = getViewerColumn(i);
+			if (column != null && column.getLabelProvider() instanceof IVisibleElementsLabelProvider) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Schedules a report of the visible elements to the label providers
+	 * implementing {@link IVisibleElementsLabelProvider}, unless one is
+	 * already scheduled. Called whenever the visible elements may have
+	 * changed.
+	 */
+	/* package */void scheduleVisibleElementsUpdate() {
+		if (visibleElementsUpdatePending) {
+			return;
+		}
+		Control control = getControl();
+		if (control == null || control.isDisposed() || !hasVisibleElementsLabelProvider()) {
+			return;
+		}
+		visibleElementsUpdatePending = true;
+		control.getDisplay().timerExec(VISIBLE_ELEMENTS_DELAY, () -> {
+			visibleElementsUpdatePending = false;
+			if (control.isDisposed()) {
+				return;
+			}
+			final Object[] elements = getVisibleElements();
+			for (final IVisibleElementsLabelProvider provider : getVisibleElementsLabelProviders()) {
+				SafeRunnable.run(new SafeRunnable() {
+					@Override
+					public void run() {
+						provider.visibleElementsChanged(elements);
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Returns the elements of the items in the visible area of the control,
+	 * from top to bottom. Items whose element is not known yet, such as items
+	 * of virtual viewers which have not been populated, are left out.
+	 *
+	 * @return the visible elements
+	 */
+	/* package */Object[] getVisibleElements() {
+		Widget item = getTopItem();
+		if (item == null || !(getControl() instanceof Scrollable scrollable)) {
+			return new Object[0];
+		}
+		Rectangle area = scrollable.getClientArea();
+		List<Object> elements = new ArrayList<>();
+		ViewerRow row = getViewerRowFromItem(item);
+		while (row != null && row.getBounds().y < area.y + area.height) {
+			Object element = row.getElement();
+			if (element != null) {
+				elements.add(element);
+			}
+			row = row.getNeighbor(ViewerRow.BELOW, false);
+		}
+		return elements.toArray();
+	}
+
+	/**
+	 * Returns the topmost visible item of the control, or <code>null</code> if
+	 * the control has no items. Subclasses which can determine the item
+	 * override this method.
+	 *
+	 * @return the top item or <code>null</code>
+	 */
+	/* package */Widget getTopItem() {
+		return null;
+	}
+
+	/**
+	 * Sets whether items are created incrementally when this viewer is
+	 * populated with many elements. The default is 0, which creates all items
+	 * of a refresh at once.
+	 * <p>
+	 * With a positive time, a refresh that adds many items, for example the
+	 * first refresh after a new input has been set, only creates the items for
+	 * the first screenful and returns. The remaining items are created in
+	 * chunks on later turns of the event loop, each taking about the given
+	 * time, so that the user interface stays responsive. Trees populate the
+	 * children of an expanded item the same way. Selecting or revealing an
+	 * element that has no item yet creates the items up to that element
+	 * first. Adding, inserting or removing elements completes the population
+	 * before the change is made.
+	 * </p>
+	 * <p>
+	 * This setting has no effect on viewers with the {@link SWT#VIRTUAL}
+	 * style, which create their items on demand anyway.
+	 * </p>
+	 *
+	 * @param time
+	 *            the time in milliseconds to spend creating items in one turn
+	 *            of the event loop, or 0 to create all items at once
+	 * @see #setPopulationMonitor(IProgressMonitor)
+	 * @since 3.30
+	 */
+	public void setIncrementalPopulation(int time) {
+		Assert.isTrue(time >= 0);
+		populationTime = time;
+		if (time == 0) {
+			finishPopulation();
+		}
+	}
+
+	/**
+	 * Returns the time this viewer spends creating items in one turn of the
+	 * event loop.
+	 *
+	 * @return the time in milliseconds, or 0 if items are created at once
+	 * @see #setIncrementalPopulation(int)
+	 * @since 3.30
+	 */
+	public int getIncrementalPopulation() {
+		return populationTime;
+	}
+
+	/**
+	 * Sets the progress monitor that reports the incremental population of
+	 * this viewer. The task of the monitor is begun here, and it is done when
+	 * another monitor is set or the viewer is disposed. Every run of
+	 * populations takes a share of its remaining work, which is reported as
+	 * the items are created in the turns of the event loop. Cancellation of
+	 * the monitor is ignored.
+	 *
+	 * @param monitor
+	 *            the progress monitor, or <code>null</code> to report no
+	 *            progress
+	 * @see #setIncrementalPopulation(int)
+	 * @since 3.30
+	 */
+	public void setPopulationMonitor(IProgressMonitor monitor) {
+		endPopulationRun();
+		if (populationMonitor != null) {
+			populationMonitor.done();
+		}
+		populationMonitor = monitor;
+		populationProgress = SubMonitor.convert(monitor, 100);
+		if (!populations.isEmpty()) {
+			int remaining = 0;
+			for (ItemPopulation population : populations) {
+				remaining += population.elements.length - population.next;
+			}
+			addPopulationWork(remaining);
+		}
+	}
+
+	/**
+	 * Returns whether this viewer is still creating items in the background
+	 * of an incremental population.
+	 *
+	 * @return <code>true</code> if items are still to be created
+	 * @see #setIncrementalPopulation(int)
+	 * @since 3.30
+	 */
+	public boolean isPopulating() {
+		return !populations.isEmpty();
+	}
+
+	/**
+	 * Creates the items for the given elements under the given parent widget,
+	 * starting at the given index. If incremental population is enabled, only
+	 * the first screenful of items is created before this method returns.
+	 *
+	 * @param parent
+	 *            the parent widget
+	 * @param elements
+	 *            the elements
+	 * @param start
+	 *            the index of the first element to create an item for
+	 */
+	/* package */void populate(Widget parent, Object[] elements, int start) {
+		ItemPopulation population = new ItemPopulation(parent, elements, start);
+		int visible = Math.max(getVisibleItemCount(), MINIMUM_FIRST_BATCH);
+		if (populationTime == 0 || elements.length - start <= visible
+				|| (getControl().getStyle() & SWT.VIRTUAL) != 0) {
+			population.populateTo(elements.length);
+			return;
+		}
+		population.populateTo(start + visible);
+		populations.add(population);
+		addPopulationWork(elements.length - population.next);
+		parent.getDisplay().asyncExec(population);
+	}
+
+	/**
+	 * Creates the item for the given element as the child of the given parent
+	 * widget at the given index, as part of a population started with
+	 * {@link #populate(Widget, Object[], int)}. Subclasses supporting
+	 * incremental population override this method.
+	 *
+	 * @param parent
+	 *            the parent widget
+	 * @param element
+	 *            the element
+	 * @param index
+	 *            the index of the new item in its parent
+	 */
+	/* package */void createPopulationItem(Widget parent, Object element, int index) {
+		// subclasses create the item
+	}
+
+	/**
+	 * Returns the number of items that fit into the visible area of the
+	 * control, which are created first by an incremental population.
+	 *
+	 * @return the number of items to create first, at least
+	 *         {@link #MINIMUM_FIRST_BATCH} are created in any case
+	 */
+	/* package */int getVisibleItemCount() {
+		return MINIMUM_FIRST_BATCH;
+	}
+
+	/**
+	 * Creates the items of the running populations up to the given elements,
+	 * so that they can be selected or revealed.
+	 *
+	 * @param elements
+	 *            the elements that need items
+	 */
+	/* package */void populateElements(List<?> elements) {
+		if (populations.isEmpty() || elements.isEmpty()) {
+			return;
+		}
+		CustomHashtable wanted = newHashtable(elements.size() * 2 + 1);
+		for (Object element : elements) {
+			if (element != null) {
+				wanted.put(element, element);
+			}
+		}
+		for (ItemPopulation population : new ArrayList<>(populations)) {
+			int end = -1;
+			for (int i = population.next; i < population.elements.length; i++) {
+				if (wanted.containsKey(population.elements[i])) {
+					end = i + 1;
+				}
+			}
+			if (end > 0) {
+				int start = population.next;
+				population.populateTo(end);
+				populationWorked(population.next - start);
+				if (population.next == population.elements.length) {
+					endPopulation(population);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates all items of the running populations.
+	 */
+	/* package */void finishPopulation() {
+		while (!populations.isEmpty()) {
+			ItemPopulation population = populations.get(0);
+			if (!population.parent.isDisposed()) {
+				population.populateTo(population.elements.length);
+			}
+			endPopulation(population);
+		}
+	}
+
+	/**
+	 * Creates all items of the running populations that create items below
+	 * the given widget.
+	 *
+	 * @param widget
+	 *            the widget whose descendants need to be complete
+	 */
+	/* package */void finishPopulation(Widget widget) {
+		for (ItemPopulation population : new ArrayList<>(populations)) {
+			if (population.parent.isDisposed()) {
+				endPopulation(population);
+			} else if (isPopulationWithin(population.parent, widget)) {
+				population.populateTo(population.elements.length);
+				endPopulation(population);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given parent of a population is the given widget or
+	 * a descendant of it.
+	 *
+	 * @param parent
+	 *            the parent widget of a population
+	 * @param widget
+	 *            the widget
+	 * @return <code>true</code> if the population creates items below the
+	 *         widget
+	 */
+	/* package */boolean isPopulationWithin(Widget parent, Widget widget) {
+		return parent == widget || widget == getControl();
+	}
+
+	/**
+	 * Stops the running populations without creating their remaining items.
+	 */
+	/* package */void cancelPopulation() {
+		if (!populations.isEmpty()) {
+			populations.clear();
+			endPopulationRun();
+		}
+	}
+
+	private void endPopulation(ItemPopulation population) {
+		populations.remove(population);
+		if (populations.isEmpty()) {
+			endPopulationRun();
+		}
+	}
+
+	/**
+	 * Adds the given number of items to the work of the running populations,
+	 * starting a new run if none is running.
+	 */
+	private void addPopulationWork(int work) {
+		if (runProgress == null) {
+			populationProgress.setWorkRemaining(100);
+			runProgress = populationProgress.newChild(1);
+			populationWork = 0;
+		}
+		populationWork += work;
+		runProgress.setWorkRemaining(populationWork);
+	}
+
+	private void populationWorked(int work) {
+		if (runProgress != null) {
+			populationWork -= work;
+			runProgress.worked(work);
+		}
+	}
+
+	private void endPopulationRun() {
+		if (runProgress != null) {
+			runProgress.done();
+			runProgress = null;
+			populationWork = 0;
+		}
+	}
+
 	/**
 	 * Sets the cell editors of this column viewer. If editing is not supported
 	 * by this viewer the call simply has no effect.
@@ -663,6 +1365,12 @@ public abstract class ColumnViewer extends StructuredViewer {
 			((Control)event.widget).removeMouseListener(mouseListener);
 			mouseListener = null;
 		}
+		labelCache = null;
+		cancelPopulation();
+		if (populationMonitor != null) {
+			populationMonitor.done();
+			populationMonitor = null;
+		}
 		super.handleDispose(event);
 	}
 
@@ -27,23 +27,15 @@ import java.util.NoSuchElementException;
  * is exceeded, the capacity is doubled.
  * <p>
  * CustomHashtable allows a custom comparator and hash code provider.
+ * <p>
+ * The table uses open addressing with linear probing. Keys, values and the
+ * hash codes of the keys are kept in parallel arrays, so that an entry does
+ * not need an object of its own. This matters for the element map of large
+ * viewers, which holds one entry per item. Caching the hash codes also means
+ * that the element comparer is not consulted when the table grows.
  */
 /* package */final class CustomHashtable {
 
-	/**
-	 * HashMapEntry is an internal class which is used to hold the entries of a Hashtable.
-	 */
-	private static class HashMapEntry {
-		Object key, value;
-
-		HashMapEntry next;
-
-		HashMapEntry(Object theKey, Object theValue) {
-			key = theKey;
-			value = theValue;
-		}
-	}
-
 	private static final class EmptyEnumerator implements Enumeration {
 		@Override
 		public boolean hasMoreElements() {
@@ -57,27 +49,21 @@ import java.util.NoSuchElementException;
 	}
 
 	private class HashEnumerator implements Enumeration {
-		boolean key;
+		Object[] data;
 
 		int start;
 
-		HashMapEntry entry;
-
 		HashEnumerator(boolean isKey) {
-			key = isKey;
-			start = firstSlot;
+			data = isKey ? keyTable : valueTable;
 		}
 
 		@Override
 		public boolean hasMoreElements() {
-			if (entry != null) {
-				return true;
-			}
-			while (start <= lastSlot) {
-				if (elementData[start++] != null) {
-					entry = elementData[start - 1];
+			while (start < data.length) {
+				if (data[start] != null) {
 					return true;
 				}
+				start++;
 			}
 			return false;
 		}
@@ -85,9 +71,7 @@ import java.util.NoSuchElementException;
 		@Override
 		public Object nextElement() {
 			if (hasMoreElements()) {
-				Object result = key ? entry.key : entry.value;
-				entry = entry.next;
-				return result;
+				return data[start++];
 			}
 			throw new NoSuchElementException();
 		}
@@ -95,20 +79,32 @@ import java.util.NoSuchElementException;
 
 	transient int elementCount;
 
-	transient HashMapEntry[] elementData;
+	/**
+	 * The keys of the table. A <code>null</code> slot is empty. The length is
+	 * always a power of two.
+	 */
+	transient Object[] keyTable;
 
-	private float loadFactor;
+	/**
+	 * The values of the table, at the same index as their keys.
+	 */
+	transient Object[] valueTable;
 
-	private int threshold;
+	/**
+	 * The hash codes of the keys, at the same index as their keys.
+	 */
+	transient int[] hashTable;
 
-	transient int firstSlot = 0;
+	private float loadFactor;
 
-	transient int lastSlot = -1;
+	private int threshold;
 
 	transient private IElementComparer comparer;
 
 	private static final EmptyEnumerator emptyEnumerator = new EmptyEnumerator();
 
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
 	/**
 	 * The default capacity used when not specified in the constructor.
 	 */
@@ -157,10 +153,8 @@ import java.util.NoSuchElementException;
 	public CustomHashtable(int capacity, IElementComparer comparer) {
 		if (capacity >= 0) {
 			elementCount = 0;
-			elementData = new HashMapEntry[capacity == 0 ? 1 : capacity];
-			firstSlot = elementData.length;
 			loadFactor = 0.75f;
-			computeMaxSize();
+			allocate(tableSizeFor(capacity));
 		} else {
 			throw new IllegalArgumentException();
 		}
@@ -179,11 +173,10 @@ import java.util.NoSuchElementException;
 	 */
 	public CustomHashtable(CustomHashtable table, IElementComparer comparer) {
 		this(table.size() * 2, comparer);
-		for (int i = table.elementData.length; --i >= 0;) {
-			HashMapEntry entry = table.elementData[i];
-			while (entry != null) {
-				put(entry.key, entry.value);
-				entry = entry.next;
+		Object[] keys = table.keyTable;
+		for (int i = keys.length; --i >= 0;) {
+			if (keys[i] != null) {
+				put(keys[i], table.valueTable[i]);
 			}
 		}
 	}
@@ -201,8 +194,26 @@ import java.util.NoSuchElementException;
 		return comparer;
 	}
 
-	private void computeMaxSize() {
-		threshold = (int) (elementData.length * loadFactor);
+	/**
+	 * Answers the smallest power of two that holds the given capacity.
+	 */
+	private static int tableSizeFor(int capacity) {
+		if (capacity >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
+		}
+		int length = 2;
+		while (length < capacity) {
+			length <<= 1;
+		}
+		return length;
+	}
+
+	private void allocate(int length) {
+		keyTable = new Object[length];
+		valueTable = new Object[length];
+		hashTable = new int[length];
+		// always keep one slot empty so that probing terminates
+		threshold = Math.min((int) (length * loadFactor), length - 1);
 	}
 
 	/**
@@ -213,7 +224,7 @@ import java.util.NoSuchElementException;
 	 * @return		true if object is a key in this Hashtable, false otherwise
 	 */
 	public boolean containsKey(Object key) {
-		return getEntry(key) != null;
+		return indexOf(key, hashCode(key)) >= 0;
 	}
 
 	/**
@@ -239,27 +250,35 @@ import java.util.NoSuchElementException;
 	 *				does not exist
 	 */
 	public Object get(Object key) {
-		int index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-		HashMapEntry entry = elementData[index];
-		while (entry != null) {
-			if (keyEquals(key, entry.key)) {
-				return entry.value;
-			}
-			entry = entry.next;
-		}
-		return null;
+		int index = indexOf(key, hashCode(key));
+		return index >= 0 ? valueTable[index] : null;
 	}
 
-	private HashMapEntry getEntry(Object key) {
-		int index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-		HashMapEntry entry = elementData[index];
-		while (entry != null) {
-			if (keyEquals(key, entry.key)) {
-				return entry;
+	/**
+	 * Answers the slot of the given key, or <code>-(insertion slot) - 1</code>
+	 * if the key is not in the table.
+	 */
+	private int indexOf(Object key, int hash) {
+		Object[] keys = keyTable;
+		int mask = keys.length - 1;
+		int index = slotFor(hash, mask);
+		Object candidate;
+		while ((candidate = keys[index]) != null) {
+			if (hashTable[index] == hash && keyEquals(key, candidate)) {
+				return index;
 			}
-			entry = entry.next;
+			index = (index + 1) & mask;
 		}
-		return null;
+		return -index - 1;
+	}
+
+	/**
+	 * Answers the preferred slot for the given hash code. The hash code is
+	 * scrambled since linear probing suffers from clustered hash codes.
+	 */
+	private static int slotFor(int hash, int mask) {
+		int h = hash * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
 	}
 
 	/**
@@ -308,30 +327,23 @@ import java.util.NoSuchElementException;
 	 */
 	public Object put(Object key, Object value) {
 		if (key != null && value != null) {
-			int index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-			HashMapEntry entry = elementData[index];
-			while (entry != null && !keyEquals(key, entry.key)) {
-				entry = entry.next;
-			}
-			if (entry == null) {
-				if (++elementCount > threshold) {
+			int hash = hashCode(key);
+			int index = indexOf(key, hash);
+			if (index < 0) {
+				if (elementCount >= threshold) {
 					rehash();
-					index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-				}
-				if (index < firstSlot) {
-					firstSlot = index;
+					index = indexOf(key, hash);
 				}
-				if (index > lastSlot) {
-					lastSlot = index;
-				}
-				entry = new HashMapEntry(key, value);
-				entry.next = elementData[index];
-				elementData[index] = entry;
+				index = -index - 1;
+				keyTable[index] = key;
+				valueTable[index] = value;
+				hashTable[index] = hash;
+				elementCount++;
 				return null;
 			}
-			Object result = entry.value;
-			entry.key = key; // important to avoid hanging onto keys that are equal but "old" -- see bug 30607
-			entry.value = value;
+			Object result = valueTable[index];
+			keyTable[index] = key; // important to avoid hanging onto keys that are equal but "old" -- see bug 30607
+			valueTable[index] = value;
 			return result;
 		}
 		throw new NullPointerException();
@@ -342,31 +354,26 @@ import java.util.NoSuchElementException;
 	 * the size of this Hashtable exceeds the load factor.
 	 */
 	private void rehash() {
-		int length = elementData.length << 1;
-		if (length == 0) {
-			length = 1;
+		Object[] oldKeys = keyTable;
+		Object[] oldValues = valueTable;
+		int[] oldHashes = hashTable;
+		if (oldKeys.length >= MAXIMUM_CAPACITY) {
+			throw new IllegalStateException();
 		}
-		firstSlot = length;
-		lastSlot = -1;
-		HashMapEntry[] newData = new HashMapEntry[length];
-		for (int i = elementData.length; --i >= 0;) {
-			HashMapEntry entry = elementData[i];
-			while (entry != null) {
-				int index = (hashCode(entry.key) & 0x7FFFFFFF) % length;
-				if (index < firstSlot) {
-					firstSlot = index;
-				}
-				if (index > lastSlot) {
-					lastSlot = index;
+		allocate(oldKeys.length << 1);
+		int mask = keyTable.length - 1;
+		for (int i = oldKeys.length; --i >= 0;) {
+			Object key = oldKeys[i];
+			if (key != null) {
+				int index = slotFor(oldHashes[i], mask);
+				while (keyTable[index] != null) {
+					index = (index + 1) & mask;
 				}
-				HashMapEntry next = entry.next;
-				entry.next = newData[index];
-				newData[index] = entry;
-				entry = next;
+				keyTable[index] = key;
+				valueTable[index] = oldValues[i];
+				hashTable[index] = oldHashes[i];
 			}
 		}
-		elementData = newData;
-		computeMaxSize();
 	}
 
 	/**
@@ -377,23 +384,31 @@ import java.util.NoSuchElementException;
 	 *				did not exist
 	 */
 	public Object remove(Object key) {
-		HashMapEntry last = null;
-		int index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-		HashMapEntry entry = elementData[index];
-		while (entry != null && !keyEquals(key, entry.key)) {
-			last = entry;
-			entry = entry.next;
+		int index = indexOf(key, hashCode(key));
+		if (index < 0) {
+			return null;
 		}
-		if (entry != null) {
-			if (last == null) {
-				elementData[index] = entry.next;
-			} else {
-				last.next = entry.next;
+		Object result = valueTable[index];
+		// shift the following entries of the probe sequence back into the hole
+		// instead of leaving a marker, so lookups never probe removed slots
+		int mask = keyTable.length - 1;
+		int hole = index;
+		int next = (hole + 1) & mask;
+		while (keyTable[next] != null) {
+			int home = slotFor(hashTable[next], mask);
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				keyTable[hole] = keyTable[next];
+				valueTable[hole] = valueTable[next];
+				hashTable[hole] = hashTable[next];
+				hole = next;
 			}
-			elementCount--;
-			return entry.value;
+			next = (next + 1) & mask;
 		}
-		return null;
+		keyTable[hole] = null;
+		valueTable[hole] = null;
+		hashTable[hole] = 0;
+		elementCount--;
+		return result;
 	}
 
 	/**
@@ -413,14 +428,12 @@ import java.util.NoSuchElementException;
 
 		StringBuilder buffer = new StringBuilder();
 		buffer.append('{');
-		for (int i = elementData.length; --i >= 0;) {
-			HashMapEntry entry = elementData[i];
-			while (entry != null) {
-				buffer.append(entry.key);
+		for (int i = keyTable.length; --i >= 0;) {
+			if (keyTable[i] != null) {
+				buffer.append(keyTable[i]);
 				buffer.append('=');
-				buffer.append(entry.value);
+				buffer.append(valueTable[i]);
 				buffer.append(", "); //$NON-NLS-1$
-				entry = entry.next;
 			}
 		}
 		// Remove the last ", "
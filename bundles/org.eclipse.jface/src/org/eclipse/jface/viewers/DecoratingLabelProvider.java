@@ -27,7 +27,7 @@ import org.eclipse.swt.graphics.Image;
  * the nested label provider.
  */
 public class DecoratingLabelProvider extends LabelProvider implements IViewerLabelProvider, IColorProvider,
-		IFontProvider, ITreePathLabelProvider {
+		IFontProvider, ITreePathLabelProvider, IVisibleElementsLabelProvider {
 
 	private ILabelProvider provider;
 
@@ -311,6 +311,22 @@ public class DecoratingLabelProvider extends LabelProvider implements IViewerLab
 		this.decorationContext = decorationContext;
 	}
 
+	/**
+	 * Forwards the visible elements to the nested label provider and to the
+	 * decorator, if they implement {@link IVisibleElementsLabelProvider}.
+	 *
+	 * @since 3.30
+	 */
+	@Override
+	public void visibleElementsChanged(Object[] elements) {
+		if (provider instanceof IVisibleElementsLabelProvider visibleElementsProvider) {
+			visibleElementsProvider.visibleElementsChanged(elements);
+		}
+		if (decorator instanceof IVisibleElementsLabelProvider visibleElementsDecorator) {
+			visibleElementsDecorator.visibleElementsChanged(elements);
+		}
+	}
+
 	@Override
 	public void updateLabel(ViewerLabel settings, TreePath elementPath) {
 		ILabelDecorator currentDecorator = getLabelDecorator();
@@ -45,11 +45,12 @@ import org.eclipse.swt.graphics.Image;
  * @since 3.4
  */
 public class DecoratingStyledCellLabelProvider extends
-		DelegatingStyledCellLabelProvider {
+		DelegatingStyledCellLabelProvider implements IVisibleElementsLabelProvider {
 
 	private ILabelDecorator decorator;
 	private IDecorationContext decorationContext= DecorationContext.DEFAULT_CONTEXT;
 	private ILabelProviderListener labelProviderListener;
+	private boolean decorationPending;
 
 	/**
 	 * Creates a {@link DecoratingStyledCellLabelProvider} that delegates the
@@ -128,12 +129,18 @@ public class DecoratingStyledCellLabelProvider extends
 
 	@Override
 	public void update(ViewerCell cell) {
-		if (waitForPendingDecoration(cell)) {
+		decorationPending = waitForPendingDecoration(cell);
+		if (decorationPending) {
 			return; // wait until the decoration is ready
 		}
 		super.update(cell);
 	}
 
+	@Override
+	boolean isLabelComplete() {
+		return !decorationPending;
+	}
+
 	@Override
 	public Color getForeground(Object element) {
 		if (this.decorator instanceof IColorDecorator) {
@@ -290,6 +297,19 @@ public class DecoratingStyledCellLabelProvider extends
 				&& this.decorator.isLabelProperty(element, property);
 	}
 
+	/**
+	 * Forwards the visible elements to the decorator, if it implements
+	 * {@link IVisibleElementsLabelProvider}.
+	 *
+	 * @since 3.30
+	 */
+	@Override
+	public void visibleElementsChanged(Object[] elements) {
+		if (this.decorator instanceof IVisibleElementsLabelProvider visibleElementsDecorator) {
+			visibleElementsDecorator.visibleElementsChanged(elements);
+		}
+	}
+
 	@Override
 	public void dispose() {
 		super.dispose();
@@ -132,6 +132,38 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
 		};
 	}
 
+	private DecorationOverlayIcon(ImageDescriptor baseImageDescriptor, ImageDescriptor[] overlaysArray,
+			Point sizeValue) {
+		this.referenceImageOrDescriptor = baseImageDescriptor;
+		this.overlays = overlaysArray;
+		this.baseImageDataProvider = createCachedImageDataProvider(baseImageDescriptor);
+		this.size = () -> sizeValue;
+	}
+
+	/**
+	 * Create the decoration overlay for the base image like
+	 * {@link #DecorationOverlayIcon(Image, ImageDescriptor[], Point)}, but
+	 * identify the base image by its content rather than by the image instance.
+	 * Icons created this way are equal if their base images have the same
+	 * pixels and their overlays are equal, so a resource manager shares one
+	 * native image between them even if every viewer has its own instance of
+	 * the base image.
+	 * <p>
+	 * The content of each base image is read once, when it is first passed to
+	 * this method. Base images must therefore not be modified afterwards.
+	 * </p>
+	 *
+	 * @param baseImage     the base image
+	 * @param overlaysArray the overlay images, may contain null values
+	 * @param sizeValue     the size of the resulting image
+	 * @return the decoration overlay icon
+	 * @since 3.30
+	 */
+	public static DecorationOverlayIcon createShared(Image baseImage, ImageDescriptor[] overlaysArray,
+			Point sizeValue) {
+		return new DecorationOverlayIcon(ImageContentDescriptor.of(baseImage), overlaysArray, sizeValue);
+	}
+
 	/**
 	 * Convert the given image and quadrant into the proper input array.
 	 * @param overlayImage the overlay image
@@ -179,6 +211,23 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
 		}
 	}
 
+	/**
+	 * Returns <code>true</code> if the base image was given as a descriptor and
+	 * all descriptors of the receiver are thread-safe.
+	 */
+	@Override
+	public boolean isImageDataThreadSafe() {
+		if (!(referenceImageOrDescriptor instanceof ImageDescriptor base) || !base.isImageDataThreadSafe()) {
+			return false;
+		}
+		for (ImageDescriptor overlay : overlays) {
+			if (overlay != null && !overlay.isImageDataThreadSafe()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+/**
+ * Extends <code>IBaseLabelProvider</code> with a method that is called by
+ * column viewers before the labels of several elements are computed.
+ * <p>
+ * Label providers whose labels are backed by an expensive data source, such as
+ * a database, can use this to fetch the data for all given elements in one
+ * request, instead of one request per cell. Both the label provider set on the
+ * viewer and the label providers of its columns are notified.
+ * </p>
+ * <p>
+ * The viewer calls this method with the elements of the items it is about to
+ * label in bulk, for example the elements of a refreshed table, the children
+ * of an expanded tree item, or the rows scrolled into view in a virtual table.
+ * Elements whose labels are served from the viewer's label cache are omitted.
+ * Labels may still be requested for elements that have not been prepared.
+ * </p>
+ *
+ * @see ColumnViewer#setLabelCacheSize(int)
+ * @since 3.30
+ */
+public interface IBatchLabelProvider extends IBaseLabelProvider {
+
+	/**
+	 * Prepares the labels of the given elements, which are about to be
+	 * requested by the viewer.
+	 *
+	 * @param elements
+	 *            the elements, never empty
+	 */
+	public void prepareLabels(Object[] elements);
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+/**
+ * An <code>ILightweightBatchLabelDecorator</code> is a lightweight decorator
+ * that can calculate the decorations of several elements at once, for example
+ * to look up the state of all elements with a single query.
+ * <p>
+ * By implementing this interface, a decorator declares that it is thread-safe:
+ * decorators that support batches may be called concurrently with other
+ * decorators, from any thread other than the UI thread.
+ * </p>
+ *
+ * @since 3.30
+ */
+public interface ILightweightBatchLabelDecorator extends ILightweightLabelDecorator {
+
+	/**
+	 * Calculates the decorations of a batch of elements. The decoration of
+	 * each element is found at the same index as the element.
+	 * <p>
+	 * The default implementation decorates one element after the other.
+	 * </p>
+	 *
+	 * @param elements    the elements to decorate
+	 * @param decorations the decorations to set, one for each element
+	 */
+	default void decorate(Object[] elements, IDecoration[] decorations) {
+		for (int i = 0; i < elements.length; i++) {
+			decorate(elements[i], decorations[i]);
+		}
+	}
+}
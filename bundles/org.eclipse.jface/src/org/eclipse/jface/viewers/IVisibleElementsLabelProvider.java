@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+/**
+ * Extends <code>IBaseLabelProvider</code> with a method that is called by
+ * column viewers when the elements shown in the visible area of the viewer
+ * change, for example after scrolling, resizing or expanding a tree item.
+ * <p>
+ * Label providers which compute parts of their labels in the background, such
+ * as decorating label providers, can use this to compute the labels of the
+ * visible elements first. Both the label provider set on the viewer and the
+ * label providers of its columns are notified.
+ * </p>
+ *
+ * @see DecoratingLabelProvider
+ * @see DecoratingStyledCellLabelProvider
+ * @since 3.30
+ */
+public interface IVisibleElementsLabelProvider extends IBaseLabelProvider {
+
+	/**
+	 * Notifies the receiver that the given elements are now visible in the
+	 * viewer, from top to bottom. Elements which have been reported before but
+	 * are not contained anymore have scrolled out of view.
+	 *
+	 * @param elements
+	 *            the visible elements, may be empty
+	 */
+	public void visibleElementsChanged(Object[] elements);
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+
+/**
+ * An image descriptor for the content of an image. Unlike
+ * {@link ImageDescriptor#createFromImage(Image)}, descriptors of different
+ * images with the same pixels are equal, so that resource managers can share
+ * the images created from them.
+ *
+ * @see DecorationOverlayIcon#createShared(Image, ImageDescriptor[], org.eclipse.swt.graphics.Point)
+ */
+final class ImageContentDescriptor extends ImageDescriptor {
+
+	/**
+	 * The descriptors of the images seen so far, so that the content of each
+	 * image is only read once.
+	 */
+	private static final Map<Image, ImageContentDescriptor> descriptors = new WeakHashMap<>();
+
+	/**
+	 * The image used for zoom levels other than 100%. Must not be referenced
+	 * strongly, since the descriptor is a value of {@link #descriptors}.
+	 */
+	private final WeakReference<Image> image;
+
+	private final ImageData data;
+
+	private final int hashCode;
+
+	private ImageContentDescriptor(Image image) {
+		this.image = new WeakReference<>(image);
+		this.data = image.getImageData(100);
+		this.hashCode = hash(data);
+	}
+
+	/**
+	 * Returns the descriptor for the content of the given image.
+	 *
+	 * @param image the image, not disposed
+	 * @return the descriptor
+	 */
+	static synchronized ImageContentDescriptor of(Image image) {
+		ImageContentDescriptor descriptor = descriptors.get(image);
+		// Images are equal if they share a handle, which may be reused after a dispose
+		if (descriptor == null || descriptor.image.get() != image) {
+			descriptor = new ImageContentDescriptor(image);
+			descriptors.put(image, descriptor);
+		}
+		return descriptor;
+	}
+
+	@Override
+	public ImageData getImageData(int zoom) {
+		if (zoom == 100) {
+			return data;
+		}
+		Image current = image.get();
+		if (current == null || current.isDisposed()) {
+			// scaled from 100%
+			return null;
+		}
+		return current.getImageData(zoom);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ImageContentDescriptor other) || hashCode != other.hashCode) {
+			return false;
+		}
+		ImageData otherData = other.data;
+		return data.width == otherData.width && data.height == otherData.height && data.depth == otherData.depth
+				&& data.bytesPerLine == otherData.bytesPerLine && data.transparentPixel == otherData.transparentPixel
+				&& data.alpha == otherData.alpha && data.maskPad == otherData.maskPad
+				&& Arrays.equals(data.data, otherData.data) && Arrays.equals(data.maskData, otherData.maskData)
+				&& Arrays.equals(data.alphaData, otherData.alphaData) && equals(data.palette, otherData.palette);
+	}
+
+	private static boolean equals(PaletteData palette, PaletteData other) {
+		if (palette == null || other == null) {
+			return palette == other;
+		}
+		if (palette.isDirect != other.isDirect) {
+			return false;
+		}
+		if (palette.isDirect) {
+			return palette.redMask == other.redMask && palette.greenMask == other.greenMask
+					&& palette.blueMask == other.blueMask;
+		}
+		return Arrays.equals(palette.colors, other.colors);
+	}
+
+	private static int hash(ImageData data) {
+		int result = Objects.hash(Integer.valueOf(data.width), Integer.valueOf(data.height),
+				Integer.valueOf(data.depth));
+		result = 31 * result + Arrays.hashCode(data.data);
+		result = 31 * result + Arrays.hashCode(data.maskData);
+		result = 31 * result + Arrays.hashCode(data.alphaData);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "ImageContentDescriptor [" + data.width + "x" + data.height + ", hashCode=" + hashCode + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
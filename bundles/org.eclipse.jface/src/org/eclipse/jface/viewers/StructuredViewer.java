@@ -24,6 +24,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
@@ -152,6 +156,70 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	private StructuredViewerInternals.AssociateListener associateListener;
 
+	/**
+	 * Indicates whether refreshes filter and sort in the background.
+	 *
+	 * @see #setBackgroundRefresh(boolean)
+	 */
+	private boolean backgroundRefresh = false;
+
+	/**
+	 * The pool filtering and sorting the children of background refreshes. It
+	 * is kept apart from the common pool so that client filters and
+	 * comparators can neither exhaust it nor be delayed by other users of it.
+	 * Parallel sorts started by a refresh run in this pool, too.
+	 */
+	private static final ForkJoinPool REFRESH_POOL = new ForkJoinPool(
+			Math.min(4, Runtime.getRuntime().availableProcessors()), pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Viewer Background Refresh-" + thread.getPoolIndex()); //$NON-NLS-1$
+				return thread;
+			}, null, false);
+
+	/**
+	 * Incremented for every refresh and input change, used to discard stale
+	 * background computations.
+	 */
+	private final AtomicLong refreshGeneration = new AtomicLong();
+
+	/**
+	 * The generation of the background refresh that is waiting to be applied,
+	 * or 0 if none. Only accessed in the UI thread.
+	 */
+	private long pendingRefresh = 0;
+
+	/**
+	 * The background refresh currently being applied, or <code>null</code>.
+	 * Its children are returned by {@link #getFilteredChildren(Object)} and
+	 * {@link #getSortedChildren(Object)} for its element.
+	 */
+	private BackgroundRefresh appliedRefresh;
+
+	/**
+	 * The result of filtering and sorting the children of an element in the
+	 * background.
+	 */
+	private static final class BackgroundRefresh {
+		final long generation;
+
+		final Object element;
+
+		final Runnable update;
+
+		final Object[] rawChildren;
+
+		Object[] filteredChildren;
+
+		Object[] sortedChildren;
+
+		BackgroundRefresh(long generation, Object element, Runnable update, Object[] rawChildren) {
+			this.generation = generation;
+			this.element = element;
+			this.update = update;
+			this.rawChildren = rawChildren;
+		}
+	}
+
 	/**
 	 * Empty array of widgets.
 	 */
@@ -847,6 +915,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @return a filtered array of child elements
 	 */
 	protected Object[] getFilteredChildren(Object parent) {
+		BackgroundRefresh refresh = getAppliedRefresh(parent);
+		if (refresh != null) {
+			return refresh.filteredChildren;
+		}
 		Object[] result = getRawChildren(parent);
 		if (result.length == 0) {
 			return result;
@@ -1028,6 +1100,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @return a sorted and filtered array of child elements
 	 */
 	protected Object[] getSortedChildren(Object parent) {
+		Object[] precomputed = getBackgroundSortedChildren(parent);
+		if (precomputed != null) {
+			return precomputed;
+		}
 		Object[] result = getFilteredChildren(parent);
 		if (sorter != null) {
 			// be sure we're not modifying the original array from the model
@@ -1456,7 +1532,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 *            the element
 	 */
 	public void refresh(final Object element) {
-		preservingSelection(() -> internalRefresh(element));
+		Runnable update = () -> internalRefresh(element);
+		if (!scheduleBackgroundRefresh(element, update)) {
+			preservingSelection(update);
+		}
 	}
 
 	/**
@@ -1479,7 +1558,220 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @since 2.0
 	 */
 	public void refresh(final Object element, final boolean updateLabels) {
-		preservingSelection(() -> internalRefresh(element, updateLabels));
+		Runnable update = () -> internalRefresh(element, updateLabels);
+		if (!scheduleBackgroundRefresh(element, update)) {
+			preservingSelection(update);
+		}
+	}
+
+	/**
+	 * Sets whether refreshes of the viewer's input filter and sort its children
+	 * in a background thread. The default is <code>false</code>.
+	 * <p>
+	 * When enabled, refreshing the input, e.g. with {@link #refresh()}, obtains
+	 * the children of the input from the content provider and returns
+	 * immediately. Refreshes of any other element are always applied
+	 * synchronously, and do not discard a pending refresh of the input. The
+	 * viewer's filters and comparator are then run in a background thread, and
+	 * the resulting children are applied to the widget in the UI thread. A
+	 * refresh that is requested before a previous one has been applied
+	 * supersedes the previous one, whose computation is abandoned. If the
+	 * comparator declares itself thread-safe (see
+	 * {@link ViewerComparator#isThreadSafe()}), the children are sorted in
+	 * parallel.
+	 * </p>
+	 * <p>
+	 * Clients enabling this mode must make sure that their filters and
+	 * comparator, including the label provider used by the comparator, may be
+	 * called from a thread other than the UI thread. Structural changes such as
+	 * <code>add</code> and <code>remove</code> are still applied immediately;
+	 * if the children of the refreshed element change before a background
+	 * refresh is applied, the refresh is computed again.
+	 * </p>
+	 *
+	 * @param backgroundRefresh
+	 *            <code>true</code> to filter and sort in the background,
+	 *            <code>false</code> to refresh synchronously
+	 * @see #hasPendingRefresh()
+	 * @since 3.30
+	 */
+	public void setBackgroundRefresh(boolean backgroundRefresh) {
+		this.backgroundRefresh = backgroundRefresh;
+		if (!backgroundRefresh) {
+			cancelBackgroundRefresh();
+		}
+	}
+
+	/**
+	 * Returns whether refreshes filter and sort in a background thread.
+	 *
+	 * @return <code>true</code> if refreshes filter and sort in the
+	 *         background, <code>false</code> otherwise
+	 * @see #setBackgroundRefresh(boolean)
+	 * @since 3.30
+	 */
+	public boolean isBackgroundRefresh() {
+		return backgroundRefresh;
+	}
+
+	/**
+	 * Returns whether a refresh computed in the background has not been
+	 * applied to the widget yet.
+	 *
+	 * @return <code>true</code> if a background refresh is pending,
+	 *         <code>false</code> otherwise
+	 * @see #setBackgroundRefresh(boolean)
+	 * @since 3.30
+	 */
+	public boolean hasPendingRefresh() {
+		return pendingRefresh != 0;
+	}
+
+	/**
+	 * Returns whether the children of elements can currently be filtered and
+	 * sorted in a background thread. Subclasses that compute children in a
+	 * way that depends on the widget return <code>false</code> in that case.
+	 *
+	 * @return <code>true</code> if a background refresh is possible
+	 */
+	boolean canRefreshInBackground() {
+		return getContentProvider() instanceof IStructuredContentProvider;
+	}
+
+	/**
+	 * Discards the pending background refresh, if any.
+	 */
+	private void cancelBackgroundRefresh() {
+		refreshGeneration.incrementAndGet();
+		pendingRefresh = 0;
+	}
+
+	/**
+	 * Schedules the filtering and sorting of the children of the given element
+	 * in a background thread if background refreshes are enabled and the
+	 * element is the root of the viewer. A refresh of the root discards any
+	 * pending background refresh.
+	 *
+	 * @param element
+	 *            the element to refresh
+	 * @param update
+	 *            the code that refreshes the element in the UI thread
+	 * @return <code>true</code> if the refresh has been scheduled,
+	 *         <code>false</code> if the caller should refresh synchronously
+	 */
+	private boolean scheduleBackgroundRefresh(Object element, Runnable update) {
+		if (element == null || !equals(element, getRoot())) {
+			// refreshes of single elements are applied synchronously, their
+			// labels must not wait and their children are not computed here
+			return false;
+		}
+		cancelBackgroundRefresh();
+		Control control = getControl();
+		if (!backgroundRefresh || control == null || control.isDisposed() || !canRefreshInBackground()) {
+			return false;
+		}
+		final BackgroundRefresh refresh = new BackgroundRefresh(refreshGeneration.get(), element, update,
+				getRawChildren(element));
+		final ViewerFilter[] viewerFilters = getFilters();
+		final ViewerComparator comparator = getComparator();
+		pendingRefresh = refresh.generation;
+		CompletableFuture.runAsync(() -> computeBackgroundRefresh(refresh, viewerFilters, comparator), REFRESH_POOL)
+				.whenComplete((result, exception) -> {
+					if (exception != null) {
+						// refresh synchronously, reporting the problem as usual
+						refresh.sortedChildren = null;
+					}
+					if (refreshGeneration.get() == refresh.generation && !control.isDisposed()) {
+						control.getDisplay().asyncExec(() -> applyBackgroundRefresh(refresh));
+					}
+				});
+		return true;
+	}
+
+	/**
+	 * Filters and sorts the children of a background refresh. Called in a
+	 * background thread.
+	 */
+	private void computeBackgroundRefresh(BackgroundRefresh refresh, ViewerFilter[] viewerFilters,
+			ViewerComparator comparator) {
+		Object[] result = refresh.rawChildren;
+		for (ViewerFilter f : viewerFilters) {
+			if (result.length == 0 || refreshGeneration.get() != refresh.generation) {
+				break;
+			}
+			result = f.filter(this, refresh.element, result);
+		}
+		refresh.filteredChildren = result;
+		if (comparator != null && refreshGeneration.get() == refresh.generation) {
+			// be sure we're not modifying the original array from the model
+			result = result.clone();
+			if (comparator.isThreadSafe()) {
+				Arrays.parallelSort(result, (a, b) -> comparator.compare(this, a, b));
+			} else {
+				comparator.sort(this, result);
+			}
+		}
+		refresh.sortedChildren = result;
+	}
+
+	/**
+	 * Applies a background refresh to the widget, unless it has been
+	 * superseded in the meantime. Called in the UI thread.
+	 */
+	private void applyBackgroundRefresh(BackgroundRefresh refresh) {
+		Control control = getControl();
+		if (pendingRefresh != refresh.generation || control == null || control.isDisposed()) {
+			return;
+		}
+		pendingRefresh = 0;
+		if (refresh.sortedChildren == null) {
+			preservingSelection(refresh.update);
+			return;
+		}
+		if (!Arrays.equals(refresh.rawChildren, getRawChildren(refresh.element))) {
+			// the model has changed since the refresh was scheduled
+			if (!scheduleBackgroundRefresh(refresh.element, refresh.update)) {
+				preservingSelection(refresh.update);
+			}
+			return;
+		}
+		if (associateListener != null && refresh.filteredChildren.length != refresh.rawChildren.length) {
+			notifyFilteredOut(refresh.rawChildren, refresh.filteredChildren);
+		}
+		appliedRefresh = refresh;
+		try {
+			preservingSelection(refresh.update);
+		} finally {
+			appliedRefresh = null;
+		}
+	}
+
+	/**
+	 * Returns the background refresh being applied if it computed the children
+	 * of the given element.
+	 *
+	 * @param parent
+	 *            the parent element
+	 * @return the background refresh or <code>null</code>
+	 */
+	private BackgroundRefresh getAppliedRefresh(Object parent) {
+		if (appliedRefresh != null && equals(appliedRefresh.element, parent)) {
+			return appliedRefresh;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the sorted and filtered children of the given element if they
+	 * have been computed by the background refresh being applied.
+	 *
+	 * @param parent
+	 *            the parent element
+	 * @return the sorted and filtered children or <code>null</code>
+	 */
+	Object[] getBackgroundSortedChildren(Object parent) {
+		BackgroundRefresh refresh = getAppliedRefresh(parent);
+		return refresh != null ? refresh.sortedChildren : null;
 	}
 
 	/**
@@ -1628,6 +1920,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 					"Need an underlying widget to be able to set the input." + //$NON-NLS-1$
 							"(Has the widget been disposed?)"); //$NON-NLS-1$
 		}
+		cancelBackgroundRefresh();
 		unmapAllElements();
 		super.setInput(input);
 	}
@@ -2265,6 +2558,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	@Override
 	protected void handleDispose(DisposeEvent event) {
 		super.handleDispose(event);
+		cancelBackgroundRefresh();
 		sorter = null;
 		comparer = null;
 		if (filters != null)
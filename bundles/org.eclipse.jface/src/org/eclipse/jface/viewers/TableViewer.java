@@ -133,6 +133,12 @@ public class TableViewer extends AbstractTableViewer {
 		return table;
 	}
 
+	@Override
+	int getVisibleItemCount() {
+		int itemHeight = Math.max(table.getItemHeight(), 1);
+		return table.getClientArea().height / itemHeight + 1;
+	}
+
 	@Override
 	protected ColumnViewerEditor createViewerEditor() {
 		return new TableViewerEditor(this, null,
@@ -197,6 +203,12 @@ public class TableViewer extends AbstractTableViewer {
 		return getViewerRowFromItem(item);
 	}
 
+	@Override
+	Widget getTopItem() {
+		int index = table.getTopIndex();
+		return index < table.getItemCount() ? table.getItem(index) : null;
+	}
+
 	@Override
 	protected Item getItemAt(Point p) {
 		TableItem[] selection = table.getSelection();
@@ -369,6 +381,9 @@ public class TableViewer extends AbstractTableViewer {
 			cancelEditing();
 		}
 
+		if (updateLabels) {
+			invalidateLabel(element);
+		}
 		preservingSelection(() -> internalRefresh(element, updateLabels), reveal);
 	}
 
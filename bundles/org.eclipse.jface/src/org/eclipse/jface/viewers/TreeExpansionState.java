@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.eclipse.core.runtime.Assert;
+
+/**
+ * The expanded tree paths of a tree viewer, stored as a trie of path segments.
+ * Paths that share a prefix share the nodes for that prefix, so the state of a
+ * deeply expanded tree costs one node per element on an expanded path instead
+ * of one tree path per expanded node.
+ * <p>
+ * A tree path can be contained in the state even if its parent path is not,
+ * which describes a node that is marked as expanded below a collapsed
+ * ancestor.
+ * </p>
+ * <p>
+ * Clients may instantiate this class. Not intended to be subclassed.
+ * </p>
+ *
+ * @see AbstractTreeViewer#getExpansionState()
+ * @see AbstractTreeViewer#setExpansionState(TreeExpansionState)
+ * @since 3.30
+ */
+public final class TreeExpansionState {
+
+	/**
+	 * A node of the trie. The children are either <code>null</code>, a single
+	 * node, or a hash table from segment to node, so that the common case of
+	 * a chain of single expanded children does not need a hash table per
+	 * node.
+	 */
+	static final class Node {
+		final Object segment;
+
+		final Node parent;
+
+		boolean expanded;
+
+		private Object children;
+
+		Node(Object segment, Node parent) {
+			this.segment = segment;
+			this.parent = parent;
+		}
+
+		Node getChild(Object element, IElementComparer comparer) {
+			if (children instanceof Node) {
+				Node child = (Node) children;
+				boolean equal = comparer == null ? child.segment.equals(element)
+						: comparer.equals(child.segment, element);
+				return equal ? child : null;
+			}
+			if (children != null) {
+				return (Node) ((CustomHashtable) children).get(element);
+			}
+			return null;
+		}
+
+		Node getOrCreateChild(Object element, IElementComparer comparer) {
+			Node child = getChild(element, comparer);
+			if (child != null) {
+				return child;
+			}
+			child = new Node(element, this);
+			if (children == null) {
+				children = child;
+			} else {
+				if (children instanceof Node) {
+					Node first = (Node) children;
+					CustomHashtable table = new CustomHashtable(comparer);
+					table.put(first.segment, first);
+					children = table;
+				}
+				((CustomHashtable) children).put(element, child);
+			}
+			return child;
+		}
+
+		void removeChild(Node child) {
+			if (children == child) {
+				children = null;
+			} else if (children instanceof CustomHashtable) {
+				CustomHashtable table = (CustomHashtable) children;
+				table.remove(child.segment);
+				if (table.size() == 0) {
+					children = null;
+				}
+			}
+		}
+
+		boolean hasChildren() {
+			return children != null;
+		}
+
+		/**
+		 * Returns the children of the receiver in no particular order.
+		 */
+		Node[] getChildren() {
+			if (children == null) {
+				return new Node[0];
+			}
+			if (children instanceof Node) {
+				return new Node[] { (Node) children };
+			}
+			CustomHashtable table = (CustomHashtable) children;
+			Node[] result = new Node[table.size()];
+			int i = 0;
+			for (Enumeration<?> e = table.elements(); e.hasMoreElements();) {
+				result[i++] = (Node) e.nextElement();
+			}
+			return result;
+		}
+	}
+
+	private final IElementComparer comparer;
+
+	private final Node root = new Node(null, null);
+
+	private int size;
+
+	/**
+	 * Creates an empty expansion state that compares elements with their
+	 * <code>equals</code> and <code>hashCode</code> methods.
+	 */
+	public TreeExpansionState() {
+		this(null);
+	}
+
+	/**
+	 * Creates an empty expansion state that compares elements with the given
+	 * element comparer.
+	 *
+	 * @param comparer
+	 *            the element comparer, or <code>null</code> to use the
+	 *            <code>equals</code> and <code>hashCode</code> methods of
+	 *            the elements
+	 */
+	public TreeExpansionState(IElementComparer comparer) {
+		this.comparer = comparer;
+	}
+
+	/**
+	 * Returns the element comparer of this state.
+	 *
+	 * @return the element comparer, or <code>null</code>
+	 */
+	public IElementComparer getComparer() {
+		return comparer;
+	}
+
+	/**
+	 * Marks the given tree path as expanded.
+	 *
+	 * @param treePath
+	 *            a non-empty tree path
+	 * @return <code>true</code> if the path was not already contained
+	 */
+	public boolean add(TreePath treePath) {
+		Assert.isTrue(treePath.getSegmentCount() > 0);
+		Node node = root;
+		for (int i = 0; i < treePath.getSegmentCount(); i++) {
+			node = node.getOrCreateChild(treePath.getSegment(i), comparer);
+		}
+		return setExpanded(node);
+	}
+
+	/**
+	 * Removes the given tree path. Paths below it are not affected.
+	 *
+	 * @param treePath
+	 *            the tree path
+	 * @return <code>true</code> if the path was contained
+	 */
+	public boolean remove(TreePath treePath) {
+		Node node = find(treePath);
+		if (node == null || !node.expanded) {
+			return false;
+		}
+		node.expanded = false;
+		size--;
+		prune(node);
+		return true;
+	}
+
+	/**
+	 * Returns whether the given tree path is marked as expanded.
+	 *
+	 * @param treePath
+	 *            the tree path
+	 * @return <code>true</code> if the path is contained
+	 */
+	public boolean contains(TreePath treePath) {
+		Node node = find(treePath);
+		return node != null && node.expanded;
+	}
+
+	/**
+	 * Returns the number of expanded tree paths.
+	 *
+	 * @return the number of expanded tree paths
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether no tree path is marked as expanded.
+	 *
+	 * @return <code>true</code> if the state is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the expanded tree paths. Parent paths are returned before their
+	 * children; the order of siblings is not specified.
+	 *
+	 * @return the expanded tree paths
+	 */
+	public TreePath[] getTreePaths() {
+		List<TreePath> result = new ArrayList<>(size);
+		collectTreePaths(root, new ArrayList<>(), result);
+		return result.toArray(new TreePath[result.size()]);
+	}
+
+	private void collectTreePaths(Node node, List<Object> segments, List<TreePath> result) {
+		for (Node child : node.getChildren()) {
+			segments.add(child.segment);
+			if (child.expanded) {
+				result.add(new TreePath(segments.toArray()));
+			}
+			collectTreePaths(child, segments, result);
+			segments.remove(segments.size() - 1);
+		}
+	}
+
+	Node getRoot() {
+		return root;
+	}
+
+	Node find(TreePath treePath) {
+		Node node = root;
+		for (int i = 0; node != null && i < treePath.getSegmentCount(); i++) {
+			node = node.getChild(treePath.getSegment(i), comparer);
+		}
+		return node;
+	}
+
+	boolean setExpanded(Node node) {
+		if (node.expanded) {
+			return false;
+		}
+		node.expanded = true;
+		size++;
+		return true;
+	}
+
+	void clearExpanded(Node node) {
+		if (node.expanded) {
+			node.expanded = false;
+			size--;
+		}
+	}
+
+	/**
+	 * Removes the given node and its ancestors as long as they are neither
+	 * expanded nor lead to an expanded node.
+	 */
+	void prune(Node node) {
+		while (node != root && !node.expanded && !node.hasChildren()) {
+			node.parent.removeChild(node);
+			node = node.parent;
+		}
+	}
+
+	/**
+	 * Returns a copy of the receiver that compares elements with the given
+	 * comparer.
+	 */
+	TreeExpansionState copy(IElementComparer newComparer) {
+		TreeExpansionState copy = new TreeExpansionState(newComparer);
+		copyChildren(root, copy.root, copy);
+		return copy;
+	}
+
+	private static void copyChildren(Node from, Node to, TreeExpansionState copy) {
+		for (Node child : from.getChildren()) {
+			Node newChild = to.getOrCreateChild(child.segment, copy.comparer);
+			if (child.expanded) {
+				copy.setExpanded(newChild);
+			}
+			copyChildren(child, newChild, copy);
+		}
+	}
+}
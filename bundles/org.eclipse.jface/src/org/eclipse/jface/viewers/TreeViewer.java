@@ -175,6 +175,11 @@ public class TreeViewer extends AbstractTreeViewer {
 		return ((TreeItem) item).getExpanded();
 	}
 
+	@Override
+	Widget getTopItem() {
+		return tree.getItemCount() > 0 ? tree.getTopItem() : null;
+	}
+
 	@Override
 	protected Item getItemAt(Point p) {
 		TreeItem[] selection = tree.getSelection();
@@ -240,6 +245,12 @@ public class TreeViewer extends AbstractTreeViewer {
 		return tree;
 	}
 
+	@Override
+	int getVisibleItemCount() {
+		int itemHeight = Math.max(tree.getItemHeight(), 1);
+		return tree.getClientArea().height / itemHeight + 1;
+	}
+
 	@Override
 	protected void hookControl(Control control) {
 		super.hookControl(control);
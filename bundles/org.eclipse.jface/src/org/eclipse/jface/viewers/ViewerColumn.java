@@ -20,6 +20,7 @@ package org.eclipse.jface.viewers;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Widget;
 
 /**
@@ -96,6 +97,7 @@ public abstract class ViewerColumn {
 		}
 
 		this.labelProvider = labelProvider;
+		viewer.clearLabelCache();
 
 		if (registerListener) {
 			this.labelProvider.initialize(viewer, this);
@@ -141,7 +143,19 @@ public abstract class ViewerColumn {
 			Assert.isTrue(false, "Column " + cell.getColumnIndex() + //$NON-NLS-1$
 			" has no label provider."); //$NON-NLS-1$
 		}
+		CellLabelCache labelCache = viewer.getLabelCache();
+		if (labelCache != null && labelCache.restore(cell)) {
+			if (labelProvider instanceof OwnerDrawLabelProvider) {
+				// owner drawn cells are painted from the element, force a redraw
+				Rectangle cellBounds = cell.getBounds();
+				cell.getControl().redraw(cellBounds.x, cellBounds.y, cellBounds.width, cellBounds.height, true);
+			}
+			return;
+		}
 		labelProvider.update(cell);
+		if (labelCache != null && labelProvider.isLabelComplete()) {
+			labelCache.store(cell, viewer.getLabelledColumnCount());
+		}
 	}
 
 	/**
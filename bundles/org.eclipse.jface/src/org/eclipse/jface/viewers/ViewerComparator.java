@@ -16,6 +16,8 @@
 
 package org.eclipse.jface.viewers;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -53,6 +55,33 @@ public class ViewerComparator {
 	 */
 	private Comparator<? super String> comparator;
 
+	/**
+	 * Whether the receiver uses the default implementation of
+	 * {@link #compare(Viewer, Object, Object)}, or <code>null</code> if not
+	 * known yet.
+	 */
+	private Boolean defaultCompare;
+
+	/**
+	 * The category and label of an element, computed once per sort.
+	 */
+	private static final class SortKey {
+		final Object element;
+
+		final int category;
+
+		final String label;
+
+		final CollationKey collationKey;
+
+		SortKey(Object element, int category, String label, CollationKey collationKey) {
+			this.element = element;
+			this.category = category;
+			this.label = label;
+			this.collationKey = collationKey;
+		}
+	}
+
 	/**
 	 * Creates a new {@link ViewerComparator}, which uses the default comparator
 	 * to sort strings.
@@ -186,13 +215,37 @@ public class ViewerComparator {
 		return false;
 	}
 
+	/**
+	 * Returns whether this comparator may be called concurrently from several
+	 * threads. Viewers that filter and sort in the background (see
+	 * {@link StructuredViewer#setBackgroundRefresh(boolean)}) sort the elements
+	 * in parallel with {@link #compare(Viewer, Object, Object)} instead of
+	 * calling {@link #sort(Viewer, Object[])} if this method returns
+	 * <code>true</code>.
+	 * <p>
+	 * The default implementation returns <code>false</code>. Subclasses whose
+	 * <code>category</code> and <code>compare</code> methods and label
+	 * provider are thread-safe may override this method.
+	 * </p>
+	 *
+	 * @return <code>true</code> if this comparator is thread-safe,
+	 *         <code>false</code> otherwise
+	 * @since 3.30
+	 */
+	public boolean isThreadSafe() {
+		return false;
+	}
+
 	/**
 	 * Sorts the given elements in-place, modifying the given array.
 	 * <p>
 	 * The default implementation of this method uses the
 	 * {@link java.util.Arrays#sort(Object[], Comparator)} algorithm on the
 	 * given array, calling {@link #compare(Viewer, Object, Object)} to compare
-	 * elements.
+	 * elements. If the receiver does not override
+	 * {@link #compare(Viewer, Object, Object)}, it calls
+	 * {@link #sortByKeys(Viewer, Object[])} instead, which gives the same
+	 * order.
 	 * </p>
 	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
@@ -203,7 +256,11 @@ public class ViewerComparator {
 	 */
 	public void sort(final Viewer viewer, Object[] elements) {
 		try {
-			Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			if (elements.length > 1 && usesDefaultCompare()) {
+				sortByKeys(viewer, elements);
+			} else {
+				Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			}
 		} catch (IllegalArgumentException e) {
 			String msg = e
 					+ "\nWorkaround for comparator violation:\n\tSet system property -Djava.util.Arrays.useLegacyMergeSort=true" //$NON-NLS-1$
@@ -228,4 +285,64 @@ public class ViewerComparator {
 			throw e;
 		}
 	}
+
+	/**
+	 * Sorts the given elements in-place by their category and label, in the
+	 * same order as the default implementation of
+	 * {@link #compare(Viewer, Object, Object)}. The category and label of
+	 * every element are computed only once, and if the string comparator is a
+	 * {@link Collator}, the labels are compared by their collation keys.
+	 * <p>
+	 * Subclasses that override <code>compare</code> but still order elements
+	 * by category and label, for example to log or to break ties in a way the
+	 * label does not affect, may call this method from their
+	 * <code>sort</code> method.
+	 * </p>
+	 *
+	 * @param viewer
+	 *            the viewer
+	 * @param elements
+	 *            the elements to sort
+	 * @since 3.30
+	 */
+	protected void sortByKeys(Viewer viewer, Object[] elements) {
+		Comparator<? super String> stringComparator = getComparator();
+		Collator collator = stringComparator instanceof Collator ? (Collator) stringComparator : null;
+		SortKey[] keys = new SortKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			Object element = elements[i];
+			String label = getLabel(viewer, element);
+			keys[i] = new SortKey(element, category(element), label,
+					collator == null ? null : collator.getCollationKey(label));
+		}
+		Arrays.sort(keys, (a, b) -> {
+			if (a.category != b.category) {
+				return a.category - b.category;
+			}
+			if (collator != null) {
+				return a.collationKey.compareTo(b.collationKey);
+			}
+			return stringComparator.compare(a.label, b.label);
+		});
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element;
+		}
+	}
+
+	/**
+	 * Returns whether the class of the receiver uses the default
+	 * implementation of {@link #compare(Viewer, Object, Object)}.
+	 */
+	private boolean usesDefaultCompare() {
+		if (defaultCompare == null) {
+			try {
+				defaultCompare = Boolean.valueOf(getClass()
+						.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() == ViewerComparator.class);
+			} catch (NoSuchMethodException | SecurityException e) {
+				defaultCompare = Boolean.FALSE;
+			}
+		}
+		return defaultCompare.booleanValue();
+	}
 }
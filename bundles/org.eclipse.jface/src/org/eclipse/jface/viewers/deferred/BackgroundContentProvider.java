@@ -17,6 +17,8 @@ import java.util.Comparator;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.viewers.AcceptAllFilter;
@@ -128,6 +130,46 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 
 	private volatile Range range = new Range(0,0);
 
+	/**
+	 * The elements known to this content provider, sorted as far as needed so
+	 * far. Only accessed by the sort thread.
+	 */
+	private LazySortedCollection sortedElements;
+
+	/**
+	 * The filter that has been applied to sortedElements. Only accessed by the
+	 * sort thread.
+	 */
+	private IFilter sortedFilter;
+
+	/**
+	 * Number of rows above and below the visible range that are sorted and
+	 * sent to the table, or -1 to sort and send all rows.
+	 */
+	private volatile int prefetch = -1;
+
+	/**
+	 * The rows that have been sorted and sent to the table by the last sort.
+	 */
+	private volatile int windowStart, windowEnd;
+
+	/**
+	 * The rows that may hold items sent by previous sorts. Only accessed by the
+	 * sort thread.
+	 */
+	private int sentStart, sentEnd;
+
+	/**
+	 * True iff the visible range moved outside of the sent rows
+	 */
+	private volatile boolean rangeDirty = false;
+
+	/**
+	 * Monitor supplied by the client that each sort is split from. Canceling
+	 * it abandons the current sort. Guarded by lock.
+	 */
+	private SubMonitor progressMonitor = SubMonitor.convert(null);
+
 	/**
 	 * Creates a new background content provider
 	 *
@@ -182,25 +224,73 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 
 		mon.beginTask(SORTING, 100);
 
-		// Create a LazySortedCollection
-		Comparator order = sortOrder;
-		IFilter f = filter;
-		LazySortedCollection collection = new LazySortedCollection(order);
+		try {
+			SubMonitor progress = splitSortProgress();
+			sort(progress);
+			progress.done();
+		} catch (OperationCanceledException e) {
+			// The client canceled its monitor, stop reporting to it
+			synchronized (lock) {
+				progressMonitor = SubMonitor.convert(null);
+			}
+		}
+
+		mon.done();
+	}
+
+	/**
+	 * Returns the monitor for the progress of one sort, split from the monitor
+	 * supplied by the client. Each sort takes a share of the remaining work,
+	 * since the number of sorts is not known in advance. Called by the sort
+	 * thread.
+	 *
+	 * @return the monitor of the sort
+	 * @throws OperationCanceledException if the client's monitor is canceled
+	 */
+	private SubMonitor splitSortProgress() {
+		SubMonitor root;
+		synchronized (lock) {
+			root = progressMonitor;
+		}
+		root.setWorkRemaining(100);
+		return root.split(1);
+	}
 
-		// Fill it in with all existing known objects
-		Object[] knownObjects = updator.getKnownObjects();
-		for (Object object : knownObjects) {
-			if (object != null) {
-				collection.add(object);
+	/**
+	 * Processes the queued changes and sends the sorted rows to the table
+	 * until no more changes arrive. Called by the sort thread.
+	 *
+	 * @param progress monitor where progress will be reported
+	 * @throws OperationCanceledException if the client's monitor is canceled
+	 */
+	private void sort(SubMonitor progress) {
+		// The collection is kept between sorts, since it may hold elements that
+		// have never been sent to the table
+		LazySortedCollection collection = sortedElements;
+		if (collection == null) {
+			collection = new LazySortedCollection(sortOrder);
+			sortedFilter = filter;
+
+			// Fill it in with all existing known objects
+			Object[] knownObjects = updator.getKnownObjects();
+			for (Object object : knownObjects) {
+				if (object != null) {
+					collection.add(object);
+				}
 			}
+			sortedElements = collection;
 		}
+		Comparator order = collection.getComparator();
+		IFilter f = sortedFilter;
 
 		boolean dirty = false;
-		int prevSize = knownObjects.length;
-		updator.setTotalItems(prevSize);
+		int prevSize = updator.getKnownObjects().length;
 
 		// Start processing changes
-		while(true) {
+		while (true) {
+			progress.setWorkRemaining(10);
+			progress.split(1);
+
 			// If the sort order has changed, build a new LazySortedCollection with
 			// the new comparator
 			if (order != sortOrder) {
@@ -221,6 +311,7 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 					continue;
 				}
 				collection = newCollection;
+				sortedElements = collection;
 				continue;
 			}
 
@@ -228,6 +319,7 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 			if (f != filter) {
 				dirty = true;
 				f = filter;
+				sortedFilter = f;
 
 				Object[] items = collection.getItems(false);
 
@@ -302,6 +394,12 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 				dirty = true;
 			}
 
+			// The visible range moved outside of the rows sent so far
+			if (rangeDirty) {
+				rangeDirty = false;
+				dirty = true;
+			}
+
 			// Terminate loop
 			if (!dirty) {
 				break;
@@ -330,15 +428,48 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 					Object object = objectsOfInterest[i];
 					updator.replace(object, sortStart + i);
 				}
+				if (sortLength > 0) {
+					sentStart = Math.min(sentStart, sortStart);
+					sentEnd = Math.max(sentEnd, sortStart + sortLength);
+				}
 
-				objectsOfInterest = new Object[collection.size()];
+				int prefetchSize = prefetch;
+				if (prefetchSize < 0) {
+					objectsOfInterest = new Object[collection.size()];
 
-				collection.getFirst(objectsOfInterest, true, sortMon);
+					collection.getFirst(objectsOfInterest, true, sortMon);
 
-				// Send the new elements to the table
-				for (int i = 0; i < totalElements; i++) {
-					Object object = objectsOfInterest[i];
-					updator.replace(object, i);
+					// Send the new elements to the table
+					for (int i = 0; i < totalElements; i++) {
+						Object object = objectsOfInterest[i];
+						updator.replace(object, i);
+					}
+					windowStart = 0;
+					windowEnd = totalElements;
+					sentStart = 0;
+					sentEnd = totalElements;
+				} else {
+					// Only sort the rows around the visible range. Rows further
+					// away are sorted when they are scrolled into view.
+					int prefetchStart = Math.max(sortStart - prefetchSize, 0);
+					int prefetchEnd = Math.max(Math.min(sortStart + sortLength + prefetchSize, totalElements),
+							prefetchStart);
+
+					objectsOfInterest = new Object[prefetchEnd - prefetchStart];
+
+					collection.getRange(objectsOfInterest, prefetchStart, true, sortMon);
+
+					for (int i = 0; i < objectsOfInterest.length; i++) {
+						updator.replace(objectsOfInterest[i], prefetchStart + i);
+					}
+					// Only the rows sent before may hold items that are no
+					// longer at their sorted position
+					updator.clearRange(sentStart, Math.min(sentEnd, prefetchStart));
+					updator.clearRange(Math.max(sentStart, prefetchEnd), sentEnd);
+					windowStart = prefetchStart;
+					windowEnd = prefetchEnd;
+					sentStart = prefetchStart;
+					sentEnd = prefetchEnd;
 				}
 
 			} catch (InterruptedException e) {
@@ -347,8 +478,6 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 
 			dirty = false;
 		}
-
-		mon.done();
 	}
 
 	/**
@@ -413,6 +542,33 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 		return limit;
 	}
 
+	/**
+	 * Sets the number of rows above and below the visible range that are
+	 * sorted and sent to the table. Rows outside of this window are sorted
+	 * when they are scrolled into view.
+	 *
+	 * @param prefetch number of rows or -1 to sort all rows
+	 */
+	public void setPrefetchSize(int prefetch) {
+		this.prefetch = prefetch;
+		refresh();
+	}
+
+	/**
+	 * Sets the monitor that receives the progress of the background sorts. The
+	 * task of the monitor must have been begun by the caller, who is also
+	 * responsible for calling <code>done()</code>. If the monitor is canceled,
+	 * the current sort is abandoned and no further sorts are reported to it.
+	 *
+	 * @param monitor the progress monitor, must be thread safe
+	 */
+	public void setProgressMonitor(SubMonitor monitor) {
+		Assert.isNotNull(monitor);
+		synchronized (lock) {
+			this.progressMonitor = monitor;
+		}
+	}
+
 	/**
 	 * Checks if currently visible range has changed, and triggers and update
 	 * and resort if necessary. Must be called in the UI thread, typically
@@ -427,6 +583,13 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 		// If we're in the middle of processing an invalid range, cancel the sort
 		if (newRange.start != oldRange.start || newRange.length != oldRange.length) {
 			sortMon.cancel();
+
+			// If only a window of rows has been sent, sort the new range
+			if (prefetch >= 0 && (newRange.start < windowStart
+					|| newRange.start + newRange.length > windowEnd)) {
+				rangeDirty = true;
+				makeDirty();
+			}
 		}
 	}
 
@@ -215,7 +215,7 @@ package org.eclipse.jface.viewers.deferred;
 		sentObjects[toClear] = null;
 
 		if (lastClear >= pendingClears.length) {
-			int newCapacity = Math.min(MIN_FLUSHLENGTH, lastClear * 2);
+			int newCapacity = Math.max(MIN_FLUSHLENGTH, lastClear * 2);
 			int[] newPendingClears = new int[newCapacity];
 			System.arraycopy(pendingClears, 0, newPendingClears, 0, lastClear);
 			pendingClears = newPendingClears;
@@ -261,6 +261,33 @@ package org.eclipse.jface.viewers.deferred;
 		}
 	}
 
+	/**
+	 * Forgets the items on the given rows, since they may no longer be at their
+	 * sorted position. The rows are cleared in the table and will be requested
+	 * again when they become visible. May be called from a background thread.
+	 *
+	 * @param start first row to clear
+	 * @param end row after the last row to clear
+	 */
+	public void clearRange(int start, int end) {
+		synchronized(this) {
+			boolean changed = false;
+			int last = Math.min(end, knownObjects.length);
+			for (int idx = Math.max(start, 0); idx < last; idx++) {
+				Object oldObject = knownObjects[idx];
+				if (oldObject != null) {
+					knownIndices.remove(oldObject);
+					knownObjects[idx] = null;
+					pushClear(idx);
+					changed = true;
+				}
+			}
+			if (changed) {
+				scheduleUIUpdate();
+			}
+		}
+	}
+
 	/**
 	 * Schedules a UI update. Has no effect if an update has already been
 	 * scheduled.
@@ -304,7 +331,7 @@ package org.eclipse.jface.viewers.deferred;
 			// Resize the table if necessary
 			if (sentObjects.length != knownObjects.length) {
 				Object[] newSentObjects = new Object[knownObjects.length];
-				System.arraycopy(newSentObjects, 0, sentObjects, 0,
+				System.arraycopy(sentObjects, 0, newSentObjects, 0,
 						Math.min(newSentObjects.length, sentObjects.length));
 				sentObjects = newSentObjects;
 				table.setItemCount(newSentObjects.length);
@@ -362,9 +389,9 @@ package org.eclipse.jface.viewers.deferred;
 				int row = idx + start;
 
 				Object obj = knownObjects[row];
-				if (obj != null && obj != sentObjects[idx]) {
+				if (obj != null && obj != sentObjects[row]) {
 					table.replace(obj, row);
-					sentObjects[idx] = obj;
+					sentObjects[row] = obj;
 				}
 			}
 
@@ -16,6 +16,9 @@ package org.eclipse.jface.viewers.deferred;
 import java.util.Comparator;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.AcceptAllFilter;
 import org.eclipse.jface.viewers.IFilter;
 import org.eclipse.jface.viewers.ILazyContentProvider;
@@ -35,6 +38,14 @@ import org.eclipse.swt.widgets.Table;
  * </p>
  *
  * <p>
+ * By default, all rows are sorted whenever the model changes. For tables with
+ * a very large number of rows, {@link #setPrefetchSize(int)} restricts sorting
+ * to a window around the visible rows, and {@link #setLimit(int)} keeps only
+ * the top rows of the sort order. The progress of the background sort can be
+ * observed and canceled with {@link #setProgressMonitor(IProgressMonitor)}.
+ * </p>
+ *
+ * <p>
  * The real implementation is in <code>BackgroundContentProvider</code>. This
  * object is a lightweight wrapper that adapts the algorithm to work with
  * <code>TableViewer</code>.
@@ -45,6 +56,9 @@ import org.eclipse.swt.widgets.Table;
 public class DeferredContentProvider implements ILazyContentProvider {
 
 	private int limit = -1;
+	private int prefetchSize = -1;
+	private IProgressMonitor progressMonitor;
+	private SubMonitor progress = SubMonitor.convert(null);
 	private BackgroundContentProvider provider;
 	private Comparator sortOrder;
 	private IFilter filter = AcceptAllFilter.getInstance();
@@ -113,6 +127,11 @@ public class DeferredContentProvider implements ILazyContentProvider {
 	@Override
 	public void dispose() {
 		setProvider(null);
+		if (progressMonitor != null) {
+			progressMonitor.done();
+			progressMonitor = null;
+			progress = SubMonitor.convert(null);
+		}
 	}
 
 	@Override
@@ -135,6 +154,8 @@ public class DeferredContentProvider implements ILazyContentProvider {
 		setProvider(newProvider);
 
 		newProvider.setLimit(limit);
+		newProvider.setPrefetchSize(prefetchSize);
+		newProvider.setProgressMonitor(progress);
 		newProvider.setFilter(filter);
 	}
 
@@ -190,6 +211,62 @@ public class DeferredContentProvider implements ILazyContentProvider {
 		return limit;
 	}
 
+	/**
+	 * Sets the number of rows above and below the visible rows that are
+	 * sorted and sent to the table in the background. Rows outside of this
+	 * window are cleared and sorted when they are scrolled into view, which
+	 * keeps the cost of a change proportional to the window rather than to the
+	 * number of rows in the model. The default is -1, which sorts all rows.
+	 *
+	 * @param prefetchSize number of rows to sort around the visible rows, or
+	 *            -1 to sort all rows
+	 * @since 3.30
+	 */
+	public void setPrefetchSize(int prefetchSize) {
+		Assert.isTrue(prefetchSize >= -1);
+		this.prefetchSize = prefetchSize;
+		if (provider != null) {
+			provider.setPrefetchSize(prefetchSize);
+		}
+	}
+
+	/**
+	 * Returns the number of rows above and below the visible rows that are
+	 * sorted in the background.
+	 *
+	 * @return the number of rows or -1 if all rows are sorted
+	 * @since 3.30
+	 */
+	public int getPrefetchSize() {
+		return prefetchSize;
+	}
+
+	/**
+	 * Sets the progress monitor that receives the progress of the sorts done in
+	 * the background, for example the monitor of a job that shows the activity
+	 * to the user. Each sort is reported as a share of the remaining work of
+	 * the monitor. Canceling the monitor abandons the current sort and no
+	 * further sorts are reported to it; later changes to the model, the sort
+	 * order, the filter or the visible rows are still sorted. The monitor is
+	 * called from a background thread. Its task is begun here, and
+	 * <code>done()</code> is called when another monitor is set or when this
+	 * content provider is disposed.
+	 *
+	 * @param monitor the progress monitor, must not be <code>null</code>
+	 * @since 3.30
+	 */
+	public void setProgressMonitor(IProgressMonitor monitor) {
+		Assert.isNotNull(monitor);
+		if (progressMonitor != null) {
+			progressMonitor.done();
+		}
+		this.progressMonitor = monitor;
+		this.progress = SubMonitor.convert(monitor, JFaceResources.getString("Sorting"), 100); //$NON-NLS-1$
+		if (provider != null) {
+			provider.setProgressMonitor(progress);
+		}
+	}
+
 	@Override
 	public void updateElement(int element) {
 		if (provider != null) {
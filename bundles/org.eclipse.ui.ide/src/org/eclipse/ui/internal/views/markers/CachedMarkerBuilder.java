@@ -15,8 +15,11 @@
 package org.eclipse.ui.internal.views.markers;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.jobs.Job;
@@ -53,7 +56,6 @@ public class CachedMarkerBuilder {
 	private Markers markers;
 	private Markers markersClone;
 
-	final Object MARKER_INCREMENTAL_UPDATE_FAMILY = new Object();
 	final Object CACHE_UPDATE_FAMILY = new Object();
 	final Object MARKERSVIEW_UPDATE_JOB_FAMILY;
 
@@ -73,6 +75,10 @@ public class CachedMarkerBuilder {
 
 	private IMemento memento;
 
+	// the marker deltas received since the markers were collected, guarded by itself
+	private final List<MarkerUpdate> pendingUpdates = new ArrayList<>();
+
+	private volatile boolean regatherRequested;
 
 	/**
 	 * Create a new instance of the receiver. Update using the updateJob.
@@ -130,11 +136,7 @@ public class CachedMarkerBuilder {
 			PlatformUI.getWorkbench().getWorkingSetManager().removePropertyChangeListener(getWorkingSetListener());
 		}
 
-		if (isIncremental()) {
-			if (incrementJob != null) {
-				incrementJob.clearEntries();
-			}
-		}
+		clearRegatherRequest();
 	}
 
 	/**
@@ -298,6 +300,7 @@ public class CachedMarkerBuilder {
 	 */
 	void scheduleUpdate() {
 		if (active) {
+			requestRegather();
 			scheduler.scheduleUpdate(MarkerUpdateScheduler.SHORT_DELAY,true);
 		}
 	}
@@ -308,6 +311,7 @@ public class CachedMarkerBuilder {
 	 */
 	void scheduleUpdate(long delay) {
 		if (active) {
+			requestRegather();
 			scheduler.scheduleUpdate(delay,true);
 		}
 	}
@@ -451,10 +455,6 @@ public class CachedMarkerBuilder {
 				// ensure cancellation before calling the method
 				// updateJob.cancel();
 			} else {
-				/*
-				 * updateJob = isIncremental() ? new IncrementUpdateJob(this):
-				 * new MarkerUpdateJob(this);
-				 */
 				updateJob = new MarkerUpdateJob(this);
 				updateJob.setPriority(Job.LONG);
 				updateJob.setSystem(true);
@@ -597,20 +597,59 @@ public class CachedMarkerBuilder {
 	}
 
 ///////	<Incremental update code>///////
-		private IncrementUpdateJob incrementJob;
 	/**
-	 * Checks whether the builder should perform incrementally Note : Incremental
-	 * updating method is NOT used and tested yet but left out for further
-	 * investigation(*).
+	 * Request to collect all markers again on the next update, the pending marker
+	 * deltas are not needed then.
+	 */
+	void requestRegather() {
+		synchronized (pendingUpdates) {
+			regatherRequested = true;
+			pendingUpdates.clear();
+		}
+	}
+
+	/**
+	 * @return Returns true if all markers have to be collected again.
+	 */
+	boolean isRegatherRequested() {
+		return regatherRequested;
+	}
+
+	/**
+	 * Called before all markers are collected again. Deltas received from now on
+	 * are applied to the newly collected markers.
+	 */
+	void clearRegatherRequest() {
+		synchronized (pendingUpdates) {
+			regatherRequested = false;
+			pendingUpdates.clear();
+		}
+	}
+
+	/**
+	 * @return Returns and removes the marker deltas received since the last
+	 *         update, oldest first.
+	 */
+	Collection<MarkerUpdate> takePendingUpdates() {
+		synchronized (pendingUpdates) {
+			Collection<MarkerUpdate> updates = new ArrayList<>(pendingUpdates);
+			pendingUpdates.clear();
+			return updates;
+		}
+	}
+
+	/**
+	 * Put back marker deltas which were taken but could not be applied.
 	 *
-	 * @return Returns true if we should collect markers incrementally.
+	 * @param updates
+	 *            the deltas taken by {@link #takePendingUpdates()}
 	 */
-	boolean isIncremental() {
-		/*
-		 * We do not update incrementally. We have
-		 * code for further investigation(*) for this anyway.
-		 */
-		return false;
+	void restorePendingUpdates(Collection<MarkerUpdate> updates) {
+		synchronized (pendingUpdates) {
+			if (!regatherRequested) {
+				pendingUpdates.addAll(0, updates);
+			}
+		}
 	}
 
 	/**
@@ -643,14 +682,12 @@ public class CachedMarkerBuilder {
 	 * @param update
 	 */
 	void incrementalUpdate(MarkerUpdate update) {
-		synchronized (getUpdateScheduler().getSchedulingLock()) {
-			if (incrementJob == null) {
-				scheduleUpdateJob(MarkerUpdateScheduler.SHORT_DELAY, true);
+		synchronized (pendingUpdates) {
+			// a regather collects the changed markers anyway
+			if (!regatherRequested) {
+				pendingUpdates.add(update);
 			}
 		}
-		if (incrementJob != null) {
-			incrementJob.addUpdate(update);
-		}
 	}
 ///////	</Incremental update code>///////
 
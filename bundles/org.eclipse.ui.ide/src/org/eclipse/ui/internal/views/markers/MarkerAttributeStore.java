@@ -0,0 +1,447 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.views.markers;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.ui.views.markers.MarkerField;
+import org.eclipse.ui.views.markers.MarkerItem;
+
+/**
+ * The MarkerAttributeStore is a columnar snapshot of the marker attributes the
+ * built-in {@link MarkerField}s sort by. Each {@link MarkerEntry} of the
+ * snapshot is a row; severities and priorities are kept as primitives and the
+ * messages, paths, locations and type names are interned and replaced by their
+ * rank in the order of the field, so that comparing two entries is comparing
+ * two numbers.
+ * <p>
+ * A column is read from the markers the first time a comparator needs it, so
+ * changing the sort order again does not read any marker attribute. Fields
+ * that are not built in, or rows added after the snapshot was taken, are
+ * compared by the fields themselves.
+ * </p>
+ */
+class MarkerAttributeStore {
+
+	private enum Column {
+		SEVERITY, PRIORITY, LINE, LOCATION, MESSAGE, PATH, TYPE
+	}
+
+	// the value of a column that could not be read for all rows
+	private static final int[] UNAVAILABLE = new int[0];
+
+	private final MarkerEntry[] rows;
+
+	// the rows by entry, the entries may be shared with other snapshots
+	private final Map<MarkerEntry, Integer> rowIndex;
+
+	private final Map<Column, int[]> columns = new EnumMap<>(Column.class);
+
+	// the number of distinct messages
+	private int messageCount;
+
+	/**
+	 * Create a snapshot of entries.
+	 *
+	 * @param entries
+	 *            the entries, which become the rows of the receiver
+	 */
+	MarkerAttributeStore(MarkerEntry[] entries) {
+		rows = entries.clone();
+		rowIndex = new IdentityHashMap<>(rows.length);
+		for (int i = 0; i < rows.length; i++) {
+			rowIndex.put(rows[i], Integer.valueOf(i));
+		}
+	}
+
+	/**
+	 * @return the row of item or <code>-1</code> if it is not part of the
+	 *         receiver
+	 */
+	private int rowOf(MarkerItem item) {
+		Integer row = rowIndex.get(item);
+		return row == null ? -1 : row.intValue();
+	}
+
+	/**
+	 * Return a comparator equivalent to comparator that compares the entries of
+	 * the receiver by their columns.
+	 *
+	 * @param comparator
+	 * @param withCategory
+	 *            <code>true</code> to compare the category field first, as
+	 *            {@link MarkerComparator#compare(MarkerItem, MarkerItem)} does
+	 * @return {@link ColumnComparator}
+	 */
+	ColumnComparator getComparator(MarkerComparator comparator, boolean withCategory) {
+		List<MarkerField> fields = new ArrayList<>();
+		List<Boolean> descending = new ArrayList<>();
+		if (withCategory && comparator.getCategory() != null) {
+			fields.add(comparator.getCategory());
+			descending.add(Boolean.FALSE);
+		}
+		for (MarkerField field : comparator.getFields()) {
+			fields.add(field);
+			descending.add(Boolean.valueOf(comparator.descendingFields.contains(field)));
+		}
+		FieldComparator[] fieldComparators = new FieldComparator[fields.size()];
+		for (int i = 0; i < fieldComparators.length; i++) {
+			fieldComparators[i] = createFieldComparator(fields.get(i), descending.get(i).booleanValue());
+		}
+		return new ColumnComparator(fieldComparators);
+	}
+
+	private FieldComparator createFieldComparator(MarkerField field, boolean descending) {
+		// subclasses may compare differently, only the built-in fields are known
+		Class<?> fieldClass = field.getClass();
+		FieldComparator result;
+		if (fieldClass == MarkerSeverityField.class) {
+			int[] severities = getColumn(Column.SEVERITY);
+			result = severities == UNAVAILABLE ? null
+					: new FieldComparator(field, descending, true,
+							(row1, row2) -> Integer.compare(severities[row2], severities[row1]),
+							row -> -severities[row]);
+		} else if (fieldClass == MarkerSeverityAndDescriptionField.class
+				|| fieldClass == MarkerProblemSeverityAndMessageField.class) {
+			int[] severities = getColumn(Column.SEVERITY);
+			int[] messages = getColumn(Column.MESSAGE);
+			if (severities == UNAVAILABLE || messages == UNAVAILABLE) {
+				result = null;
+			} else {
+				int count = messageCount;
+				// severities are within a byte, combine them with the message
+				// ranks if the result fits into an int
+				boolean combined = 256L * count <= Integer.MAX_VALUE;
+				result = new FieldComparator(field, descending, combined, (row1, row2) -> {
+					int value = Integer.compare(severities[row2], severities[row1]);
+					return value == 0 ? Integer.compare(messages[row1], messages[row2]) : value;
+				}, combined ? row -> (127 - severities[row]) * count + messages[row] : row -> -severities[row]);
+			}
+		} else if (fieldClass == MarkerDescriptionField.class) {
+			result = createRankComparator(field, descending, Column.MESSAGE);
+		} else if (fieldClass == MarkerPathField.class) {
+			result = createRankComparator(field, descending, Column.PATH);
+		} else if (fieldClass == MarkerTypeField.class) {
+			result = createRankComparator(field, descending, Column.TYPE);
+		} else if (fieldClass == MarkerPriorityField.class) {
+			int[] priorities = getColumn(Column.PRIORITY);
+			result = priorities == UNAVAILABLE ? null
+					: new FieldComparator(field, descending, false,
+							(row1, row2) -> Integer.compare(priorities[row2], priorities[row1]), null);
+		} else if (fieldClass == MarkerLocationField.class) {
+			int[] locations = getColumn(Column.LOCATION);
+			int[] lines = getColumn(Column.LINE);
+			result = locations == UNAVAILABLE || lines == UNAVAILABLE ? null
+					: new FieldComparator(field, descending, false, (row1, row2) -> {
+						// an empty location has the rank -1, see MarkerLocationField
+						if (locations[row1] < 0 || locations[row2] < 0) {
+							return Integer.compare(lines[row1], lines[row2]);
+						}
+						return Integer.compare(locations[row1], locations[row2]);
+					}, null);
+		} else {
+			result = null;
+		}
+		return result == null ? new FieldComparator(field, descending, false, null, null) : result;
+	}
+
+	private FieldComparator createRankComparator(MarkerField field, boolean descending, Column column) {
+		int[] ranks = getColumn(column);
+		if (ranks == UNAVAILABLE) {
+			return null;
+		}
+		return new FieldComparator(field, descending, true, (row1, row2) -> Integer.compare(ranks[row1], ranks[row2]),
+				row -> ranks[row]);
+	}
+
+	/**
+	 * Returns an array of marker counts for the given entries as
+	 * {@link Markers#getMarkerCounts(MarkerEntry[])} does, read from the
+	 * severity column.
+	 *
+	 * @param entries
+	 * @return an array of {@link Integer} where index indicates
+	 *         [errors,warnings,infos,others] or <code>null</code> if not all
+	 *         entries are rows of the receiver
+	 */
+	Integer[] getMarkerCounts(MarkerEntry[] entries) {
+		int[] severities = getColumn(Column.SEVERITY);
+		if (severities == UNAVAILABLE) {
+			return null;
+		}
+		int[] ints = new int[] { 0, 0, 0, 0 };
+		for (MarkerEntry entry : entries) {
+			int row = rowOf(entry);
+			if (row < 0) {
+				return null;
+			}
+			int severity = severities[row];
+			if (severity >= IMarker.SEVERITY_INFO && severity <= IMarker.SEVERITY_ERROR) {
+				ints[severity]++;
+			} else {
+				ints[3]++;
+			}
+		}
+		return new Integer[] { ints[2], ints[1], ints[0], ints[3] };
+	}
+
+	private synchronized int[] getColumn(Column column) {
+		int[] values = columns.get(column);
+		if (values == null) {
+			try {
+				values = readColumn(column);
+			} catch (RuntimeException e) {
+				// values that the fields cannot compare either, let them fail
+				values = UNAVAILABLE;
+			}
+			for (MarkerEntry entry : rows) {
+				entry.clearCache();
+			}
+			columns.put(column, values);
+		}
+		return values;
+	}
+
+	private int[] readColumn(Column column) {
+		int[] values = new int[rows.length];
+		switch (column) {
+		case SEVERITY:
+			for (int i = 0; i < rows.length; i++) {
+				int severity = MarkerSupportInternalUtilities.getSeverity(rows[i]);
+				if (severity < Byte.MIN_VALUE || severity > Byte.MAX_VALUE) {
+					return UNAVAILABLE;
+				}
+				values[i] = severity;
+			}
+			return values;
+		case PRIORITY:
+			for (int i = 0; i < rows.length; i++) {
+				values[i] = rows[i].getAttributeValue(IMarker.PRIORITY, IMarker.PRIORITY_NORMAL);
+			}
+			return values;
+		case LINE:
+			for (int i = 0; i < rows.length; i++) {
+				values[i] = rows[i].getAttributeValue(IMarker.LINE_NUMBER, -1);
+			}
+			return values;
+		case LOCATION: {
+			String[] locations = new String[rows.length];
+			for (int i = 0; i < rows.length; i++) {
+				locations[i] = rows[i].getAttributeValue(IMarker.LOCATION, MarkerItemDefaults.LOCATION_DEFAULT);
+			}
+			int[] ranks = rank(locations, Comparator.naturalOrder());
+			for (int i = 0; i < rows.length; i++) {
+				if (locations[i].isEmpty()) {
+					ranks[i] = -1;
+				}
+			}
+			return ranks;
+		}
+		case MESSAGE: {
+			String[] messages = new String[rows.length];
+			for (int i = 0; i < rows.length; i++) {
+				messages[i] = rows[i].getAttributeValue(IMarker.MESSAGE,
+						MarkerSupportInternalUtilities.UNKNOWN_ATRRIBTE_VALUE_STRING);
+			}
+			// the same order as the collation keys of MarkerDescriptionField
+			Collator collator = Collator.getInstance();
+			Map<String, CollationKey> keys = new HashMap<>();
+			int[] ranks = rank(messages,
+					(message1, message2) -> keys.computeIfAbsent(message1, collator::getCollationKey)
+							.compareTo(keys.computeIfAbsent(message2, collator::getCollationKey)));
+			messageCount = Arrays.stream(ranks).max().orElse(0) + 1;
+			return ranks;
+		}
+		case PATH: {
+			String[] paths = new String[rows.length];
+			for (int i = 0; i < rows.length; i++) {
+				paths[i] = rows[i].getPath();
+			}
+			return rank(paths, Comparator.naturalOrder());
+		}
+		case TYPE: {
+			String[] typeNames = new String[rows.length];
+			for (int i = 0; i < rows.length; i++) {
+				typeNames[i] = rows[i].getMarkerTypeName();
+			}
+			return rank(typeNames, Comparator.naturalOrder());
+		}
+		default:
+			return UNAVAILABLE;
+		}
+	}
+
+	/**
+	 * Intern the values and replace them by the rank of their distinct value in
+	 * order, equal values having the same rank.
+	 *
+	 * @return the ranks of the values
+	 */
+	private static int[] rank(String[] values, Comparator<String> order) {
+		Map<String, Integer> ids = new HashMap<>();
+		List<String> distinct = new ArrayList<>();
+		int[] result = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			result[i] = ids.computeIfAbsent(values[i], value -> {
+				distinct.add(value);
+				return Integer.valueOf(distinct.size() - 1);
+			}).intValue();
+		}
+		String[] sorted = distinct.toArray(new String[distinct.size()]);
+		Arrays.sort(sorted, order);
+		int[] rankOfId = new int[sorted.length];
+		int rank = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (i > 0 && order.compare(sorted[i - 1], sorted[i]) != 0) {
+				rank++;
+			}
+			rankOfId[ids.get(sorted[i]).intValue()] = rank;
+		}
+		for (int i = 0; i < result.length; i++) {
+			result[i] = rankOfId[result[i]];
+		}
+		return result;
+	}
+
+	@FunctionalInterface
+	private interface RowComparator {
+		int compare(int row1, int row2);
+	}
+
+	@FunctionalInterface
+	private interface RowKey {
+		int key(int row);
+	}
+
+	/**
+	 * Compares the entries by a field, using the columns if both are rows of the
+	 * store and the field otherwise.
+	 */
+	private static final class FieldComparator {
+		final MarkerField field;
+		final boolean descending;
+		// whether the key orders the rows like the comparator
+		final boolean completeKey;
+		final RowComparator rowComparator;
+		final RowKey key;
+
+		FieldComparator(MarkerField field, boolean descending, boolean completeKey, RowComparator rowComparator,
+				RowKey key) {
+			this.field = field;
+			this.descending = descending;
+			this.completeKey = completeKey;
+			this.rowComparator = rowComparator;
+			this.key = key;
+		}
+
+		int compare(MarkerItem item1, int row1, MarkerItem item2, int row2) {
+			int value;
+			if (rowComparator != null && row1 >= 0 && row2 >= 0) {
+				value = rowComparator.compare(row1, row2);
+			} else {
+				value = field.compare(item1, item2);
+			}
+			return descending ? -value : value;
+		}
+
+		int key(int row) {
+			int value = key.key(row);
+			return descending ? -value : value;
+		}
+	}
+
+	/**
+	 * The ColumnComparator compares the entries like a {@link MarkerComparator}
+	 * but reads the values from the columns of the store.
+	 */
+	final class ColumnComparator implements Comparator<MarkerItem> {
+
+		private final FieldComparator[] fields;
+
+		ColumnComparator(FieldComparator[] fields) {
+			this.fields = fields;
+		}
+
+		@Override
+		public int compare(MarkerItem item1, MarkerItem item2) {
+			int row1 = rowOf(item1);
+			int row2 = rowOf(item2);
+			for (FieldComparator field : fields) {
+				int value = field.compare(item1, row1, item2, row2);
+				if (value != 0) {
+					return value;
+				}
+			}
+			return 0;
+		}
+
+		/**
+		 * Sort [from,to] in entries. If the first field has a key for the rows,
+		 * the entries are sorted by a parallel sort of the keys, and only the
+		 * entries with equal keys are compared by the other fields. The sort is
+		 * stable like {@link Arrays#sort(Object[], Comparator)}.
+		 *
+		 * @param entries
+		 * @param from
+		 * @param to
+		 */
+		void sort(MarkerEntry[] entries, int from, int to) {
+			int length = to - from + 1;
+			FieldComparator first = fields.length == 0 ? null : fields[0];
+			if (first == null || first.key == null || first.rowComparator == null || length < 2) {
+				Arrays.sort(entries, from, to + 1, this);
+				return;
+			}
+			long[] keys = new long[length];
+			for (int i = 0; i < length; i++) {
+				int row = rowOf(entries[from + i]);
+				if (row < 0) {
+					Arrays.sort(entries, from, to + 1, this);
+					return;
+				}
+				// the index in the lower half keeps the sort stable
+				keys[i] = ((long) first.key(row) << 32) | i;
+			}
+			Arrays.parallelSort(keys);
+			MarkerEntry[] sorted = new MarkerEntry[length];
+			for (int i = 0; i < length; i++) {
+				sorted[i] = entries[from + (int) keys[i]];
+			}
+			System.arraycopy(sorted, 0, entries, from, length);
+			if (first.completeKey && fields.length == 1) {
+				return;
+			}
+			int runStart = 0;
+			for (int i = 1; i <= length; i++) {
+				if (i == length || (keys[i] >> 32) != (keys[runStart] >> 32)) {
+					if (i - runStart > 1) {
+						Arrays.sort(entries, from + runStart, from + i, this);
+					}
+					runStart = i;
+				}
+			}
+		}
+	}
+}
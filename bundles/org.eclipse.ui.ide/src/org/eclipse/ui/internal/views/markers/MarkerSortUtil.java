@@ -328,8 +328,12 @@ public class MarkerSortUtil {
 		int n=to-from+1;
 		if (BATCH_SIZE == Integer.MAX_VALUE || (n <= BATCH_SIZE && (((float) n / k) <= MERGE_OR_HEAP_SWITCH))
 				/*|| ((float) n / k) <= MERGE_OR_HEAP_SWITCH*/) {
-			// use arrays sort
-			Arrays.sort(entries, from, to + 1, comparator);
+			// use arrays sort, or sort the keys of the attribute store
+			if (comparator instanceof MarkerAttributeStore.ColumnComparator columnComparator) {
+				columnComparator.sort(entries, from, to);
+			} else {
+				Arrays.sort(entries, from, to + 1, comparator);
+			}
 			// clear cache for first to middle since we are done with sort
 			for (int i = from; i <= to; i++) {
 				entries[i].clearCache();
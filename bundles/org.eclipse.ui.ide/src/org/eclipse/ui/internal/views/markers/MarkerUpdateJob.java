@@ -56,7 +56,8 @@ class MarkerUpdateJob extends Job {
 	}
 
 	/**
-	 * gather all markers needed by the view.
+	 * gather all markers needed by the view, or apply the marker deltas received
+	 * since the last update if no clean is needed.
 	 *
 	 * @param monitor
 	 */
@@ -69,10 +70,27 @@ class MarkerUpdateJob extends Job {
 		// builder.getUpdateScheduler().indicateStatus(
 		// MarkerMessages.MarkerView_searching_for_markers, false);
 
+		if (!builder.isRegatherRequested()) {
+			monitor.setTaskName(MarkerMessages.MarkerView_processUpdates);
+			Collection<MarkerUpdate> updates = builder.takePendingUpdates();
+			if (builder.getMarkers().applyUpdates(updates, monitor)) {
+				finishUpdate(monitor);
+				return;
+			}
+			if (monitor.isCanceled()) {
+				// apply them with the next update
+				builder.restorePendingUpdates(updates);
+				return;
+			}
+			// the deltas cannot be applied, collect all markers instead
+		}
+
+		// deltas received from now on are applied after the markers are collected
+		builder.clearRegatherRequest();
 		Collection<MarkerEntry> markerEntries = new LinkedList<>();
-		//this is not incremental clean every time
 		clean = !clean(markerEntries, monitor);
 		if (monitor.isCanceled()) {
+			builder.requestRegather();
 			return;
 		}
 		// builder.getUpdateScheduler().indicateStatus(
@@ -80,8 +98,13 @@ class MarkerUpdateJob extends Job {
 
 		monitor.setTaskName(MarkerMessages.MarkerView_processUpdates);
 		if (!processMarkerEntries(markerEntries, monitor)) {
+			builder.requestRegather();
 			return;
 		}
+		finishUpdate(monitor);
+	}
+
+	private void finishUpdate(IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
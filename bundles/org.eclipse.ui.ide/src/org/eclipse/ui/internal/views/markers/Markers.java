@@ -21,10 +21,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.core.resources.IMarker;
@@ -52,6 +55,10 @@ class Markers {
 	private volatile MarkerEntry[] markerEntryArray = EMPTY_ENTRY_ARRAY;
 	// the categories
 	private volatile MarkerCategory[] categories = EMPTY_CATEGORY_ARRAY;
+	// the grouping entries of the categories, in the same order
+	private MarkerGroupingEntry[] categoryGroupingEntries = new MarkerGroupingEntry[0];
+	// the group the categories were made with or null if not grouped
+	private MarkerGroup categoryGroup;
 
 	private CachedMarkerBuilder builder;
 
@@ -61,6 +68,8 @@ class Markers {
 	// corresponding entry
 	private Map<IMarker, MarkerEntry> markerToEntryMap;
 	private Integer[] markerCounts;
+	// the attributes of the entries to sort by, created lazily
+	private volatile MarkerAttributeStore attributeStore;
 
 	Markers(CachedMarkerBuilder builder) {
 		this.builder = builder;
@@ -85,8 +94,10 @@ class Markers {
 				markerToEntryMap = null;
 			}
 			markerCounts = null;
+			attributeStore = null;
 			if (markerEntries.isEmpty()) {
-				categories = EMPTY_CATEGORY_ARRAY;
+				setCategories(EMPTY_CATEGORY_ARRAY, new MarkerGroupingEntry[0],
+						builder.isShowingHierarchy() ? builder.getCategoryGroup() : null);
 				markerEntryArray = EMPTY_ENTRY_ARRAY;
 				return true;
 			}
@@ -106,7 +117,7 @@ class Markers {
 					return false;
 				}
 			} else {
-				categories = EMPTY_CATEGORY_ARRAY;
+				setCategories(EMPTY_CATEGORY_ARRAY, new MarkerGroupingEntry[0], null);
 			}
 			return true;
 		} finally {
@@ -114,6 +125,295 @@ class Markers {
 		}
 	}
 
+	/**
+	 * Apply the marker deltas to the collected markers, keeping them sorted and
+	 * grouped, instead of collecting all markers again. Only the categories that
+	 * received or lost markers are touched.
+	 * <p>
+	 * The deltas may overlap with what was collected already: an added marker
+	 * that is known replaces its entry, a removed marker that is not known is
+	 * ignored.
+	 * </p>
+	 *
+	 * @param updates
+	 *            the marker deltas in the order they were received
+	 * @param monitor
+	 * @return <code>true</code> if the deltas were applied, <code>false</code>
+	 *         if the monitor was canceled, the markers are unchanged then, or
+	 *         if the markers have to be collected again
+	 */
+	synchronized boolean applyUpdates(Collection<MarkerUpdate> updates, IProgressMonitor monitor) {
+		if (updates.isEmpty()) {
+			return true;
+		}
+		MarkerContentGenerator generator = builder.getGenerator();
+		MarkerGroup group = builder.isShowingHierarchy() ? builder.getCategoryGroup() : null;
+		if (generator == null || group != categoryGroup) {
+			// categories of another grouping, nothing to update incrementally
+			return false;
+		}
+		boolean initialVal = inChange;
+		try {
+			inChange = true;
+			Map<IMarker, MarkerEntry> entryMap = getMarkerToEntryMap();
+			Set<MarkerEntry> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+			Map<IMarker, MarkerEntry> added = new LinkedHashMap<>();
+			for (MarkerUpdate update : updates) {
+				for (MarkerEntry entry : update.removed) {
+					IMarker marker = entry.getMarker();
+					added.remove(marker);
+					MarkerEntry oldEntry = entryMap.get(marker);
+					if (oldEntry != null) {
+						removed.add(oldEntry);
+					}
+				}
+				addEntries(update.added, entryMap, removed, added, generator);
+				addEntries(update.changed, entryMap, removed, added, generator);
+				if (monitor.isCanceled()) {
+					return false;
+				}
+			}
+			if (removed.isEmpty() && added.isEmpty()) {
+				return true;
+			}
+
+			MarkerEntry[] entries = markerEntryArray;
+			MarkerComparator markerComparator = builder.getComparator();
+			if (group == null) {
+				MarkerEntry[] newEntries = updateRange(entries, 0, entries.length - 1, removed,
+						new ArrayList<>(added.values()), getComparator(markerComparator, true), monitor);
+				if (monitor.isCanceled()) {
+					return false;
+				}
+				markerEntryArray = newEntries;
+			} else if (!updateCategories(entries, removed, added.values(), group,
+					getComparator(markerComparator, false), monitor)) {
+				return false;
+			}
+			if (!added.isEmpty()) {
+				// the new entries are not in the store, take a new snapshot
+				// when sorting again
+				attributeStore = null;
+			}
+			for (MarkerEntry entry : removed) {
+				entryMap.remove(entry.getMarker());
+			}
+			entryMap.putAll(added);
+			markerCounts = null;
+			for (MarkerEntry entry : added.values()) {
+				entry.clearCache();
+			}
+			MarkerEntry.clearCollationCache();
+			return true;
+		} catch (IllegalArgumentException e) {
+			// broken comparator, see sortMarkerEntries
+			IDEWorkbenchPlugin.log("Bug 371586: broken comparator", e); //$NON-NLS-1$
+			return false;
+		} finally {
+			inChange = initialVal;
+		}
+	}
+
+	/**
+	 * Replace the known entries of the markers and select the new entries which
+	 * pass the filters of the generator.
+	 */
+	private static void addEntries(Collection<MarkerEntry> entries, Map<IMarker, MarkerEntry> entryMap,
+			Set<MarkerEntry> removed, Map<IMarker, MarkerEntry> added, MarkerContentGenerator generator) {
+		for (MarkerEntry entry : entries) {
+			IMarker marker = entry.getMarker();
+			MarkerEntry oldEntry = entryMap.get(marker);
+			if (oldEntry != null) {
+				removed.add(oldEntry);
+			}
+			if (marker.exists() && generator.select(entry)) {
+				added.put(marker, entry);
+			} else {
+				added.remove(marker);
+			}
+		}
+	}
+
+	/**
+	 * Rebuild the entries from the categories, adding the new entries to the
+	 * categories of their group and removing the categories which became empty.
+	 */
+	private boolean updateCategories(MarkerEntry[] entries, Set<MarkerEntry> removed,
+			Collection<MarkerEntry> added, MarkerGroup group, Comparator<MarkerItem> comparator,
+			IProgressMonitor monitor) {
+		TreeMap<MarkerGroupingEntry, List<MarkerEntry>> addedByGroup = new TreeMap<>(
+				group.getEntriesComparator());
+		for (MarkerEntry entry : added) {
+			try {
+				IMarker marker = entry.getMarker();
+				MarkerGroupingEntry groupingEntry = group.findGroupValue(marker.getType(), marker);
+				addedByGroup.computeIfAbsent(groupingEntry, key -> new ArrayList<>()).add(entry);
+			} catch (CoreException e) {
+				entry.checkIfMarkerStale();
+			}
+		}
+
+		TreeMap<MarkerGroupingEntry, MarkerEntry[]> ranges = new TreeMap<>(group.getEntriesComparator());
+		MarkerCategory[] oldCategories = categories;
+		MarkerGroupingEntry[] groupingEntries = categoryGroupingEntries;
+		for (int i = 0; i < oldCategories.length; i++) {
+			if (monitor.isCanceled()) {
+				return false;
+			}
+			MarkerCategory category = oldCategories[i];
+			List<MarkerEntry> addedToCategory = addedByGroup.remove(groupingEntries[i]);
+			ranges.put(groupingEntries[i], updateRange(entries, category.start, category.end, removed,
+					addedToCategory == null ? Collections.emptyList() : addedToCategory, comparator, monitor));
+		}
+		for (Entry<MarkerGroupingEntry, List<MarkerEntry>> entry : addedByGroup.entrySet()) {
+			ranges.put(entry.getKey(), updateRange(entries, 0, -1, removed, entry.getValue(), comparator, monitor));
+		}
+		if (monitor.isCanceled()) {
+			return false;
+		}
+
+		int size = 0;
+		for (MarkerEntry[] range : ranges.values()) {
+			size += range.length;
+		}
+		MarkerEntry[] newEntries = new MarkerEntry[size];
+		List<MarkerCategory> newCategories = new ArrayList<>(ranges.size());
+		List<MarkerGroupingEntry> newGroupingEntries = new ArrayList<>(ranges.size());
+		int start = 0;
+		for (Entry<MarkerGroupingEntry, MarkerEntry[]> entry : ranges.entrySet()) {
+			MarkerEntry[] range = entry.getValue();
+			if (range.length == 0) {
+				continue;
+			}
+			System.arraycopy(range, 0, newEntries, start, range.length);
+			newCategories.add(new MarkerCategory(this, start, start + range.length - 1,
+					group.getMarkerField().getValue(range[0])));
+			newGroupingEntries.add(entry.getKey());
+			start += range.length;
+		}
+		markerEntryArray = newEntries;
+		setCategories(newCategories.toArray(EMPTY_CATEGORY_ARRAY),
+				newGroupingEntries.toArray(new MarkerGroupingEntry[newGroupingEntries.size()]), group);
+		return true;
+	}
+
+	/**
+	 * Update the entries in [start,end], which are sorted up to the showing limit
+	 * as done by {@link #sortMarkerEntries(IProgressMonitor)}. The sorted entries
+	 * are merged with the sorted new entries; the entries beyond the limit are
+	 * only selected again if removed entries leave a gap in the sorted ones.
+	 *
+	 * @return the updated entries, sorted up to the showing limit
+	 */
+	private MarkerEntry[] updateRange(MarkerEntry[] entries, int start, int end, Set<MarkerEntry> removed,
+			List<MarkerEntry> added, Comparator<MarkerItem> comparator, IProgressMonitor monitor) {
+		int sortedCount = getShowingLimit(end - start + 1);
+		List<MarkerEntry> sorted = new ArrayList<>(sortedCount + added.size());
+		List<MarkerEntry> rest = new ArrayList<>();
+		boolean sortedRemoved = false;
+		for (int i = start; i <= end; i++) {
+			MarkerEntry entry = entries[i];
+			if (removed.contains(entry)) {
+				sortedRemoved |= i - start < sortedCount;
+			} else if (i - start < sortedCount) {
+				sorted.add(entry);
+			} else {
+				rest.add(entry);
+			}
+		}
+
+		if (sortedRemoved && !rest.isEmpty()) {
+			// the next entries to show are unsorted, select them again
+			MarkerEntry[] result = new MarkerEntry[sorted.size() + rest.size() + added.size()];
+			int i = 0;
+			for (MarkerEntry entry : sorted) {
+				result[i++] = entry;
+			}
+			for (MarkerEntry entry : rest) {
+				result[i++] = entry;
+			}
+			for (MarkerEntry entry : added) {
+				result[i++] = entry;
+			}
+			MarkerSortUtil.sortStartingKElement(result, comparator, 0, result.length - 1,
+					getShowingLimit(result.length), monitor);
+			return result;
+		}
+
+		List<MarkerEntry> newSorted = new ArrayList<>(added);
+		newSorted.sort(comparator);
+		if (!rest.isEmpty()) {
+			// entries after the last sorted one belong to the unsorted rest
+			MarkerEntry last = sorted.get(sorted.size() - 1);
+			int split = newSorted.size();
+			while (split > 0 && comparator.compare(newSorted.get(split - 1), last) >= 0) {
+				split--;
+			}
+			rest.addAll(newSorted.subList(split, newSorted.size()));
+			newSorted = newSorted.subList(0, split);
+		}
+		// all merged entries are sorted and not greater than the rest
+		List<MarkerEntry> merged = merge(sorted, newSorted, comparator);
+		MarkerEntry[] result = new MarkerEntry[merged.size() + rest.size()];
+		int i = 0;
+		for (MarkerEntry entry : merged) {
+			result[i++] = entry;
+		}
+		for (MarkerEntry entry : rest) {
+			result[i++] = entry;
+		}
+		return result;
+	}
+
+	private static List<MarkerEntry> merge(List<MarkerEntry> first, List<MarkerEntry> second,
+			Comparator<MarkerItem> comparator) {
+		if (second.isEmpty()) {
+			return first;
+		}
+		List<MarkerEntry> merged = new ArrayList<>(first.size() + second.size());
+		int i = 0;
+		int j = 0;
+		while (i < first.size() && j < second.size()) {
+			// keep known entries first on ties
+			if (comparator.compare(second.get(j), first.get(i)) < 0) {
+				merged.add(second.get(j++));
+			} else {
+				merged.add(first.get(i++));
+			}
+		}
+		merged.addAll(first.subList(i, first.size()));
+		merged.addAll(second.subList(j, second.size()));
+		return merged;
+	}
+
+	/**
+	 * @return the comparator of the builder, comparing the entries of the
+	 *         attribute store by their columns if there is one
+	 */
+	private Comparator<MarkerItem> getComparator(MarkerComparator markerComparator, boolean withCategory) {
+		MarkerAttributeStore store = attributeStore;
+		if (store != null) {
+			return store.getComparator(markerComparator, withCategory);
+		}
+		return withCategory ? markerComparator : markerComparator.getFieldsComparator();
+	}
+
+	/**
+	 * @return the map from the markers to their entries, created lazily
+	 */
+	private Map<IMarker, MarkerEntry> getMarkerToEntryMap() {
+		if (markerToEntryMap == null) {
+			markerToEntryMap = new HashMap<>();
+			for (MarkerEntry markerEntry : markerEntryArray) {
+				IMarker nextMarker = markerEntry.getMarker();
+				if (nextMarker != null) {
+					markerToEntryMap.put(nextMarker, markerEntry);
+				}
+			}
+		}
+		return markerToEntryMap;
+	}
+
 	/**
 	 * Sort the contained marker entries and build categories if required.
 	 *
@@ -125,10 +425,9 @@ class Markers {
 			inChange = true;
 			// Sort by Category first
 			if (builder.isShowingHierarchy()) {
-				MarkerCategory[] markerCategories = groupIntoCategories(monitor, markerEntryArray);
-				categories = markerCategories;
+				groupIntoCategories(monitor, markerEntryArray);
 			} else {
-				categories = EMPTY_CATEGORY_ARRAY;
+				setCategories(EMPTY_CATEGORY_ARRAY, new MarkerGroupingEntry[0], null);
 			}
 
 			if (monitor.isCanceled()) {
@@ -154,8 +453,11 @@ class Markers {
 		MarkerCategory lastCategory = null;
 		try {
 			inChange = true;
+			if (attributeStore == null) {
+				attributeStore = new MarkerAttributeStore(markerEntryArray);
+			}
 			if (builder.isShowingHierarchy()) {
-				Comparator<MarkerItem> comparator = markerComparator.getFieldsComparator();
+				Comparator<MarkerItem> comparator = attributeStore.getComparator(markerComparator, false);
 				for (MarkerCategory category : categories) {
 					if (monitor.isCanceled()) {
 						return false;
@@ -176,7 +478,7 @@ class Markers {
 				int avaialble = markerEntryArray.length - 1;
 				int effLimit = getShowingLimit(avaialble);
 				MarkerSortUtil.sortStartingKElement(markerEntryArray,
-						markerComparator, effLimit, monitor);
+						attributeStore.getComparator(markerComparator, true), effLimit, monitor);
 			}
 			if (monitor.isCanceled()) {
 				return false;
@@ -223,23 +525,31 @@ class Markers {
 	 *
 	 * @param monitor
 	 * @param newMarkers
-	 * @return MarkerCategory
 	 */
-	private MarkerCategory[] groupIntoCategories(IProgressMonitor monitor, MarkerEntry[] newMarkers) {
+	private void groupIntoCategories(IProgressMonitor monitor, MarkerEntry[] newMarkers) {
+		MarkerGroup group = builder.getCategoryGroup();
 		Map<MarkerGroupingEntry, Integer> boundaryInfoMap = groupMarkerEntries(newMarkers,
-				builder.getCategoryGroup(), newMarkers.length - 1, monitor);
+				group, newMarkers.length - 1, monitor);
 		int start = 0;
 		MarkerCategory[] markerCategories = new MarkerCategory[boundaryInfoMap.size()];
+		MarkerGroupingEntry[] groupingEntries = new MarkerGroupingEntry[boundaryInfoMap.size()];
 		int i = 0;
 		int end = 0;
 		for (Entry<MarkerGroupingEntry, Integer> entry : boundaryInfoMap.entrySet()) {
 			end = entry.getValue();
+			groupingEntries[i] = entry.getKey();
 			markerCategories[i++] = new MarkerCategory(this, start, end,
-					builder.getCategoryGroup().getMarkerField()
-							.getValue(newMarkers[start]));
+					group.getMarkerField().getValue(newMarkers[start]));
 			start = end + 1;
 		}
-		return markerCategories;
+		setCategories(markerCategories, groupingEntries, group);
+	}
+
+	private void setCategories(MarkerCategory[] markerCategories, MarkerGroupingEntry[] groupingEntries,
+			MarkerGroup group) {
+		categories = markerCategories;
+		categoryGroupingEntries = groupingEntries;
+		categoryGroup = group;
 	}
 
 	/**
@@ -303,7 +613,9 @@ class Markers {
 	 */
 	Integer[] getMarkerCounts() {
 		if (markerCounts == null) {
-			markerCounts = getMarkerCounts(markerEntryArray);
+			MarkerAttributeStore store = attributeStore;
+			Integer[] counts = store == null ? null : store.getMarkerCounts(markerEntryArray);
+			markerCounts = counts == null ? getMarkerCounts(markerEntryArray) : counts;
 		}
 		return markerCounts;
 	}
@@ -346,16 +658,7 @@ class Markers {
 	 * @return {@link MarkerItem}
 	 */
 	public synchronized MarkerItem getMarkerItem(IMarker marker) {
-		if (markerToEntryMap == null) {
-			markerToEntryMap = new HashMap<>();
-			for (MarkerEntry markerEntry : markerEntryArray) {
-				IMarker nextMarker = markerEntry.getMarker();
-				if (nextMarker != null) {
-					markerToEntryMap.put(nextMarker, markerEntry);
-				}
-			}
-		}
-		return markerToEntryMap.get(marker);
+		return getMarkerToEntryMap().get(marker);
 	}
 
 	/**
@@ -397,6 +700,7 @@ class Markers {
 		if (!inChange) {
 			markers.markerEntryArray = markerEntryArray.clone();
 			markers.categories = categories.clone();
+			markers.attributeStore = attributeStore;
 		}
 		return markers;
 	}
@@ -135,10 +135,6 @@ class MarkersChangeListener implements IResourceChangeListener {
 			// return;
 			// }
 
-			if (!builder.isIncremental()) {
-				handleMarkerChange(event);
-				return;
-			}
 			handleIncrementalChange(event);
 		} finally {
 			setReceivingChange(false);
@@ -160,14 +156,6 @@ class MarkersChangeListener implements IResourceChangeListener {
 		this.receiving = receiving;
 	}
 
-	/**
-	 * Handle marker change event
-	 * @param event
-	 */
-	private void handleMarkerChange(IResourceChangeEvent event) {
-		builder.getUpdateScheduler().scheduleUpdate();
-	}
-
 	/**
 	 * Markers have not changed
 	 */
@@ -181,10 +169,9 @@ class MarkersChangeListener implements IResourceChangeListener {
 	 * of the markers that were gathered initially, and keeps them synched at
 	 * any point with the markers of interest in Workspace. Unfortunately marker
 	 * operations cannot be locked so locking between gathering of markers and
-	 * marker deltas is not possible.
-	 *
-	 * Note : this method of updating is NOT used and tested yet and has holes
-	 * but left out SOLELY for further investigation(*).
+	 * marker deltas is not possible; the deltas are therefore applied such that
+	 * a delta already contained in the gathered markers does no harm, see
+	 * {@link Markers#applyUpdates(Collection, org.eclipse.core.runtime.IProgressMonitor)}.
 	 *
 	 * @param event
 	 */
@@ -24,6 +24,8 @@ import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.resource.ResourceStatistics;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
@@ -503,6 +505,15 @@ public class HeapStatus extends Composite {
 		String markStr = mark == -1 ? WorkbenchMessages.HeapStatus_noMark : convertToMegString(mark);
 		String toolTip = NLS.bind(WorkbenchMessages.HeapStatus_memoryToolTip,
 				new Object[] { usedStr, totalStr, maxStr, markStr });
+		ResourceStatistics resources = JFaceResources.getResourceStatistics(getDisplay());
+		if (resources != null) {
+			toolTip += NLS.bind(WorkbenchMessages.HeapStatus_resourcesToolTip,
+					new Object[] { Integer.valueOf(resources.getResourceCount()),
+							Integer.valueOf(resources.getHandleCount()), convertToMegString(resources.getBytes()),
+							Integer.valueOf(resources.getCachedResourceCount()),
+							convertToMegString(resources.getCachedBytes()), Long.valueOf(resources.getHits()),
+							Long.valueOf(resources.getMisses()), Long.valueOf(resources.getEvictions()) });
+		}
 		if (!toolTip.equals(getToolTipText())) {
 			setToolTipText(toolTip);
 		}
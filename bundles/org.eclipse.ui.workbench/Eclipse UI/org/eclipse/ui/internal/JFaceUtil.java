@@ -14,14 +14,21 @@
 
 package org.eclipse.ui.internal;
 
+import java.io.IOException;
+
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobFunction;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.NodeChangeEvent;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.preference.JFacePreferences;
+import org.eclipse.jface.resource.PersistentImageCache;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.SafeRunnable;
 import org.eclipse.jface.util.StatusHandler;
@@ -36,6 +43,12 @@ import org.eclipse.ui.statushandlers.StatusManager;
  */
 final class JFaceUtil {
 
+	/**
+	 * The name of the file in the workbench state location that holds the
+	 * persistent image cache.
+	 */
+	private static final String IMAGE_CACHE_FILE = "imagecache.pack"; //$NON-NLS-1$
+
 	private JFaceUtil() {
 		// prevents instantiation
 	}
@@ -123,4 +136,41 @@ final class JFaceUtil {
 
 		JFacePreferences.setPreferenceStore(WorkbenchPlugin.getDefault().getPreferenceStore());
 	}
+
+	/**
+	 * Opens the persistent image cache in the workbench state location, so that
+	 * the images used during startup are not decoded again, and reads it into
+	 * memory in the background.
+	 */
+	public static void initializeImageCache() {
+		IPath location = WorkbenchPlugin.getDefault().getDataLocation();
+		if (location == null) {
+			return;
+		}
+		PersistentImageCache cache = PersistentImageCache.open(location.append(IMAGE_CACHE_FILE).toFile().toPath());
+		PersistentImageCache.setDefault(cache);
+		Job preload = Job.create("Preload image cache", (IJobFunction) monitor -> { //$NON-NLS-1$
+			cache.preload();
+			return Status.OK_STATUS;
+		});
+		preload.setSystem(true);
+		preload.setPriority(Job.SHORT);
+		preload.schedule();
+	}
+
+	/**
+	 * Saves the images used in this session to the persistent image cache.
+	 */
+	public static void saveImageCache() {
+		PersistentImageCache cache = PersistentImageCache.getDefault();
+		if (cache == null) {
+			return;
+		}
+		PersistentImageCache.setDefault(null);
+		try {
+			cache.save();
+		} catch (IOException e) {
+			WorkbenchPlugin.log("Unable to save the image cache", e); //$NON-NLS-1$
+		}
+	}
 }
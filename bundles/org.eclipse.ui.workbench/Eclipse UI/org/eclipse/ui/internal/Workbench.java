@@ -1568,6 +1568,9 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 		// Set up the JFace preference store
 		JFaceUtil.initializeJFacePreferences();
 
+		// Take the images used during startup from the persistent image cache
+		JFaceUtil.initializeImageCache();
+
 		// TODO Correctly order service initialization
 		// there needs to be some serious consideration given to
 		// the services, and hooking them up in the correct order
@@ -2182,6 +2185,9 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 			public void runWithException() {
 				Command.DEBUG_COMMAND_EXECUTION = Policy.DEBUG_COMMANDS;
 				commandManager = e4Context.get(CommandManager.class);
+				if (Policy.DEBUG_COMMANDS_STATISTICS) {
+					commandManager.getExecutionStatistics().setEnabled(true);
+				}
 			}
 		});
 
@@ -2963,6 +2969,7 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 		// shutdown the rest of the workbench
 		activityHelper.shutdown();
 		uninitializeImages();
+		JFaceUtil.saveImageCache();
 		if (WorkbenchPlugin.getDefault() != null) {
 			WorkbenchPlugin.getDefault().reset();
 		}
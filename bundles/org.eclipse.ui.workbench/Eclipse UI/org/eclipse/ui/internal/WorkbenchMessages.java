@@ -864,6 +864,7 @@ public class WorkbenchMessages extends NLS {
 	public static String HeapStatus_status;
 	public static String HeapStatus_widthStr;
 	public static String HeapStatus_memoryToolTip;
+	public static String HeapStatus_resourcesToolTip;
 	public static String HeapStatus_meg;
 	public static String HeapStatus_maxUnknown;
 	public static String HeapStatus_noMark;
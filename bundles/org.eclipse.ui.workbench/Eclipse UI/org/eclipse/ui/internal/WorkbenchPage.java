@@ -2589,10 +2589,16 @@ public class WorkbenchPage implements IWorkbenchPage {
 			ActionSetRegistry reg = WorkbenchPlugin.getDefault().getActionSetRegistry();
 
 			IActionSetDescriptor desc = reg.findActionSet(actionSetID);
-			if (desc != null) {
-				persp.removeActionSet(desc);
+			IContextService service = legacyWindow.getService(IContextService.class);
+			try {
+				service.deferUpdates(true);
+				if (desc != null) {
+					persp.removeActionSet(desc);
+				}
+				legacyWindow.updateActionSets();
+			} finally {
+				service.deferUpdates(false);
 			}
-			legacyWindow.updateActionSets();
 			legacyWindow.firePerspectiveChanged(this, getPerspective(), CHANGE_ACTION_SET_HIDE);
 		}
 		String tag = ModeledPageLayout.ACTION_SET_TAG + actionSetID;
@@ -2971,25 +2977,32 @@ public class WorkbenchPage implements IWorkbenchPage {
 		hiddenParts.removeAll(ignoredParts);
 		visibleParts.removeAll(ignoredParts);
 
-		for (MPart hiddenPart2 : hiddenParts) {
-			firePartHidden(hiddenPart2);
-		}
+		// apply all context changes of the switch as a single update
+		IContextService service = legacyWindow.getService(IContextService.class);
+		try {
+			service.deferUpdates(true);
+			for (MPart hiddenPart2 : hiddenParts) {
+				firePartHidden(hiddenPart2);
+			}
 
-		for (MPart visiblePart : visibleParts) {
-			firePartVisible(visiblePart);
-		}
+			for (MPart visiblePart : visibleParts) {
+				firePartVisible(visiblePart);
+			}
 
-		updateActionSets(getPerspective(oldPersp), getPerspective(newPersp));
+			updateActionSets(getPerspective(oldPersp), getPerspective(newPersp));
 
-		// might've been set to null if we were closing the perspective
-		if (newPersp != null) {
-			IPerspectiveDescriptor perspective = getPerspectiveDesc(newPersp.getElementId());
-			legacyWindow.firePerspectiveActivated(WorkbenchPage.this, perspective);
+			// might've been set to null if we were closing the perspective
+			if (newPersp != null) {
+				IPerspectiveDescriptor perspective = getPerspectiveDesc(newPersp.getElementId());
+				legacyWindow.firePerspectiveActivated(WorkbenchPage.this, perspective);
 
-			sortedPerspectives.remove(perspective);
-			sortedPerspectives.add(perspective);
+				sortedPerspectives.remove(perspective);
+				sortedPerspectives.add(perspective);
+			}
+			legacyWindow.updateActionSets();
+		} finally {
+			service.deferUpdates(false);
 		}
-		legacyWindow.updateActionSets();
 	};
 
 	/**
@@ -4219,8 +4232,14 @@ public class WorkbenchPage implements IWorkbenchPage {
 						return;
 					}
 				}
-				persp.addActionSet(desc);
-				legacyWindow.updateActionSets();
+				IContextService service = legacyWindow.getService(IContextService.class);
+				try {
+					service.deferUpdates(true);
+					persp.addActionSet(desc);
+					legacyWindow.updateActionSets();
+				} finally {
+					service.deferUpdates(false);
+				}
 				legacyWindow.firePerspectiveChanged(this, getPerspective(), CHANGE_ACTION_SET_SHOW);
 			}
 		}
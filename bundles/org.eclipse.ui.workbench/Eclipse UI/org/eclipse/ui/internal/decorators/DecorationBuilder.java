@@ -49,6 +49,13 @@ public class DecorationBuilder implements IDecoration {
 	// A flag set if a value has been added
 	private boolean valueSet = false;
 
+	// Flags set if the colors or the font have been set, possibly to null
+	private boolean foregroundColorSet;
+
+	private boolean backgroundColorSet;
+
+	private boolean fontSet;
+
 	private final IDecorationContext context;
 
 	/**
@@ -187,21 +194,58 @@ public class DecorationBuilder implements IDecoration {
 		valueSet = true;
 	}
 
+	/**
+	 * Add the values of a builder that decorated the same element with a later
+	 * decorator, as if the later decorator had decorated the receiver. A color
+	 * or font the later decorator set to <code>null</code> therefore resets the
+	 * value of an earlier decorator, while one it did not set is kept.
+	 *
+	 * @param later the builder of the later decorator
+	 */
+	void merge(DecorationBuilder later) {
+		if (!later.valueSet) {
+			return;
+		}
+		prefixes.addAll(later.prefixes);
+		suffixes.addAll(later.suffixes);
+		for (int i = 0; i < descriptors.length; i++) {
+			if (descriptors[i] == null) {
+				descriptors[i] = later.descriptors[i];
+			}
+		}
+		if (later.foregroundColorSet) {
+			foregroundColor = later.foregroundColor;
+			foregroundColorSet = true;
+		}
+		if (later.backgroundColorSet) {
+			backgroundColor = later.backgroundColor;
+			backgroundColorSet = true;
+		}
+		if (later.fontSet) {
+			font = later.font;
+			fontSet = true;
+		}
+		valueSet = true;
+	}
+
 	@Override
 	public void setBackgroundColor(Color bgColor) {
 		this.backgroundColor = bgColor;
+		backgroundColorSet = true;
 		valueSet = true;
 	}
 
 	@Override
 	public void setFont(Font newFont) {
 		this.font = newFont;
+		fontSet = true;
 		valueSet = true;
 	}
 
 	@Override
 	public void setForegroundColor(Color fgColor) {
 		this.foregroundColor = fgColor;
+		foregroundColorSet = true;
 		valueSet = true;
 	}
 
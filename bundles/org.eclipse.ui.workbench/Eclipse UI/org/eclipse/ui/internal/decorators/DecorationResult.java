@@ -87,7 +87,9 @@ public class DecorationResult {
 
 		Rectangle bounds = image.getBounds();
 		Point size = new Point(bounds.width, bounds.height);
-		DecorationOverlayIcon icon = new DecorationOverlayIcon(image, descriptors, size);
+		// Identify the base image by its content, so that views showing the same
+		// decorated image in their own base image instances share the composite
+		DecorationOverlayIcon icon = DecorationOverlayIcon.createShared(image, descriptors, size);
 		return manager.createImage(icon);
 	}
 
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.decorators;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.viewers.IDecorationContext;
+
+/**
+ * The DecorationResultCache holds the {@link DecorationResult}s computed by the
+ * {@link DecorationScheduler} for each element and decoration context.
+ * <p>
+ * At most <code>maxSize</code> results are held strongly. When there are more,
+ * the least recently used results of elements which are not visible in any
+ * viewer are demoted to soft references, so that they are still found until the
+ * garbage collector needs the memory, and at most <code>maxSoftSize</code>
+ * results are held softly, the least recently demoted being dropped first.
+ * Results of visible elements are never demoted.
+ * </p>
+ * All methods are synchronized as the cache is filled by the decoration job and
+ * read from the UI thread.
+ */
+public class DecorationResultCache {
+
+	/**
+	 * The default number of results held strongly.
+	 */
+	public static final int DEFAULT_SIZE = 10000;
+
+	/**
+	 * The default number of results held softly, per result held strongly.
+	 */
+	private static final int SOFT_SIZE_FACTOR = 4;
+
+	private record Key(IDecorationContext context, Object element) {
+	}
+
+	private static final class SoftResult extends SoftReference<DecorationResult> {
+		final Key key;
+
+		SoftResult(Key key, DecorationResult result, ReferenceQueue<DecorationResult> queue) {
+			super(result, queue);
+			this.key = key;
+		}
+	}
+
+	/**
+	 * The statistics of a cache.
+	 *
+	 * @param size      the number of results held strongly
+	 * @param softSize  the number of results held by soft references, some of
+	 *                  which may have been collected already
+	 * @param hits      the number of lookups that found a strongly held result
+	 * @param softHits  the number of lookups that found a softly held result
+	 * @param misses    the number of lookups that found no result
+	 * @param evictions the number of results demoted to soft references
+	 * @param collected the number of softly held results collected by the
+	 *                  garbage collector
+	 */
+	public record Statistics(int size, int softSize, long hits, long softHits, long misses, long evictions,
+			long collected) {
+	}
+
+	private final int maxSize;
+
+	private final int maxSoftSize;
+
+	// access ordered, so that the eldest entry is the least recently used
+	private final LinkedHashMap<Key, DecorationResult> results = new LinkedHashMap<>(16, 0.75f, true);
+
+	// insertion ordered, so that the eldest entry is the least recently demoted
+	private final LinkedHashMap<Key, SoftResult> softResults = new LinkedHashMap<>() {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, SoftResult> eldest) {
+			if (size() > maxSoftSize) {
+				// a cleared reference is never enqueued
+				eldest.getValue().clear();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	private final ReferenceQueue<DecorationResult> collectedResults = new ReferenceQueue<>();
+
+	private Set<Object> visibleElements = Collections.emptySet();
+
+	private long hits;
+
+	private long softHits;
+
+	private long misses;
+
+	private long evictions;
+
+	private long collected;
+
+	/**
+	 * Create a new cache that holds up to four times as many results softly as
+	 * strongly.
+	 *
+	 * @param maxSize the number of results held strongly
+	 */
+	public DecorationResultCache(int maxSize) {
+		this(maxSize, maxSize * SOFT_SIZE_FACTOR);
+	}
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maxSize     the number of results held strongly
+	 * @param maxSoftSize the number of results held softly
+	 */
+	public DecorationResultCache(int maxSize, int maxSoftSize) {
+		Assert.isLegal(maxSize > 0);
+		Assert.isLegal(maxSoftSize >= 0);
+		this.maxSize = maxSize;
+		this.maxSoftSize = maxSoftSize;
+	}
+
+	/**
+	 * Return the result for the element in the context.
+	 *
+	 * @param element the decorated element
+	 * @param context the decoration context
+	 * @return DecorationResult or <code>null</code> if there is none
+	 */
+	public synchronized DecorationResult get(Object element, IDecorationContext context) {
+		expungeCollected();
+		Key key = new Key(context, element);
+		DecorationResult result = results.get(key);
+		if (result != null) {
+			hits++;
+			return result;
+		}
+		SoftResult softResult = softResults.remove(key);
+		if (softResult != null) {
+			result = softResult.get();
+			softResult.clear();
+			if (result != null) {
+				softHits++;
+				results.put(key, result);
+				trim();
+				return result;
+			}
+		}
+		misses++;
+		return null;
+	}
+
+	/**
+	 * Put the result for the element in the context.
+	 *
+	 * @param element the decorated element
+	 * @param context the decoration context
+	 * @param result  the result
+	 */
+	public synchronized void put(Object element, IDecorationContext context, DecorationResult result) {
+		expungeCollected();
+		Key key = new Key(context, element);
+		SoftResult softResult = softResults.remove(key);
+		if (softResult != null) {
+			softResult.clear();
+		}
+		results.put(key, result);
+		trim();
+	}
+
+	/**
+	 * Remove the results of the elements in all contexts.
+	 *
+	 * @param elements the elements whose decoration changed
+	 */
+	public synchronized void invalidate(Collection<?> elements) {
+		if (elements.isEmpty()) {
+			return;
+		}
+		Set<?> invalid = elements instanceof Set<?> set ? set : new HashSet<>(elements);
+		results.keySet().removeIf(key -> invalid.contains(key.element()));
+		Iterator<SoftResult> iterator = softResults.values().iterator();
+		while (iterator.hasNext()) {
+			SoftResult softResult = iterator.next();
+			if (invalid.contains(softResult.key.element())) {
+				softResult.clear();
+				iterator.remove();
+			}
+		}
+		expungeCollected();
+	}
+
+	/**
+	 * Remove all results. The statistics are kept.
+	 */
+	public synchronized void clear() {
+		results.clear();
+		for (SoftResult softResult : softResults.values()) {
+			softResult.clear();
+		}
+		softResults.clear();
+		expungeCollected();
+	}
+
+	/**
+	 * Set the elements that are visible in any viewer. Their results are not
+	 * demoted to soft references.
+	 *
+	 * @param elements the visible elements
+	 */
+	public synchronized void setVisibleElements(Set<Object> elements) {
+		visibleElements = elements;
+		trim();
+	}
+
+	/**
+	 * Return the statistics of the receiver.
+	 *
+	 * @return Statistics
+	 */
+	public synchronized Statistics getStatistics() {
+		expungeCollected();
+		return new Statistics(results.size(), softResults.size(), hits, softHits, misses, evictions, collected);
+	}
+
+	/**
+	 * Demote the least recently used results of elements that are not visible
+	 * until at most <code>maxSize</code> results are held strongly.
+	 */
+	private void trim() {
+		if (results.size() <= maxSize) {
+			return;
+		}
+		Iterator<Map.Entry<Key, DecorationResult>> iterator = results.entrySet().iterator();
+		while (results.size() > maxSize && iterator.hasNext()) {
+			Map.Entry<Key, DecorationResult> entry = iterator.next();
+			Key key = entry.getKey();
+			if (!visibleElements.contains(key.element())) {
+				softResults.put(key, new SoftResult(key, entry.getValue(), collectedResults));
+				iterator.remove();
+				evictions++;
+			}
+		}
+	}
+
+	/**
+	 * Remove the soft references whose results have been collected.
+	 */
+	private void expungeCollected() {
+		Reference<? extends DecorationResult> reference;
+		while ((reference = collectedResults.poll()) != null) {
+			SoftResult softResult = (SoftResult) reference;
+			// cleared references are removed already, possibly replaced by a new one
+			if (softResults.get(softResult.key) == softResult) {
+				softResults.remove(softResult.key);
+				collected++;
+			}
+		}
+	}
+}
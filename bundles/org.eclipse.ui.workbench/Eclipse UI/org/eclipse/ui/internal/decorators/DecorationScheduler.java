@@ -16,16 +16,19 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.decorators;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -66,16 +69,18 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * <code>decorationJob</code> to be executed asynchonously.</li>
  *
  * <li>The <code>decorationJob</code> processes the list of elements in
- * <code>awaitingDecoration</code> one by one. For each element, it calls
- * <code>ensureResultCached</code>, which in turn calls the actual lightweight
- * decorator(s) for the element and stores the decoration result in the
- * <code>resultCache</code> and adds the element to the
- * <code>pendingUpdate</code> collection to remember that it needs to be updated
- * in the UI.</li>
+ * <code>awaitingDecoration</code> in batches. For each batch, it calls the
+ * actual lightweight decorator(s) for the elements, each decorator once for all
+ * elements of the batch it applies to, then stores the decoration results in
+ * the <code>resultCache</code> and adds the elements to the
+ * <code>pendingUpdate</code> collection to remember that they need to be
+ * updated in the UI.</li>
  *
- * <li>When the <code>decorationJob</code> has finished processing all elements
- * in <code>awaitingDecoration</code>, it finally schedules the
- * <code>updateJob</code>.</li>
+ * <li>After each batch, the <code>decorationJob</code> schedules the
+ * <code>updateJob</code> unless it is already pending, so that the updates of
+ * the batches calculated in the meantime are coalesced. When it has finished
+ * processing all elements in <code>awaitingDecoration</code>, it finally
+ * schedules the <code>updateJob</code>.</li>
  *
  * <li>
  * <p>
@@ -115,7 +120,7 @@ public class DecorationScheduler {
 
 	// When decorations are computed they are added to this cache via
 	// scheduleUpdateJob() method
-	private final Map<IDecorationContext, Map<Object, DecorationResult>> resultCache = new ConcurrentHashMap<>();
+	private final DecorationResultCache resultCache = new DecorationResultCache(DecorationResultCache.DEFAULT_SIZE);
 
 	/**
 	 * Objects that are awaiting a label update. manually synchronized on
@@ -126,6 +131,12 @@ public class DecorationScheduler {
 	/** manually synchronized on DecorationScheduler.this **/
 	private final LinkedHashMap<Object, DecorationReference> awaitingDecoration = new LinkedHashMap<>();
 
+	/**
+	 * The elements visible in the viewers, by the label decorator of the viewer.
+	 * manually synchronized on DecorationScheduler.this
+	 **/
+	private final Map<Object, Object[]> visibleElements = new HashMap<>();
+
 	/** manually synchronized on DecorationScheduler.this **/
 	private boolean shutdown = false;
 
@@ -169,6 +180,12 @@ public class DecorationScheduler {
 	/** Amount of time to delay the update notification when max reached. */
 	private static final int UPDATE_DELAY = 100;
 
+	/**
+	 * The maximum number of elements which are decorated together, and whose
+	 * decorations are shown together.
+	 */
+	private static final int BATCH_SIZE = 100;
+
 	/**
 	 * Flag which is used to indicate that the update job is running in the UI
 	 * thread
@@ -301,16 +318,20 @@ public class DecorationScheduler {
 	}
 
 	private DecorationResult internalGetResult(Object element, IDecorationContext context) {
-		Map<Object, DecorationResult> results = resultCache.get(context);
-		if (results != null) {
-			return results.get(element);
-		}
-		return null;
+		return resultCache.get(element, context);
 	}
 
 	protected void internalPutResult(Object element, IDecorationContext context, DecorationResult result) {
-		Map<Object, DecorationResult> results = resultCache.computeIfAbsent(context, ctx -> new ConcurrentHashMap<>());
-		results.put(element, result);
+		resultCache.put(element, context, result);
+	}
+
+	/**
+	 * Return the statistics of the decoration result cache.
+	 *
+	 * @return DecorationResultCache.Statistics
+	 */
+	DecorationResultCache.Statistics getResultCacheStatistics() {
+		return resultCache.getStatistics();
 	}
 
 	/**
@@ -332,6 +353,17 @@ public class DecorationScheduler {
 		updateJob.schedule(UPDATE_DELAY);
 	}
 
+	/**
+	 * Execute a label update using the pending decorations, unless an update is
+	 * already scheduled or running. Unlike {@link #scheduleUpdateJob()}, this does
+	 * not delay an update that is already scheduled.
+	 */
+	synchronized void scheduleUpdateJobIfIdle() {
+		if (updateJob == null || updateJob.getState() == Job.NONE) {
+			scheduleUpdateJob();
+		}
+	}
+
 	/**
 	 * Shutdown the decoration.
 	 */
@@ -340,19 +372,52 @@ public class DecorationScheduler {
 	}
 
 	/**
-	 * Get the next resource to be decorated.
+	 * Get the next resources to be decorated.
 	 *
-	 * @return IResource
+	 * @param max the maximum number of references to return
+	 * @return the references, empty if there are none or if we are shutdown
 	 */
-	synchronized DecorationReference removeNextReference() {
+	synchronized List<DecorationReference> removeNextReferences(int max) {
+		if (shutdown) {
+			return Collections.emptyList();
+		}
+		List<DecorationReference> references = new ArrayList<>(Math.min(max, awaitingDecoration.size()));
+		// Elements shown in a viewer come first, the others in the order they were queued
+		for (Object[] visible : visibleElements.values()) {
+			for (int i = 0; i < visible.length && references.size() < max; i++) {
+				DecorationReference reference = awaitingDecoration.remove(visible[i]);
+				if (reference != null) {
+					references.add(reference);
+				}
+			}
+		}
 		Iterator<Entry<Object, DecorationReference>> iterator = awaitingDecoration.entrySet().iterator();
-		if (shutdown || !iterator.hasNext()) {
-			return null;
+		while (references.size() < max && iterator.hasNext()) {
+			references.add(iterator.next().getValue());
+			iterator.remove();
 		}
-		Entry<Object, DecorationReference> entry = iterator.next();
-		iterator.remove();
-		DecorationReference reference = entry.getValue();
-		return reference;
+		return references;
+	}
+
+	/**
+	 * Set the elements that are visible in a viewer, so that they are decorated
+	 * before the elements that are not visible and their results are kept.
+	 *
+	 * @param source   the label decorator of the viewer
+	 * @param elements the visible elements, or <code>null</code> if the viewer is
+	 *                 gone
+	 */
+	synchronized void setVisibleElements(Object source, Object[] elements) {
+		if (elements == null || elements.length == 0) {
+			visibleElements.remove(source);
+		} else {
+			visibleElements.put(source, elements);
+		}
+		Set<Object> allVisible = new HashSet<>();
+		for (Object[] visible : visibleElements.values()) {
+			Collections.addAll(allVisible, visible);
+		}
+		resultCache.setVisibleElements(allVisible);
 	}
 
 	/**
@@ -382,23 +447,33 @@ public class DecorationScheduler {
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor,
 						WorkbenchMessages.DecorationScheduler_CalculatingTask, awaitingDecoration.size() + 1);
-				// will block if there are no resources to be decorated
-				DecorationReference reference;
+				List<DecorationReference> references;
 
 				boolean queued = false;
 				// for each in awaitingDecorationValues, but not locking the map during the whole iteration:
-				while ((reference = removeNextReference()) != null) {
-					subMonitor.split(1);
+				while (!(references = removeNextReferences(BATCH_SIZE)).isEmpty()) {
+					subMonitor.split(references.size());
 					queued = true;
-					Object element = reference.getElement();
-					boolean force = reference.shouldForceUpdate();
-					Collection<IDecorationContext> contexts = reference.getContexts();
-					for (IDecorationContext context : contexts) {
-						queued |= queue(element, force, context);
+					List<Object> elements = new ArrayList<>(references.size());
+					List<DecorationBuilder> builders = new ArrayList<>(references.size());
+					List<Boolean> forces = new ArrayList<>(references.size());
+					for (DecorationReference reference : references) {
+						Collection<IDecorationContext> contexts = reference.getContexts();
+						for (IDecorationContext context : contexts) {
+							elements.add(reference.getElement());
+							builders.add(new DecorationBuilder(context));
+							forces.add(Boolean.valueOf(reference.shouldForceUpdate()));
+						}
+					}
+					// Calculate the decorations
+					decoratorManager.getLightweightManager().getDecorations(elements.toArray(),
+							builders.toArray(new DecorationBuilder[builders.size()]));
+					for (int i = 0; i < elements.size(); i++) {
+						queue(elements.get(i), forces.get(i).booleanValue(), builders.get(i));
 					}
 					subMonitor.setWorkRemaining(awaitingDecoration.size() + 1); // may grow asynchronously
-					// Only notify listeners when we have exhausted the
-					// queue of decoration requests.
+					// Show the decorations of this batch while the next one is calculated
+					scheduleUpdateJobIfIdle();
 				}
 				if (queued) {
 					scheduleUpdateJob();
@@ -409,14 +484,12 @@ public class DecorationScheduler {
 			/**
 			 * Ensure that a result is cached for the given element and context
 			 *
-			 * @param element the elements
-			 * @param force   whether an update should be forced
-			 * @param context the decoration context
+			 * @param element     the elements
+			 * @param force       whether an update should be forced
+			 * @param cacheResult the calculated decoration, for its context
 			 */
-			private boolean queue(Object element, boolean force, IDecorationContext context) {
-				DecorationBuilder cacheResult = new DecorationBuilder(context);
-				// Calculate the decoration
-				decoratorManager.getLightweightManager().getDecorations(element, cacheResult);
+			private boolean queue(Object element, boolean force, DecorationBuilder cacheResult) {
+				IDecorationContext context = cacheResult.getDecorationContext();
 
 				// If we should update regardless then put a result
 				// anyways
@@ -487,6 +560,15 @@ public class DecorationScheduler {
 		clearJob.schedule();
 	}
 
+	/**
+	 * The decoration of the given elements changed, remove their results.
+	 *
+	 * @param elements the changed elements
+	 */
+	void invalidateResults(Object[] elements) {
+		resultCache.invalidate(Arrays.asList(elements));
+	}
+
 	private Job getClearJob() {
 		Job clear = new Job(WorkbenchMessages.DecorationScheduler_ClearResultsJob) {
 
@@ -593,12 +675,8 @@ public class DecorationScheduler {
 			private void resetState() {
 				currentIndex = NEEDS_INIT;// Reset
 				removedListeners.clear();
-				// Other decoration requests may have occurred due to
-				// updates or we may have timed out updating listeners.
-				// Only clear the results if there are none pending.
-				if (awaitingDecoration.isEmpty()) {
-					resultCache.clear();
-				}
+				// The results are kept, the cache is bounded and the results
+				// of changed elements are invalidated when they change
 			}
 
 			private void setUpUpdates() {
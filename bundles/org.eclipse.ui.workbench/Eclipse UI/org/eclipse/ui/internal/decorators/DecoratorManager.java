@@ -44,6 +44,7 @@ import org.eclipse.jface.viewers.IFontDecorator;
 import org.eclipse.jface.viewers.ILabelDecorator;
 import org.eclipse.jface.viewers.ILabelProviderListener;
 import org.eclipse.jface.viewers.ILightweightLabelDecorator;
+import org.eclipse.jface.viewers.IVisibleElementsLabelProvider;
 import org.eclipse.jface.viewers.LabelDecorator;
 import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.swt.graphics.Color;
@@ -112,7 +113,8 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 	 *
 	 */
 	private static class ManagedWorkbenchLabelDecorator extends LabelDecorator
-			implements ILabelDecorator, IDelayedLabelDecorator, IColorDecorator, IFontDecorator {
+			implements ILabelDecorator, IDelayedLabelDecorator, IColorDecorator, IFontDecorator,
+			IVisibleElementsLabelProvider {
 
 		private final DecoratorManager decoratorManager;
 		private LocalResourceManager resourceManager;
@@ -189,12 +191,18 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 			decoratorManager.addListener(listener);
 		}
 
+		@Override
+		public void visibleElementsChanged(Object[] elements) {
+			decoratorManager.scheduler.setVisibleElements(this, elements);
+		}
+
 		@Override
 		public void dispose() {
 			if (resourceManager != null) {
 				resourceManager.dispose();
 				resourceManager = null;
 			}
+			decoratorManager.scheduler.setVisibleElements(this, null);
 		}
 
 		@Override
@@ -661,11 +669,12 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 	@Override
 	public void labelProviderChanged(LabelProviderChangedEvent event) {
 		Object[] elements = event.getElements();
-		scheduler.clearResults();
 		// If the elements are not specified send out a general update
 		if (elements == null) {
+			scheduler.clearResults();
 			fireListeners(event);
 		} else {
+			scheduler.invalidateResults(elements);
 			// Assume that someone is going to care about the
 			// decoration result and just start it right away
 			for (Object element : elements) {
@@ -940,6 +949,15 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 		return lightweightManager;
 	}
 
+	/**
+	 * Returns the statistics of the cache of decoration results.
+	 *
+	 * @return DecorationResultCache.Statistics
+	 */
+	public DecorationResultCache.Statistics getResultCacheStatistics() {
+		return scheduler.getResultCacheStatistics();
+	}
+
 	/**
 	 * @see org.eclipse.ui.IDecoratorManager#update(java.lang.String)
 	 */
@@ -13,12 +13,15 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.decorators;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.jface.viewers.IBaseLabelProvider;
 import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.jface.viewers.ILightweightBatchLabelDecorator;
 import org.eclipse.jface.viewers.ILightweightLabelDecorator;
 import org.eclipse.ui.internal.ActionExpression;
 import org.eclipse.ui.internal.IObjectContributor;
@@ -262,6 +265,66 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 
 	}
 
+	/**
+	 * Return whether the decorator can decorate batches of elements. Creates the
+	 * decorator if needed.
+	 *
+	 * @return <code>true</code> if the decorator is an enabled
+	 *         {@link ILightweightBatchLabelDecorator}
+	 */
+	boolean isBatchDecorator() {
+		try {
+			return isEnabled() && internalGetDecorator() instanceof ILightweightBatchLabelDecorator;
+		} catch (CoreException exception) {
+			handleCoreException(exception);
+			return false;
+		}
+	}
+
+	/**
+	 * Decorate a batch of elements using the decorations at the same index to
+	 * store the results.
+	 *
+	 * @param elements
+	 * @param decorations
+	 */
+	public void decorate(Object[] elements, IDecoration[] decorations) {
+		try {
+			if (!isEnabled()) {
+				return;
+			}
+			ILightweightLabelDecorator currentDecorator = internalGetDecorator();
+			if (!(currentDecorator instanceof ILightweightBatchLabelDecorator batchDecorator)) {
+				for (int i = 0; i < elements.length; i++) {
+					decorate(elements[i], decorations[i]);
+				}
+				return;
+			}
+
+			List<Object> targets = new ArrayList<>(elements.length);
+			List<IDecoration> targetDecorations = new ArrayList<>(elements.length);
+			for (int i = 0; i < elements.length; i++) {
+				if (isAdaptable()) {
+					for (String className : getObjectClasses()) {
+						Object adapted = LegacyResourceSupport.getAdapter(elements[i], className);
+						if (adapted != null) {
+							targets.add(adapted);
+							targetDecorations.add(decorations[i]);
+						}
+					}
+				} else if (elements[i] != null) {
+					targets.add(elements[i]);
+					targetDecorations.add(decorations[i]);
+				}
+			}
+			if (!targets.isEmpty()) {
+				batchDecorator.decorate(targets.toArray(), targetDecorations.toArray(new IDecoration[targets.size()]));
+			}
+		} catch (CoreException exception) {
+			handleCoreException(exception);
+		}
+	}
+
 	/**
 	 * Returns the lightweight decorator, or <code>null</code> if not enabled.
 	 *
@@ -15,7 +15,14 @@ package org.eclipse.ui.internal.decorators;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
@@ -73,23 +80,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		 */
 		@Override
 		public void handleException(Throwable exception) {
-			IStatus status = StatusUtil.newStatus(IStatus.ERROR, exception.getMessage(), exception);
-			LightweightDecoratorDefinition decorator = data.decorator;
-			String message;
-			if (decorator == null) {
-				message = WorkbenchMessages.DecoratorError;
-			} else {
-				String name = decorator.getName();
-				if (name == null) {
-					// decorator definition is not accessible anymore
-					name = decorator.getId();
-				}
-				message = NLS.bind(WorkbenchMessages.DecoratorWillBeDisabled, name);
-			}
-			WorkbenchPlugin.log(message, status);
-			if (decorator != null) {
-				decorator.crashDisable();
-			}
+			handleDecoratorException(data.decorator, exception);
 			clearReferences();
 		}
 
@@ -117,6 +108,42 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		}
 	}
 
+	/**
+	 * Log an exception thrown by a decorator and disable it.
+	 *
+	 * @param decorator the failing decorator, may be <code>null</code>
+	 * @param exception the exception
+	 */
+	private static void handleDecoratorException(LightweightDecoratorDefinition decorator, Throwable exception) {
+		IStatus status = StatusUtil.newStatus(IStatus.ERROR, exception.getMessage(), exception);
+		String message;
+		if (decorator == null) {
+			message = WorkbenchMessages.DecoratorError;
+		} else {
+			String name = decorator.getName();
+			if (name == null) {
+				// decorator definition is not accessible anymore
+				name = decorator.getId();
+			}
+			message = NLS.bind(WorkbenchMessages.DecoratorWillBeDisabled, name);
+		}
+		WorkbenchPlugin.log(message, status);
+		if (decorator != null) {
+			decorator.crashDisable();
+		}
+	}
+
+	/**
+	 * The elements of a batch that a decorator applies to, with a decoration of
+	 * their own for the decorator.
+	 */
+	private static class Batch {
+
+		final List<Object> elements = new ArrayList<>();
+
+		final List<DecorationBuilder> decorations = new ArrayList<>();
+	}
+
 	private LightweightRunnable runnable = new LightweightRunnable();
 
 	// The lightweight definitions read from the registry
@@ -124,6 +151,24 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 
 	private static final LightweightDecoratorDefinition[] EMPTY_LIGHTWEIGHT_DEF = new LightweightDecoratorDefinition[0];
 
+	/**
+	 * The threads batch decorators run in. The decoration job waits for them,
+	 * so the number of threads bounds the decorators running at the same time.
+	 */
+	private static final ThreadPoolExecutor BATCH_EXECUTOR;
+
+	static {
+		int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+		AtomicInteger count = new AtomicInteger();
+		BATCH_EXECUTOR = new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				r -> {
+					Thread thread = new Thread(r, "Batch Decoration-" + count.incrementAndGet()); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+		BATCH_EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
 	LightweightDecoratorManager(LightweightDecoratorDefinition[] definitions) {
 		super();
 		lightweightDefinitions = definitions;
@@ -347,6 +392,78 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		}
 	}
 
+	/**
+	 * Fill the decorations of a batch of elements with all of the results of the
+	 * decorators. The decorators are applied in the same order as by
+	 * {@link #getDecorations(Object, DecorationBuilder)}, but each decorator is
+	 * called once for all elements it applies to. Decorators that support
+	 * batches are run in parallel, the others one after the other in the
+	 * calling thread.
+	 *
+	 * @param elements    The source elements
+	 * @param decorations The decorations we are working on, one for each element
+	 */
+	public void getDecorations(Object[] elements, DecorationBuilder[] decorations) {
+		Map<LightweightDecoratorDefinition, Batch> batches = new LinkedHashMap<>();
+		DecorationBuilder[][] partialDecorations = new DecorationBuilder[elements.length][];
+		for (int i = 0; i < elements.length; i++) {
+			LightweightDecoratorDefinition[] decorators = getDecoratorsFor(elements[i]);
+			partialDecorations[i] = new DecorationBuilder[decorators.length];
+			for (int j = 0; j < decorators.length; j++) {
+				DecorationBuilder partial = new DecorationBuilder(decorations[i].getDecorationContext());
+				partial.setCurrentDefinition(decorators[j]);
+				partialDecorations[i][j] = partial;
+				Batch batch = batches.computeIfAbsent(decorators[j], d -> new Batch());
+				batch.elements.add(elements[i]);
+				batch.decorations.add(partial);
+			}
+		}
+
+		List<CompletableFuture<Void>> running = new ArrayList<>();
+		for (Map.Entry<LightweightDecoratorDefinition, Batch> entry : batches.entrySet()) {
+			LightweightDecoratorDefinition decorator = entry.getKey();
+			Batch batch = entry.getValue();
+			if (decorator.isBatchDecorator()) {
+				running.add(CompletableFuture.runAsync(() -> decorate(batch, decorator), BATCH_EXECUTOR));
+			} else {
+				for (int i = 0; i < batch.elements.size(); i++) {
+					decorate(batch.elements.get(i), batch.decorations.get(i), decorator);
+				}
+			}
+		}
+		for (CompletableFuture<Void> future : running) {
+			future.join();
+		}
+
+		// Apply the results in the order of the decorators
+		for (int i = 0; i < elements.length; i++) {
+			for (DecorationBuilder partial : partialDecorations[i]) {
+				decorations[i].merge(partial);
+			}
+		}
+	}
+
+	/**
+	 * Decorate a batch of elements in a SafeRunnable.
+	 *
+	 * @param batch     The elements and their decorations
+	 * @param decorator The decorator being applied.
+	 */
+	private void decorate(Batch batch, LightweightDecoratorDefinition decorator) {
+		SafeRunner.run(new ISafeRunnable() {
+			@Override
+			public void run() throws Exception {
+				decorator.decorate(batch.elements.toArray(),
+						batch.decorations.toArray(new DecorationBuilder[batch.decorations.size()]));
+			}
+
+			@Override
+			public void handleException(Throwable exception) {
+				handleDecoratorException(decorator, exception);
+			}
+		});
+	}
+
 	/**
 	 * Decorate the element receiver in a SafeRunnable.
 	 *
@@ -373,6 +490,25 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 
 	}
 
+	/**
+	 * Method for use by test cases
+	 *
+	 * @param objects the objects to be decorated as a batch
+	 * @return the decoration results
+	 */
+	public DecorationResult[] getDecorationResults(Object[] objects) {
+		DecorationBuilder[] builders = new DecorationBuilder[objects.length];
+		for (int i = 0; i < objects.length; i++) {
+			builders[i] = new DecorationBuilder();
+		}
+		getDecorations(objects, builders);
+		DecorationResult[] results = new DecorationResult[objects.length];
+		for (int i = 0; i < objects.length; i++) {
+			results[i] = builders[i].createResult();
+		}
+		return results;
+	}
+
 	@Override
 	public void addExtension(IExtensionTracker tracker, IExtension extension) {
 		// Do nothing as this is handled by the DecoratorManager
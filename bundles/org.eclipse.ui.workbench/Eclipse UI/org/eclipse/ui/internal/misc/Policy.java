@@ -70,6 +70,11 @@ public class Policy {
 	 */
 	public static boolean DEBUG_COMMANDS = DEFAULT;
 
+	/**
+	 * Whether to collect execution counts and latency histograms for commands
+	 */
+	public static boolean DEBUG_COMMANDS_STATISTICS = DEFAULT;
+
 	/**
 	 * Whether to print debugging information about the internal state of the
 	 * context support within the workbench.
@@ -171,6 +176,7 @@ public class Policy {
 			DEBUG_TOOLBAR_DISPOSAL = "true" //$NON-NLS-1$
 					.equalsIgnoreCase(Platform.getDebugOption("org.eclipse.jface/trace/toolbarDisposal")); //$NON-NLS-1$
 			DEBUG_COMMANDS = getDebugOption("/trace/commands"); //$NON-NLS-1$
+			DEBUG_COMMANDS_STATISTICS = getDebugOption("/trace/commands.statistics"); //$NON-NLS-1$
 			DEBUG_CONTEXTS = getDebugOption("/trace/contexts"); //$NON-NLS-1$
 			DEBUG_CONTEXTS_PERFORMANCE = getDebugOption("/trace/contexts.performance"); //$NON-NLS-1$
 			DEBUG_CONTEXTS_VERBOSE = getDebugOption("/trace/contexts.verbose"); //$NON-NLS-1$
@@ -14,12 +14,16 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.progress;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.resource.JFaceResources;
@@ -47,6 +51,11 @@ import org.eclipse.ui.internal.WorkbenchPlugin;
 /**
  * The DetailedProgressViewer is a viewer that shows the details of all in
  * progress job or jobs that are finished awaiting user input.
+ * <p>
+ * When many sibling jobs of the same family with a registered icon are
+ * running they are shown as a single item with their aggregated progress. Items which are not needed
+ * anymore are recycled for other jobs instead of being disposed.
+ * </p>
  *
  * @since 3.2
  *
@@ -70,6 +79,33 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 */
 	private final Map<JobTreeElement, ProgressInfoItem> jobItemControls = new HashMap<>();
 
+	/**
+	 * The number of running sibling jobs from which on they are shown as a single
+	 * item for their family.
+	 */
+	static final int FAMILY_GROUP_THRESHOLD = 10;
+
+	/**
+	 * The maximum number of hidden items kept for reuse.
+	 */
+	private static final int MAX_RECYCLED_ITEMS = 10;
+
+	/**
+	 * The families shown as a single item by their key, so that the same item is
+	 * kept while jobs of the family come and go.
+	 */
+	private final Map<Object, JobFamilyInfo> familyInfos = new HashMap<>();
+
+	/**
+	 * The family each grouped job is shown in.
+	 */
+	private final Map<JobInfo, JobFamilyInfo> jobFamilies = new HashMap<>();
+
+	/**
+	 * Hidden items which are reused before new items are created.
+	 */
+	private final Deque<ProgressInfoItem> recycledItems = new ArrayDeque<>();
+
 	/**
 	 * Create a new instance of the receiver with a control that is a child of
 	 * <i>parent</i> with <i>style</i> style.
@@ -176,7 +212,17 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 	private Set<JobTreeElement> getItems() {
 		// Use a Set in case we are getting something added that exists
-		Set<JobTreeElement> newItems = new LinkedHashSet<>(jobItemControls.keySet());
+		Set<JobTreeElement> newItems = new LinkedHashSet<>();
+		for (JobTreeElement element : jobItemControls.keySet()) {
+			if (element instanceof JobFamilyInfo) {
+				// families are grouped again from their jobs
+				for (Object child : element.getChildren()) {
+					newItems.add((JobTreeElement) child);
+				}
+			} else {
+				newItems.add(element);
+			}
+		}
 		return newItems;
 	}
 
@@ -187,7 +233,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 			sorter.sort(this, infos);
 		}
 
-		reorderControls(infos);
+		reorderControls(groupByFamily(infos));
 
 		updateForShowingProgress();
 	}
@@ -211,6 +257,101 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		control.requestLayout();
 	}
 
+	/**
+	 * Replace the running sibling jobs of families with many of them by a single
+	 * {@link JobFamilyInfo}, which is shown at the position of its first job.
+	 *
+	 * @param elements the sorted job elements
+	 * @return the sorted job elements to show
+	 */
+	private Object[] groupByFamily(Object[] elements) {
+		Map<Object, List<JobInfo>> siblings = new HashMap<>();
+		for (Object element : elements) {
+			if (element instanceof JobInfo jobInfo && jobInfo.getGroupInfo() == null
+					&& jobInfo.getJob().getState() != Job.NONE) {
+				Object family = ProgressManager.getInstance().getFamilyFor(jobInfo.getJob());
+				// jobs without a family are not related, they are shown separately
+				if (family != null) {
+					siblings.computeIfAbsent(family, key -> new ArrayList<>()).add(jobInfo);
+				}
+			}
+		}
+
+		Map<Object, JobFamilyInfo> previousFamilies = new HashMap<>(familyInfos);
+		familyInfos.clear();
+		jobFamilies.clear();
+		for (Map.Entry<Object, List<JobInfo>> entry : siblings.entrySet()) {
+			List<JobInfo> jobs = entry.getValue();
+			JobFamilyInfo familyInfo = previousFamilies.get(entry.getKey());
+			// keep a shown family until it is almost empty so that it does not flicker
+			if (jobs.size() >= FAMILY_GROUP_THRESHOLD || familyInfo != null && jobs.size() > 1) {
+				if (familyInfo == null) {
+					familyInfo = new JobFamilyInfo(entry.getKey());
+				}
+				familyInfo.setJobs(jobs);
+				familyInfos.put(entry.getKey(), familyInfo);
+				for (JobInfo job : jobs) {
+					jobFamilies.put(job, familyInfo);
+				}
+			}
+		}
+		if (jobFamilies.isEmpty()) {
+			return elements;
+		}
+
+		List<Object> grouped = new ArrayList<>(elements.length);
+		Set<JobFamilyInfo> groupedFamilies = new HashSet<>();
+		for (Object element : elements) {
+			JobFamilyInfo familyInfo = jobFamilies.get(element);
+			if (familyInfo == null) {
+				grouped.add(element);
+			} else if (groupedFamilies.add(familyInfo)) {
+				grouped.add(familyInfo);
+			}
+		}
+		return grouped.toArray();
+	}
+
+	/**
+	 * Reuse a recycled item for info or create a new one if there is none.
+	 *
+	 * @param info the job element the item should represent
+	 * @return ProgressInfoItem the progress item representing the job info
+	 */
+	private ProgressInfoItem obtainItem(JobTreeElement info) {
+		ProgressInfoItem item = recycledItems.poll();
+		if (item == null) {
+			return createNewItem(info);
+		}
+		((GridData) item.getLayoutData()).exclude = false;
+		item.setVisible(true);
+		item.setInfo(info);
+		return item;
+	}
+
+	/**
+	 * Hide the item and keep it for reuse, or dispose it if enough items are kept
+	 * already.
+	 *
+	 * @param item the item which is not needed anymore
+	 */
+	private void recycleItem(ProgressInfoItem item) {
+		if (item.isDisposed()) {
+			return;
+		}
+		if (recycledItems.size() >= MAX_RECYCLED_ITEMS) {
+			item.dispose();
+			return;
+		}
+		item.setData(null);
+		item.selectWidgets(false);
+		item.setVisible(false);
+		((GridData) item.getLayoutData()).exclude = true;
+		// keep hidden items behind the shown ones
+		item.moveBelow(null);
+		recycledItems.push(item);
+	}
+
 	/**
 	 * Create a new item for info.
 	 *
@@ -223,12 +364,16 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		item.addControlListener(new ControlListener() {
 			@Override
 			public void controlMoved(ControlEvent e) {
-				updateVisibleProgressItems(item);
+				if (!recycledItems.contains(item)) {
+					updateVisibleProgressItems(item);
+				}
 			}
 
 			@Override
 			public void controlResized(ControlEvent e) {
-				updateVisibleProgressItems(item);
+				if (!recycledItems.contains(item)) {
+					updateVisibleProgressItems(item);
+				}
 			}
 		});
 
@@ -263,15 +408,15 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * @param item the reference item. The item previous to this will be selected.
 	 */
 	protected void selectPrevious(ProgressInfoItem item) {
-		Control[] children = control.getChildren();
+		ProgressInfoItem[] children = getProgressInfoItems();
 		for (int i = 0; i < children.length; i++) {
-			ProgressInfoItem child = (ProgressInfoItem) children[i];
+			ProgressInfoItem child = children[i];
 			if (item.equals(child)) {
 				ProgressInfoItem previous;
 				if (i == 0) {
-					previous = (ProgressInfoItem) children[children.length - 1];
+					previous = children[children.length - 1];
 				} else {
-					previous = (ProgressInfoItem) children[i - 1];
+					previous = children[i - 1];
 				}
 
 				item.selectWidgets(false);
@@ -287,15 +432,15 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * @param item the reference item. The item next to this will be selected.
 	 */
 	protected void selectNext(ProgressInfoItem item) {
-		Control[] children = control.getChildren();
+		ProgressInfoItem[] children = getProgressInfoItems();
 		for (int i = 0; i < children.length; i++) {
-			ProgressInfoItem child = (ProgressInfoItem) children[i];
+			ProgressInfoItem child = children[i];
 			if (item.equals(child)) {
 				ProgressInfoItem next;
 				if (i == children.length - 1) {
-					next = (ProgressInfoItem) children[0];
+					next = children[0];
 				} else {
-					next = (ProgressInfoItem) children[i + 1];
+					next = children[i + 1];
 				}
 				item.selectWidgets(false);
 				next.selectWidgets(true);
@@ -314,7 +459,15 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	@Override
 	protected Widget doFindItem(Object element) {
 		if (element instanceof JobTreeElement) {
-			return jobItemControls.get(element);
+			ProgressInfoItem item = jobItemControls.get(element);
+			if (item == null) {
+				// grouped jobs are shown by the item of their family
+				JobFamilyInfo familyInfo = jobFamilies.get(element);
+				if (familyInfo != null) {
+					item = jobItemControls.get(familyInfo);
+				}
+			}
+			return item;
 		}
 		for (Control control : control.getChildren()) {
 			if (control.isDisposed() || control.getData() == null) {
@@ -425,9 +578,9 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 *
 	 */
 	public void setFocus() {
-		Control[] children = control.getChildren();
+		ProgressInfoItem[] children = getProgressInfoItems();
 		if (children.length > 0) {
-			((ProgressInfoItem) children[0]).setButtonFocus();
+			children[0].setButtonFocus();
 		} else {
 			noEntryArea.setFocus();
 		}
@@ -438,7 +591,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 */
 	private void refreshAll() {
 		Object[] infos = getSortedChildren(getRoot());
-		reorderControls(infos);
+		reorderControls(groupByFamily(infos));
 		updateForShowingProgress();
 	}
 
@@ -452,7 +605,8 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * </p>
 	 * <p>
 	 * This method will try to reuse/reorder existing elements instead of disposing
-	 * and recreating them.
+	 * and recreating them. Items of elements which are not shown anymore are
+	 * recycled for the new elements.
 	 * </p>
 	 * <p>
 	 * This method also updates the alternating background color for all elements
@@ -467,27 +621,28 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		int limit = Math.min(toShowJobElements.length, getMaxDisplayed());
 		if (limit == 0) {
 			// shortcut to remove all
-			for (Control existing : jobItemControls.values()) {
-				existing.dispose();
+			for (ProgressInfoItem existing : jobItemControls.values()) {
+				recycleItem(existing);
 			}
 			jobItemControls.clear();
 			return;
 		}
 
-		Control[] existingControls = control.getChildren();
+		Control[] existingControls = getProgressInfoItems();
 		Control lastControl = null;
 		int exIndex = 0;
 		for (int i = 0; i < limit; i++) {
 			JobTreeElement jobElement = (JobTreeElement) toShowJobElements[i];
 			ProgressInfoItem item = jobItemControls.get(jobElement);
 			if (item == null) {
-				// element not currently visible -> insert new widget
-				item = createNewItem(jobElement);
+				// element not currently visible -> reuse recycled widget or insert new widget
+				boolean recycled = !recycledItems.isEmpty();
+				item = obtainItem(jobElement);
 				jobItemControls.put(jobElement, item);
 
 				// if all existing elements are already reordered the new element is created in
-				// the correct position and does not have to be moved
-				if (exIndex < existingControls.length) {
+				// the correct position and does not have to be moved, a recycled one always has
+				if (recycled || exIndex < existingControls.length) {
 					if (lastControl == null) {
 						item.moveAbove(null);
 					} else {
@@ -516,6 +671,10 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 				} else {
 					exIndex++;
 				}
+				if (jobElement instanceof JobFamilyInfo) {
+					// the jobs of the family may have changed
+					item.refresh();
+				}
 			}
 			item.setColor(i);
 			lastControl = item;
@@ -523,7 +682,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		for (int i = exIndex; i < existingControls.length; i++) {
 			if (existingControls[i] != null) {
 				jobItemControls.remove(existingControls[i].getData());
-				existingControls[i].dispose();
+				recycleItem((ProgressInfoItem) existingControls[i]);
 			}
 		}
 	}
@@ -532,7 +691,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * Set the virtual items to be visible or not depending on the displayed area.
 	 */
 	private void updateVisibleItems() {
-		updateVisibleProgressItems(control.getChildren());
+		updateVisibleProgressItems(getProgressInfoItems());
 	}
 
 	private void updateVisibleProgressItems(Control... progressInfoItems) {
@@ -556,16 +715,20 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	}
 
 	/**
-	 * Get a copy of all progress items.
+	 * Get a copy of all shown progress items.
 	 *
-	 * @return all progress items
+	 * @return all progress items which are not recycled
 	 */
 	public ProgressInfoItem[] getProgressInfoItems() {
 		Control[] children = control.getChildren();
-		ProgressInfoItem[] progressInfoItems = new ProgressInfoItem[children.length];
-		System.arraycopy(children, 0, progressInfoItems, 0, children.length);
-		assert children.length == jobItemControls.size();
-		return progressInfoItems;
+		List<ProgressInfoItem> progressInfoItems = new ArrayList<>(children.length);
+		for (Control child : children) {
+			if (!recycledItems.contains(child)) {
+				progressInfoItems.add((ProgressInfoItem) child);
+			}
+		}
+		assert progressInfoItems.size() == jobItemControls.size();
+		return progressInfoItems.toArray(new ProgressInfoItem[progressInfoItems.size()]);
 	}
 
 	/**
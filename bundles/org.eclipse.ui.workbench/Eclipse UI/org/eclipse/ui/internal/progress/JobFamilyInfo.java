@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.progress;
+
+import java.util.List;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * The JobFamilyInfo is the element used by the {@link DetailedProgressViewer}
+ * to show many sibling jobs of the same family as a single item with their
+ * aggregated progress. Unlike a {@link GroupInfo} it is not known to the
+ * {@link ProgressManager}, the viewer maintains its jobs.
+ */
+class JobFamilyInfo extends GroupInfo {
+
+	private final Object family;
+
+	private volatile JobInfo[] jobs = new JobInfo[0];
+
+	/**
+	 * Create a new instance of the receiver.
+	 *
+	 * @param family the key the jobs are grouped by
+	 */
+	JobFamilyInfo(Object family) {
+		this.family = family;
+	}
+
+	/**
+	 * Get the key the jobs of the receiver are grouped by.
+	 *
+	 * @return Object
+	 */
+	Object getFamily() {
+		return family;
+	}
+
+	/**
+	 * Set the jobs shown by the receiver.
+	 *
+	 * @param jobInfos the jobs of the family
+	 */
+	void setJobs(List<JobInfo> jobInfos) {
+		jobs = jobInfos.toArray(new JobInfo[jobInfos.size()]);
+	}
+
+	@Override
+	boolean hasChildren() {
+		return jobs.length > 0;
+	}
+
+	@Override
+	Object[] getChildren() {
+		JobInfo[] current = jobs;
+		Object[] children = new Object[current.length];
+		System.arraycopy(current, 0, children, 0, current.length);
+		return children;
+	}
+
+	@Override
+	String getDisplayString() {
+		int percentDone = getPercentDone();
+		if (percentDone == IProgressMonitor.UNKNOWN) {
+			return getTaskName();
+		}
+		return NLS.bind(ProgressMessages.JobInfo_NoTaskNameDoneMessage, getTaskName(), String.valueOf(percentDone));
+	}
+
+	@Override
+	String getTaskName() {
+		JobInfo[] current = jobs;
+		if (current.length == 0) {
+			return ProgressMessages.SubTaskInfo_UndefinedTaskName;
+		}
+		return NLS.bind(ProgressMessages.JobFamilyInfo_Name, current[0].getJob().getName(),
+				String.valueOf(current.length));
+	}
+
+	/**
+	 * Returns the average progress of the jobs. Jobs without known progress count
+	 * as not started.
+	 *
+	 * @return int or {@link IProgressMonitor#UNKNOWN} if the progress of none of
+	 *         the jobs is known
+	 */
+	@Override
+	int getPercentDone() {
+		JobInfo[] current = jobs;
+		long done = 0;
+		boolean known = false;
+		for (JobInfo jobInfo : current) {
+			int percentDone = jobInfo.getPercentDone();
+			if (percentDone != IProgressMonitor.UNKNOWN) {
+				done += percentDone;
+				known = true;
+			}
+		}
+		if (!known) {
+			return IProgressMonitor.UNKNOWN;
+		}
+		return (int) (done / current.length);
+	}
+
+	@Override
+	boolean isActive() {
+		for (JobInfo jobInfo : jobs) {
+			if (jobInfo.getJob().getState() != Job.NONE) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void cancel() {
+		for (JobInfo jobInfo : jobs) {
+			jobInfo.cancel();
+		}
+	}
+}
@@ -18,6 +18,7 @@ package org.eclipse.ui.internal.progress;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.jobs.Job;
@@ -48,6 +49,9 @@ public class JobInfo extends JobTreeElement {
 	// Default to no progress
 	private int ticks = -1;
 
+	// Whether progress was reported since the listeners were last notified
+	private final AtomicBoolean progressChanged = new AtomicBoolean();
+
 	/**
 	 * Creates a top level JobInfo.
 	 *
@@ -112,6 +116,7 @@ public class JobInfo extends JobTreeElement {
 
 	@Override
 	public void cancel() {
+		JobTelemetry.getInstance().cancelRequested(job);
 		this.canceled = true;
 		this.job.cancel();
 		// Call the refresh so that this is updated immediately
@@ -330,6 +335,24 @@ public class JobInfo extends JobTreeElement {
 		return true;
 	}
 
+	/**
+	 * Marks the progress of the receiver as changed.
+	 *
+	 * @return <code>true</code> if it was not marked already since the last call
+	 *         to {@link #clearProgressChanged()}
+	 */
+	boolean markProgressChanged() {
+		// read first, so that reporting progress does not contend on the flag
+		return !progressChanged.get() && progressChanged.compareAndSet(false, true);
+	}
+
+	/**
+	 * Clears the mark set by {@link #markProgressChanged()}.
+	 */
+	void clearProgressChanged() {
+		progressChanged.set(false);
+	}
+
 	/**
 	 * Sets the description of the blocking status.
 	 *
@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.progress;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.Job;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * The JobTelemetry aggregates how long jobs wait to run, run, are blocked and
+ * take to stop after they were canceled, per job class and family. It is fed by
+ * the {@link ProgressManager} from the job change events and the job monitors.
+ * <p>
+ * The most recently finished jobs are kept as a history which can be exported.
+ * All durations are in nanoseconds.
+ * </p>
+ */
+public class JobTelemetry {
+
+	/**
+	 * The number of finished jobs kept in the history.
+	 */
+	public static final int HISTORY_SIZE = 1000;
+
+	private static final String DELIMITER = ","; //$NON-NLS-1$
+
+	private static final String QUOTE = "\""; //$NON-NLS-1$
+
+	private static JobTelemetry singleton;
+
+	/**
+	 * The aggregated timings of all finished jobs of a class and family.
+	 *
+	 * @param jobClass           the name of the job class
+	 * @param family             the family of the jobs or an empty string
+	 * @param bundle             the symbolic name of the bundle of the job class
+	 *                           or an empty string
+	 * @param runs               the number of finished jobs
+	 * @param cancellations      the number of jobs that were canceled
+	 * @param totalWait          the time the jobs waited to run
+	 * @param maxWait            the longest time a job waited to run
+	 * @param totalRun           the time the jobs ran
+	 * @param maxRun             the longest time a job ran
+	 * @param totalBlocked       the time the running jobs were blocked
+	 * @param totalCancelLatency the time the jobs took to finish after their
+	 *                           cancellation was requested
+	 * @param maxCancelLatency   the longest time a job took to finish after its
+	 *                           cancellation was requested
+	 */
+	public record Statistics(String jobClass, String family, String bundle, long runs, long cancellations,
+			long totalWait, long maxWait, long totalRun, long maxRun, long totalBlocked, long totalCancelLatency,
+			long maxCancelLatency) {
+
+		/**
+		 * The time the jobs ran without being blocked, which is what the jobs cost.
+		 *
+		 * @return the cost in nanoseconds
+		 */
+		public long cost() {
+			return totalRun - totalBlocked;
+		}
+	}
+
+	/**
+	 * The timings of a finished job.
+	 *
+	 * @param name          the name of the job
+	 * @param jobClass      the name of the job class
+	 * @param family        the family of the job or an empty string
+	 * @param finished      the time the job finished in milliseconds since the
+	 *                      epoch
+	 * @param waitTime      the time the job waited to run
+	 * @param runTime       the time the job ran
+	 * @param blockedTime   the time the running job was blocked
+	 * @param cancelLatency the time the job took to finish after its cancellation
+	 *                      was requested or <code>-1</code> if it was not
+	 *                      canceled
+	 * @param severity      the severity of the job result
+	 */
+	public record HistoryEntry(String name, String jobClass, String family, long finished, long waitTime,
+			long runTime, long blockedTime, long cancelLatency, int severity) {
+	}
+
+	private record Key(String jobClass, Object family) {
+	}
+
+	/**
+	 * The timings of a job which has not finished yet. Updated from the thread
+	 * running the job and the threads scheduling and canceling it.
+	 */
+	private static final class Timing {
+		volatile long waitingSince;
+		volatile long started;
+		volatile long blockedSince;
+		volatile long blocked;
+		volatile long cancelRequested;
+
+		Timing(long now) {
+			waitingSince = now;
+		}
+	}
+
+	private static final class Accumulator {
+		final String bundle;
+		long runs;
+		long cancellations;
+		long totalWait;
+		long maxWait;
+		long totalRun;
+		long maxRun;
+		long totalBlocked;
+		long totalCancelLatency;
+		long maxCancelLatency;
+
+		Accumulator(Class<?> jobClass) {
+			Bundle owner = FrameworkUtil.getBundle(jobClass);
+			bundle = owner == null ? "" : owner.getSymbolicName(); //$NON-NLS-1$
+		}
+	}
+
+	private final Map<Job, Timing> timings = new ConcurrentHashMap<>();
+
+	// guarded by this
+	private final Map<Key, Accumulator> accumulators = new HashMap<>();
+
+	// guarded by this
+	private final Deque<HistoryEntry> history = new ArrayDeque<>(HISTORY_SIZE);
+
+	/**
+	 * Returns the telemetry of the workbench jobs.
+	 *
+	 * @return JobTelemetry
+	 */
+	public static synchronized JobTelemetry getInstance() {
+		if (singleton == null) {
+			singleton = new JobTelemetry();
+		}
+		return singleton;
+	}
+
+	private JobTelemetry() {
+		// use getInstance()
+	}
+
+	/**
+	 * The job was scheduled or woke up and waits to run now.
+	 *
+	 * @param job the job
+	 */
+	void waiting(Job job) {
+		long now = System.nanoTime();
+		Timing timing = timings.get(job);
+		if (timing == null) {
+			timings.put(job, new Timing(now));
+		} else {
+			timing.waitingSince = now;
+		}
+	}
+
+	/**
+	 * The job is about to run.
+	 *
+	 * @param job the job
+	 */
+	void running(Job job) {
+		long now = System.nanoTime();
+		timings.computeIfAbsent(job, j -> new Timing(now)).started = now;
+	}
+
+	/**
+	 * The running job is blocked by another job.
+	 *
+	 * @param job the job
+	 */
+	void blocked(Job job) {
+		Timing timing = timings.get(job);
+		if (timing != null && timing.blockedSince == 0) {
+			timing.blockedSince = System.nanoTime();
+		}
+	}
+
+	/**
+	 * The job is not blocked anymore.
+	 *
+	 * @param job the job
+	 */
+	void unblocked(Job job) {
+		Timing timing = timings.get(job);
+		if (timing != null) {
+			long blockedSince = timing.blockedSince;
+			if (blockedSince != 0) {
+				timing.blocked += System.nanoTime() - blockedSince;
+				timing.blockedSince = 0;
+			}
+		}
+	}
+
+	/**
+	 * The cancellation of the job was requested.
+	 *
+	 * @param job the job
+	 */
+	void cancelRequested(Job job) {
+		Timing timing = timings.get(job);
+		if (timing != null && timing.cancelRequested == 0) {
+			timing.cancelRequested = System.nanoTime();
+		}
+	}
+
+	/**
+	 * The job finished. Its timings are added to the statistics of its class and
+	 * family and to the history.
+	 *
+	 * @param job    the job
+	 * @param result the result of the job, may be <code>null</code>
+	 */
+	void done(Job job, IStatus result) {
+		Timing timing = timings.remove(job);
+		if (timing == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		long started = timing.started;
+		long wait;
+		long run;
+		if (started == 0) {
+			// canceled before it ran
+			wait = now - timing.waitingSince;
+			run = 0;
+		} else {
+			wait = Math.max(0, started - timing.waitingSince);
+			run = now - started;
+		}
+		long blocked = timing.blocked;
+		if (timing.blockedSince != 0) {
+			blocked += now - timing.blockedSince;
+		}
+		long cancelLatency = timing.cancelRequested == 0 ? -1 : now - timing.cancelRequested;
+		int severity = result == null ? IStatus.OK : result.getSeverity();
+		Object family = ProgressManager.getInstance().getFamilyFor(job);
+
+		HistoryEntry entry = new HistoryEntry(job.getName(), job.getClass().getName(), toString(family),
+				System.currentTimeMillis(), wait, run, blocked, cancelLatency, severity);
+		synchronized (this) {
+			Accumulator accumulator = accumulators.computeIfAbsent(new Key(entry.jobClass(), family),
+					key -> new Accumulator(job.getClass()));
+			accumulator.runs++;
+			accumulator.totalWait += wait;
+			accumulator.maxWait = Math.max(accumulator.maxWait, wait);
+			accumulator.totalRun += run;
+			accumulator.maxRun = Math.max(accumulator.maxRun, run);
+			accumulator.totalBlocked += blocked;
+			if (severity == IStatus.CANCEL || cancelLatency >= 0) {
+				accumulator.cancellations++;
+			}
+			if (cancelLatency >= 0) {
+				accumulator.totalCancelLatency += cancelLatency;
+				accumulator.maxCancelLatency = Math.max(accumulator.maxCancelLatency, cancelLatency);
+			}
+
+			if (history.size() == HISTORY_SIZE) {
+				history.removeFirst();
+			}
+			history.addLast(entry);
+		}
+	}
+
+	/**
+	 * Get the statistics of all job classes and families.
+	 *
+	 * @return the statistics in no particular order
+	 */
+	public synchronized List<Statistics> getStatistics() {
+		List<Statistics> statistics = new ArrayList<>(accumulators.size());
+		accumulators.forEach((key, accumulator) -> statistics.add(new Statistics(key.jobClass(),
+				toString(key.family()), accumulator.bundle, accumulator.runs, accumulator.cancellations,
+				accumulator.totalWait, accumulator.maxWait, accumulator.totalRun, accumulator.maxRun,
+				accumulator.totalBlocked, accumulator.totalCancelLatency, accumulator.maxCancelLatency)));
+		return statistics;
+	}
+
+	/**
+	 * Get the most recently finished jobs.
+	 *
+	 * @return the history, oldest first
+	 */
+	public synchronized List<HistoryEntry> getHistory() {
+		return new ArrayList<>(history);
+	}
+
+	/**
+	 * Remove all statistics and the history. Jobs which are running are still
+	 * recorded when they finish.
+	 */
+	public synchronized void clear() {
+		accumulators.clear();
+		history.clear();
+	}
+
+	/**
+	 * Write the history as comma separated values, one line per job. Durations are
+	 * written in microseconds.
+	 *
+	 * @param writer the writer to write to
+	 * @throws IOException if writing fails
+	 */
+	public void exportHistory(Writer writer) throws IOException {
+		writer.write(String.join(DELIMITER, "name", "class", "family", "finished", "wait", "run", "blocked", //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+				"cancelLatency", "severity")); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.write(System.lineSeparator());
+		for (HistoryEntry entry : getHistory()) {
+			StringBuilder line = new StringBuilder();
+			line.append(quote(entry.name())).append(DELIMITER);
+			line.append(quote(entry.jobClass())).append(DELIMITER);
+			line.append(quote(entry.family())).append(DELIMITER);
+			line.append(entry.finished()).append(DELIMITER);
+			line.append(entry.waitTime() / 1000).append(DELIMITER);
+			line.append(entry.runTime() / 1000).append(DELIMITER);
+			line.append(entry.blockedTime() / 1000).append(DELIMITER);
+			line.append(entry.cancelLatency() < 0 ? -1 : entry.cancelLatency() / 1000).append(DELIMITER);
+			line.append(entry.severity());
+			line.append(System.lineSeparator());
+			writer.write(line.toString());
+		}
+	}
+
+	private static String quote(String value) {
+		return QUOTE + value.replace(QUOTE, QUOTE + QUOTE) + QUOTE;
+	}
+
+	private static String toString(Object family) {
+		return family == null ? "" : String.valueOf(family); //$NON-NLS-1$
+	}
+}
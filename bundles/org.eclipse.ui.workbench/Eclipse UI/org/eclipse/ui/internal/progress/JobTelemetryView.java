@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.progress;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
+import java.util.function.Function;
+import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IMenuManager;
+import org.eclipse.jface.util.SafeRunnable;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.ui.internal.progress.JobTelemetry.Statistics;
+import org.eclipse.ui.part.ViewPart;
+
+/**
+ * The JobTelemetryView shows the {@link JobTelemetry} statistics of each job
+ * class and family, sorted by their cost so that the jobs which use the most
+ * time are on top. The statistics are refreshed periodically while the view is
+ * visible.
+ */
+public class JobTelemetryView extends ViewPart {
+
+	/**
+	 * The id of the view.
+	 */
+	public static final String ID = "org.eclipse.ui.views.JobTelemetryView"; //$NON-NLS-1$
+
+	private static final int REFRESH_INTERVAL = 1000;
+
+	private record Column(String title, int width, boolean duration, Function<Statistics, Comparable<?>> value) {
+	}
+
+	private static final Column[] COLUMNS = {
+			new Column(ProgressMessages.JobTelemetryView_JobClass, 250, false, Statistics::jobClass),
+			new Column(ProgressMessages.JobTelemetryView_Family, 120, false, Statistics::family),
+			new Column(ProgressMessages.JobTelemetryView_Bundle, 150, false, Statistics::bundle),
+			new Column(ProgressMessages.JobTelemetryView_Runs, 60, false, Statistics::runs),
+			new Column(ProgressMessages.JobTelemetryView_Cancellations, 60, false, Statistics::cancellations),
+			new Column(ProgressMessages.JobTelemetryView_Cost, 80, true, Statistics::cost),
+			new Column(ProgressMessages.JobTelemetryView_RunTime, 80, true, Statistics::totalRun),
+			new Column(ProgressMessages.JobTelemetryView_MaxRunTime, 80, true, Statistics::maxRun),
+			new Column(ProgressMessages.JobTelemetryView_WaitTime, 80, true, Statistics::totalWait),
+			new Column(ProgressMessages.JobTelemetryView_MaxWaitTime, 80, true, Statistics::maxWait),
+			new Column(ProgressMessages.JobTelemetryView_BlockedTime, 80, true, Statistics::totalBlocked),
+			new Column(ProgressMessages.JobTelemetryView_MaxCancelLatency, 80, true,
+					Statistics::maxCancelLatency) };
+
+	private static final int COST_COLUMN = 5;
+
+	private TableViewer viewer;
+
+	private final NumberFormat millisFormat = NumberFormat.getNumberInstance();
+
+	private final Runnable refresher = this::refreshPeriodically;
+
+	private int sortColumn = COST_COLUMN;
+
+	private int sortDirection = SWT.DOWN;
+
+	@Override
+	public void createPartControl(Composite parent) {
+		millisFormat.setMaximumFractionDigits(1);
+
+		viewer = new TableViewer(parent, SWT.MULTI | SWT.FULL_SELECTION | SWT.V_SCROLL | SWT.H_SCROLL);
+		Table table = viewer.getTable();
+		table.setHeaderVisible(true);
+		table.setLinesVisible(true);
+		for (int i = 0; i < COLUMNS.length; i++) {
+			createColumn(i);
+		}
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		viewer.setComparator(new ViewerComparator() {
+			@SuppressWarnings({ "unchecked", "rawtypes" })
+			@Override
+			public int compare(Viewer v, Object e1, Object e2) {
+				Function<Statistics, Comparable<?>> value = COLUMNS[sortColumn].value();
+				Comparable c1 = value.apply((Statistics) e1);
+				Comparable c2 = value.apply((Statistics) e2);
+				int result = c1.compareTo(c2);
+				return sortDirection == SWT.UP ? result : -result;
+			}
+		});
+		table.setSortColumn(table.getColumn(sortColumn));
+		table.setSortDirection(sortDirection);
+		viewer.setInput(JobTelemetry.getInstance().getStatistics());
+
+		initPulldownMenu();
+		table.getDisplay().timerExec(REFRESH_INTERVAL, refresher);
+	}
+
+	private void createColumn(int index) {
+		Column column = COLUMNS[index];
+		// names in the first columns, numbers in the others
+		TableViewerColumn viewerColumn = new TableViewerColumn(viewer, index > 2 ? SWT.RIGHT : SWT.LEFT);
+		TableColumn tableColumn = viewerColumn.getColumn();
+		tableColumn.setText(column.title());
+		tableColumn.setWidth(column.width());
+		tableColumn.setMoveable(true);
+		viewerColumn.setLabelProvider(new ColumnLabelProvider() {
+			@Override
+			public String getText(Object element) {
+				Object value = column.value().apply((Statistics) element);
+				if (column.duration()) {
+					return millisFormat.format((Long) value / 1e6);
+				}
+				return String.valueOf(value);
+			}
+		});
+		tableColumn.addListener(SWT.Selection, event -> {
+			Table table = viewer.getTable();
+			if (sortColumn == index) {
+				sortDirection = sortDirection == SWT.UP ? SWT.DOWN : SWT.UP;
+			} else {
+				sortColumn = index;
+				// the largest numbers are most interesting, names in alphabetical order
+				sortDirection = index > 2 ? SWT.DOWN : SWT.UP;
+			}
+			table.setSortColumn(tableColumn);
+			table.setSortDirection(sortDirection);
+			viewer.refresh();
+		});
+	}
+
+	private void initPulldownMenu() {
+		IMenuManager menuMgr = getViewSite().getActionBars().getMenuManager();
+		menuMgr.add(new Action(ProgressMessages.JobTelemetryView_ExportHistoryAction) {
+			@Override
+			public void run() {
+				exportHistory();
+			}
+		});
+		menuMgr.add(new Action(ProgressMessages.JobTelemetryView_ResetAction) {
+			@Override
+			public void run() {
+				JobTelemetry.getInstance().clear();
+				refresh();
+			}
+		});
+	}
+
+	/**
+	 * Refresh the statistics and schedule the next refresh as long as the view is
+	 * open.
+	 */
+	private void refreshPeriodically() {
+		Table table = viewer.getTable();
+		if (table.isDisposed()) {
+			return;
+		}
+		if (table.isVisible()) {
+			refresh();
+		}
+		table.getDisplay().timerExec(REFRESH_INTERVAL, refresher);
+	}
+
+	/**
+	 * Show the current statistics.
+	 */
+	void refresh() {
+		viewer.setInput(JobTelemetry.getInstance().getStatistics());
+	}
+
+	private void exportHistory() {
+		FileDialog fileDialog = new FileDialog(viewer.getControl().getShell(), SWT.SAVE | SWT.SHEET);
+		fileDialog.setFilterExtensions(new String[] { "*.csv" }); //$NON-NLS-1$
+		fileDialog.setOverwrite(true);
+		String filePath = fileDialog.open();
+		if (filePath == null) {
+			return;
+		}
+		SafeRunner.run(new SafeRunnable() {
+			@Override
+			public void run() throws Exception {
+				try (Writer writer = new BufferedWriter(
+						new OutputStreamWriter(new FileOutputStream(filePath), StandardCharsets.UTF_8))) {
+					JobTelemetry.getInstance().exportHistory(writer);
+				}
+			}
+		});
+	}
+
+	@Override
+	public void setFocus() {
+		viewer.getControl().setFocus();
+	}
+
+	@Override
+	public void dispose() {
+		if (viewer != null && !viewer.getTable().isDisposed()) {
+			viewer.getTable().getDisplay().timerExec(-1, refresher);
+		}
+		super.dispose();
+	}
+
+	/**
+	 * @return Returns the viewer.
+	 */
+	public TableViewer getViewer() {
+		return viewer;
+	}
+}
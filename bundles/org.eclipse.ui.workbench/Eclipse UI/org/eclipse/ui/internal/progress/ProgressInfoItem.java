@@ -271,6 +271,35 @@ public class ProgressInfoItem extends Composite {
 		refresh();
 	}
 
+	/**
+	 * Show another job element in the receiver, so that the receiver can be
+	 * reused instead of creating a new item.
+	 *
+	 * @param progressInfo the job element to represent
+	 */
+	void setInfo(JobTreeElement progressInfo) {
+		info = progressInfo;
+		setData(info);
+		for (Link taskEntry : taskEntries) {
+			taskEntry.dispose();
+		}
+		taskEntries = new ArrayList<>(0);
+		link = null;
+		if (tracker != null) {
+			tracker.stop();
+			tracker = null;
+		}
+		if (progressBar != null) {
+			progressBar.dispose();
+			progressBar = null;
+		}
+		selected = false;
+		isShowing = true;
+		setLayoutsForNoProgress();
+		refresh();
+		requestLayout();
+	}
+
 	/**
 	 * Set the main text of the receiver. Truncate to fit the available space.
 	 */
@@ -498,8 +527,9 @@ public class ProgressInfoItem extends Composite {
 
 		}
 
-		for (int i = 0; i < infos.length; i++) {
-			JobInfo jobInfo = infos[i];
+		JobInfo[] shownInfos = getShownJobInfos(infos);
+		for (int i = 0; i < shownInfos.length; i++) {
+			JobInfo jobInfo = shownInfos[i];
 			Optional<TaskInfo> optionalInfo = jobInfo.getTaskInfo();
 			if (optionalInfo.isPresent()) {
 				TaskInfo taskInfo = optionalInfo.get();
@@ -520,7 +550,7 @@ public class ProgressInfoItem extends Composite {
 					}
 				}
 				if (taskString != null) {
-					setLinkText(infos[i].getJob(), taskString, i);
+					setLinkText(jobInfo.getJob(), taskString, i);
 				}
 			} else {// Check for the finished job state
 				Job job = jobInfo.getJob();
@@ -538,13 +568,13 @@ public class ProgressInfoItem extends Composite {
 		}
 
 		// Remove completed tasks
-		if (infos.length < taskEntries.size()) {
-			for (int i = infos.length; i < taskEntries.size(); i++) {
+		if (shownInfos.length < taskEntries.size()) {
+			for (int i = shownInfos.length; i < taskEntries.size(); i++) {
 				taskEntries.get(i).dispose();
 
 			}
-			if (infos.length > 1)
-				taskEntries = taskEntries.subList(0, infos.length - 1);
+			if (shownInfos.length > 1)
+				taskEntries = taskEntries.subList(0, shownInfos.length - 1);
 			else
 				taskEntries.clear();
 		}
@@ -589,6 +619,25 @@ public class ProgressInfoItem extends Composite {
 		return infos;
 	}
 
+	/**
+	 * Return the job infos whose tasks are shown as links. An item for a family of
+	 * jobs only shows the task of one running job instead of a link for each job.
+	 *
+	 * @param infos the job infos in the receiver
+	 * @return JobInfo[]
+	 */
+	private JobInfo[] getShownJobInfos(JobInfo[] infos) {
+		if (!(info instanceof JobFamilyInfo) || infos.length <= 1) {
+			return infos;
+		}
+		for (JobInfo jobInfo : infos) {
+			if (jobInfo.getJob().getState() == Job.RUNNING) {
+				return new JobInfo[] { jobInfo };
+			}
+		}
+		return new JobInfo[] { infos[0] };
+	}
+
 	/**
 	 * Return whether or not the receiver is being displayed as running.
 	 *
@@ -36,8 +36,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Predicate;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -174,6 +176,14 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 	private static final String IMAGE_KEY = "org.eclipse.ui.progress.images"; //$NON-NLS-1$
 
+	/**
+	 * Jobs whose progress changed since the listeners were last notified. Work and
+	 * sub tasks reported to a {@link JobMonitor} are only recorded in its
+	 * {@link JobInfo}, which is queued here once per notification and sampled by
+	 * {@link #notifyListeners()}.
+	 */
+	private final Queue<JobInfo> pendingProgressUpdates = new ConcurrentLinkedQueue<>();
+
 	private final Throttler uiRefreshThrottler;
 
 	/**
@@ -276,9 +286,11 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		public void internalWorked(double work) {
 			if (info.getTaskInfo().isPresent()) {
 				info.addWork(work);
-				refreshJobInfo(info);
+				progressChanged(info);
+			}
+			for (IProgressMonitor listener : monitors) {
+				listener.internalWorked(work);
 			}
-			monitors.forEach(listener -> listener.internalWorked(work));
 		}
 
 		@Override
@@ -317,8 +329,10 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 			}
 			info.clearChildren();
 			info.addSubTask(name);
-			refreshJobInfo(info);
-			monitors.forEach(listener -> listener.subTask(name));
+			progressChanged(info);
+			for (IProgressMonitor listener : monitors) {
+				listener.subTask(name);
+			}
 		}
 
 		@Override
@@ -328,6 +342,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 		@Override
 		public void clearBlocked() {
+			JobTelemetry.getInstance().unblocked(job);
 			info.setBlockedStatus(null);
 			refreshJobInfo(info);
 			monitors.forEach(IProgressMonitor::clearBlocked);
@@ -335,6 +350,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 		@Override
 		public void setBlocked(IStatus reason) {
+			JobTelemetry.getInstance().blocked(job);
 			info.setBlockedStatus(reason);
 			refreshJobInfo(info);
 			monitors.forEach(listener -> listener.setBlocked(reason));
@@ -363,6 +379,14 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		Set<GroupInfo> localPendingGroupUpdates, localPendingGroupRemoval;
 		Map<JobInfo, Set<IJobProgressManagerListener>> localPendingJobUpdates, localPendingJobAddition,
 				localPendingJobRemoval;
+		JobInfo progressInfo;
+		while ((progressInfo = pendingProgressUpdates.poll()) != null) {
+			progressInfo.clearProgressChanged();
+			// finished jobs are removed by the job change listener
+			if (progressInfo.getJob().getState() != Job.NONE) {
+				rememberJobUpdate(progressInfo);
+			}
+		}
 		synchronized (pendingUpdatesMutex) {
 			localPendingJobUpdates = pendingJobUpdates;
 			pendingJobUpdates = new LinkedHashMap<>();
@@ -421,6 +445,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		return new JobChangeAdapter() {
 			@Override
 			public void aboutToRun(IJobChangeEvent event) {
+				JobTelemetry.getInstance().running(event.getJob());
 				JobInfo info = progressFor(event.getJob()).getJobInfo();
 				refreshJobInfo(info);
 				Iterator<IJobBusyListener> startListeners = busyListenersForJob(event.getJob()).iterator();
@@ -432,6 +457,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 			@Override
 			public void done(IJobChangeEvent event) {
+				JobTelemetry.getInstance().done(event.getJob(), event.getResult());
 				if (!PlatformUI.isWorkbenchRunning()) {
 					return;
 				}
@@ -471,6 +497,9 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 			@Override
 			public void scheduled(IJobChangeEvent event) {
+				if (event.getDelay() <= 0) {
+					JobTelemetry.getInstance().waiting(event.getJob());
+				}
 				updateFor(event);
 				if (event.getJob().isUser()) {
 					boolean noDialog = shouldRunInBackground();
@@ -505,6 +534,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 			@Override
 			public void awake(IJobChangeEvent event) {
+				JobTelemetry.getInstance().waiting(event.getJob());
 				updateFor(event);
 			}
 
@@ -639,11 +669,30 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 */
 	public void refreshJobInfo(JobInfo info) {
 		checkForStaleness(info.getJob());
+		rememberJobUpdate(info);
+		uiRefreshThrottler.throttledExec();
+	}
+
+	private void rememberJobUpdate(JobInfo info) {
 		synchronized (pendingUpdatesMutex) {
 			Predicate<IJobProgressManagerListener> predicate = listener -> !isNeverDisplaying(info.getJob(), listener.showsDebug());
 			rememberListenersForJob(info, pendingJobUpdates, predicate);
 		}
-		uiRefreshThrottler.throttledExec();
+	}
+
+	/**
+	 * Records that the progress of the job changed. Unlike
+	 * {@link #refreshJobInfo(JobInfo)} this neither locks nor allocates if the
+	 * change is already recorded, as it is called for every tick of work. The
+	 * listeners are notified when the progress is next sampled.
+	 *
+	 * @param info the job info whose progress changed
+	 */
+	void progressChanged(JobInfo info) {
+		if (info.markProgressChanged()) {
+			pendingProgressUpdates.add(info);
+			uiRefreshThrottler.throttledExec();
+		}
 	}
 
 	/**
@@ -1043,11 +1092,26 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 	@Override
 	public Image getIconFor(Job job) {
+		Object family = getFamilyFor(job);
+		if (family != null) {
+			return JFaceResources.getImageRegistry().get(imageKeyTable.get(family));
+		}
+		return null;
+	}
+
+	/**
+	 * Get the first family with a registered icon that the job belongs to.
+	 *
+	 * @param job the job to get the family for
+	 * @return Object or <code>null</code> if the job does not belong to a family
+	 *         with an icon
+	 */
+	Object getFamilyFor(Job job) {
 		Enumeration<Object> families = imageKeyTable.keys();
 		while (families.hasMoreElements()) {
 			Object next = families.nextElement();
 			if (job.belongsTo(next)) {
-				return JFaceResources.getImageRegistry().get(imageKeyTable.get(next));
+				return next;
 			}
 		}
 		return null;
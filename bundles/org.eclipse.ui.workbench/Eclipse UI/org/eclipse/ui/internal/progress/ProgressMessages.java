@@ -30,6 +30,21 @@ public class ProgressMessages extends NLS {
 	public static String JobInfo_Cancelled;
 	public static String JobInfo_Cancel_Requested;
 	public static String JobInfo_Error;
+	public static String JobFamilyInfo_Name;
+	public static String JobTelemetryView_JobClass;
+	public static String JobTelemetryView_Family;
+	public static String JobTelemetryView_Bundle;
+	public static String JobTelemetryView_Runs;
+	public static String JobTelemetryView_Cancellations;
+	public static String JobTelemetryView_Cost;
+	public static String JobTelemetryView_RunTime;
+	public static String JobTelemetryView_MaxRunTime;
+	public static String JobTelemetryView_WaitTime;
+	public static String JobTelemetryView_MaxWaitTime;
+	public static String JobTelemetryView_BlockedTime;
+	public static String JobTelemetryView_MaxCancelLatency;
+	public static String JobTelemetryView_ExportHistoryAction;
+	public static String JobTelemetryView_ResetAction;
 	public static String JobInfo_Blocked;
 	public static String JobInfo_Finished;
 	public static String JobInfo_FinishedAt;
@@ -14,11 +14,13 @@
 package org.eclipse.ui.internal.progress;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import org.eclipse.jface.util.Throttler;
 import org.eclipse.ui.IWorkbenchPreferenceConstants;
@@ -47,6 +49,17 @@ class ProgressViewUpdater implements IJobProgressManagerListener {
 	Throttler throttledUpdate = new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(100),
 			this::update);
 
+	/**
+	 * The minimum time in milliseconds between two updates which add or remove
+	 * elements. Restructuring the viewers is expensive, so with many short jobs
+	 * only the refreshes of shown elements are applied in between.
+	 */
+	static final long STRUCTURE_UPDATE_DELAY = 500;
+
+	private long lastStructureUpdate;
+
+	private boolean structureUpdateScheduled;
+
 	final KeptJobsListener finishedJobsListener = new FinishedJobsListener();
 
 	/**
@@ -127,6 +140,44 @@ class ProgressViewUpdater implements IJobProgressManagerListener {
 			updateAll = false;
 		}
 
+		/**
+		 * @return whether or not elements have to be added or removed
+		 */
+		synchronized boolean hasStructureChanges() {
+			return !additions.isEmpty() || !deletions.isEmpty() || !keptRemoved.isEmpty();
+		}
+
+		/**
+		 * Process only the refreshes of elements which are shown already and keep the
+		 * additions and deletions for a later update. Refreshes of finished elements
+		 * are kept as deletions.
+		 *
+		 * @return array like {@link #processForUpdate()} with only updated items
+		 */
+		synchronized JobTreeElement[][] processRefreshesForUpdate() {
+			List<JobTreeElement> updates = new ArrayList<>(refreshes.size());
+			for (JobTreeElement treeElement : refreshes) {
+				Object parent = treeElement.getParent();
+				if (deletions.contains(treeElement) || additions.contains(treeElement)
+						|| parent != null && (deletions.contains(parent) || additions.contains(parent))) {
+					// handled with the additions and deletions
+					continue;
+				}
+				if (treeElement.isActive()) {
+					updates.add(treeElement);
+				} else {
+					deletions.add(treeElement);
+				}
+			}
+			refreshes.clear();
+
+			JobTreeElement[] updateItems = updates.toArray(new JobTreeElement[0]);
+			JobTreeElement[] keptFinishedItems = keptFinished.toArray(new JobTreeElement[0]);
+			keptFinished.clear();
+			JobTreeElement[] none = new JobTreeElement[0];
+			return new JobTreeElement[][] { updateItems, none, none, keptFinishedItems, none };
+		}
+
 		/**
 		 * @return array containing updated, added and deleted items
 		 */
@@ -288,10 +339,31 @@ class ProgressViewUpdater implements IJobProgressManagerListener {
 			}
 
 		} else {
+			long now = System.currentTimeMillis();
+			boolean structureDue = now - lastStructureUpdate >= STRUCTURE_UPDATE_DELAY;
+			boolean structurePending = false;
 			JobTreeElement[][] elements;
 			synchronized (currentInfo) {
-				elements = currentInfo.processForUpdate();
-				currentInfo.reset();
+				if (structureDue || !currentInfo.hasStructureChanges()) {
+					elements = currentInfo.processForUpdate();
+					currentInfo.reset();
+				} else {
+					elements = currentInfo.processRefreshesForUpdate();
+					structurePending = true;
+				}
+			}
+			if (elements[1].length > 0 || elements[2].length > 0 || elements[4].length > 0) {
+				lastStructureUpdate = now;
+			}
+			if (structurePending && !structureUpdateScheduled) {
+				// update again once the structural changes are due. Not calling the throttler
+				// directly as it may run this update again immediately.
+				structureUpdateScheduled = true;
+				int delay = (int) (STRUCTURE_UPDATE_DELAY - (now - lastStructureUpdate));
+				PlatformUI.getWorkbench().getDisplay().timerExec(delay, () -> {
+					structureUpdateScheduled = false;
+					throttledUpdate.throttledExec();
+				});
 			}
 
 			JobTreeElement[] updateItems = elements[0];
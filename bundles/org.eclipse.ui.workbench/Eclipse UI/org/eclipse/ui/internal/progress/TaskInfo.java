@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.progress;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.osgi.util.NLS;
 
@@ -22,7 +24,18 @@ import org.eclipse.osgi.util.NLS;
  * deleted.
  */
 public class TaskInfo extends SubTaskInfo {
-	double preWork;
+	private static final VarHandle PRE_WORK;
+
+	static {
+		try {
+			PRE_WORK = MethodHandles.lookup().findVarHandle(TaskInfo.class, "preWork", double.class); //$NON-NLS-1$
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	// updated atomically as work may be reported while the UI reads it
+	volatile double preWork;
 	int totalWork;
 
 	/**
@@ -48,7 +61,7 @@ public class TaskInfo extends SubTaskInfo {
 		if (totalWork == IProgressMonitor.UNKNOWN) {
 			return;
 		}
-		preWork += workIncrement;
+		PRE_WORK.getAndAdd(this, workIncrement);
 	}
 
 	/**
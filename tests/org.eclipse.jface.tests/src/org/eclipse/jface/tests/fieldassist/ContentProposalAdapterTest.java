@@ -14,18 +14,32 @@
 package org.eclipse.jface.tests.fieldassist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jface.fieldassist.ContentProposal;
 import org.eclipse.jface.fieldassist.ContentProposalAdapter;
+import org.eclipse.jface.fieldassist.IAsyncContentProposalProvider;
+import org.eclipse.jface.fieldassist.IContentProposal;
 import org.eclipse.jface.fieldassist.IContentProposalProvider;
 import org.eclipse.jface.fieldassist.SimpleContentProposalProvider;
 import org.eclipse.jface.fieldassist.TextContentAdapter;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.tests.harness.util.TestRunLogUtil;
 import org.junit.After;
@@ -125,6 +139,150 @@ public class ContentProposalAdapterTest {
 		assertOneShellUp();
 	}
 
+	/**
+	 * Tests that proposals from an asynchronous provider open the popup with the
+	 * first batch and that later batches are appended to it.
+	 */
+	@Test
+	public void testAsyncProposalsStreamedIntoPopup() throws Exception {
+		CountDownLatch secondBatch = new CountDownLatch(1);
+		contentProposalAdapter.setContentProposalProvider(
+				(IAsyncContentProposalProvider) (contents, position, collector, monitor) -> {
+					collector.accept(new IContentProposal[] { new ContentProposal("one") });
+					await(secondBatch);
+					collector.accept(new IContentProposal[] { new ContentProposal("two"), new ContentProposal("three") });
+				});
+		sendFocusInToControl();
+		contentProposalAdapter.openProposalPopup();
+
+		waitUntil(contentProposalAdapter::isProposalPopupOpen);
+		Table table = getProposalTable();
+		assertEquals(1, table.getItemCount());
+
+		secondBatch.countDown();
+		waitUntil(() -> table.getItemCount() == 3);
+		assertEquals(0, table.getSelectionIndex());
+	}
+
+	/**
+	 * Tests that a pending request to an asynchronous provider is cancelled when
+	 * a new one is made, and that its proposals are never shown.
+	 */
+	@Test
+	public void testAsyncProposalsStaleRequestCancelled() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		List<IProgressMonitor> monitors = new CopyOnWriteArrayList<>();
+		contentProposalAdapter.setContentProposalProvider(
+				(IAsyncContentProposalProvider) (contents, position, collector, monitor) -> {
+					monitors.add(monitor);
+					await(release, monitor);
+					if (!monitor.isCanceled()) {
+						collector.accept(new IContentProposal[] { new ContentProposal("one") });
+					}
+				});
+		sendFocusInToControl();
+		contentProposalAdapter.openProposalPopup();
+		contentProposalAdapter.openProposalPopup();
+		waitUntil(() -> monitors.size() == 2);
+		release.countDown();
+
+		waitUntil(contentProposalAdapter::isProposalPopupOpen);
+		spinEventLoop();
+		assertEquals(1, getProposalTable().getItemCount());
+		assertTrue(monitors.get(0).isCanceled() != monitors.get(1).isCanceled());
+	}
+
+	/**
+	 * Tests that plain providers are asked in the UI thread, and that their
+	 * proposals are shown right away.
+	 */
+	@Test
+	public void testPlainProposalsComputedInUIThread() throws Exception {
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		contentProposalAdapter.setContentProposalProvider((contents, position) -> {
+			threads.add(Thread.currentThread());
+			return new IContentProposal[] { new ContentProposal("one"), new ContentProposal("two") };
+		});
+		sendFocusInToControl();
+		contentProposalAdapter.openProposalPopup();
+		assertTrue(contentProposalAdapter.isProposalPopupOpen());
+		assertEquals(2, getProposalTable().getItemCount());
+		assertEquals(1, threads.size());
+		assertSame(text.getDisplay().getThread(), threads.get(0));
+	}
+
+	/**
+	 * Tests that a plain provider which accesses widgets is asked in the UI
+	 * thread.
+	 */
+	@Test
+	public void testPlainProposalsAccessingWidgets() throws Exception {
+		contentProposalAdapter.setContentProposalProvider(
+				(contents, position) -> new IContentProposal[] { new ContentProposal(text.getText() + "1") });
+		text.setText("a");
+		sendFocusInToControl();
+		contentProposalAdapter.openProposalPopup();
+
+		waitUntil(contentProposalAdapter::isProposalPopupOpen);
+		assertEquals("a1", getProposalTable().getItem(0).getText());
+	}
+
+	private static void await(CountDownLatch latch, IProgressMonitor monitor) {
+		long target = System.currentTimeMillis() + 5000;
+		try {
+			while (!monitor.isCanceled() && System.currentTimeMillis() < target
+					&& !latch.await(10, TimeUnit.MILLISECONDS)) {
+				// wait for the latch or the cancellation
+			}
+		} catch (InterruptedException e) {
+			// nothing to do
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			// nothing to do
+		}
+	}
+
+	private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long target = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			assertFalse("Timed out waiting for proposals", System.currentTimeMillis() > target);
+			spinEventLoop();
+			Thread.sleep(10);
+		}
+	}
+
+	private Table getProposalTable() {
+		for (Shell shell : text.getDisplay().getShells()) {
+			if (shell != controlShell) {
+				Table table = findTable(shell);
+				if (table != null) {
+					return table;
+				}
+			}
+		}
+		throw new AssertionError("No proposal popup found");
+	}
+
+	private static Table findTable(Composite composite) {
+		for (Control child : composite.getChildren()) {
+			if (child instanceof Table table) {
+				return table;
+			}
+			if (child instanceof Composite c) {
+				Table table = findTable(c);
+				if (table != null) {
+					return table;
+				}
+			}
+		}
+		return null;
+	}
+
 	// most of the following code is copied from AbstractFieldAssistTestCase
 
 	@Before
@@ -14,12 +14,14 @@
  ******************************************************************************/
 package org.eclipse.jface.tests.fieldassist;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 import org.eclipse.jface.fieldassist.ContentProposal;
 import org.eclipse.jface.fieldassist.IContentProposal;
+import org.eclipse.jface.fieldassist.IndexedContentProposalProvider;
 import org.junit.Test;
 
 public class FieldAssistAPITests extends AbstractFieldAssistTestCase {
@@ -74,6 +76,33 @@ public class FieldAssistAPITests extends AbstractFieldAssistTestCase {
 		}
 	}
 
+	@Test
+	public void testIndexedContentProposalProvider() {
+		IndexedContentProposalProvider provider = new IndexedContentProposalProvider("getName", "Name", "setName",
+				"NullPointerException", "noop", "NumberFormatException");
+		assertArrayEquals("5.0", new String[] { "Name", "getName", "setName" },
+				getContents(provider.getProposals("name", 0)));
+		assertArrayEquals("5.1", new String[] { "NullPointerException", "NumberFormatException" },
+				getContents(provider.getProposals("EXC", 0)));
+		assertArrayEquals("5.2", new String[] { "NullPointerException" },
+				getContents(provider.getProposals("NPE", 0)));
+		assertArrayEquals("5.3", new String[] { "NumberFormatException" },
+				getContents(provider.getProposals("NuFoEx", 0)));
+		assertArrayEquals("5.4", new String[0], getContents(provider.getProposals("NuEx", 0)));
+		assertEquals("5.5", 6, provider.getProposals("", 0).length);
+
+		provider.setProposals("one", "two");
+		assertArrayEquals("5.6", new String[] { "two" }, getContents(provider.getProposals("w", 0)));
+	}
+
+	private static String[] getContents(IContentProposal[] proposals) {
+		String[] contents = new String[proposals.length];
+		for (int i = 0; i < proposals.length; i++) {
+			contents[i] = proposals[i].getContent();
+		}
+		return contents;
+	}
+
 	@Override
 	protected AbstractFieldAssistWindow createFieldAssistWindow() {
 		return new TextFieldAssistWindow();
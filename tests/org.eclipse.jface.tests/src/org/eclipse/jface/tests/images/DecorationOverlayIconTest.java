@@ -19,9 +19,11 @@ import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.resource.ResourceManager;
 import org.eclipse.jface.viewers.DecorationOverlayIcon;
 import org.eclipse.jface.viewers.IDecoration;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
 import org.junit.Before;
 
 import junit.framework.TestCase;
@@ -154,4 +156,36 @@ public class DecorationOverlayIconTest extends TestCase {
 		assertTrue(equalButDifferentIcon1.equals(equalButDifferentIcon2));
 		assertEquals(equalButDifferentIcon1.hashCode(), equalButDifferentIcon2.hashCode());
 	}
+
+	public void testCreateShared() {
+		ResourceManager manager = JFaceResources.getResources();
+		Point size = new Point(baseImage1.getBounds().width, baseImage1.getBounds().height);
+		Image copy = baseDescriptor1.createImage();
+		try {
+			assertNotSame(baseImage1, copy);
+			// same content in different images
+			DecorationOverlayIcon icon1 = DecorationOverlayIcon.createShared(baseImage1,
+					new ImageDescriptor[] { overlayDescriptor1 }, size);
+			DecorationOverlayIcon icon2 = DecorationOverlayIcon.createShared(copy,
+					new ImageDescriptor[] { overlayDescriptor1 }, size);
+			assertTrue(icon1.equals(icon2));
+			assertEquals(icon1.hashCode(), icon2.hashCode());
+
+			Image image1 = manager.createImage(icon1);
+			Image image2 = manager.createImage(icon2);
+			assertSame(image1, image2);
+			manager.destroyImage(icon1);
+			manager.destroyImage(icon2);
+
+			// different content or overlays
+			DecorationOverlayIcon icon3 = DecorationOverlayIcon.createShared(baseImage2,
+					new ImageDescriptor[] { overlayDescriptor1 }, size);
+			assertFalse(icon1.equals(icon3));
+			DecorationOverlayIcon icon4 = DecorationOverlayIcon.createShared(copy,
+					new ImageDescriptor[] { overlayDescriptor2 }, size);
+			assertFalse(icon2.equals(icon4));
+		} finally {
+			copy.dispose();
+		}
+	}
 }
@@ -20,13 +20,18 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.resource.DeviceResourceDescriptor;
+import org.eclipse.jface.resource.DeviceResourceManager;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.resource.LazyResourceManager;
+import org.eclipse.jface.resource.LazyResourceManager.EvictionPolicy;
+import org.eclipse.jface.resource.ResourceLocator;
 import org.eclipse.jface.resource.ResourceManager;
+import org.eclipse.jface.resource.ResourceStatistics;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
 
 import junit.framework.TestCase;
 
@@ -361,6 +366,101 @@ public class LazyResourceManagerTest extends TestCase {
 		assertCached(expected2, mgr, tst, descriptor2); // 2 still cached, because recently used
 	}
 
+	/**
+	 * Creates resources for 3 Descriptors. Only the 2 most frequently used should
+	 * be cached
+	 **/
+	public void testLazyResourceManagerLFU() {
+		TestResourceManager tst = new TestResourceManager();
+		LazyResourceManager mgr = new LazyResourceManager(2, Long.MAX_VALUE, EvictionPolicy.LFU, tst);
+
+		DeviceResourceDescriptor descriptor1 = new CachableTestDescriptor();
+		DeviceResourceDescriptor descriptor2 = new CachableTestDescriptor();
+		DeviceResourceDescriptor descriptor3 = new CachableTestDescriptor();
+		Object expected1 = mgr.create(descriptor1);
+		mgr.destroy(descriptor1);
+		mgr.create(descriptor1);
+		mgr.destroy(descriptor1);
+		Object expected2 = mgr.create(descriptor2);
+		mgr.destroy(descriptor2);
+		// 2 is used more recently, but less frequently than 1
+		Object expected3 = mgr.create(descriptor3);
+		mgr.destroy(descriptor3);
+
+		assertSame(expected1, tst.find(descriptor1));
+		assertNull(tst.find(descriptor2));
+		assertNotNull(expected2);
+		assertSame(expected3, tst.find(descriptor3));
+	}
+
+	public void testStatistics() {
+		TestResourceManager tst = new TestResourceManager();
+		LazyResourceManager mgr = new LazyResourceManager(1, tst);
+
+		DeviceResourceDescriptor descriptor1 = new CachableTestDescriptor();
+		DeviceResourceDescriptor descriptor2 = new CachableTestDescriptor();
+		DeviceResourceDescriptor uncachable = new UncachableTestDescriptor();
+		mgr.create(descriptor1);
+		mgr.create(descriptor1);
+		mgr.create(uncachable);
+		mgr.create(uncachable);
+		ResourceStatistics statistics = mgr.getStatistics();
+		assertEquals(2, statistics.getHits());
+		assertEquals(2, statistics.getMisses());
+		assertEquals(2, statistics.getResourceCount());
+		assertEquals(2, statistics.getHandleCount());
+		assertEquals(0, statistics.getCachedResourceCount());
+
+		mgr.destroy(descriptor1);
+		mgr.destroy(descriptor1);
+		mgr.destroy(uncachable);
+		mgr.destroy(uncachable);
+		assertNull(tst.find(uncachable));
+		statistics = mgr.getStatistics();
+		assertEquals(1, statistics.getResourceCount());
+		assertEquals(1, statistics.getCachedResourceCount());
+		assertEquals(0, statistics.getEvictions());
+
+		mgr.create(descriptor2);
+		mgr.destroy(descriptor2);
+		mgr.create(descriptor2);
+		statistics = mgr.getStatistics();
+		assertEquals(3, statistics.getHits());
+		assertEquals(3, statistics.getMisses());
+		assertEquals(1, statistics.getEvictions());
+		assertEquals(1, statistics.getResourceCount());
+		assertEquals(0, statistics.getCachedResourceCount());
+		mgr.destroy(descriptor2);
+	}
+
+	public void testByteBudget() {
+		DeviceResourceManager real = new DeviceResourceManager(Display.getCurrent());
+		// two 16x16 images do not fit
+		LazyResourceManager mgr = new LazyResourceManager(10, 1500, EvictionPolicy.LRU, real);
+		ImageDescriptor descriptor1 = ResourceLocator
+				.imageDescriptorFromBundle("org.eclipse.jface.tests", "icons/anything.gif").orElseThrow();
+		ImageDescriptor descriptor2 = ResourceLocator
+				.imageDescriptorFromBundle("org.eclipse.jface.tests", "icons/view.gif").orElseThrow();
+
+		Image image1 = mgr.createImage(descriptor1);
+		Image image2 = mgr.createImage(descriptor2);
+		ResourceStatistics statistics = mgr.getStatistics();
+		long bytes = 4L * image1.getBounds().width * image1.getBounds().height
+				+ 4L * image2.getBounds().width * image2.getBounds().height;
+		assertEquals(bytes, statistics.getBytes());
+
+		mgr.destroyImage(descriptor1);
+		mgr.destroyImage(descriptor2);
+		statistics = mgr.getStatistics();
+		assertEquals(1, statistics.getEvictions());
+		assertEquals(1, statistics.getCachedResourceCount());
+		assertTrue(image1.isDisposed());
+		assertFalse(image2.isDisposed());
+		assertSame(image2, mgr.createImage(descriptor2));
+		mgr.destroyImage(descriptor2);
+		real.dispose();
+	}
+
 	@SuppressWarnings("unchecked")
 	public void testNullDescriptor() {
 		TestResourceManager tst = new TestResourceManager();
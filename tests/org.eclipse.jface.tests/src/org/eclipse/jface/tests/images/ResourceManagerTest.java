@@ -15,6 +15,7 @@
 package org.eclipse.jface.tests.images;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jface.resource.ColorDescriptor;
 import org.eclipse.jface.resource.DeviceResourceDescriptor;
@@ -312,6 +313,47 @@ public class ResourceManagerTest extends TestCase {
 		globalResourceManager.destroy(descriptor);
 	}
 
+	public void testCreateImageAsync() throws Exception {
+		Display display = Display.getCurrent();
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		assertTrue(descriptor.isImageDataThreadSafe());
+
+		CompletableFuture<Image> first = globalResourceManager.createImageAsync(descriptor);
+		CompletableFuture<Image> second = globalResourceManager.createImageAsync(descriptor);
+		long timeout = System.currentTimeMillis() + 10000;
+		while ((!first.isDone() || !second.isDone()) && System.currentTimeMillis() < timeout) {
+			if (!display.readAndDispatch()) {
+				Thread.sleep(10);
+			}
+		}
+
+		Image image = first.getNow(null);
+		assertNotNull("Image should have been created", image);
+		assertSame(image, second.getNow(null));
+		assertSame(image, globalResourceManager.find(descriptor));
+		assertEquals(16, image.getBounds().width);
+
+		// The image is allocated once per request
+		globalResourceManager.destroyImage(descriptor);
+		assertSame(image, globalResourceManager.find(descriptor));
+		globalResourceManager.destroyImage(descriptor);
+		assertNull(globalResourceManager.find(descriptor));
+	}
+
+	public void testCreateImageAsyncCancelledOnDispose() throws Exception {
+		Display display = Display.getCurrent();
+		ImageDescriptor descriptor = getImage("icons/binary_co.gif");
+		LocalResourceManager manager = new LocalResourceManager(globalResourceManager);
+
+		CompletableFuture<Image> future = manager.createImageAsync(descriptor);
+		manager.dispose();
+		while (display.readAndDispatch()) {
+			// process the pending finalization
+		}
+		assertTrue(future.isCancelled());
+		assertNull(globalResourceManager.find(descriptor));
+	}
+
 	/**
 	 * ImageDataProvider to identify identical ImageData by the given ID.
 	 */
@@ -15,13 +15,17 @@
  ******************************************************************************/
 package org.eclipse.jface.tests.images;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotEquals;
 
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
 
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.PersistentImageCache;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageFileNameProvider;
@@ -131,4 +135,78 @@ public class UrlImageDescriptorTest extends TestCase {
 		assertEquals(imageDataOrig200.height, imageDataURL200.height);
 	}
 
+	public void testPersistentImageCache() throws IOException {
+		ImageDescriptor descriptor = ImageDescriptor
+				.createFromURL(FileImageDescriptorTest.class.getResource("/icons/imagetests/zoomIn.png"));
+		ImageData imageData = descriptor.getImageData(100);
+		ImageData imageData200 = descriptor.getImageData(200);
+		java.nio.file.Path file = Files.createTempFile("imagecache", ".pack");
+		try {
+			Files.delete(file);
+			PersistentImageCache cache = PersistentImageCache.open(file);
+			PersistentImageCache.setDefault(cache);
+			assertImageDataEquals(imageData, descriptor.getImageData(100));
+			assertImageDataEquals(imageData200, descriptor.getImageData(200));
+			assertNull(descriptor.getImageData(150));
+			assertEquals(3, cache.size());
+			cache.save();
+
+			cache = PersistentImageCache.open(file);
+			cache.preload();
+			assertEquals(3, cache.size());
+			PersistentImageCache.setDefault(cache);
+			assertImageDataEquals(imageData, descriptor.getImageData(100));
+			assertImageDataEquals(imageData200, descriptor.getImageData(200));
+			assertNull(descriptor.getImageData(150));
+			Image image = descriptor.createImage();
+			assertNotNull(image);
+			assertEquals(imageData.width, image.getBounds().width);
+			image.dispose();
+		} finally {
+			PersistentImageCache.setDefault(null);
+			Files.deleteIfExists(file);
+		}
+	}
+
+	public void testPersistentImageCacheIgnoresBundleHost() throws IOException {
+		URL url = FileImageDescriptorTest.class.getResource("/icons/imagetests/zoomIn.png");
+		if (!url.getProtocol().startsWith("bundle")) {
+			// only bundle URLs depend on the framework instance
+			return;
+		}
+		ImageData imageData = ImageDescriptor.createFromURL(url).getImageData(100);
+		// the host is made of the bundle id and the id of the framework instance
+		String host = url.getHost();
+		int dot = host.indexOf('.');
+		String otherHost = (dot == -1 ? host : host.substring(0, dot)) + ".fwk" + (host.hashCode() + 1);
+		URL otherUrl = new URL(url.getProtocol(), otherHost, url.getPort(), url.getFile());
+		java.nio.file.Path file = Files.createTempFile("imagecache", ".pack");
+		try {
+			Files.delete(file);
+			PersistentImageCache cache = PersistentImageCache.open(file);
+			PersistentImageCache.setDefault(cache);
+			assertImageDataEquals(imageData, ImageDescriptor.createFromURL(url).getImageData(100));
+			cache.save();
+			assertEquals(1, cache.size());
+
+			cache = PersistentImageCache.open(file);
+			PersistentImageCache.setDefault(cache);
+			assertImageDataEquals(imageData, ImageDescriptor.createFromURL(otherUrl).getImageData(100));
+			assertEquals(1, cache.size());
+		} finally {
+			PersistentImageCache.setDefault(null);
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static void assertImageDataEquals(ImageData expected, ImageData actual) {
+		assertNotNull(actual);
+		assertEquals(expected.width, actual.width);
+		assertEquals(expected.height, actual.height);
+		assertEquals(expected.depth, actual.depth);
+		assertEquals(expected.transparentPixel, actual.transparentPixel);
+		assertArrayEquals(expected.data, actual.data);
+		assertArrayEquals(expected.alphaData, actual.alphaData);
+		assertArrayEquals(expected.maskData, actual.maskData);
+	}
 }
@@ -19,6 +19,7 @@ import java.util.List;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ITreeSelection;
 import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.jface.viewers.TreeExpansionState;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.TreeSelection;
 import org.eclipse.jface.viewers.TreeViewer;
@@ -154,6 +155,32 @@ public class MultipleEqualElementsTreeViewerTest extends TreeViewerTest {
 				getTreeViewer().getExpandedTreePaths());
 	}
 
+	public void testExpansionState() {
+		getTreeViewer().setExpandedTreePaths(
+				new TreePath[] { treePath_1, treePath_1_2, treePath_1_2_21, treePath_2, treePath_2_21 });
+		TreeExpansionState state = getTreeViewer().getExpansionState();
+		assertEquals(5, state.size());
+		assertTrue(state.contains(treePath_1_2_21));
+		assertFalse(state.contains(treePath_1_21));
+		getTreeViewer().collapseAll();
+		assertEquals(0, getTreeViewer().getExpandedTreePaths().length);
+		getTreeViewer().setExpansionState(state);
+		assertEqualsArray("path expansion",
+				new Object[] { treePath_1, treePath_1_2, treePath_1_2_21, treePath_2, treePath_2_21 },
+				getTreeViewer().getExpandedTreePaths());
+	}
+
+	public void testExpansionStateBelowCollapsedNode() {
+		TreeExpansionState state = new TreeExpansionState();
+		state.add(treePath_1_2);
+		state.add(treePath_1_2_21);
+		getTreeViewer().setExpansionState(state);
+		assertEquals(0, getTreeViewer().getExpandedTreePaths().length);
+		getTreeViewer().setExpandedState(treePath_1, true);
+		assertEqualsArray("path expansion", new Object[] { treePath_1, treePath_1_2, treePath_1_2_21 },
+				getTreeViewer().getExpandedTreePaths());
+	}
+
 	private static void assertMatchingPath(TreePath expectedPath, TreeItem item) {
 		for (int i = expectedPath.getSegmentCount() - 1; i >= 0; i--) {
 			assertNotNull(item);
@@ -14,14 +14,27 @@
 
 package org.eclipse.jface.tests.viewers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
 import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.IBatchLabelProvider;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.ILabelProviderListener;
 import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.IVisibleElementsLabelProvider;
 import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
@@ -177,4 +190,232 @@ public class SimpleTableViewerTest extends ViewerTestCase {
 		tableViewer.getTable().dispose();
 		assertEquals(1, disposeCounter[0]);
 	}
+
+	public void testBackgroundRefresh() {
+		List<String> elements = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			elements.add("element " + i);
+		}
+		tableViewer.setContentProvider(ArrayContentProvider.getInstance());
+		tableViewer.setLabelProvider(new LabelProvider());
+		tableViewer.setInput(elements);
+		tableViewer.setBackgroundRefresh(true);
+
+		tableViewer.setComparator(new ViewerComparator() {
+			@Override
+			public int compare(Viewer viewer, Object e1, Object e2) {
+				return super.compare(viewer, e2, e1);
+			}
+
+			@Override
+			public boolean isThreadSafe() {
+				return true;
+			}
+		});
+		tableViewer.addFilter(new ViewerFilter() {
+			@Override
+			public boolean select(Viewer viewer, Object parentElement, Object element) {
+				return ((String) element).startsWith("element 1");
+			}
+		});
+		assertTrue(tableViewer.hasPendingRefresh());
+		assertEquals(100, tableViewer.getTable().getItemCount());
+
+		waitForBackgroundRefresh();
+		Table table = tableViewer.getTable();
+		assertEquals(11, table.getItemCount());
+		assertEquals("element 19", table.getItem(0).getText());
+		assertEquals("element 1", table.getItem(10).getText());
+	}
+
+	public void testBackgroundRefreshCancelledBySetInput() {
+		tableViewer.setBackgroundRefresh(true);
+		tableViewer.refresh();
+		assertTrue(tableViewer.hasPendingRefresh());
+		tableViewer.setInput(fRootElement);
+		assertFalse(tableViewer.hasPendingRefresh());
+
+		tableViewer.setBackgroundRefresh(false);
+		tableViewer.refresh();
+		assertFalse(tableViewer.hasPendingRefresh());
+	}
+
+	public void testBackgroundRefreshOfElementIsSynchronous() {
+		tableViewer.setBackgroundRefresh(true);
+		Object element = tableViewer.getElementAt(0);
+		tableViewer.refresh(element);
+		assertFalse(tableViewer.hasPendingRefresh());
+
+		// refreshing a row does not discard a pending refresh of the input
+		tableViewer.refresh();
+		tableViewer.refresh(element, true);
+		assertTrue(tableViewer.hasPendingRefresh());
+		waitForBackgroundRefresh();
+	}
+
+	public void testIncrementalPopulation() {
+		List<String> elements = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			elements.add("element " + i);
+		}
+		tableViewer.setContentProvider(ArrayContentProvider.getInstance());
+		tableViewer.setLabelProvider(new LabelProvider());
+		tableViewer.setIncrementalPopulation(1);
+		tableViewer.setInput(elements);
+		Table table = tableViewer.getTable();
+		assertTrue(tableViewer.isPopulating());
+		assertTrue(table.getItemCount() < 5000);
+		assertEquals("element 0", table.getItem(0).getText());
+
+		tableViewer.setSelection(new StructuredSelection("element 4000"), true);
+		assertEquals(1, table.getSelectionCount());
+		assertEquals("element 4000", table.getSelection()[0].getText());
+
+		long timeout = System.currentTimeMillis() + 10000;
+		while (tableViewer.isPopulating() && System.currentTimeMillis() < timeout) {
+			processEvents();
+		}
+		assertFalse(tableViewer.isPopulating());
+		assertEquals(5000, table.getItemCount());
+		assertEquals("element 4999", table.getItem(4999).getText());
+		assertEquals("element 4000", table.getSelection()[0].getText());
+	}
+
+	public void testIncrementalPopulationFinishedByAdd() {
+		List<String> elements = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			elements.add("element " + i);
+		}
+		tableViewer.setContentProvider(ArrayContentProvider.getInstance());
+		tableViewer.setLabelProvider(new LabelProvider());
+		tableViewer.setIncrementalPopulation(1);
+		tableViewer.setInput(elements);
+		assertTrue(tableViewer.isPopulating());
+
+		tableViewer.add("new element");
+		assertFalse(tableViewer.isPopulating());
+		Table table = tableViewer.getTable();
+		assertEquals(5001, table.getItemCount());
+		assertEquals("new element", table.getItem(5000).getText());
+	}
+
+	private void waitForBackgroundRefresh() {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (tableViewer.hasPendingRefresh() && System.currentTimeMillis() < timeout) {
+			processEvents();
+			sleep(10);
+		}
+		assertFalse(tableViewer.hasPendingRefresh());
+	}
+
+	static class BatchLabelProvider extends ColumnLabelProvider implements IBatchLabelProvider {
+		int textCount;
+
+		List<List<Object>> batches = new ArrayList<>();
+
+		@Override
+		public String getText(Object element) {
+			textCount++;
+			return super.getText(element);
+		}
+
+		@Override
+		public void prepareLabels(Object[] elements) {
+			batches.add(Arrays.asList(elements));
+		}
+
+		void fireChanged(Object element) {
+			fireLabelProviderChanged(new LabelProviderChangedEvent(this, element));
+		}
+	}
+
+	public void testLabelCache() {
+		List<String> elements = new ArrayList<>(Arrays.asList("a", "b", "c"));
+		BatchLabelProvider labelProvider = new BatchLabelProvider();
+		tableViewer.setLabelCacheSize(100);
+		tableViewer.setContentProvider(ArrayContentProvider.getInstance());
+		tableViewer.setLabelProvider(labelProvider);
+		tableViewer.setInput(elements);
+		assertEquals(3, labelProvider.textCount);
+		assertEquals(1, labelProvider.batches.size());
+		assertEquals(elements, labelProvider.batches.get(0));
+
+		// moved elements are labelled from the cache
+		Collections.reverse(elements);
+		tableViewer.refresh(false);
+		assertEquals(3, labelProvider.textCount);
+		assertEquals(1, labelProvider.batches.size());
+		Table table = tableViewer.getTable();
+		assertEquals("c", table.getItem(0).getText());
+		assertEquals("a", table.getItem(2).getText());
+
+		// a label change event invalidates the element
+		labelProvider.fireChanged("b");
+		assertEquals(4, labelProvider.textCount);
+		Collections.reverse(elements);
+		tableViewer.refresh(false);
+		assertEquals(4, labelProvider.textCount);
+		assertEquals("a", table.getItem(0).getText());
+
+		// a refresh of the whole viewer updates all labels
+		tableViewer.refresh();
+		assertEquals(7, labelProvider.textCount);
+	}
+
+	public void testLabelCacheDisabled() {
+		List<String> elements = new ArrayList<>(Arrays.asList("a", "b", "c"));
+		BatchLabelProvider labelProvider = new BatchLabelProvider();
+		tableViewer.setContentProvider(ArrayContentProvider.getInstance());
+		tableViewer.setLabelProvider(labelProvider);
+		tableViewer.setInput(elements);
+		assertEquals(0, tableViewer.getLabelCacheSize());
+		assertEquals(3, labelProvider.textCount);
+
+		Collections.reverse(elements);
+		tableViewer.refresh(false);
+		assertEquals(5, labelProvider.textCount);
+		assertEquals(2, labelProvider.batches.size());
+		assertEquals(Arrays.asList("c", "a"), labelProvider.batches.get(1));
+	}
+
+	static class VisibleElementsLabelProvider extends LabelProvider implements IVisibleElementsLabelProvider {
+		Object[] visible;
+
+		@Override
+		public void visibleElementsChanged(Object[] elements) {
+			visible = elements;
+		}
+	}
+
+	public void testVisibleElements() {
+		List<String> elements = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			elements.add("element " + i);
+		}
+		VisibleElementsLabelProvider labelProvider = new VisibleElementsLabelProvider();
+		tableViewer.setContentProvider(ArrayContentProvider.getInstance());
+		tableViewer.setLabelProvider(labelProvider);
+		tableViewer.setInput(elements);
+		Table table = tableViewer.getTable();
+		waitForVisibleElements(labelProvider);
+		assertEquals("element 0", labelProvider.visible[0]);
+		assertTrue(labelProvider.visible.length < elements.size());
+
+		labelProvider.visible = null;
+		table.setTopIndex(500);
+		// setting the top index does not send events, so update the items
+		tableViewer.refresh();
+		waitForVisibleElements(labelProvider);
+		assertEquals(table.getItem(table.getTopIndex()).getData(), labelProvider.visible[0]);
+		assertTrue(labelProvider.visible.length < elements.size());
+	}
+
+	private void waitForVisibleElements(VisibleElementsLabelProvider labelProvider) {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (labelProvider.visible == null && System.currentTimeMillis() < timeout) {
+			processEvents();
+			sleep(10);
+		}
+		assertNotNull(labelProvider.visible);
+	}
 }
@@ -15,6 +15,10 @@
 
 package org.eclipse.jface.tests.viewers;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.viewers.ILabelProviderListener;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.jface.viewers.ITableLabelProvider;
@@ -31,6 +35,7 @@ import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.jface.viewers.ViewerFilter;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.TreeItem;
 
 /**
  * @since 3.2
@@ -167,4 +172,129 @@ public class SimpleTreeViewerTest extends ViewerTestCase {
 		assertEquals(4, i); // 4 because the filter doesn't work due to equal nodes
 	}
 
+	public void testInsertAtTopKeepsItems() {
+		List<String> elements = createElements(50);
+		treeViewer.setContentProvider(new ListContentProvider());
+		treeViewer.setLabelProvider(new LabelProvider());
+		treeViewer.setInput(elements);
+		TreeItem[] oldItems = treeViewer.getTree().getItems();
+
+		elements.add(0, "new");
+		treeViewer.refresh();
+
+		TreeItem[] newItems = treeViewer.getTree().getItems();
+		assertEquals(51, newItems.length);
+		assertEquals("new", newItems[0].getText());
+		for (int i = 0; i < oldItems.length; i++) {
+			assertSame(oldItems[i], newItems[i + 1]);
+			assertEquals(elements.get(i + 1), newItems[i + 1].getText());
+		}
+	}
+
+	public void testRemoveAndMoveKeepsOrder() {
+		List<String> elements = createElements(50);
+		treeViewer.setContentProvider(new ListContentProvider());
+		treeViewer.setLabelProvider(new LabelProvider());
+		treeViewer.setInput(elements);
+		TreeItem[] oldItems = treeViewer.getTree().getItems();
+
+		elements.remove(0);
+		elements.add(10, elements.remove(40));
+		treeViewer.refresh();
+
+		TreeItem[] newItems = treeViewer.getTree().getItems();
+		assertEquals(49, newItems.length);
+		for (int i = 0; i < newItems.length; i++) {
+			assertEquals(elements.get(i), newItems[i].getText());
+			assertSame(elements.get(i), newItems[i].getData());
+		}
+		assertSame(oldItems[1], newItems[0]);
+		assertTrue(oldItems[0].isDisposed());
+		assertSame(newItems[10], treeViewer.testFindItem(elements.get(10)));
+	}
+
+	public void testRefreshOfElementKeepsPopulating() {
+		List<String> elements = createElements(500);
+		treeViewer.setContentProvider(new ListContentProvider());
+		treeViewer.setLabelProvider(new LabelProvider());
+		int[] begun = new int[1];
+		treeViewer.setPopulationMonitor(new NullProgressMonitor() {
+			@Override
+			public void beginTask(String name, int totalWork) {
+				begun[0]++;
+			}
+		});
+		treeViewer.setIncrementalPopulation(1);
+		treeViewer.setInput(elements);
+		assertTrue(treeViewer.isPopulating());
+
+		// an item outside the pending population must not complete it
+		treeViewer.refresh(elements.get(0));
+		assertTrue(treeViewer.isPopulating());
+
+		treeViewer.refresh();
+		assertFalse(treeViewer.isPopulating());
+		assertEquals(500, treeViewer.getTree().getItemCount());
+		assertEquals(1, begun[0]);
+	}
+
+	public void testExpandAllWhilePopulating() {
+		List<String> elements = createElements(500);
+		treeViewer.setContentProvider(new ListContentProvider() {
+			@Override
+			public Object[] getChildren(Object parentElement) {
+				return parentElement.toString().contains("/") ? new Object[0]
+						: new Object[] { parentElement + "/a", parentElement + "/b" };
+			}
+
+			@Override
+			public boolean hasChildren(Object element) {
+				return !element.toString().contains("/");
+			}
+		});
+		treeViewer.setLabelProvider(new LabelProvider());
+		treeViewer.setIncrementalPopulation(1);
+		treeViewer.setInput(elements);
+		assertTrue(treeViewer.isPopulating());
+
+		treeViewer.expandAll();
+		assertFalse(treeViewer.isPopulating());
+		TreeItem[] items = treeViewer.getTree().getItems();
+		assertEquals(500, items.length);
+		for (TreeItem item : items) {
+			assertTrue(item.getExpanded());
+			assertEquals(2, item.getItemCount());
+		}
+	}
+
+	static class ListContentProvider implements ITreeContentProvider {
+		@Override
+		public Object[] getElements(Object inputElement) {
+			return inputElement instanceof List ? ((List<?>) inputElement).toArray() : new Object[0];
+		}
+
+		@Override
+		public Object[] getChildren(Object parentElement) {
+			return new Object[0];
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			return null;
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return false;
+		}
+	}
+
+	private static List<String> createElements(int count) {
+		List<String> elements = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			elements.add("element " + i);
+		}
+		return elements;
+	}
+
 }
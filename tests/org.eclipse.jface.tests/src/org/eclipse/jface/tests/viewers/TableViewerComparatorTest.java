@@ -90,6 +90,22 @@ public class TableViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
 	}
 
+	public void testViewerComparatorComputesCategoriesOnce() {
+		final int[] categoryCalls = new int[1];
+		fViewer.setComparator(new ViewerComparator() {
+			@Override
+			public int category(Object element) {
+				categoryCalls[0]++;
+				return 0;
+			}
+		});
+		assertSortedResult(TEAM1_SORTED);
+		categoryCalls[0] = 0;
+		fViewer.refresh();
+		assertEquals(getTableViewer().getTable().getItemCount(), categoryCalls[0]);
+		assertSortedResult(TEAM1_SORTED);
+	}
+
 	private void assertSortedResult(String[] expected) {
 		TableItem[] items = getTableViewer().getTable().getItems();
 		for (int i = 0; i < items.length; i++) {
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Tests the element map of the structured viewers, which is package private in
+ * JFace. No widgets are created.
+ */
+public class CustomHashtableTest {
+
+	/**
+	 * A comparer that compares strings ignoring case and maps all keys to a
+	 * handful of hash codes, so that long probe sequences are exercised.
+	 */
+	private static final IElementComparer COLLIDING_COMPARER = new IElementComparer() {
+		@Override
+		public boolean equals(Object a, Object b) {
+			return ((String) a).equalsIgnoreCase((String) b);
+		}
+
+		@Override
+		public int hashCode(Object element) {
+			return ((String) element).length() % 4;
+		}
+	};
+
+	@Test
+	public void testPutGetRemove() {
+		CustomHashtable table = new CustomHashtable(null);
+		assertNull(table.put("a", "1"));
+		assertNull(table.put("b", "2"));
+		assertEquals("1", table.put("a", "3"));
+		assertEquals(2, table.size());
+		assertEquals("3", table.get("a"));
+		assertTrue(table.containsKey("b"));
+		assertFalse(table.containsKey("c"));
+
+		assertEquals("2", table.remove("b"));
+		assertNull(table.remove("b"));
+		assertFalse(table.containsKey("b"));
+		assertEquals(1, table.size());
+	}
+
+	@Test
+	public void testPutReplacesEqualKey() {
+		CustomHashtable table = new CustomHashtable(COLLIDING_COMPARER);
+		String key = "key";
+		table.put("KEY", "old");
+		assertEquals("old", table.put(key, "new"));
+		assertEquals(1, table.size());
+		// the table must not hang on to the old key, see bug 30607
+		assertSame(key, table.keys().nextElement());
+		assertEquals("new", table.get("Key"));
+	}
+
+	@Test
+	public void testRemoveWithCollisions() {
+		CustomHashtable table = new CustomHashtable(COLLIDING_COMPARER);
+		Map<String, String> expected = new HashMap<>();
+		Random random = new Random(4711);
+		for (int i = 0; i < 20000; i++) {
+			String key = "k" + random.nextInt(500);
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), table.remove(key));
+			} else {
+				String value = "v" + i;
+				assertEquals(expected.put(key, value), table.put(key, value));
+			}
+			assertEquals(expected.size(), table.size());
+		}
+		// removal must not break the probe sequence of the remaining keys
+		for (int i = 0; i < 500; i++) {
+			String key = "k" + i;
+			assertEquals(key, expected.get(key), table.get(key.toUpperCase()));
+		}
+	}
+
+	@Test
+	public void testEnumerations() {
+		CustomHashtable table = new CustomHashtable(null);
+		Set<Object> keys = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			table.put(Integer.valueOf(i), "v" + i);
+			keys.add(Integer.valueOf(i));
+		}
+		Set<Object> enumerated = new HashSet<>();
+		for (Enumeration<?> e = table.keys(); e.hasMoreElements();) {
+			assertTrue(enumerated.add(e.nextElement()));
+		}
+		assertEquals(keys, enumerated);
+
+		int values = 0;
+		for (Enumeration<?> e = table.elements(); e.hasMoreElements();) {
+			assertTrue(((String) e.nextElement()).startsWith("v"));
+			values++;
+		}
+		assertEquals(1000, values);
+		assertFalse(new CustomHashtable(null).keys().hasMoreElements());
+	}
+
+	@Test
+	public void testCopy() {
+		CustomHashtable table = new CustomHashtable(null);
+		for (int i = 0; i < 1000; i++) {
+			table.put("K" + i, Integer.valueOf(i));
+		}
+		CustomHashtable copy = new CustomHashtable(table, COLLIDING_COMPARER);
+		assertEquals(1000, copy.size());
+		assertSame(COLLIDING_COMPARER, copy.getComparer());
+		assertEquals(Integer.valueOf(999), copy.get("k999"));
+	}
+
+	@Test
+	public void testNullKeyOrValue() {
+		CustomHashtable table = new CustomHashtable(null);
+		try {
+			table.put(null, "v");
+			throw new AssertionError("null key accepted");
+		} catch (NullPointerException e) {
+			// expected
+		}
+		try {
+			table.put("k", null);
+			throw new AssertionError("null value accepted");
+		} catch (NullPointerException e) {
+			// expected
+		}
+	}
+}
@@ -15,10 +15,12 @@
 
 package org.eclipse.jface.tests.performance;
 
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
 import org.eclipse.jface.util.Policy;
+import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.ui.tests.performance.BasicPerformanceTest;
 
 /**
@@ -53,6 +55,22 @@ public class CollatorPerformanceTest extends BasicPerformanceTest {
 		assertPerformance();
 	}
 
+	/**
+	 * test ViewerComparator by sorting the array, which computes the collation
+	 * key of every element once
+	 */
+	public void testViewerComparator() {
+		ViewerComparator viewerComparator = new ViewerComparator(Collator.getInstance());
+		for (int i = 0; i < 15; i++) {
+			String[] array = fArray.clone();
+			startMeasuring();
+			viewerComparator.sort(null, array);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	/**
 	 * Generate a large sized array for sorting
 	 */
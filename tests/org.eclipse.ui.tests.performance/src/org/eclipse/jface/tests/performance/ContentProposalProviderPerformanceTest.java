@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.Random;
+
+import org.eclipse.jface.fieldassist.IContentProposalProvider;
+import org.eclipse.jface.fieldassist.IndexedContentProposalProvider;
+import org.eclipse.jface.fieldassist.SimpleContentProposalProvider;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * Measures the time needed to filter a large list of identifiers while the
+ * user types an identifier into a field, one keystroke at a time.
+ */
+public class ContentProposalProviderPerformanceTest extends BasicPerformanceTest {
+
+	private static final int PROPOSAL_COUNT = 500000;
+
+	private static final String[] SEGMENTS = { "Abstract", "Action", "Button", "Content", "Dialog", "Editor",
+			"Field", "Handler", "Image", "Label", "Manager", "Provider", "Registry", "Service", "Table", "Viewer" };
+
+	private static final String TYPED = "ContentProviderRegistry";
+
+	private static String[] fProposals;
+
+	public ContentProposalProviderPerformanceTest(String testName) {
+		super(testName);
+		generateProposals();
+	}
+
+	/**
+	 * Filters the proposals with a linear scan for every keystroke.
+	 */
+	public void testSimpleProvider() {
+		SimpleContentProposalProvider provider = new SimpleContentProposalProvider(fProposals);
+		provider.setFiltering(true);
+		typeIdentifier(provider);
+	}
+
+	/**
+	 * Filters the proposals with an index for every keystroke. The index is
+	 * built before measuring.
+	 */
+	public void testIndexedProvider() {
+		IndexedContentProposalProvider provider = new IndexedContentProposalProvider(fProposals);
+		provider.getProposals("x", 0);
+		typeIdentifier(provider);
+	}
+
+	/**
+	 * Filters the proposals with camel case patterns for every keystroke. The
+	 * index is built before measuring.
+	 */
+	public void testIndexedProviderCamelCase() {
+		IndexedContentProposalProvider provider = new IndexedContentProposalProvider(fProposals);
+		provider.getProposals("x", 0);
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (String pattern : new String[] { "CP", "CPR", "CoPR", "CoPrRe", "CoPrReg" }) {
+				provider.getProposals(pattern, pattern.length());
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Measures building the index.
+	 */
+	public void testIndexCreation() {
+		for (int i = 0; i < 10; i++) {
+			IndexedContentProposalProvider provider = new IndexedContentProposalProvider(fProposals);
+			startMeasuring();
+			provider.getProposals("x", 0);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void typeIdentifier(IContentProposalProvider provider) {
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (int length = 1; length <= TYPED.length(); length++) {
+				provider.getProposals(TYPED.substring(0, length), length);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Generate identifiers made of three camel case segments and a number.
+	 */
+	private static void generateProposals() {
+		if (fProposals == null) {
+			fProposals = new String[PROPOSAL_COUNT];
+			Random random = new Random(42);
+			for (int i = 0; i < PROPOSAL_COUNT; i++) {
+				StringBuilder builder = new StringBuilder();
+				for (int j = 0; j < 3; j++) {
+					builder.append(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+				}
+				builder.append(i);
+				fProposals[i] = builder.toString();
+			}
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Measures the heap used by a TreeViewer showing a million elements, with and
+ * without the element map. The difference between the two tests is the
+ * footprint of the element map.
+ */
+public class ElementMapMemoryTest extends TreeTest {
+
+	private static final int CHILD_COUNT = 1000;
+
+	public ElementMapMemoryTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public ElementMapMemoryTest(String testName) {
+		super(testName);
+	}
+
+	/**
+	 * Expand a million elements with the element map enabled.
+	 */
+	public void testMemoryWithHashlookup() {
+		tagIfNecessary("JFace - Heap used by a TreeViewer with a million mapped elements",
+				Dimension.USED_JAVA_HEAP);
+		doTestMemory(true);
+	}
+
+	/**
+	 * Expand a million elements without the element map.
+	 */
+	public void testMemoryWithoutHashlookup() {
+		doTestMemory(false);
+	}
+
+	private void doTestMemory(boolean hashlookup) {
+		for (int i = 0; i < 3; i++) {
+			TestTreeElement input = createInput();
+			openTree(hashlookup);
+			viewer.setInput(input);
+			processEvents();
+			collectGarbage();
+			startMeasuring();
+			viewer.expandToLevel(AbstractTreeViewer.ALL_LEVELS);
+			processEvents();
+			collectGarbage();
+			stopMeasuring();
+			browserShell.close();
+			browserShell = null;
+			processEvents();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void openTree(boolean hashlookup) {
+		Display display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+		}
+		browserShell = new Shell(display);
+		browserShell.setSize(500, 500);
+		browserShell.setLayout(new FillLayout());
+		createViewer(browserShell);
+		viewer.setUseHashlookup(hashlookup);
+		browserShell.open();
+	}
+
+	/**
+	 * Create an input with CHILD_COUNT children that have CHILD_COUNT children
+	 * each.
+	 */
+	private TestTreeElement createInput() {
+		TestTreeElement input = new TestTreeElement(0, null);
+		input.createChildren(CHILD_COUNT);
+		for (TestTreeElement child : input.children) {
+			child.createChildren(CHILD_COUNT);
+		}
+		return input;
+	}
+
+	private static void collectGarbage() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+	}
+}
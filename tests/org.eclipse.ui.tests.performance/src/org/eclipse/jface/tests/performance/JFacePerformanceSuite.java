@@ -45,6 +45,9 @@ public class JFacePerformanceSuite extends FilteredTestSuite {
 		addTestSuite(ProgressMonitorDialogPerformanceTest.class);
 		addTestSuite(ShrinkingTreeTest.class);
 		addTestSuite(CollatorPerformanceTest.class);
+		addTestSuite(LazySortedCollectionPerformanceTest.class);
+		addTestSuite(ElementMapMemoryTest.class);
+		addTestSuite(ContentProposalProviderPerformanceTest.class);
 
 	}
 }
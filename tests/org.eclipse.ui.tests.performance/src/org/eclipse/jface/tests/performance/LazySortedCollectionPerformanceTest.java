@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.eclipse.jface.viewers.deferred.LazySortedCollection;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * Measures the sorting work done by the deferred content provider for a large
+ * virtual table: sorting all rows, sorting a window around the visible rows,
+ * and keeping the top rows of a limited table.
+ */
+public class LazySortedCollectionPerformanceTest extends BasicPerformanceTest {
+
+	private static final int ELEMENT_COUNT = 500000;
+
+	private static final int WINDOW_START = ELEMENT_COUNT / 2;
+
+	private static final int WINDOW_SIZE = 200;
+
+	private static final int LIMIT = 1000;
+
+	private static final Comparator<Object> ORDER = (a, b) -> ((Integer) a).compareTo((Integer) b);
+
+	private static Integer[] fElements;
+
+	public LazySortedCollectionPerformanceTest(String testName) {
+		super(testName);
+		generateElements();
+	}
+
+	/**
+	 * Sorts all rows, as done by the deferred content provider without a
+	 * prefetch size.
+	 */
+	public void testSortAll() {
+		for (int i = 0; i < 10; i++) {
+			LazySortedCollection collection = createCollection();
+			Object[] result = new Object[ELEMENT_COUNT];
+			startMeasuring();
+			collection.getFirst(result, true);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Sorts the visible window and the prefetched rows around it.
+	 */
+	public void testSortWindow() {
+		for (int i = 0; i < 10; i++) {
+			LazySortedCollection collection = createCollection();
+			Object[] result = new Object[WINDOW_SIZE];
+			startMeasuring();
+			collection.getRange(result, WINDOW_START, true);
+			stopMeasuring();
+			assertEquals(Integer.valueOf(WINDOW_START), result[0]);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Keeps the top rows of a limited table while elements are added in
+	 * batches.
+	 */
+	public void testRetainTopRows() {
+		for (int i = 0; i < 10; i++) {
+			LazySortedCollection collection = new LazySortedCollection(ORDER);
+			startMeasuring();
+			for (int start = 0; start < ELEMENT_COUNT; start += 10000) {
+				for (int j = start; j < start + 10000; j++) {
+					collection.add(fElements[j]);
+				}
+				collection.retainFirst(LIMIT);
+			}
+			stopMeasuring();
+			assertEquals(LIMIT, collection.size());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private LazySortedCollection createCollection() {
+		LazySortedCollection collection = new LazySortedCollection(ORDER);
+		collection.addAll(fElements);
+		return collection;
+	}
+
+	/**
+	 * Generate the distinct elements in random order
+	 */
+	private static void generateElements() {
+		if (fElements == null) {
+			fElements = new Integer[ELEMENT_COUNT];
+			for (int i = 0; i < ELEMENT_COUNT; i++) {
+				fElements[i] = Integer.valueOf(i);
+			}
+			Random random = new Random(42);
+			for (int i = ELEMENT_COUNT - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				Integer tmp = fElements[i];
+				fElements[i] = fElements[j];
+				fElements[j] = tmp;
+			}
+		}
+	}
+}
@@ -19,9 +19,11 @@ import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.test.performance.Dimension;
 import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
@@ -30,7 +32,8 @@ import org.eclipse.ui.tests.performance.parts.PerformanceProblemsView;
 import org.eclipse.ui.texteditor.MarkerUtilities;
 
 /**
- * The ProblemsViewPerformanceTest is a test of population of the problems view.
+ * The ProblemsViewPerformanceTest is a test of population of the problems view
+ * and of its update for marker deltas.
  *
  * @since 3.2
  *
@@ -86,10 +89,94 @@ public class ProblemsViewPerformanceTest extends BasicPerformanceTest {
 
 	}
 
+	/**
+	 * Test the update of the problems view showing many markers for small marker
+	 * deltas, as they are reported while building.
+	 */
+	public void testIncrementalUpdate() throws CoreException {
+		IWorkbenchWindow window = openTestWindow(EMPTY_PERSPECTIVE_ID);
+		final IWorkbenchPage page = window.getActivePage();
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceRoot root = workspace.getRoot();
+
+		// warnings shown before the deltas arrive
+		workspace.run(monitor -> {
+			for (int i = 0; i < 10000; i++) {
+				createMarker(root, IMarker.SEVERITY_WARNING, "this is a test warning " + i);
+			}
+		}, null);
+
+		PerformanceProblemsView view;
+
+		try {
+			view = (PerformanceProblemsView) page.showView(PROBLEMS_VIEW_ID);
+		} catch (PartInitException e) {
+			e.printStackTrace();
+			fail();
+			return;
+		}
+		// the markers are grouped by severity
+		while (view.getTreeWidget().getItemCount() == 0)
+			processEvents();
+
+		tagIfNecessary("UI - Problems View incremental update",
+				Dimension.ELAPSED_PROCESS);
+
+		IMarker[] warnings = root.findMarkers(IMarker.PROBLEM, false,
+				IResource.DEPTH_ZERO);
+		try {
+			for (int i = 0; i < 20; i++) {
+				int iteration = i;
+				// replay a delta adding errors and changing warnings
+				workspace.run(monitor -> {
+					for (int j = 0; j < 100; j++) {
+						createMarker(root, IMarker.SEVERITY_ERROR, "this is a test error " + j);
+						IMarker warning = warnings[(iteration * 100 + j) % warnings.length];
+						warning.setAttribute(IMarker.LINE_NUMBER, iteration);
+					}
+				}, null);
+				startMeasuring();
+				// the errors category shows up before the warnings are updated
+				waitForUpdate(view);
+				stopMeasuring();
+				assertEquals(2, view.getTreeWidget().getItemCount());
+				removeMarkers("this is a test error");
+				waitForUpdate(view);
+			}
+		} finally {
+			removeMarkers();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Process events until the view has applied the pending marker deltas and
+	 * refreshed its tree.
+	 */
+	private void waitForUpdate(PerformanceProblemsView view) {
+		while (Job.getJobManager().find(view.MARKERSVIEW_UPDATE_JOB_FAMILY).length > 0)
+			processEvents();
+	}
+
+	private void createMarker(IWorkspaceRoot root, int severity, String message) throws CoreException {
+		Map<String, Object> attribs = new HashMap<>();
+		attribs.put(IMarker.SEVERITY, Integer.valueOf(severity));
+		attribs.put(IMarker.MESSAGE, message);
+		MarkerUtilities.createMarker(root, attribs, IMarker.PROBLEM);
+	}
+
 	/**
 	 * Remove the created markers
 	 */
 	private void removeMarkers() {
+		removeMarkers("this is a test");
+	}
+
+	/**
+	 * Remove the created markers with a message starting with prefix
+	 */
+	private void removeMarkers(String prefix) {
 
 		try {
 			IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
@@ -97,12 +184,14 @@ public class ProblemsViewPerformanceTest extends BasicPerformanceTest {
 			IMarker[] markers = root.findMarkers(IMarker.PROBLEM, false,
 					IResource.DEPTH_ZERO);
 
-			for (IMarker marker : markers) {
-				String message = (String) marker.getAttribute(IMarker.MESSAGE);
-				if (message != null && message.startsWith("this is a test")) {
-					marker.delete();
+			ResourcesPlugin.getWorkspace().run(monitor -> {
+				for (IMarker marker : markers) {
+					String message = (String) marker.getAttribute(IMarker.MESSAGE);
+					if (message != null && message.startsWith(prefix)) {
+						marker.delete();
+					}
 				}
-			}
+			}, null);
 		} catch (CoreException e) {
 			e.printStackTrace();
 		}
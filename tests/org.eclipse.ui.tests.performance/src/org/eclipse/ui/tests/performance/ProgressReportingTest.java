@@ -25,6 +25,7 @@ import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.IPreferenceConstants;
 import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.progress.IProgressConstants;
 
 /**
  * Verifies the performance of progress reporting APIs in various contexts which
@@ -229,6 +230,28 @@ public class ProgressReportingTest extends BasicPerformanceTest {
 		});
 	}
 
+	/**
+	 * Test the cost of monitor.worked in jobs while the Progress view is open,
+	 * so that the progress is reported to its listeners
+	 */
+	public void testJobWorkedWithProgressView() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		window.getActivePage().showView(IProgressConstants.PROGRESS_VIEW_ID);
+		setRunInBackground(true);
+		runAsyncTest(() -> {
+			Job.create("Test Job", monitor -> {
+				monitor.beginTask("Test Job", ITERATIONS);
+				int i = 0;
+				while (i < ITERATIONS) {
+					monitor.worked(1);
+					i++;
+				}
+
+				endAsyncTest();
+			}).schedule();
+		});
+	}
+
 	/**
 	 * Test the cost of subMonitor.split(). Note that if
 	 * {@link SubMonitor#split} is performing cancellation checks at the correct
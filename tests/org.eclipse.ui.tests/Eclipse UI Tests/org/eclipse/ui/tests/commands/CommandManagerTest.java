@@ -14,15 +14,24 @@
 
 package org.eclipse.ui.tests.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Map;
+
+import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.Category;
 import org.eclipse.core.commands.Command;
+import org.eclipse.core.commands.CommandExecutionStatistics;
 import org.eclipse.core.commands.CommandManager;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.commands.IExecutionListener;
+import org.eclipse.core.commands.NotEnabledException;
 import org.eclipse.core.commands.NotHandledException;
+import org.eclipse.core.commands.common.NotDefinedException;
 import org.junit.Test;
 
 /**
@@ -111,4 +120,108 @@ public final class CommandManagerTest {
 				listener.notHandledException);
 
 	}
+
+	@Test
+	public final void testExecutionStatistics() throws Exception {
+		final String commandId = "myCommand";
+		final CommandManager commandManager = new CommandManager();
+		final Category category = commandManager.getCategory(commandId);
+		category.define("name", null);
+		final Command command = commandManager.getCommand(commandId);
+		command.define("name", null, category, null);
+		command.setHandler(new AbstractHandler() {
+			@Override
+			public Object execute(ExecutionEvent event) throws ExecutionException {
+				if (event.getParameter("fail") != null) {
+					throw new ExecutionException("failed");
+				}
+				return null;
+			}
+		});
+
+		final CommandExecutionStatistics statistics = commandManager.getExecutionStatistics();
+		command.executeWithChecks(new ExecutionEvent());
+		assertNull("Statistics should not be collected while disabled", statistics.getEntry(commandId));
+
+		statistics.setEnabled(true);
+		command.executeWithChecks(new ExecutionEvent());
+		command.executeWithChecks(new ExecutionEvent());
+		try {
+			command.executeWithChecks(new ExecutionEvent(command, Map.of("fail", "true"), null, null));
+		} catch (ExecutionException e) {
+			// expected
+		}
+
+		CommandExecutionStatistics.Entry entry = statistics.getEntry(commandId);
+		assertEquals(3, entry.getExecutionCount());
+		assertEquals(1, entry.getFailureCount());
+		assertEquals(3, entry.getExecution().getCount());
+		assertEquals(3, entry.getHandlerLookup().getCount());
+		assertTrue(statistics.toCSV().contains("\"" + commandId + "\",3,1,0"));
+		assertTrue(statistics.toJSON().contains("\"commandId\":\"" + commandId + "\""));
+
+		statistics.reset();
+		assertTrue(statistics.getEntries().isEmpty());
+	}
+
+	@Test
+	public final void testExecutionStatisticsRuntimeException() throws Exception {
+		final String commandId = "myCommand";
+		final CommandManager commandManager = new CommandManager();
+		final Category category = commandManager.getCategory(commandId);
+		category.define("name", null);
+		final Command command = commandManager.getCommand(commandId);
+		command.define("name", null, category, null);
+		command.setHandler(new AbstractHandler() {
+			@Override
+			public Object execute(ExecutionEvent event) {
+				throw new IllegalStateException("failed");
+			}
+		});
+		commandManager.getExecutionStatistics().setEnabled(true);
+
+		try {
+			command.executeWithChecks(new ExecutionEvent());
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		CommandExecutionStatistics.Entry entry = commandManager.getExecutionStatistics().getEntry(commandId);
+		assertEquals(1, entry.getExecutionCount());
+		assertEquals(1, entry.getFailureCount());
+		assertEquals(1, entry.getExecution().getCount());
+	}
+
+	@Test
+	public final void testExecutionStatisticsNotEnabled() throws NotDefinedException, NotHandledException {
+		final String commandId = "myCommand";
+		final CommandManager commandManager = new CommandManager();
+		final Category category = commandManager.getCategory(commandId);
+		category.define("name", null);
+		final Command command = commandManager.getCommand(commandId);
+		command.define("name", null, category, null);
+		command.setHandler(new AbstractHandler() {
+			@Override
+			public Object execute(ExecutionEvent event) {
+				return null;
+			}
+
+			@Override
+			public boolean isEnabled() {
+				return false;
+			}
+		});
+		commandManager.getExecutionStatistics().setEnabled(true);
+
+		try {
+			command.executeWithChecks(new ExecutionEvent());
+		} catch (NotEnabledException | ExecutionException e) {
+			// expected
+		}
+
+		CommandExecutionStatistics.Entry entry = commandManager.getExecutionStatistics().getEntry(commandId);
+		assertEquals(0, entry.getExecutionCount());
+		assertEquals(1, entry.getNotEnabledCount());
+		assertEquals(1, entry.getEnablementCheck().getCount());
+	}
 }
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.commands.contexts.ContextManager;
+import org.eclipse.core.commands.contexts.ContextManagerEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that batched context changes on the {@link ContextManager} result in a
+ * single aggregated event.
+ */
+public final class ContextManagerDeferUpdatesTest {
+
+	private ContextManager contextManager;
+
+	private final List<ContextManagerEvent> events = new ArrayList<>();
+
+	@Before
+	public void doSetUp() {
+		contextManager = new ContextManager();
+		contextManager.addContextManagerListener(events::add);
+	}
+
+	@Test
+	public void testDeferredChangesFireOneEvent() {
+		contextManager.deferUpdates(true);
+		try {
+			contextManager.addActiveContext("a");
+			contextManager.addActiveContext("b");
+			contextManager.addActiveContext("c");
+			contextManager.removeActiveContext("b");
+		} finally {
+			contextManager.deferUpdates(false);
+		}
+
+		assertEquals(1, events.size());
+		ContextManagerEvent event = events.get(0);
+		assertTrue(event.isActiveContextsChanged());
+		assertTrue(event.getPreviouslyActiveContextIds().isEmpty());
+		assertEquals(2, contextManager.getActiveContextIds().size());
+	}
+
+	@Test
+	public void testCancellingChangesFireNoEvent() {
+		contextManager.addActiveContext("a");
+		events.clear();
+
+		contextManager.deferUpdates(true);
+		try {
+			contextManager.removeActiveContext("a");
+			contextManager.addActiveContext("b");
+			contextManager.removeActiveContext("b");
+			contextManager.addActiveContext("a");
+		} finally {
+			contextManager.deferUpdates(false);
+		}
+
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void testNestedDeferUpdates() {
+		contextManager.deferUpdates(true);
+		contextManager.addActiveContext("a");
+		contextManager.deferUpdates(true);
+		contextManager.addActiveContext("b");
+		contextManager.deferUpdates(false);
+		assertTrue(events.isEmpty());
+		contextManager.deferUpdates(false);
+
+		assertEquals(1, events.size());
+	}
+
+	@Test
+	public void testUpdateActiveContexts() {
+		contextManager.addActiveContext("a");
+		contextManager.addActiveContext("b");
+		events.clear();
+
+		contextManager.updateActiveContexts(Arrays.asList("c", "d"), Collections.singleton("a"));
+
+		assertEquals(1, events.size());
+		assertEquals(2, events.get(0).getPreviouslyActiveContextIds().size());
+		assertEquals(3, contextManager.getActiveContextIds().size());
+		assertTrue(contextManager.getActiveContextIds().containsAll(Arrays.asList("b", "c", "d")));
+	}
+}
@@ -28,6 +28,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	Bug74990Test.class,
 	Bug84763Test.class,
+	ContextManagerDeferUpdatesTest.class,
 	ExtensionTestCase.class,
 	PartContextTest.class,
 })
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecorationResult;
+import org.eclipse.ui.internal.decorators.LightweightDecoratorManager;
+import org.eclipse.ui.tests.menus.ObjectContributionClasses;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the decoration of batches of elements.
+ */
+public class BatchDecoratorTest {
+
+	@Before
+	public void doSetUp() throws Exception {
+		TestBatchDecoratorContributor.batchSizes.clear();
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestAdaptableDecoratorContributor.ID, true);
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestBatchDecoratorContributor.ID, true);
+	}
+
+	@After
+	public void doTearDown() throws Exception {
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestAdaptableDecoratorContributor.ID, false);
+		PlatformUI.getWorkbench().getDecoratorManager().setEnabled(TestBatchDecoratorContributor.ID, false);
+	}
+
+	@Test
+	public void testBatchDecoration() {
+		LightweightDecoratorManager manager = WorkbenchPlugin.getDefault().getDecoratorManager()
+				.getLightweightManager();
+		Object[] elements = new Object[] { new ObjectContributionClasses.A(), new Object(),
+				new ObjectContributionClasses.B(), new ObjectContributionClasses.C() };
+
+		DecorationResult[] results = manager.getDecorationResults(elements);
+
+		// one call for the three applicable elements
+		assertEquals(List.of(Integer.valueOf(3)), TestBatchDecoratorContributor.batchSizes);
+		// decorations are applied in the same order as for single elements
+		for (int i = 0; i < elements.length; i++) {
+			assertEquals(manager.getDecorationResult(elements[i]).decorateWithText("label"),
+					results[i].decorateWithText("label"));
+		}
+		assertEquals("label", results[1].decorateWithText("label"));
+		String text = results[0].decorateWithText("label");
+		assertTrue(text.contains(TestAdaptableDecoratorContributor.SUFFIX));
+		assertTrue(text.contains(TestBatchDecoratorContributor.SUFFIX));
+	}
+}
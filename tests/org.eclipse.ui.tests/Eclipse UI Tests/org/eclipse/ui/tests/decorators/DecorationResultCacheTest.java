@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jface.viewers.DecorationContext;
+import org.eclipse.jface.viewers.IDecorationContext;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecorationResult;
+import org.eclipse.ui.internal.decorators.DecorationResultCache;
+import org.junit.Test;
+
+/**
+ * Tests the bounded cache of decoration results.
+ */
+public class DecorationResultCacheTest {
+
+	private static final IDecorationContext CONTEXT = DecorationContext.DEFAULT_CONTEXT;
+
+	private final DecorationResult result = WorkbenchPlugin.getDefault().getDecoratorManager()
+			.getLightweightManager().getDecorationResult(new Object());
+
+	@Test
+	public void testEviction() {
+		DecorationResultCache cache = new DecorationResultCache(2);
+		cache.put("a", CONTEXT, result);
+		cache.put("b", CONTEXT, result);
+		cache.put("c", CONTEXT, result);
+
+		DecorationResultCache.Statistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.size());
+		assertEquals(1, statistics.evictions());
+		assertEquals(1, statistics.softSize() + statistics.collected());
+
+		// the evicted result is still found as long as it is not collected
+		assertSame(result, cache.get("c", CONTEXT));
+		assertSame(result, cache.get("b", CONTEXT));
+		DecorationResult a = cache.get("a", CONTEXT);
+		statistics = cache.getStatistics();
+		assertEquals(2, statistics.hits());
+		assertEquals(a == null ? 1 : 0, statistics.misses());
+		assertEquals(a == null ? 0 : 1, statistics.softHits());
+
+		// results are cached per context
+		assertNull(cache.get("a", new DecorationContext()));
+	}
+
+	@Test
+	public void testVisibleElementsAreKept() {
+		DecorationResultCache cache = new DecorationResultCache(2);
+		cache.setVisibleElements(Set.of("a"));
+		cache.put("a", CONTEXT, result);
+		cache.put("b", CONTEXT, result);
+		cache.put("c", CONTEXT, result);
+
+		// "a" is the least recently used but is visible, so "b" is evicted
+		DecorationResultCache.Statistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.size());
+		assertEquals(1, statistics.evictions());
+		assertSame(result, cache.get("a", CONTEXT));
+		assertSame(result, cache.get("c", CONTEXT));
+
+		// once "a" is not visible anymore it is evicted before "c"
+		cache.setVisibleElements(Set.of());
+		cache.put("d", CONTEXT, result);
+		assertSame(result, cache.get("c", CONTEXT));
+		assertSame(result, cache.get("d", CONTEXT));
+		statistics = cache.getStatistics();
+		assertEquals(2, statistics.size());
+		assertEquals(2, statistics.evictions());
+		assertEquals(4, statistics.hits());
+	}
+
+	@Test
+	public void testSoftSizeBounded() {
+		DecorationResultCache cache = new DecorationResultCache(1, 2);
+		for (int i = 0; i < 10; i++) {
+			cache.put(Integer.valueOf(i), CONTEXT, result);
+		}
+		DecorationResultCache.Statistics statistics = cache.getStatistics();
+		assertEquals(1, statistics.size());
+		assertEquals(9, statistics.evictions());
+		assertTrue(statistics.softSize() <= 2);
+
+		// the least recently demoted results are dropped first
+		assertNull(cache.get(Integer.valueOf(0), CONTEXT));
+		assertSame(result, cache.get(Integer.valueOf(9), CONTEXT));
+	}
+
+	@Test
+	public void testInvalidate() {
+		DecorationResultCache cache = new DecorationResultCache(1);
+		DecorationContext otherContext = new DecorationContext();
+		cache.put("a", CONTEXT, result);
+		cache.put("a", otherContext, result);
+		cache.put("b", CONTEXT, result);
+		cache.invalidate(List.of("a"));
+
+		assertNull(cache.get("a", CONTEXT));
+		assertNull(cache.get("a", otherContext));
+		assertSame(result, cache.get("b", CONTEXT));
+	}
+
+	@Test
+	public void testClear() {
+		DecorationResultCache cache = new DecorationResultCache(1);
+		cache.put("a", CONTEXT, result);
+		cache.put("b", CONTEXT, result);
+		cache.clear();
+
+		assertNull(cache.get("a", CONTEXT));
+		assertNull(cache.get("b", CONTEXT));
+		DecorationResultCache.Statistics statistics = cache.getStatistics();
+		assertEquals(0, statistics.size());
+		assertEquals(0, statistics.softSize());
+		assertEquals(2, statistics.misses());
+	}
+}
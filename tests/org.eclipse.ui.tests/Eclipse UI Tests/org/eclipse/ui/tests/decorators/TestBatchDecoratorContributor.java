@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.jface.viewers.ILightweightBatchLabelDecorator;
+
+/**
+ * Decorator for testing batch decoration. Records the size of the batches it
+ * is called with.
+ */
+public class TestBatchDecoratorContributor extends TestLightweightDecoratorContributor
+		implements ILightweightBatchLabelDecorator {
+
+	public static final String SUFFIX = "Batch.1";
+	public static final String ID = "org.eclipse.ui.tests.decorators.batchDecorator";
+
+	public static final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void decorate(Object element, IDecoration decoration) {
+		decoration.addSuffix(SUFFIX);
+	}
+
+	@Override
+	public void decorate(Object[] elements, IDecoration[] decorations) {
+		batchSizes.add(Integer.valueOf(elements.length));
+		ILightweightBatchLabelDecorator.super.decorate(elements, decorations);
+	}
+}
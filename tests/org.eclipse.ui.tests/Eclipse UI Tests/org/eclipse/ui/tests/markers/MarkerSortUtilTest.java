@@ -14,12 +14,34 @@
 
 package org.eclipse.ui.tests.markers;
 
+import static org.eclipse.ui.tests.markers.MarkersReflection.invoke;
+import static org.eclipse.ui.tests.markers.MarkersReflection.newInstance;
+import static org.eclipse.ui.tests.markers.MarkersReflection.type;
+
+import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Random;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.internal.views.markers.MarkerDescriptionField;
+import org.eclipse.ui.internal.views.markers.MarkerIDField;
+import org.eclipse.ui.internal.views.markers.MarkerLocationField;
+import org.eclipse.ui.internal.views.markers.MarkerPathField;
+import org.eclipse.ui.internal.views.markers.MarkerPriorityField;
+import org.eclipse.ui.internal.views.markers.MarkerProblemSeverityAndMessageField;
+import org.eclipse.ui.internal.views.markers.MarkerSeverityAndDescriptionField;
+import org.eclipse.ui.internal.views.markers.MarkerSeverityField;
 import org.eclipse.ui.internal.views.markers.MarkerSortUtil;
+import org.eclipse.ui.internal.views.markers.MarkerTypeField;
 import org.eclipse.ui.internal.views.markers.MockMarkerEntry;
+import org.eclipse.ui.tests.harness.util.FileUtil;
 import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.eclipse.ui.views.markers.MarkerField;
 import org.eclipse.ui.views.markers.MarkerItem;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -73,6 +95,109 @@ public class MarkerSortUtilTest extends UITestCase {
 	}
 
 
+	/**
+	 * The comparators of the marker attribute store, which compare the values
+	 * read into its columns, must order the entries like the marker comparator
+	 * they are created from.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testAttributeStoreComparators() throws CoreException {
+		IProject project = FileUtil.createProject("MarkerSortUtilTest");
+		try {
+			MarkerItem[] entries = createEntries(project, 80);
+			Object store = newInstance("MarkerAttributeStore", new Class[] { entries.getClass() },
+					(Object) entries);
+			MarkerField[] fields = { new MarkerSeverityField(), new MarkerSeverityAndDescriptionField(),
+					new MarkerProblemSeverityAndMessageField(), new MarkerDescriptionField(), new MarkerPathField(),
+					new MarkerTypeField(), new MarkerPriorityField(), new MarkerLocationField() };
+			for (MarkerField field : fields) {
+				for (MarkerField category : new MarkerField[] { null, new MarkerSeverityField() }) {
+					for (boolean descending : new boolean[] { false, true }) {
+						// the id field is not in the store and breaks the ties
+						Object comparator = newInstance("MarkerComparator",
+								new Class[] { MarkerField.class, MarkerField[].class }, category,
+								new MarkerField[] { field, new MarkerIDField() });
+						if (descending) {
+							invoke(comparator, "reversePriority", field);
+						}
+						String message = field.getClass().getSimpleName() + (descending ? " descending" : "")
+								+ (category == null ? "" : " by category");
+						assertSameOrder(message, entries, (Comparator<MarkerItem>) comparator,
+								invoke(store, "getComparator", comparator, Boolean.TRUE));
+						assertSameOrder(message + " without category", entries,
+								(Comparator<MarkerItem>) invoke(comparator, "getFieldsComparator"),
+								invoke(store, "getComparator", comparator, Boolean.FALSE));
+					}
+				}
+			}
+		} finally {
+			FileUtil.deleteProject(project);
+		}
+	}
+
+	/**
+	 * Compare all pairs of entries, and sort them with the column comparator of
+	 * the store.
+	 */
+	@SuppressWarnings("unchecked")
+	private void assertSameOrder(String message, MarkerItem[] entries, Comparator<MarkerItem> expected,
+			Object columnComparator) {
+		Comparator<MarkerItem> actual = (Comparator<MarkerItem>) columnComparator;
+		for (MarkerItem entry1 : entries) {
+			for (MarkerItem entry2 : entries) {
+				assertEquals(message, Integer.signum(expected.compare(entry1, entry2)),
+						Integer.signum(actual.compare(entry1, entry2)));
+			}
+		}
+		MarkerItem[] expectedOrder = entries.clone();
+		Arrays.sort(expectedOrder, expected);
+		MarkerItem[] actualOrder = entries.clone();
+		invoke(columnComparator, "sort", actualOrder, Integer.valueOf(0),
+				Integer.valueOf(actualOrder.length - 1));
+		for (int i = 0; i < entries.length; i++) {
+			assertSame(message, expectedOrder[i], actualOrder[i]);
+		}
+	}
+
+	/**
+	 * Create problems and tasks in two folders, with attributes that are
+	 * partly equal and partly missing.
+	 */
+	private static MarkerItem[] createEntries(IProject project, int count) throws CoreException {
+		IFolder folder = project.getFolder("folder");
+		folder.create(true, true, null);
+		IFile[] files = { FileUtil.createFile("a.txt", project), folder.getFile("b.txt") };
+		files[1].create(new byte[0], true, null);
+		String[] messages = { "alpha", "Alpha", "beta", "Beta 2", "", "\u00e4rger" };
+		String[] locations = { "", "line 1", "line 10", "line 2" };
+		Random random = new Random(4711);
+		MarkerItem[] entries = (MarkerItem[]) Array.newInstance(type("MarkerEntry"), count);
+		for (int i = 0; i < count; i++) {
+			IFile file = files[random.nextInt(files.length)];
+			IMarker marker;
+			if (random.nextBoolean()) {
+				marker = file.createMarker(IMarker.PROBLEM);
+				marker.setAttribute(IMarker.SEVERITY, random.nextInt(3));
+			} else {
+				marker = file.createMarker(IMarker.TASK);
+				marker.setAttribute(IMarker.PRIORITY, random.nextInt(3));
+			}
+			if (random.nextInt(4) > 0) {
+				marker.setAttribute(IMarker.MESSAGE, messages[random.nextInt(messages.length)]);
+			}
+			if (random.nextBoolean()) {
+				marker.setAttribute(IMarker.LINE_NUMBER, random.nextInt(5));
+			}
+			if (random.nextBoolean()) {
+				marker.setAttribute(IMarker.LOCATION, locations[random.nextInt(locations.length)]);
+			}
+			entries[i] = (MarkerItem) newInstance("MarkerEntry", new Class[] { IMarker.class },
+					marker);
+		}
+		return entries;
+	}
+
 	/**
 	 * Generate a large sized array for sorting
 	 */
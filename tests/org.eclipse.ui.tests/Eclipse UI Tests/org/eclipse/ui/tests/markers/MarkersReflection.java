@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.markers;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.eclipse.ui.internal.views.markers.MarkerContentGenerator;
+
+/**
+ * Reflective access to the package private classes of the marker support for
+ * the marker tests.
+ */
+final class MarkersReflection {
+
+	private static final String PACKAGE = "org.eclipse.ui.internal.views.markers.";
+
+	private MarkersReflection() {
+	}
+
+	/**
+	 * @return the class of the marker support with the given simple name
+	 */
+	static Class<?> type(String name) {
+		try {
+			return Class.forName(PACKAGE + name, true, MarkerContentGenerator.class.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	static Object newInstance(String type, Class<?>[] parameterTypes, Object... arguments) {
+		try {
+			Constructor<?> constructor = type(type).getDeclaredConstructor(parameterTypes);
+			constructor.setAccessible(true);
+			return constructor.newInstance(arguments);
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	static Object getField(Class<?> type, Object target, String name) {
+		try {
+			Field field = (type == null ? target.getClass() : type).getDeclaredField(name);
+			field.setAccessible(true);
+			return field.get(target);
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Invoke the method with the given name and number of parameters, declared
+	 * by the class of the target or one of its super classes.
+	 */
+	static Object invoke(Object target, String name, Object... arguments) {
+		for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+			for (Method method : type.getDeclaredMethods()) {
+				if (method.getName().equals(name) && method.getParameterCount() == arguments.length) {
+					try {
+						method.setAccessible(true);
+						return method.invoke(target, arguments);
+					} catch (InvocationTargetException e) {
+						if (e.getCause() instanceof RuntimeException) {
+							throw (RuntimeException) e.getCause();
+						}
+						throw new RuntimeException(e.getCause());
+					} catch (ReflectiveOperationException e) {
+						throw new RuntimeException(e);
+					}
+				}
+			}
+		}
+		throw new IllegalArgumentException(name);
+	}
+}
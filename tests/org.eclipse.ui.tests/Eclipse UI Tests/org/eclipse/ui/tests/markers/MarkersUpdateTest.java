@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.markers;
+
+import static org.eclipse.ui.tests.markers.MarkersReflection.getField;
+import static org.eclipse.ui.tests.markers.MarkersReflection.invoke;
+import static org.eclipse.ui.tests.markers.MarkersReflection.newInstance;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.ui.IPageLayout;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.views.markers.ExtendedMarkersView;
+import org.eclipse.ui.internal.views.markers.MarkerContentGenerator;
+import org.eclipse.ui.tests.harness.util.FileUtil;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.eclipse.ui.views.markers.MarkerItem;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that applying marker deltas to the collected markers of the problems
+ * view gives the same entries and categories as collecting all markers again.
+ * The marker collection is package private and therefore accessed
+ * reflectively, see {@link MarkersReflection}.
+ */
+@RunWith(JUnit4.class)
+public class MarkersUpdateTest extends UITestCase {
+
+	private static final String SEVERITY_GROUP = "org.eclipse.ui.ide.severity";
+
+	private static final String ERRORS_FILTER = "org.eclipse.ui.ide.errorsFilter";
+
+	private IProject project;
+
+	private IFile file;
+
+	private Object builder;
+
+	private MarkerContentGenerator generator;
+
+	private Object oldCategoryGroup;
+
+	private final Map<Object, Boolean> oldFilterStates = new HashMap<>();
+
+	private int oldLimits;
+
+	private boolean oldLimitsEnabled;
+
+	public MarkersUpdateTest() {
+		super("MarkersUpdateTest");
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		project = FileUtil.createProject("MarkersUpdateTest");
+		file = FileUtil.createFile("test.txt", project);
+
+		IViewPart view = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage()
+				.showView(IPageLayout.ID_PROBLEM_VIEW);
+		builder = getField(ExtendedMarkersView.class, view, "builder");
+		generator = (MarkerContentGenerator) invoke(builder, "getGenerator");
+
+		oldCategoryGroup = invoke(builder, "getCategoryGroup");
+		Object severityGroup = invoke(generator, "getMarkerGroup", SEVERITY_GROUP);
+		assertNotNull(severityGroup);
+		if (oldCategoryGroup != severityGroup) {
+			invoke(builder, "setCategoryGroup", severityGroup);
+		}
+
+		for (Object filter : (Collection<?>) invoke(generator, "getAllFilters")) {
+			oldFilterStates.put(filter, (Boolean) invoke(filter, "isEnabled"));
+			invoke(filter, "setEnabled", Boolean.FALSE);
+		}
+		resetEnabledFilters();
+
+		oldLimits = generator.getMarkerLimits();
+		oldLimitsEnabled = generator.isMarkerLimitsEnabled();
+		generator.setMarkerLimitsEnabled(false);
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		try {
+			generator.setMarkerLimits(oldLimits);
+			generator.setMarkerLimitsEnabled(oldLimitsEnabled);
+			for (Map.Entry<Object, Boolean> entry : oldFilterStates.entrySet()) {
+				invoke(entry.getKey(), "setEnabled", entry.getValue());
+			}
+			oldFilterStates.clear();
+			resetEnabledFilters();
+			if (invoke(builder, "getCategoryGroup") != oldCategoryGroup) {
+				invoke(builder, "setCategoryGroup", oldCategoryGroup);
+			}
+			FileUtil.deleteProject(project);
+		} finally {
+			super.doTearDown();
+		}
+	}
+
+	/**
+	 * Deltas which the collected markers already contain must not change them.
+	 */
+	@Test
+	public void testReplayCollectedDelta() throws Exception {
+		List<IMarker> errors = createMarkers(IMarker.SEVERITY_ERROR, "error", 5);
+		IMarker deleted = createMarkers(IMarker.SEVERITY_WARNING, "deleted", 1).get(0);
+		deleted.delete();
+		IMarker added = createMarkers(IMarker.SEVERITY_WARNING, "added", 1).get(0);
+		Object markers = collect();
+
+		Object update = newUpdate(entries(Collections.singletonList(added)),
+				entries(Collections.singletonList(deleted)), entries(errors.subList(1, 3)));
+		assertTrue(applyUpdates(markers, update));
+		assertSameMarkers(collect(), markers);
+		assertTrue(applyUpdates(markers, update));
+		assertSameMarkers(collect(), markers);
+	}
+
+	@Test
+	public void testCategoryCreatedAndEmptied() throws Exception {
+		List<IMarker> errors = createMarkers(IMarker.SEVERITY_ERROR, "error", 5);
+		Object markers = collect();
+		assertEquals(1, getCategories(markers).length);
+
+		List<IMarker> warnings = createMarkers(IMarker.SEVERITY_WARNING, "warning", 3);
+		assertTrue(applyUpdates(markers, newUpdate(entries(warnings), entries(Collections.emptyList()),
+				entries(Collections.emptyList()))));
+		assertEquals(2, getCategories(markers).length);
+		assertSameMarkers(collect(), markers);
+
+		List<Object> removed = entries(errors);
+		for (IMarker error : errors) {
+			error.delete();
+		}
+		assertTrue(applyUpdates(markers,
+				newUpdate(entries(Collections.emptyList()), removed, entries(Collections.emptyList()))));
+		assertEquals(1, getCategories(markers).length);
+		assertSameMarkers(collect(), markers);
+	}
+
+	/**
+	 * Removing shown entries must bring the next entries beyond the limit into
+	 * the sorted ones.
+	 */
+	@Test
+	public void testRemovalFromSortedEntries() throws Exception {
+		generator.setMarkerLimits(5);
+		generator.setMarkerLimitsEnabled(true);
+		createMarkers(IMarker.SEVERITY_ERROR, "error", 20);
+		Object markers = collect();
+
+		MarkerItem[] collected = getEntries(markers);
+		List<IMarker> shown = Arrays.asList(collected[1].getMarker(), collected[3].getMarker());
+		List<Object> removed = entries(shown);
+		for (IMarker marker : shown) {
+			marker.delete();
+		}
+		assertTrue(applyUpdates(markers,
+				newUpdate(entries(Collections.emptyList()), removed, entries(Collections.emptyList()))));
+		assertEquals(18, getEntries(markers).length);
+		assertSameMarkers(collect(), markers);
+	}
+
+	@Test
+	public void testChangedMarkerFiltered() throws Exception {
+		for (Object filter : oldFilterStates.keySet()) {
+			if (ERRORS_FILTER.equals(invoke(filter, "getID"))) {
+				invoke(filter, "setEnabled", Boolean.TRUE);
+			}
+		}
+		resetEnabledFilters();
+		List<IMarker> errors = createMarkers(IMarker.SEVERITY_ERROR, "error", 5);
+		IMarker warning = createMarkers(IMarker.SEVERITY_WARNING, "warning", 1).get(0);
+		Object markers = collect();
+		assertEquals(5, getEntries(markers).length);
+
+		errors.get(2).setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		assertTrue(applyUpdates(markers, newUpdate(entries(Collections.emptyList()),
+				entries(Collections.emptyList()), entries(errors.subList(2, 3)))));
+		assertEquals(4, getEntries(markers).length);
+		assertSameMarkers(collect(), markers);
+
+		warning.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		assertTrue(applyUpdates(markers, newUpdate(entries(Collections.emptyList()),
+				entries(Collections.emptyList()), entries(Collections.singletonList(warning)))));
+		assertEquals(5, getEntries(markers).length);
+		assertSameMarkers(collect(), markers);
+	}
+
+	private List<IMarker> createMarkers(int severity, String message, int count) throws CoreException {
+		List<IMarker> markers = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			IMarker marker = file.createMarker(IMarker.PROBLEM);
+			marker.setAttribute(IMarker.SEVERITY, severity);
+			marker.setAttribute(IMarker.MESSAGE, String.format("%s %02d", message, Integer.valueOf(i)));
+			markers.add(marker);
+		}
+		return markers;
+	}
+
+	/**
+	 * @return the markers of the project which pass the filters, sorted and
+	 *         grouped like the view collects them
+	 */
+	private Object collect() throws CoreException {
+		List<Object> selected = new ArrayList<>();
+		for (Object entry : entries(Arrays.asList(project.findMarkers(IMarker.PROBLEM, true,
+				IResource.DEPTH_INFINITE)))) {
+			if (((Boolean) invoke(generator, "select", entry)).booleanValue()) {
+				selected.add(entry);
+			}
+		}
+		Object markers = newInstance("Markers", new Class[] { builder.getClass() }, builder);
+		assertTrue(((Boolean) invoke(markers, "updateWithNewMarkers", selected, Boolean.TRUE,
+				new NullProgressMonitor())).booleanValue());
+		return markers;
+	}
+
+	private boolean applyUpdates(Object markers, Object update) {
+		return ((Boolean) invoke(markers, "applyUpdates", Collections.singletonList(update),
+				new NullProgressMonitor())).booleanValue();
+	}
+
+	/**
+	 * The categories must match, and in each category the entries up to the
+	 * showing limit must be in the same order. The entries beyond the limit are
+	 * not sorted.
+	 */
+	private void assertSameMarkers(Object expected, Object actual) {
+		Object[] expectedCategories = getCategories(expected);
+		Object[] actualCategories = getCategories(actual);
+		MarkerItem[] expectedEntries = getEntries(expected);
+		MarkerItem[] actualEntries = getEntries(actual);
+		assertEquals(expectedEntries.length, actualEntries.length);
+		assertEquals(expectedCategories.length, actualCategories.length);
+		for (int i = 0; i < expectedCategories.length; i++) {
+			assertEquals(invoke(expectedCategories[i], "getName"), invoke(actualCategories[i], "getName"));
+			int start = ((Integer) getField(null, expectedCategories[i], "start")).intValue();
+			int end = ((Integer) getField(null, expectedCategories[i], "end")).intValue();
+			assertEquals(start, ((Integer) getField(null, actualCategories[i], "start")).intValue());
+			assertEquals(end, ((Integer) getField(null, actualCategories[i], "end")).intValue());
+			assertSameRange(expectedEntries, actualEntries, start, end);
+		}
+	}
+
+	private void assertSameRange(MarkerItem[] expected, MarkerItem[] actual, int start, int end) {
+		int available = end - start + 1;
+		int limit = generator.getMarkerLimits();
+		int sorted = generator.isMarkerLimitsEnabled() && limit > 0 ? Math.min(limit, available) : available;
+		for (int i = start; i < start + sorted; i++) {
+			assertEquals("entry " + i, expected[i].getMarker(), actual[i].getMarker());
+		}
+		Set<IMarker> expectedRest = new HashSet<>();
+		Set<IMarker> actualRest = new HashSet<>();
+		for (int i = start + sorted; i <= end; i++) {
+			expectedRest.add(expected[i].getMarker());
+			actualRest.add(actual[i].getMarker());
+		}
+		assertEquals(expectedRest, actualRest);
+	}
+
+	private static Object[] getCategories(Object markers) {
+		return (Object[]) invoke(markers, "getCategories");
+	}
+
+	private static MarkerItem[] getEntries(Object markers) {
+		return (MarkerItem[]) invoke(markers, "getMarkerEntryArray");
+	}
+
+	private static List<Object> entries(Collection<IMarker> markers) {
+		List<Object> entries = new ArrayList<>(markers.size());
+		for (IMarker marker : markers) {
+			entries.add(newInstance("MarkerEntry", new Class[] { IMarker.class }, marker));
+		}
+		return entries;
+	}
+
+	private static Object newUpdate(List<Object> added, List<Object> removed, List<Object> changed) {
+		return newInstance("MarkerUpdate", new Class[] { Collection.class, Collection.class, Collection.class },
+				added, removed, changed);
+	}
+
+	private void resetEnabledFilters() {
+		try {
+			Field field = MarkerContentGenerator.class.getDeclaredField("enabledFilters");
+			field.setAccessible(true);
+			field.set(generator, null);
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.operations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.eclipse.core.commands.operations.IMemoryAwareOperation;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * A test operation that keeps a payload in memory which can be released to
+ * the operation history.
+ */
+public class MemoryAwareTestOperation extends TestOperation implements IMemoryAwareOperation {
+
+	private byte[] payload;
+
+	private final boolean releasable;
+
+	public int releaseCount;
+
+	/**
+	 * the bytes still retained after the payload was released
+	 */
+	public long residualSize;
+
+	MemoryAwareTestOperation(String label, int size, boolean releasable) {
+		super(label);
+		this.payload = new byte[size];
+		for (int i = 0; i < size; i++) {
+			payload[i] = (byte) i;
+		}
+		this.releasable = releasable;
+	}
+
+	public boolean isPayloadInMemory() {
+		return payload != null;
+	}
+
+	@Override
+	public long getRetainedSize() {
+		return (payload == null ? 0 : payload.length) + residualSize;
+	}
+
+	@Override
+	public boolean releasePayload(OutputStream out) throws IOException {
+		if (!releasable) {
+			return false;
+		}
+		out.write(payload.length >>> 24);
+		out.write(payload.length >>> 16);
+		out.write(payload.length >>> 8);
+		out.write(payload.length);
+		out.write(payload);
+		payload = null;
+		releaseCount++;
+		return true;
+	}
+
+	@Override
+	public void restorePayload(InputStream in) throws IOException {
+		int length = (in.read() << 24) | (in.read() << 16) | (in.read() << 8) | in.read();
+		payload = in.readNBytes(length);
+		for (int i = 0; i < length; i++) {
+			if (payload[i] != (byte) i) {
+				throw new IOException("Corrupt payload"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	@Override
+	public IStatus undo(IProgressMonitor monitor, IAdaptable uiInfo) {
+		if (payload == null) {
+			return Status.CANCEL_STATUS;
+		}
+		return super.undo(monitor, uiInfo);
+	}
+}
@@ -196,6 +196,81 @@ public class OperationsAPITest {
 		assertTrue(history.getUndoHistory(contextB).length == 1);
 	}
 
+	@Test
+	public void testMemoryLimitRemovesOldestOperations() throws ExecutionException {
+		DefaultOperationHistory memoryHistory = new DefaultOperationHistory();
+		MemoryAwareTestOperation big1 = new MemoryAwareTestOperation("big1", 1000, true);
+		MemoryAwareTestOperation big2 = new MemoryAwareTestOperation("big2", 1000, true);
+		MemoryAwareTestOperation big3 = new MemoryAwareTestOperation("big3", 1000, true);
+		for (MemoryAwareTestOperation op : new MemoryAwareTestOperation[] { big1, big2, big3 }) {
+			op.addContext(contextA);
+			memoryHistory.execute(op, null, null);
+		}
+		assertEquals(3000, memoryHistory.getRetainedSize());
+
+		memoryHistory.setMemoryLimit(2000, false);
+		assertEquals(2000, memoryHistory.getRetainedSize());
+		IUndoableOperation[] undoHistory = memoryHistory.getUndoHistory(contextA);
+		assertEquals(2, undoHistory.length);
+		assertSame(big2, undoHistory[0]);
+		assertSame(big3, undoHistory[1]);
+
+		// the most recent operation is kept even if it exceeds the limit
+		memoryHistory.setMemoryLimit(10, false);
+		assertEquals(1, memoryHistory.getUndoHistory(contextA).length);
+		assertSame(big3, memoryHistory.getUndoOperation(contextA));
+	}
+
+	@Test
+	public void testMemoryLimitSpillsPayloads() throws ExecutionException {
+		DefaultOperationHistory memoryHistory = new DefaultOperationHistory();
+		MemoryAwareTestOperation big1 = new MemoryAwareTestOperation("big1", 1000, true);
+		MemoryAwareTestOperation big2 = new MemoryAwareTestOperation("big2", 1000, false);
+		MemoryAwareTestOperation big3 = new MemoryAwareTestOperation("big3", 1000, true);
+		memoryHistory.setMemoryLimit(1500, true);
+		for (MemoryAwareTestOperation op : new MemoryAwareTestOperation[] { big1, big2, big3 }) {
+			op.addContext(contextA);
+			memoryHistory.execute(op, null, null);
+		}
+
+		// big1 was spilled, big2 cannot release its payload and was removed
+		assertEquals(1, big1.releaseCount);
+		assertFalse(big1.isPayloadInMemory());
+		IUndoableOperation[] undoHistory = memoryHistory.getUndoHistory(contextA);
+		assertEquals(2, undoHistory.length);
+		assertSame(big1, undoHistory[0]);
+		assertSame(big3, undoHistory[1]);
+		assertEquals(1000, memoryHistory.getRetainedSize());
+
+		// undoing the spilled operation restores its payload
+		assertTrue(memoryHistory.undo(contextA, null, null).isOK());
+		assertTrue(memoryHistory.undoOperation(big1, null, null).isOK());
+		assertTrue(big1.isPayloadInMemory());
+	}
+
+	@Test
+	public void testMemoryLimitKeepsSpilledOperations() throws ExecutionException {
+		DefaultOperationHistory memoryHistory = new DefaultOperationHistory();
+		MemoryAwareTestOperation big1 = new MemoryAwareTestOperation("big1", 1000, true);
+		big1.residualSize = 600;
+		MemoryAwareTestOperation big2 = new MemoryAwareTestOperation("big2", 1000, true);
+		MemoryAwareTestOperation big3 = new MemoryAwareTestOperation("big3", 1000, true);
+		for (MemoryAwareTestOperation op : new MemoryAwareTestOperation[] { big1, big2, big3 }) {
+			op.addContext(contextA);
+			memoryHistory.execute(op, null, null);
+		}
+
+		memoryHistory.setMemoryLimit(1500, true);
+		assertEquals(1600, memoryHistory.getRetainedSize());
+
+		// the residual size of a spilled operation does not get it removed
+		memoryHistory.setMemoryLimit(1500, true);
+		assertEquals(3, memoryHistory.getUndoHistory(contextA).length);
+		assertEquals(1, big1.releaseCount);
+		assertTrue(memoryHistory.undoOperation(big1, null, null).isOK());
+		assertTrue(big1.isPayloadInMemory());
+	}
+
 	@Test
 	public void testLocalHistoryLimits() throws ExecutionException {
 		history.setLimit(contextC, 2);
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.progress;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Status;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.internal.progress.JobInfo;
+import org.eclipse.ui.internal.progress.JobTelemetry;
+import org.eclipse.ui.internal.progress.JobTelemetryView;
+import org.eclipse.ui.internal.progress.ProgressManager;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the telemetry of the workbench jobs.
+ */
+@RunWith(JUnit4.class)
+public class JobTelemetryTest extends ProgressTestCase {
+
+	public JobTelemetryTest() {
+		super(JobTelemetryTest.class.getSimpleName());
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		JobTelemetry.getInstance().clear();
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		JobTelemetry.getInstance().clear();
+		super.doTearDown();
+	}
+
+	@Test
+	public void testRunTime() throws Exception {
+		DummyJob job = new DummyJob("Telemetry Job", Status.OK_STATUS);
+		job.schedule();
+		job.join();
+		JobTelemetry.HistoryEntry entry = waitForHistoryEntry(job);
+
+		// the job sleeps ten times for 10ms
+		assertTrue(entry.runTime() >= TimeUnit.MILLISECONDS.toNanos(90));
+		assertTrue(entry.waitTime() >= 0);
+		assertEquals(-1, entry.cancelLatency());
+
+		JobTelemetry.Statistics statistics = getStatistics();
+		assertEquals(1, statistics.runs());
+		assertEquals(0, statistics.cancellations());
+		assertEquals(entry.runTime(), statistics.totalRun());
+		assertEquals(entry.runTime(), statistics.maxRun());
+		assertTrue(statistics.cost() <= statistics.totalRun());
+	}
+
+	@Test
+	public void testCancelLatency() throws Exception {
+		DummyJob job = new DummyJob("Telemetry Job", Status.OK_STATUS);
+		job.shouldFinish = false;
+		job.schedule();
+		processEventsUntil(() -> job.inProgress, TimeUnit.SECONDS.toMillis(3));
+		for (JobInfo jobInfo : ProgressManager.getInstance().getJobInfos(true)) {
+			if (jobInfo.getJob() == job) {
+				jobInfo.cancel();
+			}
+		}
+		job.join();
+		JobTelemetry.HistoryEntry entry = waitForHistoryEntry(job);
+
+		assertTrue(entry.cancelLatency() >= 0);
+		assertTrue(entry.cancelLatency() <= entry.runTime());
+		JobTelemetry.Statistics statistics = getStatistics();
+		assertEquals(1, statistics.cancellations());
+		assertEquals(entry.cancelLatency(), statistics.maxCancelLatency());
+	}
+
+	@Test
+	public void testExportHistory() throws Exception {
+		DummyJob job = new DummyJob("Telemetry \"Export\" Job", Status.OK_STATUS);
+		job.schedule();
+		job.join();
+		waitForHistoryEntry(job);
+
+		StringWriter writer = new StringWriter();
+		JobTelemetry.getInstance().exportHistory(writer);
+		String[] lines = writer.toString().split(System.lineSeparator());
+		assertTrue(lines[0].startsWith("name,class,family,"));
+		String expected = "\"Telemetry \"\"Export\"\" Job\",\"" + DummyJob.class.getName() + "\"";
+		assertTrue(Arrays.stream(lines).anyMatch(line -> line.startsWith(expected)));
+	}
+
+	@Test
+	public void testView() throws Exception {
+		DummyJob job = new DummyJob("Telemetry Job", Status.OK_STATUS);
+		job.schedule();
+		job.join();
+		waitForHistoryEntry(job);
+
+		JobTelemetryView view = (JobTelemetryView) openView(JobTelemetryView.ID);
+		Table table = view.getViewer().getTable();
+		processEventsUntil(() -> table.getItemCount() > 0, TimeUnit.SECONDS.toMillis(3));
+		assertTrue(Arrays.stream(table.getItems())
+				.anyMatch(item -> item.getText(0).equals(DummyJob.class.getName())));
+	}
+
+	private JobTelemetry.HistoryEntry waitForHistoryEntry(DummyJob job) {
+		// other jobs of the workbench are recorded as well
+		processEventsUntil(() -> getHistoryEntries(job).size() > 0, TimeUnit.SECONDS.toMillis(3));
+		List<JobTelemetry.HistoryEntry> entries = getHistoryEntries(job);
+		assertEquals(1, entries.size());
+		return entries.get(0);
+	}
+
+	private List<JobTelemetry.HistoryEntry> getHistoryEntries(DummyJob job) {
+		return JobTelemetry.getInstance().getHistory().stream()
+				.filter(entry -> entry.jobClass().equals(DummyJob.class.getName())
+						&& entry.name().equals(job.getName()))
+				.toList();
+	}
+
+	private JobTelemetry.Statistics getStatistics() {
+		for (JobTelemetry.Statistics statistics : JobTelemetry.getInstance().getStatistics()) {
+			if (statistics.jobClass().equals(DummyJob.class.getName())) {
+				return statistics;
+			}
+		}
+		fail("No statistics for " + DummyJob.class.getName());
+		return null;
+	}
+}
@@ -25,7 +25,9 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.progress.FinishedJobs;
 import org.eclipse.ui.internal.progress.JobInfo;
 import org.eclipse.ui.internal.progress.JobTreeElement;
@@ -198,6 +200,83 @@ public class ProgressViewTests extends ProgressTestCase {
 		}
 	}
 
+	@Test
+	public void testSiblingJobsGrouped() throws Exception {
+		openProgressView();
+		Object family = new Object();
+		PlatformUI.getWorkbench().getProgressService()
+				.registerIconForFamily(ImageDescriptor.getMissingImageDescriptor(), family);
+		ArrayList<DummyJob> jobs = createSiblingJobs(15, family);
+
+		try {
+			for (DummyJob job : jobs) {
+				job.schedule();
+			}
+			// the sibling jobs are shown as a single item of their family
+			processEventsUntil(() -> {
+				ProgressInfoItem[] items = progressView.getViewer().getProgressInfoItems();
+				return items.length == 1 && items[0].getJobInfos().length == jobs.size();
+			}, TimeUnit.SECONDS.toMillis(5));
+			ProgressInfoItem[] progressInfoItems = progressView.getViewer().getProgressInfoItems();
+			assertEquals("Sibling jobs not grouped", 1, progressInfoItems.length);
+			assertEquals(jobs.size(), progressInfoItems[0].getJobInfos().length);
+			for (DummyJob job : jobs) {
+				assertEquals(1, countJobs(job));
+			}
+		} finally {
+			finishJobs(jobs);
+		}
+	}
+
+	@Test
+	public void testJobsWithoutFamilyNotGrouped() throws Exception {
+		openProgressView();
+		ArrayList<DummyJob> jobs = createSiblingJobs(15, null);
+
+		try {
+			for (DummyJob job : jobs) {
+				job.schedule();
+			}
+			// jobs of the same class are not related unless they share a family
+			processEventsUntil(() -> progressView.getViewer().getProgressInfoItems().length == jobs.size(),
+					TimeUnit.SECONDS.toMillis(5));
+			ProgressInfoItem[] progressInfoItems = progressView.getViewer().getProgressInfoItems();
+			assertEquals("Unrelated jobs grouped", jobs.size(), progressInfoItems.length);
+			for (ProgressInfoItem item : progressInfoItems) {
+				assertEquals(1, item.getJobInfos().length);
+			}
+		} finally {
+			finishJobs(jobs);
+		}
+	}
+
+	private ArrayList<DummyJob> createSiblingJobs(int count, Object family) {
+		ArrayList<DummyJob> jobs = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			DummyJob job = new DummyJob("Sibling job " + i, Status.OK_STATUS) {
+				@Override
+				public boolean belongsTo(Object candidate) {
+					return family != null && family == candidate;
+				}
+			};
+			job.shouldFinish = false;
+			jobs.add(job);
+		}
+		return jobs;
+	}
+
+	private void finishJobs(ArrayList<DummyJob> jobs) throws InterruptedException {
+		for (DummyJob job : jobs) {
+			job.shouldFinish = true;
+		}
+		for (DummyJob job : jobs) {
+			job.join();
+		}
+		processEventsUntil(() -> progressView.getViewer().getProgressInfoItems().length == 0,
+				TimeUnit.SECONDS.toMillis(5));
+		assertEquals(0, progressView.getViewer().getProgressInfoItems().length);
+	}
+
 	private int countJobs(Job job) {
 		int count = 0;
 		ProgressInfoItem[] progressInfoItems = progressView.getViewer().getProgressInfoItems();